@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Produces a JDK 25 AOT cache (JEP 483/514/515) for the prod build.
+#
+# 1. Builds the jar with Spring AOT (-Pfast-start) and extracts it, because the AOT cache is only
+#    valid for the exact classpath it was trained on and an exploded layout keeps that stable.
+# 2. Runs a training JVM with -XX:AOTCacheOutput, drives a representative workload through the
+#    three city routes so request-path classes are loaded and profiled, then stops it gracefully;
+#    the cache is written when the JVM exits.
+#
+# Usage: scripts/aot-train.sh [training-requests]   (default 500)
+# Output: target/extracted/hexagonal.aot, used by scripts/startup-benchmark.sh and at deploy time:
+#   java -XX:AOTCache=hexagonal.aot -Dspring.aot.enabled=true --enable-preview \
+#        -jar hexagonal-0.0.1-SNAPSHOT.jar --spring.profiles.active=prod
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+source scripts/lib/app-control.sh
+
+REQUESTS="${1:-500}"
+PORT="${PORT:-18080}"
+EXTRACTED=target/extracted
+CACHE="$EXTRACTED/hexagonal.aot"
+
+mvn -B -q -Pfast-start -DskipTests package
+rm -rf "$EXTRACTED"
+java -Djarmode=tools -jar target/hexagonal-0.0.1-SNAPSHOT.jar extract --destination "$EXTRACTED"
+
+echo "Training run on port $PORT with $REQUESTS requests per route"
+start_app "$EXTRACTED/hexagonal-0.0.1-SNAPSHOT.jar" "$PORT" \
+    -XX:AOTCacheOutput="$CACHE" -Dspring.aot.enabled=true -Dspring.profiles.active=prod
+wait_for_first_request "$PORT" 120 > /dev/null
+
+for i in $(seq 1 "$REQUESTS"); do
+    uid=$(create_city "$PORT" "Training $(alphabetic "$i")")
+    curl -sf -o /dev/null "http://localhost:$PORT/api/v1/city/$uid"
+    list_cities "$PORT"
+done
+
+stop_app
+test -f "$CACHE" || { echo "AOT cache was not written; see $APP_LOG" >&2; exit 1; }
+echo "AOT cache written to $CACHE ($(du -h "$CACHE" | cut -f1))"
@@ -0,0 +1,65 @@
+# Shared helpers for the startup scripts: start/stop the application and drive the city routes.
+# Requires curl. Sourced, not executed.
+
+APP_LOG="${APP_LOG:-target/app-run.log}"
+APP_PID=""
+
+# start_app <jar> <port> [jvm options...]
+start_app() {
+    local jar="$1" port="$2"
+    shift 2
+    java --enable-preview "$@" -jar "$jar" --server.port="$port" > "$APP_LOG" 2>&1 &
+    APP_PID=$!
+}
+
+# Sends SIGTERM and waits, so the JVM shuts down gracefully (and writes an AOT cache if training)
+stop_app() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2> /dev/null || true
+        wait "$APP_PID" 2> /dev/null || true
+        APP_PID=""
+    fi
+}
+
+# Polls the list route until it answers 200 and prints the elapsed milliseconds since $1 (epoch ns).
+# wait_for_first_request <port> <timeout-seconds> [start-ns]
+wait_for_first_request() {
+    local port="$1" timeout="$2" start="${3:-$(date +%s%N)}"
+    local deadline=$(( start + timeout * 1000000000 ))
+    until list_cities "$port" 2> /dev/null; do
+        if (( $(date +%s%N) > deadline )); then
+            echo "Application did not answer within ${timeout}s; see $APP_LOG" >&2
+            stop_app
+            return 1
+        fi
+        sleep 0.005
+    done
+    echo $(( ($(date +%s%N) - start) / 1000000 ))
+}
+
+# create_city <port> <name>: prints the new city's uid
+create_city() {
+    curl -sf -X POST "http://localhost:$1/api/v1/city" \
+        -H 'Content-Type: application/json' \
+        -d "{\"name\":\"$2\",\"state\":\"California\"}" \
+        | sed -E 's/.*"uid":"([^"]+)".*/\1/'
+}
+
+list_cities() {
+    curl -sf -o /dev/null -X POST "http://localhost:$1/api/v1/city/all" \
+        -H 'Content-Type: application/json' \
+        -d '{"page":1,"size":20,"search":"a","sort":[{"field":"name","direction":"ASC"}]}'
+}
+
+# City names may only contain letters, so encode numbers in base 26
+alphabetic() {
+    local value="$1" out=""
+    while :; do
+        out+=$(printf "\\$(printf '%03o' $(( 97 + value % 26 )))")
+        value=$(( value / 26 ))
+        (( value > 0 )) || break
+    done
+    echo "$out"
+}
+
+trap stop_app EXIT
@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Time from JVM launch to the first successful POST /api/v1/city/all, per startup configuration.
+#
+#   baseline        default profile: ddl-auto=create, springdoc scanning, SQL logging
+#   prod            prod profile: Flyway migrations, no springdoc, no SQL logging
+#   prod+spring-aot prod with Spring AOT bean definitions (-Dspring.aot.enabled=true)
+#   prod+aot-cache  the above plus the JDK AOT cache from scripts/aot-train.sh
+#
+# Usage: scripts/startup-benchmark.sh [runs]   (default 5; run scripts/aot-train.sh first)
+# Prints the median and min/max per configuration and writes target/startup-benchmark.csv.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+source scripts/lib/app-control.sh
+
+RUNS="${1:-5}"
+PORT="${PORT:-18081}"
+JAR=target/extracted/hexagonal-0.0.1-SNAPSHOT.jar
+CACHE=target/extracted/hexagonal.aot
+RESULTS=target/startup-benchmark.csv
+
+[[ -f "$JAR" && -f "$CACHE" ]] || { echo "Run scripts/aot-train.sh first" >&2; exit 1; }
+
+declare -A CONFIGS=(
+    [1-baseline]=""
+    [2-prod]="-Dspring.profiles.active=prod"
+    [3-prod+spring-aot]="-Dspring.profiles.active=prod -Dspring.aot.enabled=true"
+    [4-prod+aot-cache]="-Dspring.profiles.active=prod -Dspring.aot.enabled=true -XX:AOTCache=$CACHE"
+)
+
+echo "configuration,run,first_request_ms" > "$RESULTS"
+for config in $(printf '%s\n' "${!CONFIGS[@]}" | sort); do
+    times=()
+    for run in $(seq 1 "$RUNS"); do
+        start=$(date +%s%N)
+        # shellcheck disable=SC2086 # options are intentionally word-split
+        start_app "$JAR" "$PORT" ${CONFIGS[$config]}
+        ms=$(wait_for_first_request "$PORT" 120 "$start")
+        stop_app
+        times+=("$ms")
+        echo "${config#*-},$run,$ms" >> "$RESULTS"
+    done
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    printf '%-18s median %6d ms   min %6d ms   max %6d ms\n' \
+        "${config#*-}" "${sorted[$(( RUNS / 2 ))]}" "${sorted[0]}" "${sorted[-1]}"
+done
+echo "Raw timings in $RESULTS"
@@ -0,0 +1,33 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.CityServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts the application in-process on H2 for benchmarks that need real Spring, JPA or HTTP wiring.
+ * SQL logging is switched off so it does not dominate the measurement.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+        // Utility class - prevent instantiation
+    }
+
+    static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("request.deadline.default-timeout", "60s");
+        properties.put("request.deadline.routes[/api/v1/city/all]", "60s");
+        properties.putAll(overrides);
+        return new SpringApplicationBuilder(CityServiceApplication.class)
+                .properties(properties)
+                .run();
+    }
+}
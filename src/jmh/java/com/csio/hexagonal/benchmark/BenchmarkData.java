@@ -0,0 +1,47 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String[] STATES = {"CA", "NY", "TX", "FL", "WA"};
+
+    private BenchmarkData() {
+        // Utility class - prevent instantiation
+    }
+
+    static List<City> cities(int count) {
+        List<City> cities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cities.add(new City(CityId.newId(), cityName(i), new State(STATES[i % STATES.length])));
+        }
+        return cities;
+    }
+
+    /** Unique, valid city name for index {@code i}. */
+    static String cityName(int i) {
+        return "City " + alphabetic(i);
+    }
+
+    static String state(int i) {
+        return STATES[i % STATES.length];
+    }
+
+    // City names may only contain letters, so encode the index in base 26
+    static String alphabetic(int value) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.domain.exception.InvalidCityNameException;
+import com.csio.hexagonal.domain.exception.InvalidStateNameException;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of constructing a {@link City}, which validates name and state on every call, against
+ * {@link City#rehydrate} used when loading stored rows. {@code regexNameCheck} is the former
+ * {@code String.matches} rule, kept as the baseline for the character scanner in {@code scannerNameCheck}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CityDomainBenchmark {
+
+    private final CityId id = new CityId(UUID.randomUUID());
+    private final com.csio.hexagonal.domain.vo.State state = new com.csio.hexagonal.domain.vo.State("CA");
+
+    @Benchmark
+    public City constructValid() {
+        return new City(id, "San Francisco", state);
+    }
+
+    @Benchmark
+    public Object constructInvalidName() {
+        try {
+            return new City(id, "San Francisco 2", state);
+        } catch (InvalidCityNameException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public City rehydrate() {
+        return City.rehydrate(id, "San Francisco", state, true);
+    }
+
+    @Benchmark
+    public boolean regexNameCheck() {
+        return "San Francisco".matches("[a-zA-Z\\s\\-]+") && "CA".matches("[a-zA-Z\\s\\-]+");
+    }
+
+    @Benchmark
+    public boolean scannerNameCheck() {
+        InvalidCityNameException.validate("San Francisco");
+        InvalidStateNameException.validate("CA");
+        return true;
+    }
+
+    @Benchmark
+    public CityId newId() {
+        return CityId.newId();
+    }
+}
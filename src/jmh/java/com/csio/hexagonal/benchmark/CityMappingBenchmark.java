@@ -0,0 +1,66 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.infrastructure.rest.mapper.CityDtoMapper;
+import com.csio.hexagonal.infrastructure.rest.response.city.CityResponse;
+import com.csio.hexagonal.infrastructure.rest.response.wrapper.PageResponseWrapper;
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import com.csio.hexagonal.infrastructure.store.persistence.mapper.CityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistence and REST mapping of a single city and of a 20-item page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CityMappingBenchmark {
+
+    private City city;
+    private CityEntity entity;
+    private PageResult<CityResponse> page;
+
+    @Setup
+    public void setUp() {
+        city = BenchmarkData.cities(1).getFirst();
+        entity = CityMapper.toEntity(city);
+        List<CityResponse> responses = BenchmarkData.cities(20).stream().map(CityDtoMapper::toResponse).toList();
+        page = PageResult.of(responses, 1, 20, 1_000, 50);
+    }
+
+    @Benchmark
+    public City entityToModel() {
+        return CityMapper.toModel(entity);
+    }
+
+    @Benchmark
+    public CityEntity modelToEntity() {
+        return CityMapper.toEntity(city);
+    }
+
+    @Benchmark
+    public CityResponse modelToResponse() {
+        return CityDtoMapper.toResponse(city);
+    }
+
+    @Benchmark
+    public PageResponseWrapper<CityResponse> pageToWrapper() {
+        return CityDtoMapper.toPageResponseWrapper(page);
+    }
+}
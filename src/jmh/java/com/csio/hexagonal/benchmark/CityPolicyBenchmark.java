@@ -0,0 +1,52 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.policy.city.CityPolicy;
+import com.csio.hexagonal.domain.policy.city.CityPolicyEnforcer;
+import com.csio.hexagonal.domain.vo.CityId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CityPolicyEnforcer#ensureUnique} against existing lists of growing size.
+ * The candidate name is absent, so every call scans the whole list (the create happy path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CityPolicyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int existing;
+
+    private final CityPolicy policy = new CityPolicyEnforcer();
+    private List<City> cities;
+    private City candidate;
+
+    @Setup
+    public void setUp() {
+        cities = BenchmarkData.cities(existing);
+        candidate = new City(CityId.newId(), "Brand New City", new com.csio.hexagonal.domain.vo.State("CA"));
+    }
+
+    @Benchmark
+    public City ensureUniqueMiss() {
+        policy.ensureUnique(candidate, cities);
+        return candidate;
+    }
+}
@@ -0,0 +1,93 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.FilterCondition;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.FilterGroup;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.LogicalOperator;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.Operator;
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import com.csio.hexagonal.infrastructure.store.persistence.specification.CitySpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a JPA predicate from nested filter groups with Hibernate's real {@link CriteriaBuilder}.
+ * Query execution is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CitySpecificationBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int groups;
+
+    @Param({"2", "8"})
+    public int conditionsPerGroup;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private CityFilterQuery.Filter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(Map.of("logging.level.com.csio.hexagonal", "INFO"));
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+
+        List<FilterGroup> filterGroups = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            List<FilterCondition> conditions = new ArrayList<>(conditionsPerGroup);
+            for (int c = 0; c < conditionsPerGroup; c++) {
+                conditions.add(switch (c % 3) {
+                    case 0 -> new FilterCondition("name", Operator.LIKE, BenchmarkData.alphabetic(g + c));
+                    case 1 -> new FilterCondition("state", Operator.EQUALS, BenchmarkData.state(c));
+                    default -> new FilterCondition("active", Operator.EQUALS, "true");
+                });
+            }
+            filterGroups.add(new FilterGroup(g % 2 == 0 ? LogicalOperator.AND : LogicalOperator.OR, conditions));
+        }
+        filter = new CityFilterQuery.Filter(LogicalOperator.OR, filterGroups);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate buildNestedPredicate() {
+        Specification<CityEntity> spec = CitySpecification.buildSpecification("san", filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CityEntity> query = cb.createQuery(CityEntity.class);
+        Root<CityEntity> root = query.from(CityEntity.class);
+        return spec.toPredicate(root, query, cb);
+    }
+}
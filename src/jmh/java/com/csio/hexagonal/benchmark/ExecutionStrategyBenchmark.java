@@ -0,0 +1,111 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.infrastructure.config.executor.AsyncExecutorProperties;
+import com.csio.hexagonal.infrastructure.config.executor.EventLoopExecutionConfig;
+import com.csio.hexagonal.infrastructure.config.executor.PlatformTaskExecutorConfig;
+import com.csio.hexagonal.infrastructure.config.executor.VirtualThreadExecutorConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the same burst of port calls through each {@link ExecutionMode}.
+ * <p>
+ * A "port call" burns a little CPU and then parks for {@code blockingMicros} to stand in for a JDBC round trip.
+ * With {@code blockingMicros = 0} the event loop wins (no hop); once calls block, the offloading modes pull ahead
+ * and the platform pool is capped by its size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionStrategyBenchmark {
+
+    @Param({"EVENT_LOOP", "VIRTUAL_THREAD", "PLATFORM_POOL"})
+    public ExecutionMode mode;
+
+    @Param({"0", "1000"})
+    public long blockingMicros;
+
+    @Param({"64"})
+    public int concurrency;
+
+    private ExecutionStrategy strategy;
+    private ExecutorService virtualExecutor;
+    private ThreadPoolTaskExecutor platformExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AsyncExecutorProperties props = new AsyncExecutorProperties();
+        props.setCoreMultiplier(2);
+        props.setMaxMultiplier(4);
+        props.setQueueMultiplier(50);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        strategy = switch (mode) {
+            case EVENT_LOOP -> new EventLoopExecutionConfig().executionStrategy();
+            case VIRTUAL_THREAD -> {
+                VirtualThreadExecutorConfig config = new VirtualThreadExecutorConfig();
+                virtualExecutor = config.virtualExecutor();
+                yield config.executionStrategy(config.blockingScheduler(virtualExecutor, props, registry));
+            }
+            case PLATFORM_POOL -> {
+                PlatformTaskExecutorConfig config = new PlatformTaskExecutorConfig();
+                platformExecutor = config.cpuExecutor(props);
+                yield config.executionStrategy(config.blockingScheduler(platformExecutor, props, registry));
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        strategy.scheduler().dispose();
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown();
+        }
+        if (platformExecutor != null) {
+            platformExecutor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public long burst() {
+        return Flux.range(0, concurrency)
+                .flatMap(i -> ContextBridge.callBlocking(() -> portCall(i), strategy.scheduler()), concurrency)
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    private long portCall(int seed) {
+        long acc = seed;
+        for (int i = 0; i < 1_000; i++) {
+            acc = acc * 31 + i;
+        }
+        if (blockingMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(blockingMicros));
+        }
+        return acc;
+    }
+}
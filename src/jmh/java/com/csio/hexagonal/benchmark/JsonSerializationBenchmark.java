@@ -0,0 +1,71 @@
+package com.csio.hexagonal.benchmark;
+
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.infrastructure.rest.exception.ExceptionDetail;
+import com.csio.hexagonal.infrastructure.rest.mapper.CityDtoMapper;
+import com.csio.hexagonal.infrastructure.rest.response.city.CityResponse;
+import com.csio.hexagonal.infrastructure.rest.response.helper.ResponseHelper;
+import com.csio.hexagonal.infrastructure.rest.response.wrapper.ErrorResponseWrapper;
+import com.csio.hexagonal.infrastructure.rest.response.wrapper.PageResponseWrapper;
+import com.csio.hexagonal.infrastructure.rest.response.wrapper.SuccessResponseWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the response wrappers with the JSON mapper WebFlux encodes responses with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    private SuccessResponseWrapper<CityResponse> single;
+    private PageResponseWrapper<CityResponse> page;
+    private ErrorResponseWrapper error;
+
+    @Setup
+    public void setUp() {
+        List<CityResponse> responses = BenchmarkData.cities(pageSize).stream().map(CityDtoMapper::toResponse).toList();
+        single = ResponseHelper.success(responses.getFirst());
+        page = CityDtoMapper.toPageResponseWrapper(PageResult.of(responses, 1, pageSize, 10_000, 10_000 / pageSize));
+        error = new ErrorResponseWrapper(false, 409,
+                new ExceptionDetail("/api/v1/city", "Conflict", "City already exists: Dhaka", Instant.now()));
+    }
+
+    @Benchmark
+    public byte[] successWrapper() {
+        return mapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] pageWrapper() {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] errorWrapper() {
+        return mapper.writeValueAsBytes(error);
+    }
+}
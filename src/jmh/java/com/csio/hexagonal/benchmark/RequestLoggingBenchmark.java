@@ -0,0 +1,93 @@
+package com.csio.hexagonal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end request throughput with application logging at the production level ({@code INFO})
+ * versus switched off, using the hot-path policies from {@code application.properties}.
+ * <p>
+ * The application runs in-process on H2 and is driven through {@link WebTestClient}, so the numbers
+ * include routing, filters, JSON and JPA but not the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String FILTERED_LIST_BODY = """
+            {
+              "search": "a",
+              "filter": {
+                "operator": "OR",
+                "filterGroups": [
+                  { "operator": "AND", "conditions": [
+                      { "field": "state", "operator": "EQUALS", "value": "CA" },
+                      { "field": "active", "operator": "EQUALS", "value": "true" } ] },
+                  { "operator": "OR", "conditions": [
+                      { "field": "name", "operator": "LIKE", "value": "Ba" } ] }
+                ]
+              },
+              "page": 1,
+              "size": 20,
+              "sort": [ { "field": "name", "direction": "ASC" } ]
+            }
+            """;
+
+    @Param({"INFO", "OFF"})
+    public String logLevel;
+
+    private ConfigurableApplicationContext context;
+    private WebTestClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(Map.of("logging.level.com.csio.hexagonal", logLevel));
+        client = WebTestClient.bindToApplicationContext(context).build();
+
+        for (int i = 0; i < 200; i++) {
+            client.post().uri("/api/v1/city")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("name", "Ba" + BenchmarkData.alphabetic(i), "state", i % 2 == 0 ? "CA" : "NY"))
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] filteredList() {
+        return client.post().uri("/api/v1/city/all")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(FILTERED_LIST_BODY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,108 @@
+package com.csio.hexagonal.load;
+
+import com.csio.hexagonal.infrastructure.rest.request.CityCreateRequest;
+import com.csio.hexagonal.infrastructure.rest.response.city.CityResponse;
+import com.csio.hexagonal.infrastructure.rest.response.wrapper.SuccessResponseWrapper;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebClient calls for the three city routes, plus synthetic data generation.
+ * <p>
+ * Response bodies are drained but only the create response is decoded, so client-side
+ * JSON work stays small compared with the server's.
+ */
+final class CityLoadClient {
+
+    private static final ParameterizedTypeReference<SuccessResponseWrapper<CityResponse>> CITY_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private static final String[] STATES = {"California", "New York", "Texas", "Florida", "Washington"};
+
+    private final WebClient client;
+    private final String namePrefix;
+    private final AtomicLong nameSequence = new AtomicLong();
+
+    CityLoadClient(WebClient client) {
+        this.client = client;
+        // Names must stay unique across runs against a long-lived application
+        this.namePrefix = "Load " + alphabetic(System.currentTimeMillis() % 1_000_000) + " ";
+    }
+
+    /** Creates {@code count} cities with bounded concurrency and returns their uids. */
+    List<String> seed(int count, int concurrency) {
+        return Flux.range(0, count)
+                .flatMap(i -> create().map(response -> response.data().uid()), concurrency)
+                .collectList()
+                .block();
+    }
+
+    Mono<?> call(Route route, List<String> knownUids) {
+        return switch (route) {
+            case CREATE -> create();
+            case GET -> get(knownUids.get(ThreadLocalRandom.current().nextInt(knownUids.size())));
+            case LIST -> filteredList();
+        };
+    }
+
+    private Mono<SuccessResponseWrapper<CityResponse>> create() {
+        long sequence = nameSequence.getAndIncrement();
+        CityCreateRequest request = new CityCreateRequest(
+                namePrefix + alphabetic(sequence), STATES[(int) (sequence % STATES.length)]);
+        return client.post().uri("/api/v1/city")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(CITY_RESPONSE);
+    }
+
+    private Mono<Void> get(String uid) {
+        return client.get().uri("/api/v1/city/{uid}", uid)
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    private Mono<Void> filteredList() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> body = Map.of(
+                "search", alphabetic(random.nextInt(26)),
+                "filter", Map.of(
+                        "operator", "OR",
+                        "filterGroups", List.of(
+                                Map.of("operator", "AND", "conditions", List.of(
+                                        Map.of("field", "state", "operator", "EQUALS",
+                                                "value", STATES[random.nextInt(STATES.length)]),
+                                        Map.of("field", "active", "operator", "EQUALS", "value", "true"))),
+                                Map.of("operator", "OR", "conditions", List.of(
+                                        Map.of("field", "name", "operator", "LIKE", "value", "Load")))
+                        )),
+                "page", 1 + random.nextInt(5),
+                "size", 20,
+                "sort", List.of(Map.of("field", "name", "direction", "ASC")));
+        return client.post().uri("/api/v1/city/all")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    // City names may only contain letters, so encode numbers in base 26
+    private static String alphabetic(long value) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.csio.hexagonal.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Per-route summary of a load run: a console table, a JSON summary and the full
+ * percentile distribution of each route's response time.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99, 100};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestSettings settings;
+    private final Map<Route, RouteRecorder> recorders;
+
+    LoadReport(LoadTestSettings settings, Map<Route, RouteRecorder> recorders) {
+        this.settings = settings;
+        this.recorders = recorders;
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%nOpen-model load: %d req/s for %s (warm-up %s), mix create/get/list = %d/%d/%d%n",
+                settings.rate(), settings.duration(), settings.warmup(),
+                settings.createWeight(), settings.getWeight(), settings.listWeight());
+        out.printf(Locale.ROOT, "%-24s %9s %7s %7s %9s %9s %9s %9s %9s %9s %12s%n",
+                "route", "requests", "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                "svc p99", "throughput/s");
+        for (RouteRecorder recorder : recorders.values()) {
+            Histogram response = recorder.responseTimeTotal();
+            out.printf(Locale.ROOT, "%-24s %9d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %12.1f%n",
+                    recorder.route().label(),
+                    response.getTotalCount(),
+                    recorder.errors(),
+                    recorder.dropped(),
+                    millis(response.getValueAtPercentile(50)),
+                    millis(response.getValueAtPercentile(90)),
+                    millis(response.getValueAtPercentile(99)),
+                    millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()),
+                    millis(recorder.serviceTimeTotal().getValueAtPercentile(99)),
+                    response.getTotalCount() / seconds(settings.duration()));
+        }
+        out.println("Response time is measured from the scheduled start (corrected for coordinated omission); "
+                + "svc p99 is measured from the actual send.");
+    }
+
+    /** Writes {@code summary.json} and one {@code <route>.hgrm} percentile distribution per route. */
+    void write(Path dir) {
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("summary.json"), toJson(), StandardCharsets.UTF_8);
+            for (RouteRecorder recorder : recorders.values()) {
+                Path file = dir.resolve(recorder.route().name().toLowerCase(Locale.ROOT) + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                    recorder.responseTimeTotal().outputPercentileDistribution(out, NANOS_PER_MILLI);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write load test report to " + dir, e);
+        }
+    }
+
+    private String toJson() {
+        StringJoiner routes = new StringJoiner(",\n", "[\n", "\n  ]");
+        for (RouteRecorder recorder : recorders.values()) {
+            routes.add("    {\"route\": \"%s\", \"requests\": %d, \"errors\": %d, \"dropped\": %d, \"responseTimeMs\": %s, \"serviceTimeMs\": %s}"
+                    .formatted(recorder.route().label(), recorder.responseTimeTotal().getTotalCount(),
+                            recorder.errors(), recorder.dropped(),
+                            percentilesJson(recorder.responseTimeTotal()),
+                            percentilesJson(recorder.serviceTimeTotal())));
+        }
+        return """
+                {
+                  "rate": %d,
+                  "durationSeconds": %s,
+                  "warmupSeconds": %s,
+                  "mix": {"create": %d, "get": %d, "list": %d},
+                  "seedCities": %d,
+                  "routes": %s
+                }
+                """.formatted(settings.rate(), settings.duration().toSeconds(), settings.warmup().toSeconds(),
+                settings.createWeight(), settings.getWeight(), settings.listWeight(),
+                settings.seedCities(), routes);
+    }
+
+    private static String percentilesJson(Histogram histogram) {
+        StringJoiner json = new StringJoiner(", ", "{", "}");
+        for (double percentile : PERCENTILES) {
+            json.add(String.format(Locale.ROOT, "\"p%s\": %.3f",
+                    stripTrailingZero(percentile),
+                    millis(histogram.getValueAtPercentile(percentile))));
+        }
+        return json.toString();
+    }
+
+    private static String stripTrailingZero(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.csio.hexagonal.load;
+
+import com.csio.hexagonal.CityServiceApplication;
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point of the HTTP load test.
+ * <p>
+ * Seeds synthetic cities, applies an open-model mix of create, get and filtered-list requests,
+ * and writes a per-route report. Without {@code -Dload.base-url} the application is started
+ * in this JVM on its default in-memory H2 database, with SQL logging switched off.
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec -Dload.rate=500 -Dload.duration=PT2M
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private LoadTest() {
+        // Utility class - prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext app = settings.baseUrl().isBlank() ? startLocalApplication() : null;
+        String baseUrl = app != null
+                ? "http://localhost:" + app.getEnvironment().getRequiredProperty("local.server.port")
+                : settings.baseUrl();
+
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(Math.min(settings.maxInFlight(), 1_000))
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(1))
+                .build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+        CityLoadClient client = new CityLoadClient(webClient);
+
+        try {
+            log.info("Seeding {} cities into {}", settings.seedCities(), baseUrl);
+            List<String> uids = settings.seedCities() > 0 ? client.seed(settings.seedCities(), 32) : List.of();
+
+            log.info("Applying {} req/s for {} after {} warm-up", settings.rate(), settings.duration(), settings.warmup());
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+                    client,
+                    new RequestMix(settings.createWeight(), settings.getWeight(), settings.listWeight()),
+                    uids,
+                    settings.rate(),
+                    settings.maxInFlight());
+
+            Files.createDirectories(settings.reportDir());
+            Path histogramLog = settings.reportDir().resolve("latency.hlog");
+            Map<Route, RouteRecorder> results;
+            try (PrintStream out = new PrintStream(histogramLog.toFile())) {
+                results = generator.run(settings.warmup(), settings.duration(), new HistogramLogWriter(out));
+            } catch (FileNotFoundException e) {
+                throw new IllegalStateException("Could not open " + histogramLog, e);
+            }
+
+            LoadReport report = new LoadReport(settings, results);
+            report.print(System.out);
+            report.write(settings.reportDir());
+            log.info("Report written to {}", settings.reportDir().toAbsolutePath());
+        } finally {
+            connections.dispose();
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startLocalApplication() {
+        return new SpringApplicationBuilder(CityServiceApplication.class)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.jpa.show-sql", "false",
+                        "logging.level.org.hibernate.SQL", "WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN"))
+                .run();
+    }
+}
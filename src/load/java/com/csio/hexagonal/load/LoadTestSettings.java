@@ -0,0 +1,63 @@
+package com.csio.hexagonal.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test configuration, read from {@code -Dload.*} system properties.
+ *
+ * @param baseUrl     target application; when blank the application is started in-process on H2
+ * @param rate        open-model arrival rate in requests per second, independent of response times
+ * @param warmup      load applied before recording starts
+ * @param duration    recorded load phase
+ * @param seedCities  cities created before the load phase; {@code GET} requests pick from these
+ * @param createWeight relative share of {@code POST /api/v1/city}
+ * @param getWeight    relative share of {@code GET /api/v1/city/{uid}}
+ * @param listWeight   relative share of {@code POST /api/v1/city/all}
+ * @param maxInFlight outstanding requests beyond which new arrivals are dropped and counted
+ * @param reportDir   where the report and histogram log are written
+ */
+record LoadTestSettings(
+        String baseUrl,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int seedCities,
+        int createWeight,
+        int getWeight,
+        int listWeight,
+        int maxInFlight,
+        Path reportDir
+) {
+
+    LoadTestSettings {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("load.rate must be positive");
+        }
+        if (seedCities <= 0 && getWeight > 0) {
+            throw new IllegalArgumentException("load.seed-cities must be positive when GET requests are in the mix");
+        }
+        if (createWeight < 0 || getWeight < 0 || listWeight < 0 || createWeight + getWeight + listWeight == 0) {
+            throw new IllegalArgumentException("load.mix weights must be non-negative and not all zero");
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        String[] mix = System.getProperty("load.mix", "10,60,30").split(",");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("load.mix must be create,get,list weights, e.g. 10,60,30");
+        }
+        return new LoadTestSettings(
+                System.getProperty("load.base-url", ""),
+                Integer.getInteger("load.rate", 200),
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT60S")),
+                Integer.getInteger("load.seed-cities", 500),
+                Integer.parseInt(mix[0].trim()),
+                Integer.parseInt(mix[1].trim()),
+                Integer.parseInt(mix[2].trim()),
+                Integer.getInteger("load.max-in-flight", 10_000),
+                Path.of(System.getProperty("load.report-dir", "target/load-test"))
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package com.csio.hexagonal.load;
+
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are issued on a fixed arrival schedule whether or not earlier
+ * requests have completed, so a slow server builds up outstanding requests instead of quietly
+ * lowering the offered load.
+ * <p>
+ * A single pacer thread walks the schedule and fires non-blocking WebClient calls. If the pacer
+ * falls behind (GC, CPU starvation) it catches up immediately, and every request's latency is still
+ * measured from its scheduled start.
+ */
+final class OpenModelLoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenModelLoadGenerator.class);
+
+    private final CityLoadClient client;
+    private final RequestMix mix;
+    private final List<String> knownUids;
+    private final int rate;
+    private final int maxInFlight;
+    private final Map<Route, RouteRecorder> recorders = new EnumMap<>(Route.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelLoadGenerator(CityLoadClient client, RequestMix mix, List<String> knownUids, int rate, int maxInFlight) {
+        this.client = client;
+        this.mix = mix;
+        this.knownUids = knownUids;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+        for (Route route : Route.values()) {
+            recorders.put(route, new RouteRecorder(route));
+        }
+    }
+
+    /**
+     * Applies load for {@code warmup + duration}. Values recorded during warm-up are discarded;
+     * the recorded phase is written as one-second intervals to {@code histogramLog}.
+     */
+    Map<Route, RouteRecorder> run(Duration warmup, Duration duration, HistogramLogWriter histogramLog) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("load-reporter").daemon().factory());
+        histogramLog.outputLogFormatVersion();
+        histogramLog.outputStartTime(System.currentTimeMillis());
+        histogramLog.outputLegend();
+        // Recorders and the log writer are only touched by the reporter thread until it is shut down
+        AtomicBoolean recording = new AtomicBoolean(warmup.isZero());
+        reporter.scheduleAtFixedRate(() -> {
+            if (!recording.get() && System.nanoTime() >= recordFrom) {
+                recorders.values().forEach(recorder -> {
+                    recorder.interval(false);
+                    recorder.resetOutcomes();
+                });
+                recording.set(true);
+                log.info("Warm-up finished, recording for {}", duration);
+                return;
+            }
+            if (recording.get()) {
+                recorders.values().forEach(recorder -> histogramLog.outputIntervalHistogram(recorder.interval(true)));
+            } else {
+                recorders.values().forEach(recorder -> recorder.interval(false));
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedStart = start + sequence * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(mix.next(), intendedStart);
+        }
+
+        awaitOutstanding(Duration.ofSeconds(30));
+        reporter.shutdown();
+        try {
+            reporter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        recorders.values().forEach(recorder -> histogramLog.outputIntervalHistogram(recorder.interval(true)));
+        return recorders;
+    }
+
+    private void fire(Route route, long intendedStart) {
+        RouteRecorder recorder = recorders.get(route);
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            recorder.recordDropped();
+            return;
+        }
+        long sent = System.nanoTime();
+        client.call(route, knownUids).subscribe(
+                ignored -> { },
+                error -> {
+                    recorder.recordError(intendedStart, sent, System.nanoTime());
+                    inFlight.decrementAndGet();
+                },
+                () -> {
+                    recorder.recordSuccess(intendedStart, sent, System.nanoTime());
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private void awaitOutstanding(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (inFlight.get() > 0) {
+            log.warn("{} requests still outstanding after {}", inFlight.get(), timeout);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.csio.hexagonal.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted random choice of the next route.
+ */
+final class RequestMix {
+
+    private final int createWeight;
+    private final int getThreshold;
+    private final int total;
+
+    RequestMix(int createWeight, int getWeight, int listWeight) {
+        this.createWeight = createWeight;
+        this.getThreshold = createWeight + getWeight;
+        this.total = createWeight + getWeight + listWeight;
+    }
+
+    Route next() {
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        if (roll < createWeight) {
+            return Route.CREATE;
+        }
+        return roll < getThreshold ? Route.GET : Route.LIST;
+    }
+}
@@ -0,0 +1,21 @@
+package com.csio.hexagonal.load;
+
+/**
+ * The {@code CityRouter} routes exercised by the load test.
+ */
+enum Route {
+
+    CREATE("POST /api/v1/city"),
+    GET("GET /api/v1/city/{uid}"),
+    LIST("POST /api/v1/city/all");
+
+    private final String label;
+
+    Route(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+}
@@ -0,0 +1,95 @@
+package com.csio.hexagonal.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome recording for one route.
+ * <p>
+ * Two histograms are kept: <em>response time</em> is measured from the request's intended start
+ * in the arrival schedule, so time a request spent waiting behind a stalled sender or server is
+ * included (the coordinated-omission correction); <em>service time</em> is measured from the moment
+ * the request was actually sent, which is what a closed-loop client would report.
+ */
+final class RouteRecorder {
+
+    // 1 microsecond resolution, up to one minute, 3 significant digits
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Route route;
+    private final Recorder responseTime = new Recorder(1_000, HIGHEST_TRACKABLE_NANOS, 3);
+    private final Recorder serviceTime = new Recorder(1_000, HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram responseTimeTotal = new Histogram(1_000, HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram serviceTimeTotal = new Histogram(1_000, HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private Histogram responseInterval;
+    private Histogram serviceInterval;
+
+    RouteRecorder(Route route) {
+        this.route = route;
+    }
+
+    Route route() {
+        return route;
+    }
+
+    void recordSuccess(long intendedStartNanos, long sentNanos, long completedNanos) {
+        responseTime.recordValue(clamp(completedNanos - intendedStartNanos));
+        serviceTime.recordValue(clamp(completedNanos - sentNanos));
+    }
+
+    void recordError(long intendedStartNanos, long sentNanos, long completedNanos) {
+        errors.increment();
+        recordSuccess(intendedStartNanos, sentNanos, completedNanos);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Swaps out the values recorded since the previous call, adds them to the run totals when
+     * {@code keep} is set (it is not during warm-up) and returns the interval response-time histogram.
+     * Only called from the single reporting thread.
+     */
+    Histogram interval(boolean keep) {
+        responseInterval = responseTime.getIntervalHistogram(responseInterval);
+        serviceInterval = serviceTime.getIntervalHistogram(serviceInterval);
+        if (keep) {
+            responseTimeTotal.add(responseInterval);
+            serviceTimeTotal.add(serviceInterval);
+        }
+        responseInterval.setTag(route.name());
+        return responseInterval;
+    }
+
+    void resetOutcomes() {
+        errors.reset();
+        dropped.reset();
+    }
+
+    Histogram responseTimeTotal() {
+        return responseTimeTotal;
+    }
+
+    Histogram serviceTimeTotal() {
+        return serviceTimeTotal;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    private static long clamp(long nanos) {
+        return Math.min(Math.max(nanos, 1_000), HIGHEST_TRACKABLE_NANOS);
+    }
+}
@@ -0,0 +1,48 @@
+package com.csio.hexagonal.application.context;
+
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Moves the {@link RequestContext} from the Reactor context onto the thread that executes
+ * blocking port calls, binding it as a {@link ScopedValue} for the duration of the call.
+ */
+public final class ContextBridge {
+
+    private ContextBridge() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Runs a blocking task on the given scheduler with the request context bound to the worker thread.
+     * Work whose deadline has already passed is dropped before it is submitted, and again
+     * if the deadline expires while the task waits for a thread.
+     */
+    public static <T> Mono<T> callBlocking(Callable<T> task, Scheduler scheduler) {
+        return Mono.deferContextual(ctx -> {
+            RequestContext context = RequestContext.from(ctx);
+            if (isExpired(context)) {
+                return Mono.error(new DeadlineExceededException("Request deadline expired before execution"));
+            }
+            return Mono.fromCallable(() -> callWithin(context, task))
+                    .subscribeOn(scheduler);
+        });
+    }
+
+    private static <T> T callWithin(RequestContext context, Callable<T> task) throws Exception {
+        if (isExpired(context)) {
+            throw new DeadlineExceededException("Request deadline expired while waiting for a worker");
+        }
+        if (context == RequestContext.EMPTY) {
+            return task.call();
+        }
+        return ScopedValue.where(RequestContext.CURRENT, context).call(task::call);
+    }
+
+    private static boolean isExpired(RequestContext context) {
+        return context.deadline() != null && context.deadline().isExpired();
+    }
+}
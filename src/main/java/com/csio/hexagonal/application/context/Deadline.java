@@ -0,0 +1,21 @@
+package com.csio.hexagonal.application.context;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which a request must be answered, measured on the monotonic clock.
+ */
+public record Deadline(long expiresAtNanos) {
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.csio.hexagonal.application.context;
+
+import reactor.util.context.ContextView;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Per-request values that every layer may need but no port signature should carry:
+ * caller token, trace id, tenant, the end-to-end {@link Deadline}, once the token has been verified the
+ * {@link VerifiedPrincipal} it names, and an id the server assigns to this request alone. Any of them may
+ * be {@code null}. The trace id comes from the client and may be shared by concurrent requests; the
+ * request id never is.
+ * <p>
+ * On the event loop the context lives in the Reactor context under {@link #KEY}; on the threads that
+ * execute port calls it is bound to a {@link ScopedValue}, which {@link ContextBridge} does for every
+ * blocking hop. Scoped values are inherited by structured sub-tasks, so forked work sees the same context.
+ */
+public record RequestContext(String token, String traceId, String tenant, Deadline deadline,
+                             VerifiedPrincipal principal, String requestId) {
+
+    /** Reactor context key under which the inbound adapter stores the request context. */
+    public static final Class<RequestContext> KEY = RequestContext.class;
+
+    public static final RequestContext EMPTY = new RequestContext(null, null, null, null, null, null);
+
+    static final ScopedValue<RequestContext> CURRENT = ScopedValue.newInstance();
+
+    /** Context of a request whose token has not been verified. */
+    public RequestContext(String token, String traceId, String tenant, Deadline deadline) {
+        this(token, traceId, tenant, deadline, null, null);
+    }
+
+    /**
+     * Context bound to the current thread, or {@link #EMPTY} outside of a request.
+     */
+    public static RequestContext current() {
+        return CURRENT.orElse(EMPTY);
+    }
+
+    /**
+     * Context stored in the given Reactor context, or {@link #EMPTY} if none was written.
+     */
+    public static RequestContext from(ContextView ctx) {
+        return ctx.getOrDefault(KEY, EMPTY);
+    }
+
+    /**
+     * Context for work done on behalf of several requests at once, such as a batch. It carries no token,
+     * principal, trace or request id, since none of them belongs to the whole batch. The deadline is the
+     * latest of the members' deadlines, or none if any member has none, so no member is failed by
+     * another member's shorter budget. The tenant is kept only when every member has the same one.
+     */
+    public static RequestContext shared(Collection<RequestContext> members) {
+        Deadline latest = null;
+        String tenant = null;
+        boolean first = true;
+        for (RequestContext member : members) {
+            Deadline deadline = member.deadline();
+            if (first) {
+                latest = deadline;
+                tenant = member.tenant();
+                first = false;
+            } else {
+                if (latest != null && (deadline == null || deadline.expiresAtNanos() - latest.expiresAtNanos() > 0)) {
+                    latest = deadline;
+                }
+                if (!Objects.equals(tenant, member.tenant())) {
+                    tenant = null;
+                }
+            }
+        }
+        return new RequestContext(null, null, tenant, latest, null, null);
+    }
+
+    public RequestContext withDeadline(Deadline deadline) {
+        return new RequestContext(token, traceId, tenant, deadline, principal, requestId);
+    }
+
+    public RequestContext withPrincipal(VerifiedPrincipal principal) {
+        return new RequestContext(token, traceId, tenant, deadline, principal, requestId);
+    }
+
+    public RequestContext withRequestId(String requestId) {
+        return new RequestContext(token, traceId, tenant, deadline, principal, requestId);
+    }
+}
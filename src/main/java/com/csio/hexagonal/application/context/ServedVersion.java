@@ -0,0 +1,40 @@
+package com.csio.hexagonal.application.context;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Version of the catalog snapshot a response was answered from, if any.
+ * <p>
+ * The inbound adapter puts an empty holder into the Reactor context under {@link #KEY} and reads it
+ * before the response is committed; a query handler that answers from a snapshot records its version.
+ */
+public final class ServedVersion {
+
+    /** Reactor context key under which the inbound adapter stores the holder. */
+    public static final Class<ServedVersion> KEY = ServedVersion.class;
+
+    private volatile long version = -1;
+
+    /**
+     * Returns {@code result}, recording {@code version} in the subscriber's holder when it has one.
+     */
+    public static <T> Mono<T> recording(long version, Mono<T> result) {
+        return Mono.deferContextual(ctx -> {
+            from(ctx).ifPresent(holder -> holder.version = version);
+            return result;
+        });
+    }
+
+    public OptionalLong get() {
+        long served = version;
+        return served < 0 ? OptionalLong.empty() : OptionalLong.of(served);
+    }
+
+    private static Optional<ServedVersion> from(ContextView ctx) {
+        return ctx.getOrEmpty(KEY);
+    }
+}
@@ -0,0 +1,28 @@
+package com.csio.hexagonal.application.context;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Caller identity taken from a bearer token whose signature, issuer, audience and lifetime have
+ * been checked at the inbound edge. Use cases read it from {@link RequestContext#principal()}.
+ *
+ * @param subject   the token's {@code sub}
+ * @param issuer    the token's {@code iss}, or {@code null}
+ * @param audience  the token's {@code aud} values
+ * @param scopes    granted scopes, from {@code scope} or {@code scp}
+ * @param expiresAt end of the token's lifetime
+ */
+public record VerifiedPrincipal(String subject, String issuer, List<String> audience, Set<String> scopes,
+                                Instant expiresAt) {
+
+    public VerifiedPrincipal {
+        audience = List.copyOf(audience);
+        scopes = Set.copyOf(scopes);
+    }
+
+    public boolean hasScope(String scope) {
+        return scopes.contains(scope);
+    }
+}
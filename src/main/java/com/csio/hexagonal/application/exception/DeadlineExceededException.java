@@ -0,0 +1,15 @@
+package com.csio.hexagonal.application.exception;
+
+/**
+ * Thrown when a request's deadline has passed before or while its work was executed.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,25 @@
+package com.csio.hexagonal.application.execution;
+
+import java.time.Duration;
+
+/**
+ * How long a {@link MicroBatcher} collects keys before dispatching them, and how many keys fill a batch early.
+ * {@link #NONE} turns batching off: every key is loaded on its own.
+ */
+public record BatchWindow(Duration window, int maxSize) {
+
+    public static final BatchWindow NONE = new BatchWindow(Duration.ZERO, 1);
+
+    public BatchWindow {
+        if (window == null || window.isNegative()) {
+            throw new IllegalArgumentException("Batch window must be zero or positive");
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+    }
+
+    public boolean enabled() {
+        return maxSize > 1 && !window.isZero();
+    }
+}
@@ -0,0 +1,143 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.context.RequestContext;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Write-behind batching of commands.
+ * <p>
+ * Commands submitted within one {@link BatchWindow} are handed to the processor together, in submission
+ * order, in one blocking call on the given scheduler; a batch that reaches {@code maxSize} commands is
+ * dispatched at once, so a caller waits at most one window plus the batch itself. The processor returns
+ * one {@link Outcome} per command, and each caller completes with its own value or error. A processor
+ * failure, or a processor that does not return exactly one outcome per command, fails every command in
+ * the batch.
+ * <p>
+ * As with {@link MicroBatcher}, the batch runs with a {@link RequestContext#shared shared} request
+ * context: no caller's principal or token, so no command is written under another caller's identity,
+ * and the latest of the callers' deadlines. A caller that cancels does not take its command out of
+ * the batch.
+ */
+public final class CommandBatcher<C, R> {
+
+    private final BatchWindow window;
+    private final Function<List<C>, List<Outcome<R>>> processor;
+    private final Scheduler scheduler;
+
+    private final Object lock = new Object();
+    private Batch open;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder commands = new LongAdder();
+
+    public CommandBatcher(BatchWindow window, Function<List<C>, List<Outcome<R>>> processor, Scheduler scheduler) {
+        this.window = window;
+        this.processor = processor;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<R> submit(C command) {
+        return Mono.deferContextual(context -> {
+            Sinks.One<R> result = Sinks.one();
+            Batch full = null;
+            Batch started = null;
+            synchronized (lock) {
+                if (open == null) {
+                    open = new Batch();
+                    started = open;
+                }
+                open.callers.add(RequestContext.from(context));
+                open.commands.add(command);
+                open.waiting.add(result);
+                if (open.commands.size() >= window.maxSize()) {
+                    full = open;
+                    open = null;
+                }
+            }
+            if (full != null) {
+                dispatch(full);
+            } else if (started != null) {
+                Batch batch = started;
+                Mono.delay(window.window()).subscribe(tick -> close(batch));
+            }
+            return result.asMono();
+        });
+    }
+
+    /** Batches dispatched so far. */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /** Commands processed so far, summed over all batches. */
+    public long commands() {
+        return commands.sum();
+    }
+
+    private void close(Batch batch) {
+        synchronized (lock) {
+            if (open != batch) {
+                return; // already dispatched because it filled up
+            }
+            open = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        batches.increment();
+        commands.add(batch.commands.size());
+        ContextBridge.callBlocking(() -> processor.apply(batch.commands), scheduler)
+                .contextWrite(Context.of(RequestContext.KEY, RequestContext.shared(batch.callers)))
+                .subscribe(
+                        outcomes -> {
+                            if (outcomes == null || outcomes.size() != batch.waiting.size()) {
+                                IllegalStateException mismatch = new IllegalStateException("Batch of "
+                                        + batch.waiting.size() + " commands returned "
+                                        + (outcomes == null ? "no" : String.valueOf(outcomes.size())) + " outcomes");
+                                batch.waiting.forEach(sink -> sink.tryEmitError(mismatch));
+                                return;
+                            }
+                            for (int i = 0; i < batch.waiting.size(); i++) {
+                                Outcome<R> outcome = outcomes.get(i);
+                                if (outcome.error() != null) {
+                                    batch.waiting.get(i).tryEmitError(outcome.error());
+                                } else {
+                                    batch.waiting.get(i).tryEmitValue(outcome.value());
+                                }
+                            }
+                        },
+                        error -> batch.waiting.forEach(sink -> sink.tryEmitError(error)));
+    }
+
+    /**
+     * Result of one command in a batch: a value or the exception its caller should see.
+     */
+    public record Outcome<R>(R value, RuntimeException error) {
+
+        public static <R> Outcome<R> success(R value) {
+            return new Outcome<>(value, null);
+        }
+
+        public static <R> Outcome<R> failure(RuntimeException error) {
+            return new Outcome<>(null, error);
+        }
+    }
+
+    // The lists are only modified under the batcher lock and only read after the batch is closed
+    private final class Batch {
+
+        private final List<RequestContext> callers = new ArrayList<>();
+        private final List<C> commands = new ArrayList<>();
+        private final List<Sinks.One<R>> waiting = new ArrayList<>();
+    }
+}
@@ -0,0 +1,13 @@
+package com.csio.hexagonal.application.execution;
+
+/**
+ * How port calls are executed relative to the request's event-loop thread.
+ */
+public enum ExecutionMode {
+    /** Port calls run inline on the event loop; only valid for non-blocking adapters. */
+    EVENT_LOOP,
+    /** Port calls are offloaded to a virtual thread per call. */
+    VIRTUAL_THREAD,
+    /** Port calls are offloaded to a sized pool of platform threads. */
+    PLATFORM_POOL
+}
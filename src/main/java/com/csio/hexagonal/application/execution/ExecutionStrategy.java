@@ -0,0 +1,23 @@
+package com.csio.hexagonal.application.execution;
+
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Decides where application services run their outbound port calls.
+ * Exactly one strategy is active per deployment, selected by {@code async.executor.type}.
+ */
+public interface ExecutionStrategy {
+
+    ExecutionMode mode();
+
+    /**
+     * Scheduler that port calls are subscribed on; shared by all handlers.
+     */
+    Scheduler scheduler();
+
+    static ExecutionStrategy of(ExecutionMode mode, Scheduler scheduler) {
+        return new Fixed(mode, scheduler);
+    }
+
+    record Fixed(ExecutionMode mode, Scheduler scheduler) implements ExecutionStrategy {}
+}
@@ -0,0 +1,118 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.context.RequestContext;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * DataLoader-style batching of single-key lookups.
+ * <p>
+ * Keys requested within one {@link BatchWindow} are collected and loaded with one blocking call on the
+ * given scheduler; a batch that reaches {@code maxSize} keys is dispatched at once. Repeated keys in a
+ * batch are loaded once. Each caller receives the value for its key, or completes empty when the loader
+ * returned none; a loader failure fails every caller in the batch.
+ * <p>
+ * The load runs with a {@link RequestContext#shared shared} request context: the latest deadline of
+ * its callers and none of their tokens, principals or trace ids, so one caller's short budget does not
+ * fail the others. Callers that cancel simply stop listening; the batch still runs.
+ */
+public final class MicroBatcher<K, V> {
+
+    private final BatchWindow window;
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final Scheduler scheduler;
+
+    private final Object lock = new Object();
+    private Batch open;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder keys = new LongAdder();
+
+    public MicroBatcher(BatchWindow window, Function<Set<K>, Map<K, V>> loader, Scheduler scheduler) {
+        this.window = window;
+        this.loader = loader;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.deferContextual(context -> {
+            Sinks.One<V> result;
+            Batch full = null;
+            Batch started = null;
+            synchronized (lock) {
+                if (open == null) {
+                    open = new Batch();
+                    started = open;
+                }
+                open.callers.add(RequestContext.from(context));
+                result = open.waiting.computeIfAbsent(key, k -> Sinks.one());
+                if (open.waiting.size() >= window.maxSize()) {
+                    full = open;
+                    open = null;
+                }
+            }
+            if (full != null) {
+                dispatch(full);
+            } else if (started != null) {
+                Batch batch = started;
+                Mono.delay(window.window()).subscribe(tick -> close(batch));
+            }
+            return result.asMono();
+        });
+    }
+
+    /** Batches dispatched so far. */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /** Distinct keys loaded so far, summed over all batches. */
+    public long keys() {
+        return keys.sum();
+    }
+
+    private void close(Batch batch) {
+        synchronized (lock) {
+            if (open != batch) {
+                return; // already dispatched because it filled up
+            }
+            open = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        batches.increment();
+        keys.add(batch.waiting.size());
+        ContextBridge.callBlocking(() -> loader.apply(batch.waiting.keySet()), scheduler)
+                .contextWrite(Context.of(RequestContext.KEY, RequestContext.shared(batch.callers)))
+                .subscribe(
+                        found -> batch.waiting.forEach((key, sink) -> {
+                            V value = found.get(key);
+                            if (value == null) {
+                                sink.tryEmitEmpty();
+                            } else {
+                                sink.tryEmitValue(value);
+                            }
+                        }),
+                        error -> batch.waiting.values().forEach(sink -> sink.tryEmitError(error)));
+    }
+
+    // The collections are only modified under the batcher lock and only read after the batch is closed
+    private final class Batch {
+
+        private final List<RequestContext> callers = new ArrayList<>();
+        private final Map<K, Sinks.One<V>> waiting = new LinkedHashMap<>();
+    }
+}
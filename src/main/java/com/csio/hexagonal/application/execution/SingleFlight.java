@@ -0,0 +1,88 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads into one in-flight call.
+ * <p>
+ * The first subscriber for a key (the leader) starts the call; callers that arrive with the same key
+ * while it is running (followers) share its {@code Mono} and receive the same value or error. The key
+ * is released as soon as the call terminates, so nothing is cached beyond the flight itself.
+ * <p>
+ * The call runs with a {@link RequestContext#shared shared} request context: none of the leader's token,
+ * principal, trace or request id, and no deadline, since followers that join later may have a longer
+ * budget or none. Each caller instead stops waiting at its own deadline. The call is cancelled only
+ * once every subscriber has cancelled, so a leader that disconnects or runs out of time does not fail
+ * its followers.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+
+    /**
+     * Returns the result of {@code call}, shared with any concurrent caller using an equal key.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.deferContextual(context -> {
+            RequestContext caller = RequestContext.from(context);
+            Flight fresh = new Flight(key, call, caller);
+            Flight running = inFlight.putIfAbsent(key, fresh);
+            if (running != null) {
+                followers.increment();
+                return withinDeadline(running.result, caller.deadline());
+            }
+            leaders.increment();
+            return withinDeadline(fresh.result, caller.deadline());
+        });
+    }
+
+    /** Calls that started a flight. */
+    public long leaders() {
+        return leaders.sum();
+    }
+
+    /** Calls that joined a flight already in progress instead of running their own. */
+    public long followers() {
+        return followers.sum();
+    }
+
+    /** Keys with a call currently running. */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private Mono<V> withinDeadline(Mono<V> result, Deadline deadline) {
+        if (deadline == null) {
+            return result;
+        }
+        return result.timeout(deadline.remaining(), Mono.error(() ->
+                new DeadlineExceededException("Request deadline expired while waiting for a shared read")));
+    }
+
+    private final class Flight {
+
+        private final Mono<V> result;
+
+        private Flight(K key, Supplier<Mono<V>> call, RequestContext leader) {
+            // Released before the result is delivered, so a caller that has seen it starts a new flight
+            Runnable land = () -> inFlight.remove(key, this);
+            RequestContext shared = RequestContext.shared(List.of(leader)).withDeadline(null);
+            this.result = Mono.defer(call)
+                    .contextWrite(Context.of(RequestContext.KEY, shared))
+                    .doOnTerminate(land)
+                    .doOnCancel(land)
+                    .share();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks that keys are hashed onto, so work on the same key is serialized while work on
+ * different keys mostly is not. Two keys only contend when they share a stripe; more stripes make that
+ * rarer at a few bytes each.
+ * <p>
+ * The stripes are {@link ReentrantLock}s, which park a waiting virtual thread instead of pinning its
+ * carrier. A waiter gives up when the request deadline passes, and stops waiting when interrupted.
+ * Several keys are locked in stripe order, so callers locking overlapping sets cannot deadlock.
+ */
+public final class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+
+    /**
+     * @param stripes number of locks, rounded up to a power of two
+     */
+    public StripedLocks(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Lock stripes must be at least 1");
+        }
+        int size = Integer.highestOneBit(stripes);
+        this.stripes = new ReentrantLock[size < stripes ? size << 1 : size];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs {@code action} while holding the stripe of {@code key}.
+     */
+    public <T> T withLock(Object key, Callable<T> action) throws Exception {
+        ReentrantLock lock = stripes[stripeOf(key)];
+        acquire(lock);
+        try {
+            return action.call();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code action} while holding the stripes of all {@code keys}.
+     */
+    public <T> T withLocks(Collection<?> keys, Callable<T> action) throws Exception {
+        boolean[] needed = new boolean[stripes.length];
+        for (Object key : keys) {
+            needed[stripeOf(key)] = true;
+        }
+        int held = 0;
+        try {
+            for (; held < stripes.length; held++) {
+                if (needed[held]) {
+                    acquire(stripes[held]);
+                }
+            }
+            return action.call();
+        } finally {
+            for (int i = held - 1; i >= 0; i--) {
+                if (needed[i]) {
+                    stripes[i].unlock();
+                }
+            }
+        }
+    }
+
+    public int stripes() {
+        return stripes.length;
+    }
+
+    /** Locks taken so far. */
+    public long acquired() {
+        return acquired.sum();
+    }
+
+    /** Locks that were held by another caller when requested, so the caller had to wait. */
+    public long contended() {
+        return contended.sum();
+    }
+
+    int stripeOf(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return (h ^ (h >>> 16)) & (stripes.length - 1);
+    }
+
+    private void acquire(ReentrantLock lock) throws InterruptedException {
+        acquired.increment();
+        if (lock.tryLock()) {
+            return;
+        }
+        contended.increment();
+        Deadline deadline = RequestContext.current().deadline();
+        if (deadline == null) {
+            lock.lockInterruptibly();
+        } else if (!lock.tryLock(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new DeadlineExceededException("Request deadline expired while waiting for a lock");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.function.BiFunction;
+
+/**
+ * Runs independent blocking sub-tasks of a use case in parallel inside a {@link StructuredTaskScope}
+ * and bridges the combined result back to {@link Mono}.
+ * <p>
+ * Each sub-task runs on its own virtual thread and inherits the caller's {@link RequestContext}. The first failure cancels the siblings and is
+ * re-thrown as-is, so callers see the same domain exceptions as with sequential calls. The scope
+ * owner runs on the given scheduler and is bounded by the request deadline; cancelling the
+ * {@code Mono} interrupts the owner, which in turn cancels every unfinished sub-task.
+ */
+public final class StructuredFanOut {
+
+    private StructuredFanOut() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Runs {@code first} and {@code second} concurrently and combines their results on the owner thread.
+     */
+    public static <A, B, R> Mono<R> both(Callable<A> first,
+                                         Callable<B> second,
+                                         BiFunction<? super A, ? super B, ? extends R> combiner,
+                                         Scheduler scheduler) {
+        return ContextBridge.callBlocking(() -> both(first, second, combiner), scheduler);
+    }
+
+    /**
+     * Blocking form of {@link #both(Callable, Callable, BiFunction, Scheduler)}, for callers already on a
+     * worker thread with the request context bound, e.g. while holding a lock around the whole step.
+     */
+    public static <A, B, R> R both(Callable<A> first,
+                                   Callable<B> second,
+                                   BiFunction<? super A, ? super B, ? extends R> combiner) throws Exception {
+        try (var scope = open()) {
+            Subtask<A> a = scope.fork(first);
+            Subtask<B> b = scope.fork(second);
+            join(scope);
+            return combiner.apply(a.get(), b.get());
+        }
+    }
+
+    /**
+     * Runs all tasks concurrently; results are returned in task order.
+     */
+    public static <T> Mono<List<T>> all(List<? extends Callable<? extends T>> tasks, Scheduler scheduler) {
+        return ContextBridge.callBlocking(() -> {
+            try (var scope = open()) {
+                List<Subtask<? extends T>> subtasks = new ArrayList<>(tasks.size());
+                for (Callable<? extends T> task : tasks) {
+                    subtasks.add(scope.fork(task));
+                }
+                join(scope);
+                List<T> results = new ArrayList<>(subtasks.size());
+                for (Subtask<? extends T> subtask : subtasks) {
+                    results.add(subtask.get());
+                }
+                return results;
+            }
+        }, scheduler);
+    }
+
+    // Called on the owner thread, where ContextBridge has already bound the request context.
+    private static StructuredTaskScope<Object, Void> open() {
+        Deadline deadline = RequestContext.current().deadline();
+        if (deadline == null) {
+            return StructuredTaskScope.open(Joiner.awaitAllSuccessfulOrThrow());
+        }
+        Duration timeout = deadline.remaining();
+        return StructuredTaskScope.open(Joiner.awaitAllSuccessfulOrThrow(), cf -> cf.withTimeout(timeout));
+    }
+
+    private static void join(StructuredTaskScope<Object, Void> scope) throws Exception {
+        try {
+            scope.join();
+        } catch (StructuredTaskScope.FailedException ex) {
+            throw unwrap(ex.getCause());
+        } catch (StructuredTaskScope.TimeoutException ex) {
+            throw new DeadlineExceededException("Request deadline expired while waiting for parallel sub-tasks");
+        }
+    }
+
+    private static Exception unwrap(Throwable cause) {
+        if (cause instanceof Exception ex) {
+            return ex;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -4,5 +4,5 @@ import reactor.core.publisher.Mono;
 
 public interface QueryUseCase<Q, R> {
 
-    Mono<R> query(Q query, String token);
+    Mono<R> query(Q query);
 }
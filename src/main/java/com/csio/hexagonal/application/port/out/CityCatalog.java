@@ -0,0 +1,39 @@
+package com.csio.hexagonal.application.port.out;
+
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory copy of every stored city, consulted by the read handlers before {@link CityContract}.
+ * <p>
+ * Readers take the current {@link Snapshot} once and answer the whole request from it: snapshots are
+ * immutable, so no lock is needed and a response never mixes two versions.
+ */
+public interface CityCatalog {
+
+    /** Catalog that holds nothing, so every read goes to the contract. */
+    CityCatalog NONE = Optional::empty;
+
+    /**
+     * The latest snapshot, or empty while the catalog is not loaded.
+     */
+    Optional<Snapshot> current();
+
+    interface Snapshot {
+
+        /** Increases with every write applied to the catalog. */
+        long version();
+
+        Optional<City> findByUid(UUID uid);
+
+        /**
+         * The requested page, or empty when the query filters or sorts on something the catalog cannot
+         * evaluate, in which case the contract should answer it.
+         */
+        Optional<PageResult<City>> findAll(CityFilterQuery query);
+    }
+}
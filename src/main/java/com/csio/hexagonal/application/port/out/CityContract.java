@@ -3,11 +3,36 @@ package com.csio.hexagonal.application.port.out;
 import com.csio.hexagonal.application.service.query.CityFilterQuery;
 import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface CityContract extends Contract<City, City, UUID> {
-    PageResult<City> findAllWithPagination(int page, int size, String search, String sort, String token);
+    PageResult<City> findAllWithPagination(int page, int size, String search, String sort);
 
-    PageResult<City> findAllWithFilters(CityFilterQuery request, String token);
+    PageResult<City> findAllWithFilters(CityFilterQuery request);
+
+    /**
+     * Loads every stored city whose uid is in {@code uids} with a single query.
+     * Unknown uids are skipped; the result is in no particular order.
+     */
+    List<City> findByUids(Collection<UUID> uids);
+
+    /**
+     * Stores all cities in one transaction, as a single batch where the store supports it.
+     */
+    List<City> saveAll(List<City> cities);
+
+    /**
+     * Loads every stored city whose name equals one of {@code names}, ignoring case, with a single query.
+     */
+    List<City> findByNames(Collection<String> names);
+
+    /**
+     * Active and inactive city counts per state, ordered by state, read from a summary that every write
+     * keeps up to date. States without cities are left out.
+     */
+    List<StateCityCount> countByState();
 
 }
@@ -0,0 +1,25 @@
+package com.csio.hexagonal.application.port.out;
+
+import com.csio.hexagonal.domain.event.CityEvent;
+
+/**
+ * Hands city events to whatever keeps caches, indexes, read models and the audit trail up to date.
+ * <p>
+ * Publishing only enqueues the event: subscribers run later, on their own threads, so a use case never
+ * waits for them and a failing subscriber cannot fail the command that published the event.
+ * <p>
+ * Commands publish after their write is stored, so publishing must not wait or fail either: an event
+ * that cannot be taken at once is dropped, and the publisher accounts for it.
+ */
+public interface CityEventPublisher {
+
+    /** Publisher that discards every event, for deployments without subscribers. */
+    CityEventPublisher NONE = event -> true;
+
+    /**
+     * Enqueues {@code event} without waiting.
+     *
+     * @return whether the event was taken; {@code false} when it was dropped
+     */
+    boolean tryPublish(CityEvent event);
+}
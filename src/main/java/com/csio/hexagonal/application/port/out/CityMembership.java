@@ -0,0 +1,30 @@
+package com.csio.hexagonal.application.port.out;
+
+import java.util.UUID;
+
+/**
+ * Cheap, in-memory pre-check of whether a city may be stored, consulted before going to {@link CityContract}.
+ * <p>
+ * Answers are one-sided: {@code false} means the city is definitely not stored and the read can be
+ * skipped; {@code true} only means it may be, and the contract has the final word.
+ */
+public interface CityMembership {
+
+    /** Membership that knows nothing, so every probe goes to the contract. */
+    CityMembership UNKNOWN = new CityMembership() {
+        @Override
+        public boolean mayContainUid(UUID uid) {
+            return true;
+        }
+
+        @Override
+        public boolean mayContainName(String name) {
+            return true;
+        }
+    };
+
+    boolean mayContainUid(UUID uid);
+
+    /** Names compare case-insensitively, as in the uniqueness policy. */
+    boolean mayContainName(String name);
+}
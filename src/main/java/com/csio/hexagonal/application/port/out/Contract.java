@@ -6,13 +6,13 @@ import java.util.UUID;
 
 public interface Contract<T, R, ID> {
 
-    R save(T entity, String token);
+    R save(T entity);
 
-    Optional<T> findByUid(ID id, String token);
+    Optional<T> findByUid(ID id);
 
-    List<T> findAll(String token);
+    List<T> findAll();
 
-    T update(ID id, T entity, String token);
+    T update(ID id, T entity);
 
-    void deleteByUid(ID id, String token);
+    void deleteByUid(ID id);
 }
@@ -1,45 +1,214 @@
 package com.csio.hexagonal.application.service.command;
 
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.execution.BatchWindow;
+import com.csio.hexagonal.application.execution.CommandBatcher;
+import com.csio.hexagonal.application.execution.CommandBatcher.Outcome;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.execution.StripedLocks;
+import com.csio.hexagonal.application.execution.StructuredFanOut;
 import com.csio.hexagonal.application.port.in.CommandUseCase;
 import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.port.out.CityEventPublisher;
+import com.csio.hexagonal.application.port.out.CityMembership;
+import com.csio.hexagonal.domain.event.CityCreated;
 import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.policy.city.CityPolicy;
 import com.csio.hexagonal.domain.vo.CityId;
 import com.csio.hexagonal.domain.vo.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
-import java.util.concurrent.Executor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 public class CreateCityCommandHandler implements CommandUseCase<CreateCityCommand, City> {
 
+    private static final Logger log = LoggerFactory.getLogger(CreateCityCommandHandler.class);
+
     private final CityContract cityPersistencePort;
+    private final CityMembership cityMembership;
     private final CityPolicy cityPolicy;
-    private final Executor cpuExecutor;
-    private final Executor virtualExecutor;
+    private final StripedLocks nameLocks;
+    private final CityEventPublisher cityEvents;
+    private final ExecutionStrategy execution;
+    private final CommandBatcher<CreateCityCommand, City> batcher;
 
-    public CreateCityCommandHandler(CityContract cityPersistencePort, CityPolicy cityPolicy, Executor cpuExecutor, Executor virtualExecutor) {
+    public CreateCityCommandHandler(CityContract cityPersistencePort,
+                                    CityMembership cityMembership,
+                                    CityPolicy cityPolicy,
+                                    @Qualifier("cityNameLocks") StripedLocks cityNameLocks,
+                                    CityEventPublisher cityEvents,
+                                    @Qualifier("cityCreateBatching") BatchWindow cityCreateBatching,
+                                    ExecutionStrategy execution) {
         this.cityPersistencePort = cityPersistencePort;
+        this.cityMembership = cityMembership;
         this.cityPolicy = cityPolicy;
-        this.cpuExecutor = cpuExecutor;
-        this.virtualExecutor = virtualExecutor;
+        this.nameLocks = cityNameLocks;
+        this.cityEvents = cityEvents;
+        this.execution = execution;
+        this.batcher = cityCreateBatching.enabled()
+                ? new CommandBatcher<>(cityCreateBatching, this::createAll, execution.scheduler())
+                : null;
     }
 
     @Override
-    public Mono<City> create(CreateCityCommand command, String token) {
-
-        City city = new City(
-                CityId.newId(),
-                command.name(),
-                new State(command.state())
-        );
-
-        return Mono.fromCallable(() -> cityPersistencePort.findAll(token))  // <-- pass token
-                .subscribeOn(Schedulers.fromExecutor(virtualExecutor))
-                .flatMap(existing -> Mono.fromRunnable(() -> cityPolicy.ensureUnique(city, existing))
-                        .subscribeOn(Schedulers.fromExecutor(cpuExecutor))
-                        .then(Mono.fromCallable(() -> cityPersistencePort.save(city, token))
-                                .subscribeOn(Schedulers.fromExecutor(virtualExecutor))));
+    public Mono<City> create(CreateCityCommand command) {
+
+        // Write-behind: the command joins the open batch and completes with its own outcome
+        if (batcher != null) {
+            return batcher.submit(command);
+        }
+
+        // The uniqueness check and the write must not interleave with another create of the same
+        // name, or both could pass the check; creates of other names hold other stripes.
+        // The event is published once the lock is released: subscribers run off this thread anyway.
+        return ContextBridge.callBlocking(() -> {
+            City city = nameLocks.withLock(nameKey(command.name()), () -> createUnique(command));
+            publishCreated(city);
+            return city;
+        }, execution.scheduler());
+    }
+
+    /** Locks that serialize creates of the same name, whatever its case. */
+    public StripedLocks nameLocks() {
+        return nameLocks;
+    }
+
+    /** Present when creates are collected into batches. */
+    public Optional<CommandBatcher<CreateCityCommand, City>> batcher() {
+        return Optional.ofNullable(batcher);
+    }
+
+    // Runs under the name's lock, so a city saved by an earlier create of the name is already visible
+    private City createUnique(CreateCityCommand command) throws Exception {
+        // No stored city can have this name, so the full-table uniqueness read has nothing to find
+        if (!cityMembership.mayContainName(command.name())) {
+            return cityPersistencePort.save(new City(CityId.newId(), command.name(), new State(command.state())));
+        }
+
+        // Validation and the uniqueness probe are independent: they run as parallel
+        // sub-tasks, and an invalid command cancels the read instead of waiting for it.
+        // The policy check and the write then run on the same owner thread.
+        return StructuredFanOut.both(
+                () -> new City(CityId.newId(), command.name(), new State(command.state())),
+                () -> cityPersistencePort.findAll(),
+                (City city, List<City> existing) -> {
+                    cityPolicy.ensureUnique(city, existing);
+                    return cityPersistencePort.save(city);
+                });
+    }
+
+    /**
+     * Creates a batch of cities with one uniqueness read and one insert. Each command is validated and
+     * checked on its own, against stored cities and against earlier commands in the batch, so one
+     * invalid or duplicate name fails only its own caller.
+     */
+    private List<Outcome<City>> createAll(List<CreateCityCommand> commands) {
+        @SuppressWarnings("unchecked")
+        Outcome<City>[] outcomes = new Outcome[commands.size()];
+
+        List<City> candidates = new ArrayList<>(commands.size());
+        List<Integer> candidateSlots = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            CreateCityCommand command = commands.get(i);
+            try {
+                candidates.add(new City(CityId.newId(), command.name(), new State(command.state())));
+                candidateSlots.add(i);
+            } catch (RuntimeException ex) {
+                outcomes[i] = Outcome.failure(ex);
+            }
+        }
+
+        // Batches run concurrently with each other: hold every candidate name until the batch is stored
+        try {
+            nameLocks.withLocks(candidates.stream().map(city -> nameKey(city.getName())).toList(), () -> {
+                insertUnique(candidates, candidateSlots, outcomes);
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            candidateSlots.forEach(slot -> outcomes[slot] = Outcome.failure(ex));
+        } catch (Exception ex) {
+            RuntimeException failure = new IllegalStateException("City batch was interrupted", ex);
+            candidateSlots.forEach(slot -> outcomes[slot] = Outcome.failure(failure));
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    private void insertUnique(List<City> candidates, List<Integer> candidateSlots, Outcome<City>[] outcomes) {
+        // Names the membership filter rules out cannot match a stored city
+        List<String> names = candidates.stream()
+                .map(City::getName)
+                .filter(cityMembership::mayContainName)
+                .toList();
+        List<City> known = new ArrayList<>(names.isEmpty() ? List.of() : cityPersistencePort.findByNames(names));
+
+        List<City> accepted = new ArrayList<>(candidates.size());
+        List<Integer> acceptedSlots = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            City city = candidates.get(i);
+            try {
+                cityPolicy.ensureUnique(city, known);
+                known.add(city);
+                accepted.add(city);
+                acceptedSlots.add(candidateSlots.get(i));
+            } catch (RuntimeException ex) {
+                outcomes[candidateSlots.get(i)] = Outcome.failure(ex);
+            }
+        }
+
+        List<City> saved;
+        try {
+            saved = cityPersistencePort.saveAll(accepted);
+        } catch (RuntimeException ex) {
+            acceptedSlots.forEach(slot -> outcomes[slot] = Outcome.failure(ex));
+            return;
+        }
+        // Rows come back in the order they were given; a short result leaves the unmatched commands failed
+        int matched = Math.min(saved.size(), accepted.size());
+        for (int i = 0; i < matched; i++) {
+            outcomes[acceptedSlots.get(i)] = Outcome.success(saved.get(i));
+        }
+        if (matched < accepted.size()) {
+            RuntimeException missing = new IllegalStateException(
+                    "City batch insert returned " + saved.size() + " rows for " + accepted.size() + " cities");
+            for (int i = matched; i < acceptedSlots.size(); i++) {
+                outcomes[acceptedSlots.get(i)] = Outcome.failure(missing);
+            }
+        }
+        saved.subList(0, matched).forEach(this::publishCreated);
+    }
+
+    // The city is stored by now: an event that cannot be published is logged, never failed back to the caller
+    private void publishCreated(City city) {
+        try {
+            if (!cityEvents.tryPublish(CityCreated.of(city, Instant.now()))) {
+                log.debug("CityCreated for {} was dropped", city.getId());
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to publish CityCreated for {}", city.getId(), ex);
+        }
+    }
+
+    /**
+     * Lock key of a name. Each character is folded the way {@link String#equalsIgnoreCase} compares it,
+     * so names the policy treats as duplicates always share a stripe.
+     */
+    static String nameKey(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            key.append(Character.toLowerCase(Character.toUpperCase(name.charAt(i))));
+        }
+        return key.toString();
     }
 }
@@ -1,5 +1,6 @@
 package com.csio.hexagonal.application.service.query;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -15,6 +16,54 @@ public record CityFilterQuery(
         List<SortOrder> sort
 ) {
 
+    private static final Comparator<FilterCondition> CONDITION_ORDER =
+            Comparator.comparing(FilterCondition::field, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(FilterCondition::operator, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(FilterCondition::value, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * Returns an equivalent query in a canonical form, so that queries selecting the same page
+     * compare equal: conditions and groups are put in a fixed order (AND/OR are commutative),
+     * repeated conditions are dropped, the operator of a single-member group is normalized to AND,
+     * a missing operator elsewhere to OR (as the specification reads it),
+     * and blank search, empty filters and empty sort become {@code null}. Sort order is kept as given.
+     */
+    public CityFilterQuery canonical() {
+        Filter canonicalFilter = null;
+        if (filter != null && filter.filterGroups() != null) {
+            List<FilterGroup> groups = filter.filterGroups().stream()
+                    .map(CityFilterQuery::canonical)
+                    .distinct()
+                    .sorted(Comparator.comparing(FilterGroup::toString))
+                    .toList();
+            if (!groups.isEmpty()) {
+                canonicalFilter = new Filter(operatorOf(groups.size(), filter.operator()), groups);
+            }
+        }
+        return new CityFilterQuery(
+                canonicalFilter,
+                page,
+                size,
+                search == null || search.isBlank() ? null : search,
+                sort == null || sort.isEmpty() ? null : List.copyOf(sort));
+    }
+
+    private static FilterGroup canonical(FilterGroup group) {
+        if (group.conditions() == null) {
+            return group;
+        }
+        List<FilterCondition> conditions = group.conditions().stream().distinct().sorted(CONDITION_ORDER).toList();
+        return new FilterGroup(operatorOf(conditions.size(), group.operator()), conditions);
+    }
+
+    // With one member AND and OR select the same rows; otherwise a missing operator means OR
+    private static LogicalOperator operatorOf(int members, LogicalOperator operator) {
+        if (members == 1) {
+            return LogicalOperator.AND;
+        }
+        return operator == null ? LogicalOperator.OR : operator;
+    }
+
     public record Filter(
             LogicalOperator operator,
             List<FilterGroup> filterGroups
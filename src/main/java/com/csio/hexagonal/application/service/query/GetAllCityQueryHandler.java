@@ -1,55 +1,77 @@
 package com.csio.hexagonal.application.service.query;
 
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.context.ServedVersion;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.execution.SingleFlight;
 import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.application.port.in.QueryUseCase;
+import com.csio.hexagonal.application.port.out.CityCatalog;
 import com.csio.hexagonal.application.port.out.CityContract;
 import com.csio.hexagonal.domain.model.City;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
-import java.util.concurrent.Executor;
+
+import java.util.Optional;
 
 @Service
 public class GetAllCityQueryHandler
         implements  QueryUseCase<CityFilterQuery, PageResult<City>> {
 
-    private static final Logger log =
-            LoggerFactory.getLogger(GetAllCityQueryHandler.class);
-
     private final CityContract cityServiceContract;
-    private final Executor virtualExecutor;
+    private final CityCatalog cityCatalog;
+    private final ExecutionStrategy execution;
+    private final SingleFlight<CityFilterQuery, PageResult<City>> inFlight = new SingleFlight<>();
 
     public GetAllCityQueryHandler(
             CityContract cityServiceContract,
-            Executor virtualExecutor
+            CityCatalog cityCatalog,
+            ExecutionStrategy execution
     ) {
         this.cityServiceContract = cityServiceContract;
-        this.virtualExecutor = virtualExecutor;
+        this.cityCatalog = cityCatalog;
+        this.execution = execution;
     }
 
     @Override
-    public Mono<PageResult<City>> query(CityFilterQuery request, String token) {
+    public Mono<PageResult<City>> query(CityFilterQuery query) {
+
+        // Equivalent concurrent queries share one read; the canonical form makes them equal
+        CityFilterQuery request = query.canonical();
+        Optional<CityCatalog.Snapshot> snapshot = cityCatalog.current();
+        if (snapshot.isEmpty()) {
+            return inFlight.execute(request, () -> read(request));
+        }
+        // Filtering and sorting a snapshot is CPU work, so it still runs off the event loop
+        CityCatalog.Snapshot served = snapshot.get();
+        return ContextBridge.callBlocking(() -> served.findAll(request), execution.scheduler())
+                .flatMap(page -> page
+                        .map(result -> ServedVersion.recording(served.version(), Mono.just(result)))
+                        .orElseGet(() -> inFlight.execute(request, () -> read(request))));
+    }
+
+    public SingleFlight<CityFilterQuery, PageResult<City>> singleFlight() {
+        return inFlight;
+    }
+
+    private Mono<PageResult<City>> read(CityFilterQuery request) {
 
         boolean hasFilters = request.filter() != null
                 && request.filter().filterGroups() != null
                 && !request.filter().filterGroups().isEmpty();
 
-        return Mono.fromCallable(() -> {
+        return ContextBridge.callBlocking(() -> {
                     if (hasFilters) {
-                        return cityServiceContract.findAllWithFilters(request, token);
+                        return cityServiceContract.findAllWithFilters(request);
                     } else {
                         return cityServiceContract.findAllWithPagination(
                                 request.page(),
                                 request.size(),
                                 request.search(),
-                                buildSortString(request),
-                                token
+                                buildSortString(request)
                         );
                     }
-                })
-                .subscribeOn(Schedulers.fromExecutor(virtualExecutor));
+                }, execution.scheduler());
     }
 
     /**
@@ -0,0 +1,19 @@
+package com.csio.hexagonal.application.service.query;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only query object for fetching several cities by UID in one call
+ */
+public record GetCitiesQuery(List<UUID> uids) {
+
+    public GetCitiesQuery {
+        uids = List.copyOf(uids);
+    }
+
+    public static GetCitiesQuery fromStrings(List<String> uids) {
+
+        return new GetCitiesQuery(uids.stream().map(UUID::fromString).toList());
+    }
+}
@@ -0,0 +1,65 @@
+package com.csio.hexagonal.application.service.query;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.port.in.QueryUseCase;
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.port.out.CityMembership;
+import com.csio.hexagonal.domain.model.City;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class GetCitiesQueryHandler implements QueryUseCase<GetCitiesQuery, List<City>> {
+
+    private final CityContract cityServiceContract;
+    private final CityMembership cityMembership;
+    private final ExecutionStrategy execution;
+
+    public GetCitiesQueryHandler(
+            CityContract cityServiceContract,
+            CityMembership cityMembership,
+            ExecutionStrategy execution
+    ) {
+        this.cityServiceContract = cityServiceContract;
+        this.cityMembership = cityMembership;
+        this.execution = execution;
+    }
+
+    /**
+     * Returns the stored cities among the requested uids, in request order; repeated uids appear once
+     * and unknown uids are left out.
+     */
+    @Override
+    public Mono<List<City>> query(GetCitiesQuery query) {
+
+        // Definite misses never reach the IN list
+        Set<UUID> candidates = new LinkedHashSet<>();
+        for (UUID uid : query.uids()) {
+            if (cityMembership.mayContainUid(uid)) {
+                candidates.add(uid);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        return ContextBridge.callBlocking(() -> {
+            Map<UUID, City> found = cityServiceContract.findByUids(candidates).stream()
+                    .collect(Collectors.toMap(city -> city.getId().value(), Function.identity()));
+            return candidates.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }, execution.scheduler());
+    }
+}
@@ -1,41 +1,95 @@
 package com.csio.hexagonal.application.service.query;
 
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.context.ServedVersion;
+import com.csio.hexagonal.application.execution.BatchWindow;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.execution.MicroBatcher;
+import com.csio.hexagonal.application.execution.SingleFlight;
 import com.csio.hexagonal.application.port.in.QueryUseCase;
+import com.csio.hexagonal.application.port.out.CityCatalog;
 import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.port.out.CityMembership;
 import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.vo.CityId;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class GetCityQueryHandler implements QueryUseCase<GetCityQuery, City> {
-    private static final Logger log = LoggerFactory.getLogger(GetCityQueryHandler.class);
 
     private final CityContract cityServiceContract;
-    private final Executor virtualExecutor;
+    private final CityMembership cityMembership;
+    private final CityCatalog cityCatalog;
+    private final ExecutionStrategy execution;
+    private final SingleFlight<UUID, Optional<City>> inFlight = new SingleFlight<>();
+    private final MicroBatcher<UUID, City> batcher;
 
     public GetCityQueryHandler(
             CityContract cityServiceContract,
-            Executor virtualExecutor
+            CityMembership cityMembership,
+            CityCatalog cityCatalog,
+            @Qualifier("cityLookupBatching") BatchWindow cityLookupBatching,
+            ExecutionStrategy execution
     ) {
         this.cityServiceContract = cityServiceContract;
-        this.virtualExecutor = virtualExecutor;
+        this.cityMembership = cityMembership;
+        this.cityCatalog = cityCatalog;
+        this.execution = execution;
+        this.batcher = cityLookupBatching.enabled()
+                ? new MicroBatcher<>(cityLookupBatching, this::loadBatch, execution.scheduler())
+                : null;
     }
 
     @Override
-    public Mono<City> query(GetCityQuery query, String token) {
+    public Mono<City> query(GetCityQuery query) {
 
         // Convert UUID from query to CityId value object
         CityId cityId = new CityId(query.uid());
-        log.info("Received CityId  for cityId={}", cityId);
-        return Mono.fromCallable(() -> cityServiceContract.findByUid(UUID.fromString(String.valueOf(cityId.value())), token))
-                .subscribeOn(Schedulers.fromExecutor(virtualExecutor))
+
+        // Unknown uid: answer without a worker hop or a query
+        if (!cityMembership.mayContainUid(cityId.value())) {
+            return Mono.empty();
+        }
+        // A published snapshot answers on the calling thread, without locks or a query
+        Optional<CityCatalog.Snapshot> snapshot = cityCatalog.current();
+        if (snapshot.isPresent()) {
+            return ServedVersion.recording(snapshot.get().version(),
+                    Mono.justOrEmpty(snapshot.get().findByUid(cityId.value())));
+        }
+        // Concurrent lookups of the same uid share one query
+        return inFlight.execute(cityId.value(), () -> lookup(cityId.value()))
                 .flatMap(Mono::justOrEmpty); // unwrap Optional<City>
     }
+
+    public SingleFlight<UUID, Optional<City>> singleFlight() {
+        return inFlight;
+    }
+
+    /** Present when concurrent lookups of different uids are batched into one query. */
+    public Optional<MicroBatcher<UUID, City>> batcher() {
+        return Optional.ofNullable(batcher);
+    }
+
+    private Mono<Optional<City>> lookup(UUID uid) {
+        if (batcher != null) {
+            return batcher.load(uid)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty());
+        }
+        return ContextBridge.callBlocking(() -> cityServiceContract.findByUid(uid), execution.scheduler());
+    }
+
+    private Map<UUID, City> loadBatch(Set<UUID> uids) {
+        return cityServiceContract.findByUids(uids).stream()
+                .collect(Collectors.toMap(city -> city.getId().value(), Function.identity()));
+    }
 }
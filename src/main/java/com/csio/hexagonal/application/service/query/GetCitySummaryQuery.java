@@ -0,0 +1,7 @@
+package com.csio.hexagonal.application.service.query;
+
+/**
+ * Read-only query object for the number of cities per state
+ */
+public record GetCitySummaryQuery() {
+}
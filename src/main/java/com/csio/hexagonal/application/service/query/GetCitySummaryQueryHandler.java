@@ -0,0 +1,32 @@
+package com.csio.hexagonal.application.service.query;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.port.in.QueryUseCase;
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+public class GetCitySummaryQueryHandler implements QueryUseCase<GetCitySummaryQuery, List<StateCityCount>> {
+
+    private final CityContract cityServiceContract;
+    private final ExecutionStrategy execution;
+
+    public GetCitySummaryQueryHandler(CityContract cityServiceContract, ExecutionStrategy execution) {
+        this.cityServiceContract = cityServiceContract;
+        this.execution = execution;
+    }
+
+    /**
+     * Returns the active and inactive city counts of every state that has cities, ordered by state.
+     * The counts come from the maintained summary, so the cost does not grow with the number of cities.
+     */
+    @Override
+    public Mono<List<StateCityCount>> query(GetCitySummaryQuery query) {
+        return ContextBridge.callBlocking(cityServiceContract::countByState, execution.scheduler());
+    }
+}
@@ -0,0 +1,23 @@
+package com.csio.hexagonal.domain.event;
+
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.State;
+
+import java.time.Instant;
+
+/**
+ * A new city was stored. Carries the city's values as they were stored, not the mutable entity.
+ */
+public record CityCreated(
+        CityId cityId,
+        String name,
+        State state,
+        boolean active,
+        Instant occurredAt
+) implements CityEvent {
+
+    public static CityCreated of(City city, Instant occurredAt) {
+        return new CityCreated(city.getId(), city.getName(), city.getState(), city.isActive(), occurredAt);
+    }
+}
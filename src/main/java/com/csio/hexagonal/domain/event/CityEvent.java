@@ -0,0 +1,16 @@
+package com.csio.hexagonal.domain.event;
+
+import com.csio.hexagonal.domain.vo.CityId;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to a city, published once the change is stored. Events are immutable
+ * values, so they can be handed to other threads and held after the city itself has changed again.
+ */
+public sealed interface CityEvent permits CityCreated {
+
+    CityId cityId();
+
+    Instant occurredAt();
+}
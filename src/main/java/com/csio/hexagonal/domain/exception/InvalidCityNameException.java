@@ -16,7 +16,7 @@ public class InvalidCityNameException extends RuntimeException {
         }
 
         // === Rule: only allow letters, spaces, and dashes ===
-        if (!name.matches("[a-zA-Z\\s\\-]+")) {
+        if (!NameCharacters.allowed(name)) {
             throw new InvalidCityNameException("City name contains invalid characters");
         }
     }
@@ -0,0 +1,35 @@
+package com.csio.hexagonal.domain.exception;
+
+/**
+ * Character rule shared by city and state names: ASCII letters, whitespace and dashes,
+ * the same set as the regex {@code [a-zA-Z\s\-]+}.
+ * <p>
+ * A hand-written scan instead of {@code String.matches}, which compiles the pattern on every call
+ * and sits on the create path.
+ */
+final class NameCharacters {
+
+    private NameCharacters() {
+        // Utility class - prevent instantiation
+    }
+
+    static boolean allowed(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (!allowed(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // \s without UNICODE_CHARACTER_CLASS is [ \t\n\x0B\f\r]
+    private static boolean allowed(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r'
+                || c == '-';
+    }
+}
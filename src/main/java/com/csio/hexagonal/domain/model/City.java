@@ -19,11 +19,22 @@ public class City {
     public City(CityId id, String name, State state) {
         InvalidCityNameException.validate(name);
         InvalidStateNameException.validate(state.value());
+        this(id, name, state, true);
+    }
 
+    private City(CityId id, String name, State state, boolean active) {
         this.id = Objects.requireNonNull(id, "CityId must not be null");
         this.name = name;
         this.state = state;
-        this.active = true;
+        this.active = active;
+    }
+
+    /**
+     * Reconstitutes a city from trusted storage without re-running the name rules.
+     * Only for data that was validated when it was written; new cities go through the constructor.
+     */
+    public static City rehydrate(CityId id, String name, State state, boolean active) {
+        return new City(id, name, state, active);
     }
 
     /* ===== Domain behavior ===== */
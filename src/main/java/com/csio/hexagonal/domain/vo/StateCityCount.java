@@ -0,0 +1,14 @@
+package com.csio.hexagonal.domain.vo;
+
+/**
+ * Number of active and inactive cities stored for one state.
+ */
+public record StateCityCount(
+        String state,
+        long active,
+        long inactive
+) {
+    public long total() {
+        return active + inactive;
+    }
+}
@@ -0,0 +1,166 @@
+package com.csio.hexagonal.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrent map with a size bound whose entries expire, for per-client state kept at the edge.
+ * <p>
+ * An entry expires once it has not been read for {@code expireAfterAccess}, or at the absolute time it
+ * was stored with, whichever comes first. Reads are plain {@link ConcurrentHashMap} reads plus one
+ * volatile write of the access time. Expired entries are dropped when next read, and swept whenever an
+ * insert takes the map over its bound; if that is not enough, the least recently read entries go too,
+ * down to nine tenths of the bound, so the sort behind it stays rare. One thread sweeps at a time while
+ * the others carry on, so the map can briefly hold a few entries over its bound.
+ */
+public final class BoundedExpiringMap<K, V> {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long idleNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedExpiringMap(int maxSize, Duration expireAfterAccess) {
+        this(maxSize, expireAfterAccess, System::nanoTime);
+    }
+
+    /**
+     * @param expireAfterAccess how long an entry lives without being read, or {@code null} to keep entries
+     *                          until their stored expiry or until crowded out
+     */
+    public BoundedExpiringMap(int maxSize, Duration expireAfterAccess, LongSupplier nanoClock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Map bound must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.idleNanos = expireAfterAccess == null ? NEVER : expireAfterAccess.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /** The live value for {@code key}, or {@code null}. */
+    public V get(K key) {
+        long now = nanoClock.getAsLong();
+        Entry<V> entry = live(key, now);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * The live value for {@code key}, creating it with {@code factory} when there is none. Concurrent
+     * callers for the same key get the same value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+        long now = nanoClock.getAsLong();
+        Entry<V> entry = live(key, now);
+        if (entry != null) {
+            return entry.value;
+        }
+        Entry<V> stored = entries.compute(key, (k, existing) ->
+                existing != null && !existing.isExpired(now, idleNanos)
+                        ? existing
+                        : new Entry<>(factory.apply(k), NEVER, now));
+        boundSize(now);
+        return stored.value;
+    }
+
+    /**
+     * Stores {@code value} until {@code expiresAtNanos} on this map's clock at the latest.
+     */
+    public void put(K key, V value, long expiresAtNanos) {
+        long now = nanoClock.getAsLong();
+        entries.put(key, new Entry<>(value, expiresAtNanos, now));
+        boundSize(now);
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    /** Entries held, including expired ones not yet swept. */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Entries dropped to keep the map within its bound. */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /** Visits every live entry. */
+    public void forEach(BiConsumer<? super K, ? super V> visitor) {
+        long now = nanoClock.getAsLong();
+        entries.forEach((key, entry) -> {
+            if (!entry.isExpired(now, idleNanos)) {
+                visitor.accept(key, entry.value);
+            }
+        });
+    }
+
+    private Entry<V> live(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now, idleNanos)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.lastAccess = now;
+        return entry;
+    }
+
+    private void boundSize(long now) {
+        if (entries.size() <= maxSize || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.entrySet().removeIf(e -> e.getValue().isExpired(now, idleNanos));
+            if (entries.size() <= maxSize) {
+                return;
+            }
+            // Access times keep moving while we sort, so sort a copy of them
+            List<Candidate<K, V>> byAccess = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> byAccess.add(new Candidate<>(key, entry, entry.lastAccess)));
+            byAccess.sort(Comparator.comparingLong((Candidate<K, V> candidate) -> candidate.lastAccess()));
+            int excess = entries.size() - maxSize + maxSize / 10;
+            for (int i = 0; i < excess && i < byAccess.size(); i++) {
+                if (entries.remove(byAccess.get(i).key(), byAccess.get(i).entry())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private record Candidate<K, V>(K key, Entry<V> entry, long lastAccess) {
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+        final long expiresAt;
+        volatile long lastAccess;
+
+        Entry(V value, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+
+        boolean isExpired(long now, long idleNanos) {
+            return (expiresAt != NEVER && now - expiresAt >= 0) || now - lastAccess >= idleNanos;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.application.execution.BatchWindow;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Decides whether concurrent city lookups and creates are collected into batches.
+ * Both are off by default: batching trades up to one window of latency on a quiet service
+ * for fewer queries and transactions under load.
+ */
+@Configuration
+@EnableConfigurationProperties(CityBatchingProperties.class)
+public class CityBatchingConfig {
+
+    @Bean
+    public BatchWindow cityLookupBatching(CityBatchingProperties props) {
+        return window(props.getLookup());
+    }
+
+    @Bean
+    public BatchWindow cityCreateBatching(CityBatchingProperties props) {
+        return window(props.getCreate());
+    }
+
+    private static BatchWindow window(CityBatchingProperties.Window props) {
+        return props.isEnabled() ? new BatchWindow(props.getWindow(), props.getMaxBatchSize()) : BatchWindow.NONE;
+    }
+}
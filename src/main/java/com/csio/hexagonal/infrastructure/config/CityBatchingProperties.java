@@ -0,0 +1,74 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "city.batching")
+public class CityBatchingProperties {
+
+    // Concurrent single-uid lookups collected into one IN query
+    private Window lookup = new Window(Duration.ofMillis(2), 100);
+
+    // Concurrent creates checked and inserted as one batch
+    private Window create = new Window(Duration.ofMillis(5), 50);
+
+    public Window getLookup() {
+        return lookup;
+    }
+
+    public void setLookup(Window lookup) {
+        this.lookup = lookup;
+    }
+
+    public Window getCreate() {
+        return create;
+    }
+
+    public void setCreate(Window create) {
+        this.create = create;
+    }
+
+    public static class Window {
+
+        private boolean enabled = false;
+
+        // How long the first call of a batch waits for others to join it
+        private Duration window;
+
+        // A batch this large is dispatched without waiting for the window to close
+        private int maxBatchSize;
+
+        public Window() {
+        }
+
+        Window(Duration window, int maxBatchSize) {
+            this.window = window;
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.application.port.out.CityCatalog;
+import com.csio.hexagonal.infrastructure.store.catalog.CityCatalogProperties;
+import com.csio.hexagonal.infrastructure.store.catalog.CopyOnWriteCityCatalog;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the {@link CityCatalog} the read handlers answer from. With {@code city.catalog.enabled} it is
+ * an in-memory copy of the store, loaded once the application is ready and kept current by
+ * {@link PersistencePortConfig}; otherwise every read goes to the database.
+ */
+@Configuration
+@EnableConfigurationProperties(CityCatalogProperties.class)
+public class CityCatalogConfig {
+
+    @Bean
+    public CityCatalog cityCatalog(CityCatalogProperties props, MeterRegistry meterRegistry) {
+        return props.isEnabled() ? new CopyOnWriteCityCatalog(meterRegistry) : CityCatalog.NONE;
+    }
+
+    // Loaded from the adapter directly: the startup read should not count against request metrics or limits
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> cityCatalogWarmup(CityCatalog cityCatalog,
+                                                                        CityRepositoryAdapter adapter) {
+        return event -> {
+            if (cityCatalog instanceof CopyOnWriteCityCatalog catalog) {
+                catalog.loadAsync(adapter::findAll);
+            }
+        };
+    }
+}
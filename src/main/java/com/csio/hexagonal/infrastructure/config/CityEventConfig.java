@@ -0,0 +1,41 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.application.port.out.CityEventPublisher;
+import com.csio.hexagonal.domain.event.CityEvent;
+import com.csio.hexagonal.infrastructure.event.CityAuditLog;
+import com.csio.hexagonal.infrastructure.event.CityEventProperties;
+import com.csio.hexagonal.infrastructure.event.EventHandler;
+import com.csio.hexagonal.infrastructure.event.RingBufferCityEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the {@link CityEventPublisher} the command handlers publish to. With {@code city.events.enabled}
+ * every {@link EventHandler} bean for city events gets its own thread on a ring-buffer bus, drained when
+ * the context closes; otherwise events are dropped.
+ */
+@Configuration
+@EnableConfigurationProperties(CityEventProperties.class)
+public class CityEventConfig {
+
+    @Bean
+    public EventHandler<CityEvent> cityAuditLog() {
+        return new CityAuditLog();
+    }
+
+    @Bean
+    public CityEventPublisher cityEventPublisher(CityEventProperties props,
+                                                 ObjectProvider<EventHandler<CityEvent>> handlers,
+                                                 MeterRegistry meterRegistry) {
+        if (!props.isEnabled()) {
+            return CityEventPublisher.NONE;
+        }
+        RingBufferCityEventPublisher bus =
+                new RingBufferCityEventPublisher(props, handlers.orderedStream().toList(), meterRegistry);
+        bus.start();
+        return bus;
+    }
+}
@@ -0,0 +1,21 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.application.execution.StripedLocks;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the striped locks that keep two creates of the same city name from both passing the
+ * uniqueness check. They serialize creates within this instance only; instances sharing a database
+ * are not coordinated by them.
+ */
+@Configuration
+@EnableConfigurationProperties(CityLockingProperties.class)
+public class CityLockingConfig {
+
+    @Bean
+    public StripedLocks cityNameLocks(CityLockingProperties props) {
+        return new StripedLocks(props.getNameStripes());
+    }
+}
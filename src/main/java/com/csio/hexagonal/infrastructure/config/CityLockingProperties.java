@@ -0,0 +1,18 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "city.locking")
+public class CityLockingProperties {
+
+    // Locks that city names are hashed onto when created; rounded up to a power of two
+    private int nameStripes = 256;
+
+    public int getNameStripes() {
+        return nameStripes;
+    }
+
+    public void setNameStripes(int nameStripes) {
+        this.nameStripes = nameStripes;
+    }
+}
@@ -0,0 +1,38 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.application.port.out.CityMembership;
+import com.csio.hexagonal.infrastructure.store.membership.BloomCityMembership;
+import com.csio.hexagonal.infrastructure.store.membership.CityMembershipProperties;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the {@link CityMembership} pre-check. With {@code city.membership.enabled} it is a pair of
+ * Bloom filters built from the store once the application is ready and kept current by
+ * {@link PersistencePortConfig}; otherwise every probe goes to the database.
+ */
+@Configuration
+@EnableConfigurationProperties(CityMembershipProperties.class)
+public class CityMembershipConfig {
+
+    @Bean
+    public CityMembership cityMembership(CityMembershipProperties props, MeterRegistry meterRegistry) {
+        return props.isEnabled() ? new BloomCityMembership(props, meterRegistry) : CityMembership.UNKNOWN;
+    }
+
+    // Built from the adapter directly: the startup snapshot should not count against request metrics or limits
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> cityMembershipWarmup(CityMembership cityMembership,
+                                                                           CityRepositoryAdapter adapter) {
+        return event -> {
+            if (cityMembership instanceof BloomCityMembership bloom) {
+                bloom.rebuildAsync(adapter::findAll);
+            }
+        };
+    }
+}
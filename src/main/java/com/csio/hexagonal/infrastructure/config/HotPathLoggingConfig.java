@@ -0,0 +1,16 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.infrastructure.logging.HotPathLogging;
+import com.csio.hexagonal.infrastructure.logging.HotPathLoggingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HotPathLoggingProperties.class)
+public class HotPathLoggingConfig {
+
+    // Hot-path events live in static fields, so policies are pushed into the static registry once bound.
+    public HotPathLoggingConfig(HotPathLoggingProperties properties) {
+        HotPathLogging.configure(properties);
+    }
+}
@@ -0,0 +1,60 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.infrastructure.rest.filter.JwtAuthenticationWebFilter;
+import com.csio.hexagonal.infrastructure.security.JwkSet;
+import com.csio.hexagonal.infrastructure.security.JwtProperties;
+import com.csio.hexagonal.infrastructure.security.JwtVerifier;
+import com.csio.hexagonal.infrastructure.security.VerifiedTokenCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+
+/**
+ * Bearer-token verification at the inbound edge, against a JWK set configured locally rather than
+ * fetched from the issuer. Off by default; with {@code security.jwt.enabled} every request on the
+ * protected paths needs a valid token, and startup fails if the JWK set cannot be read.
+ */
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+@ConditionalOnProperty(name = "security.jwt.enabled", havingValue = "true")
+public class JwtSecurityConfig {
+
+    @Bean
+    public JwkSet jwkSet(JwtProperties props, ResourceLoader resourceLoader, ObjectMapper objectMapper)
+            throws IOException {
+        if (props.getJwkSet() != null && !props.getJwkSet().isBlank()) {
+            return JwkSet.parse(props.getJwkSet(), objectMapper);
+        }
+        if (props.getJwkSetLocation() == null) {
+            throw new IllegalStateException(
+                    "security.jwt.enabled needs security.jwt.jwk-set or security.jwt.jwk-set-location");
+        }
+        Resource resource = resourceLoader.getResource(props.getJwkSetLocation());
+        return JwkSet.parse(resource.getContentAsString(StandardCharsets.UTF_8), objectMapper);
+    }
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(JwkSet jwkSet,
+                                                 JwtProperties props,
+                                                 ObjectMapper objectMapper,
+                                                 MeterRegistry meterRegistry) {
+        Clock clock = Clock.systemUTC();
+        JwtVerifier verifier = new JwtVerifier(jwkSet, objectMapper, props, clock);
+        return new VerifiedTokenCache(verifier, props.getCacheSize(), clock, meterRegistry);
+    }
+
+    @Bean
+    public JwtAuthenticationWebFilter jwtAuthenticationWebFilter(VerifiedTokenCache verifiedTokenCache,
+                                                                 JwtProperties props) {
+        return new JwtAuthenticationWebFilter(verifiedTokenCache, props.getPaths());
+    }
+}
@@ -0,0 +1,81 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.application.port.out.CityCatalog;
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.port.out.CityMembership;
+import com.csio.hexagonal.infrastructure.metrics.TimedCityContract;
+import com.csio.hexagonal.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.csio.hexagonal.infrastructure.resilience.ConcurrencyLimitedCityContract;
+import com.csio.hexagonal.infrastructure.resilience.ConcurrencyLimiterProperties;
+import com.csio.hexagonal.infrastructure.store.catalog.CatalogMaintainingCityContract;
+import com.csio.hexagonal.infrastructure.store.catalog.CopyOnWriteCityCatalog;
+import com.csio.hexagonal.infrastructure.store.membership.BloomCityMembership;
+import com.csio.hexagonal.infrastructure.store.membership.MembershipMaintainingCityContract;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepositoryAdapter;
+import com.csio.hexagonal.infrastructure.store.procedure.StoredProcedureCaller;
+import com.csio.hexagonal.infrastructure.store.procedure.StoredProcedureCityContract;
+import com.csio.hexagonal.infrastructure.store.procedure.StoredProcedureProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Assembles the {@link CityContract} the application layer sees: the JPA adapter, or the stored-procedure
+ * adapter in front of it, wrapped in the decorators configured for this deployment.
+ */
+@Configuration
+@EnableConfigurationProperties({ConcurrencyLimiterProperties.class, StoredProcedureProperties.class})
+public class PersistencePortConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter cityContractLimiter(ConcurrencyLimiterProperties props, MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter("CityContract", props, PersistencePortConfig::isOverloadSignal, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public CityContract cityContract(CityRepositoryAdapter adapter,
+                                     AdaptiveConcurrencyLimiter cityContractLimiter,
+                                     ConcurrencyLimiterProperties props,
+                                     CityMembership cityMembership,
+                                     CityCatalog cityCatalog,
+                                     StoredProcedureProperties procedureProps,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        CityContract contract = adapter;
+        if (procedureProps.isEnabled()) {
+            contract = new StoredProcedureCityContract(
+                    new StoredProcedureCaller(jdbcTemplate, procedureProps), adapter, new TransactionTemplate(transactionManager));
+        }
+        // Innermost, so the membership filters see exactly what the store saw
+        if (cityMembership instanceof BloomCityMembership bloom) {
+            contract = new MembershipMaintainingCityContract(contract, bloom);
+        }
+        if (cityCatalog instanceof CopyOnWriteCityCatalog catalog) {
+            contract = new CatalogMaintainingCityContract(contract, catalog);
+        }
+        if (props.isEnabled()) {
+            contract = new ConcurrencyLimitedCityContract(contract, cityContractLimiter);
+        }
+        // Outermost, so timings include limiter rejections as the application sees them
+        return new TimedCityContract(contract, meterRegistry);
+    }
+
+    // Timeouts and pool exhaustion mean the database is saturated; other failures say nothing about load
+    private static boolean isOverloadSignal(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof QueryTimeoutException || t instanceof CannotGetJdbcConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.application.execution.CommandBatcher;
+import com.csio.hexagonal.application.execution.MicroBatcher;
+import com.csio.hexagonal.application.execution.SingleFlight;
+import com.csio.hexagonal.application.execution.StripedLocks;
+import com.csio.hexagonal.application.port.in.CommandUseCase;
+import com.csio.hexagonal.application.port.in.QueryUseCase;
+import com.csio.hexagonal.application.service.command.CreateCityCommand;
+import com.csio.hexagonal.application.service.command.CreateCityCommandHandler;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.application.service.query.GetAllCityQueryHandler;
+import com.csio.hexagonal.application.service.query.GetCitiesQuery;
+import com.csio.hexagonal.application.service.query.GetCitiesQueryHandler;
+import com.csio.hexagonal.application.service.query.GetCityQuery;
+import com.csio.hexagonal.application.service.query.GetCityQueryHandler;
+import com.csio.hexagonal.application.service.query.GetCitySummaryQuery;
+import com.csio.hexagonal.application.service.query.GetCitySummaryQueryHandler;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import com.csio.hexagonal.infrastructure.metrics.PortTimer;
+import com.csio.hexagonal.infrastructure.metrics.TimedCommandUseCase;
+import com.csio.hexagonal.infrastructure.metrics.TimedJsonEncoder;
+import com.csio.hexagonal.infrastructure.metrics.TimedQueryUseCase;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementBudget;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementBudgetCommandUseCase;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementBudgetQueryUseCase;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementCounter;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementCountingProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Wraps the inbound ports and the JSON encoder with timers. Outbound ports are timed
+ * where they are assembled, in {@link PersistencePortConfig}.
+ * <p>
+ * Meter names follow {@code hexagon.port.in.<use-case>} / {@code hexagon.port.out.<contract>},
+ * so percentile histograms can be enabled per port or per layer by name prefix.
+ * <p>
+ * When SQL statement counting is enabled ({@link StatementCountingConfig}), each use case is also
+ * checked against its statement budget, inside the timer.
+ * <p>
+ * Query handlers that coalesce identical concurrent reads publish
+ * {@code hexagon.single_flight.calls} (tagged {@code role=leader|follower}; followers are the collapsed calls)
+ * and {@code hexagon.single_flight.in_flight}, both tagged with the use case. With lookup or create
+ * batching on, {@code hexagon.batch.dispatched} and {@code hexagon.batch.items} give the number of batches
+ * and the lookups or commands they carried; their ratio is the mean batch size. Creates serialize on
+ * striped per-name locks, counted by {@code hexagon.lock.acquired} and {@code hexagon.lock.contended}.
+ */
+@Configuration
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class PortMetricsConfig implements WebFluxConfigurer {
+
+    private static final String CALLS_DESCRIPTION =
+            "Reads that ran their own query (leader) or shared a concurrent identical one (follower)";
+
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<StatementCounter> statementCounter;
+    private final StatementCountingProperties statementCounting;
+
+    public PortMetricsConfig(JsonMapper jsonMapper,
+                             MeterRegistry meterRegistry,
+                             ObjectProvider<StatementCounter> statementCounter,
+                             StatementCountingProperties statementCounting) {
+        this.jsonMapper = jsonMapper;
+        this.meterRegistry = meterRegistry;
+        this.statementCounter = statementCounter;
+        this.statementCounting = statementCounting;
+    }
+
+    @Bean
+    @Primary
+    public CommandUseCase<CreateCityCommand, City> createCityUseCase(CreateCityCommandHandler handler) {
+        handler.batcher().ifPresent(batcher ->
+                batching("create-city", batcher, CommandBatcher::batches, CommandBatcher::commands));
+        locking("create-city", handler.nameLocks());
+        return command(handler, "create-city");
+    }
+
+    @Bean
+    @Primary
+    public QueryUseCase<GetCityQuery, City> getCityUseCase(GetCityQueryHandler handler) {
+        singleFlight(handler.singleFlight(), "get-city");
+        handler.batcher().ifPresent(batcher ->
+                batching("get-city", batcher, MicroBatcher::batches, MicroBatcher::keys));
+        return query(handler, "get-city");
+    }
+
+    @Bean
+    @Primary
+    public QueryUseCase<GetCitiesQuery, List<City>> getCitiesUseCase(GetCitiesQueryHandler handler) {
+        return query(handler, "get-cities");
+    }
+
+    @Bean
+    @Primary
+    public QueryUseCase<GetCitySummaryQuery, List<StateCityCount>> getCitySummaryUseCase(GetCitySummaryQueryHandler handler) {
+        return query(handler, "get-city-summary");
+    }
+
+    @Bean
+    @Primary
+    public QueryUseCase<CityFilterQuery, PageResult<City>> getAllCityUseCase(GetAllCityQueryHandler handler) {
+        singleFlight(handler.singleFlight(), "get-all-city");
+        return query(handler, "get-all-city");
+    }
+
+    // Runs after Boot's codec customizers (ordered last), so it wraps the encoder Boot would have used
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs().jacksonJsonEncoder(
+                new TimedJsonEncoder(new JacksonJsonEncoder(jsonMapper), meterRegistry));
+    }
+
+    private <T, R> CommandUseCase<T, R> command(CommandUseCase<T, R> handler, String useCase) {
+        CommandUseCase<T, R> port = handler;
+        StatementBudget budget = statementBudget(useCase);
+        if (budget != null) {
+            port = new StatementBudgetCommandUseCase<>(port, budget);
+        }
+        return new TimedCommandUseCase<>(port, inbound(useCase));
+    }
+
+    private <Q, R> QueryUseCase<Q, R> query(QueryUseCase<Q, R> handler, String useCase) {
+        QueryUseCase<Q, R> port = handler;
+        StatementBudget budget = statementBudget(useCase);
+        if (budget != null) {
+            port = new StatementBudgetQueryUseCase<>(port, budget);
+        }
+        return new TimedQueryUseCase<>(port, inbound(useCase));
+    }
+
+    private void singleFlight(SingleFlight<?, ?> flights, String useCase) {
+        FunctionCounter.builder("hexagon.single_flight.calls", flights, SingleFlight::leaders)
+                .description(CALLS_DESCRIPTION)
+                .tag("use_case", useCase)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        FunctionCounter.builder("hexagon.single_flight.calls", flights, SingleFlight::followers)
+                .description(CALLS_DESCRIPTION)
+                .tag("use_case", useCase)
+                .tag("role", "follower")
+                .register(meterRegistry);
+        Gauge.builder("hexagon.single_flight.in_flight", flights, SingleFlight::inFlight)
+                .description("Distinct reads currently running")
+                .tag("use_case", useCase)
+                .register(meterRegistry);
+    }
+
+    private void locking(String useCase, StripedLocks locks) {
+        FunctionCounter.builder("hexagon.lock.acquired", locks, StripedLocks::acquired)
+                .description("Striped locks taken")
+                .tag("use_case", useCase)
+                .register(meterRegistry);
+        FunctionCounter.builder("hexagon.lock.contended", locks, StripedLocks::contended)
+                .description("Striped locks that were held elsewhere and had to be waited for")
+                .tag("use_case", useCase)
+                .register(meterRegistry);
+    }
+
+    private <B> void batching(String useCase, B batcher, ToLongFunction<B> batches, ToLongFunction<B> items) {
+        FunctionCounter.builder("hexagon.batch.dispatched", batcher, b -> batches.applyAsLong(b))
+                .description("Batches dispatched as one call to the persistence port")
+                .tag("use_case", useCase)
+                .register(meterRegistry);
+        FunctionCounter.builder("hexagon.batch.items", batcher, b -> items.applyAsLong(b))
+                .description("Lookups or commands carried by dispatched batches")
+                .tag("use_case", useCase)
+                .register(meterRegistry);
+    }
+
+    private StatementBudget statementBudget(String useCase) {
+        StatementCounter counter = statementCounter.getIfAvailable();
+        if (counter == null) {
+            return null;
+        }
+        return new StatementBudget(useCase, statementCounting.budgetFor(useCase), counter, meterRegistry);
+    }
+
+    private PortTimer inbound(String useCase) {
+        return new PortTimer("hexagon.port.in." + useCase, Tags.empty(), meterRegistry);
+    }
+}
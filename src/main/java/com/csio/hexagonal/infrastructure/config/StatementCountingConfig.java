@@ -0,0 +1,48 @@
+package com.csio.hexagonal.infrastructure.config;
+
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementCounter;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementCountingListener;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementCountingProperties;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Debug-mode SQL statement counting: wraps the {@link DataSource} in a datasource-proxy that counts
+ * every statement, which {@link PortMetricsConfig} then attributes to use cases and checks against
+ * their declared budgets. Off by default, as the proxy adds a hop to every JDBC call.
+ */
+@Configuration
+@EnableConfigurationProperties(StatementCountingProperties.class)
+public class StatementCountingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "sql.statement-counting.enabled", havingValue = "true")
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    // Static so the post-processor is registered before the DataSource is created
+    @Bean
+    @ConditionalOnProperty(name = "sql.statement-counting.enabled", havingValue = "true")
+    public static BeanPostProcessor statementCountingDataSourceProxy(ObjectProvider<StatementCounter> counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatementCountingListener(counter.getObject()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
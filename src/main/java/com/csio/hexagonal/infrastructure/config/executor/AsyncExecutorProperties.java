@@ -8,6 +8,7 @@ public class AsyncExecutorProperties {
     private int coreMultiplier;
     private int maxMultiplier;
     private int queueMultiplier;
+    private int maxPending = 10_000;
 
     public int getCoreMultiplier() {
         return coreMultiplier;
@@ -32,4 +33,12 @@ public class AsyncExecutorProperties {
     public void setQueueMultiplier(int queueMultiplier) {
         this.queueMultiplier = queueMultiplier;
     }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
 }
@@ -0,0 +1,28 @@
+package com.csio.hexagonal.infrastructure.config.executor;
+
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@ConditionalOnProperty(
+    name = "async.executor.type",
+    havingValue = "event-loop"
+)
+public class EventLoopExecutionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLoopExecutionConfig.class);
+
+    // Port calls run inline on the Netty event loop. Only safe when every outbound
+    // adapter is non-blocking; with the JPA adapter each query stalls the loop.
+    @Bean
+    public ExecutionStrategy executionStrategy() {
+        log.warn("Execution mode EVENT_LOOP: outbound ports run on the event loop and must not block");
+        return ExecutionStrategy.of(ExecutionMode.EVENT_LOOP, Schedulers.immediate());
+    }
+}
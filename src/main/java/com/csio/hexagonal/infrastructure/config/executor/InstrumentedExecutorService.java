@@ -0,0 +1,129 @@
+package com.csio.hexagonal.infrastructure.config.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded, instrumented decorator around the executor that backs a shared Reactor scheduler.
+ * <p>
+ * Tasks beyond {@code maxPending} (queued + running) are rejected instead of piling up,
+ * and queue depth, active tasks and queue wait time are published under the given scheduler name.
+ */
+public class InstrumentedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final String name;
+    private final int maxPending;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public InstrumentedExecutorService(ExecutorService delegate, String name, int maxPending, MeterRegistry registry) {
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("maxPending must be positive for scheduler " + name);
+        }
+        this.delegate = delegate;
+        this.name = name;
+        this.maxPending = maxPending;
+
+        Gauge.builder("scheduler.tasks.queued", queued, AtomicInteger::get)
+                .description("Tasks submitted but not yet started")
+                .tag("scheduler", name)
+                .register(registry);
+        Gauge.builder("scheduler.tasks.active", active, AtomicInteger::get)
+                .description("Tasks currently running")
+                .tag("scheduler", name)
+                .register(registry);
+        this.queueWait = Timer.builder("scheduler.queue.wait")
+                .description("Time between task submission and task start")
+                .tag("scheduler", name)
+                .register(registry);
+        this.rejected = Counter.builder("scheduler.tasks.rejected")
+                .description("Tasks rejected because the scheduler was saturated")
+                .tag("scheduler", name)
+                .register(registry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        reservePendingSlot();
+        queued.incrementAndGet();
+        long submittedAt = System.nanoTime();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            queued.decrementAndGet();
+            pending.decrementAndGet();
+            rejected.increment();
+            throw ex;
+        }
+    }
+
+    private void reservePendingSlot() {
+        int current;
+        do {
+            current = pending.get();
+            if (current >= maxPending) {
+                rejected.increment();
+                throw new RejectedExecutionException(
+                        "Scheduler '" + name + "' saturated: " + current + " pending tasks (max " + maxPending + ")");
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+    }
+
+    public int queuedTasks() {
+        return queued.get();
+    }
+
+    public int activeTasks() {
+        return active.get();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
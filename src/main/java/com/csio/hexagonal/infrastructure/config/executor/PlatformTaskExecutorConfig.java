@@ -1,11 +1,16 @@
 package com.csio.hexagonal.infrastructure.config.executor;
 
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Configuration
 @EnableConfigurationProperties(AsyncExecutorProperties.class)
@@ -16,7 +21,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class PlatformTaskExecutorConfig  {
 
     @Bean("cpuExecutor")
-    public TaskExecutor cpuExecutor(AsyncExecutorProperties props) {
+    public ThreadPoolTaskExecutor cpuExecutor(AsyncExecutorProperties props) {
         int cores = Runtime.getRuntime().availableProcessors();
 
         int corePoolSize = cores * props.getCoreMultiplier();
@@ -34,4 +39,21 @@ public class PlatformTaskExecutorConfig  {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // Shared Scheduler over the platform pool. The pool bean owns the shutdown: disposing the scheduler
+    // would call shutdownNow() on the pool and drop queued work, so the scheduler has no destroy method and
+    // the pool drains its queue (waitForTasksToCompleteOnShutdown) when the context closes.
+    @Bean(name = "blockingScheduler", destroyMethod = "")
+    public Scheduler blockingScheduler(@Qualifier("cpuExecutor") ThreadPoolTaskExecutor cpuExecutor,
+                                       AsyncExecutorProperties props,
+                                       MeterRegistry meterRegistry) {
+        return Schedulers.fromExecutorService(
+                new InstrumentedExecutorService(cpuExecutor.getThreadPoolExecutor(), "blocking", props.getMaxPending(), meterRegistry),
+                "blocking");
+    }
+
+    @Bean
+    public ExecutionStrategy executionStrategy(@Qualifier("blockingScheduler") Scheduler blockingScheduler) {
+        return ExecutionStrategy.of(ExecutionMode.PLATFORM_POOL, blockingScheduler);
+    }
+}
@@ -1,12 +1,20 @@
 package com.csio.hexagonal.infrastructure.config.executor;
 
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import java.util.concurrent.Executor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 @Configuration
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
 @ConditionalOnProperty(
     name = "async.executor.type",
     havingValue = "virtual",
@@ -14,17 +22,32 @@ import java.util.concurrent.Executors;
 )
 public class VirtualThreadExecutorConfig {
 
-    // Expose an Executor backed by virtual threads. Use this with Reactor's
-    // `Schedulers.fromExecutor(virtualExecutor)` to offload blocking calls.
+    // Expose an ExecutorService backed by virtual threads. Handlers never wrap it
+    // themselves; they use the shared `blockingScheduler` below.
     // Note: Falls back to cached thread pool for Java < 21
-    @Bean("virtualExecutor")
-    public Executor virtualExecutor() {
+    @Bean(name = "virtualExecutor", destroyMethod = "shutdown")
+    public ExecutorService virtualExecutor() {
         try {
             // Try to use virtual threads if available (Java 21+)
-            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
         } catch (Exception e) {
             // Fall back to cached thread pool for Java < 21
             return Executors.newCachedThreadPool();
         }
     }
+
+    // One Scheduler for all blocking work, created once instead of per request.
+    @Bean(name = "blockingScheduler", destroyMethod = "dispose")
+    public Scheduler blockingScheduler(@Qualifier("virtualExecutor") ExecutorService virtualExecutor,
+                                       AsyncExecutorProperties props,
+                                       MeterRegistry meterRegistry) {
+        return Schedulers.fromExecutorService(
+                new InstrumentedExecutorService(virtualExecutor, "blocking", props.getMaxPending(), meterRegistry),
+                "blocking");
+    }
+
+    @Bean
+    public ExecutionStrategy executionStrategy(@Qualifier("blockingScheduler") Scheduler blockingScheduler) {
+        return ExecutionStrategy.of(ExecutionMode.VIRTUAL_THREAD, blockingScheduler);
+    }
 }
@@ -0,0 +1,32 @@
+package com.csio.hexagonal.infrastructure.event;
+
+import com.csio.hexagonal.domain.event.CityCreated;
+import com.csio.hexagonal.domain.event.CityEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes every city event to the {@code audit.city} logger, one line per event, so the audit trail can
+ * be routed to its own appender without touching the request path.
+ */
+public class CityAuditLog implements EventHandler<CityEvent> {
+
+    private static final Logger audit = LoggerFactory.getLogger("audit.city");
+
+    @Override
+    public void onEvent(CityEvent event, long sequence, boolean endOfBatch) {
+        if (!audit.isInfoEnabled()) {
+            return;
+        }
+        switch (event) {
+            case CityCreated created -> audit.info("city.created seq={} uid={} name={} state={} active={} at={}",
+                    sequence, created.cityId(), created.name(), created.state().value(), created.active(),
+                    created.occurredAt());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "audit";
+    }
+}
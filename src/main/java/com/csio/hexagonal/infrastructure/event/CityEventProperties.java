@@ -0,0 +1,49 @@
+package com.csio.hexagonal.infrastructure.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "city.events")
+public class CityEventProperties {
+
+    private boolean enabled = false;
+
+    // Events the ring holds before publishers wait for the slowest handler; rounded up to a power of two
+    private int bufferSize = 4096;
+
+    // Most events a handler takes in one batch before its progress is published
+    private int maxBatchSize = 256;
+
+    private WaitStrategy.Type waitStrategy = WaitStrategy.Type.BLOCKING;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public WaitStrategy.Type getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public void setWaitStrategy(WaitStrategy.Type waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+}
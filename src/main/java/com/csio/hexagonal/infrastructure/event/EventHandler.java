@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.event;
+
+/**
+ * Consumes the events of a {@link RingBufferEventBus} on a thread of its own, in publication order.
+ * <p>
+ * Events arrive in batches: everything published since the handler last caught up, up to the bus's
+ * batch limit. {@code endOfBatch} marks the last event of a batch, so a handler can buffer writes and
+ * flush them once per batch instead of once per event.
+ */
+public interface EventHandler<E> {
+
+    /**
+     * Handles one event. Anything thrown is logged and counted, and the handler moves on to the next
+     * event; only a {@link VirtualMachineError} ends the handler's thread, and stops its bus.
+     */
+    void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+
+    /** Names the handler's thread and tags its metrics. */
+    default String name() {
+        String simpleName = getClass().getSimpleName();
+        return simpleName.isEmpty() ? getClass().getName() : simpleName;
+    }
+}
@@ -0,0 +1,20 @@
+package com.csio.hexagonal.infrastructure.event;
+
+import com.csio.hexagonal.application.port.out.CityEventPublisher;
+import com.csio.hexagonal.domain.event.CityEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+
+/**
+ * {@link CityEventPublisher} backed by a {@link RingBufferEventBus} named {@code city}.
+ */
+public class RingBufferCityEventPublisher extends RingBufferEventBus<CityEvent> implements CityEventPublisher {
+
+    public RingBufferCityEventPublisher(CityEventProperties props,
+                                        List<? extends EventHandler<? super CityEvent>> handlers,
+                                        MeterRegistry registry) {
+        super("city", props.getBufferSize(), props.getMaxBatchSize(), props.getWaitStrategy().create(), handlers,
+                registry);
+    }
+}
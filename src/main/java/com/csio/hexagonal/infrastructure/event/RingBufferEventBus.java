@@ -0,0 +1,382 @@
+package com.csio.hexagonal.infrastructure.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fans events out to {@link EventHandler}s through a fixed ring of slots, allocated once.
+ * <p>
+ * Publishers claim the next sequence with one atomic increment, store the event in its slot and mark
+ * the slot published; nothing is allocated and no lock is taken, so any number of threads can publish
+ * at once. Every handler has its own thread and its own sequence, reads the ring in order and sees
+ * every event. It takes all events published since it last caught up as one batch, so a handler that
+ * falls behind catches up in fewer, larger steps.
+ * <p>
+ * A slot is reused only once every handler has passed it. When the slowest handler is a full ring
+ * behind, publishers wait for it rather than overwrite events it has not seen, so the buffer size is
+ * the burst the bus absorbs without slowing its publishers down; {@link #tryPublish} drops the event
+ * instead. Slots keep their last event until they are reused.
+ * <p>
+ * A handler that throws is logged and counted, and the handler goes on with the next event. Only a
+ * {@link VirtualMachineError} ends a handler's thread; the bus then stops, so publishers fail or drop
+ * rather than wait for a handler that will never free a slot.
+ * <p>
+ * Metrics, tagged with the bus name: {@code hexagon.events.published},
+ * {@code hexagon.events.producer.waits}, {@code hexagon.events.dropped}, and per handler
+ * {@code hexagon.events.lag} (events published but not yet handled), {@code hexagon.events.handled} and
+ * {@code hexagon.events.failures}.
+ */
+public class RingBufferEventBus<E> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RingBufferEventBus.class);
+
+    private static final long PRODUCER_PARK_NANOS = 1_000;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String name;
+    private final Object[] slots;
+    // The sequence last published in each slot; a consumer reads a slot once it holds the sequence it wants
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int maxBatchSize;
+    private final WaitStrategy waitStrategy;
+    private final Sequence claimed = new Sequence(-1);
+    private final List<Consumer> consumers;
+    private final LongAdder producerWaits = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // Slowest consumer as last seen by a publisher; only ever behind the truth, so safe to check first
+    private volatile long gatingCache = -1;
+    private volatile boolean running;
+    // Publishers between their running check and the store of their event; close() waits them out
+    private final AtomicInteger publishing = new AtomicInteger();
+    // Set once no publisher can claim another sequence, so a handler that has caught up may stop
+    private volatile boolean sealed;
+    // Set when a handler's thread died; the bus cannot be restarted after that
+    private volatile Throwable failure;
+
+    /**
+     * @param bufferSize   slots in the ring, rounded up to a power of two
+     * @param maxBatchSize most events a handler is given before its sequence is advanced
+     */
+    public RingBufferEventBus(String name,
+                              int bufferSize,
+                              int maxBatchSize,
+                              WaitStrategy waitStrategy,
+                              List<? extends EventHandler<? super E>> handlers,
+                              MeterRegistry registry) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Event buffer size must be at least 1");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Event batch size must be at least 1");
+        }
+        int size = Integer.highestOneBit(bufferSize);
+        size = size < bufferSize ? size << 1 : size;
+        this.name = name;
+        this.slots = new Object[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.mask = size - 1;
+        this.maxBatchSize = maxBatchSize;
+        this.waitStrategy = waitStrategy;
+
+        List<Consumer> consumers = new ArrayList<>(handlers.size());
+        for (EventHandler<? super E> handler : handlers) {
+            consumers.add(new Consumer(handler, registry));
+        }
+        this.consumers = List.copyOf(consumers);
+
+        FunctionCounter.builder("hexagon.events.published", claimed, sequence -> sequence.get() + 1)
+                .description("Events claimed by publishers")
+                .tag("bus", name)
+                .register(registry);
+        FunctionCounter.builder("hexagon.events.producer.waits", producerWaits, LongAdder::sum)
+                .description("Publishes that waited for the slowest handler to free a slot")
+                .tag("bus", name)
+                .register(registry);
+        FunctionCounter.builder("hexagon.events.dropped", dropped, LongAdder::sum)
+                .description("Events dropped because the ring was full or the bus was not running")
+                .tag("bus", name)
+                .register(registry);
+    }
+
+    /** Starts one thread per handler. */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Event bus " + name + " stopped after a handler died", failure);
+        }
+        sealed = false;
+        running = true;
+        for (Consumer consumer : consumers) {
+            consumer.thread = Thread.ofPlatform()
+                    .name(name + "-events-" + consumer.handler.name())
+                    .daemon()
+                    .start(consumer);
+        }
+    }
+
+    /**
+     * Adds {@code event} to the ring. Returns at once unless the slowest handler is a full ring behind,
+     * in which case it waits for a slot.
+     *
+     * @throws IllegalStateException when the bus is not running, or stops while this waits
+     */
+    public void publish(E event) {
+        Objects.requireNonNull(event, "event");
+        publishing.incrementAndGet();
+        try {
+            claimAndStore(event);
+        } finally {
+            publishing.decrementAndGet();
+        }
+    }
+
+    private void claimAndStore(E event) {
+        if (!running) {
+            throw new IllegalStateException("Event bus " + name + " is not running");
+        }
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint > gatingCache) {
+            long slowest = slowestConsumer();
+            if (wrapPoint > slowest) {
+                producerWaits.increment();
+                do {
+                    // A dead handler never frees its slot; the sequence claimed here is abandoned
+                    if (failure != null) {
+                        throw new IllegalStateException("Event bus " + name + " stopped after a handler died",
+                                failure);
+                    }
+                    LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+                } while (wrapPoint > (slowest = slowestConsumer()));
+            }
+            gatingCache = slowest;
+        }
+        store(sequence, event);
+    }
+
+    /**
+     * Adds {@code event} to the ring if a slot is free, without waiting. When the slowest handler is a
+     * full ring behind, or the bus is not running, the event is dropped and counted instead.
+     *
+     * @return whether the event was added
+     */
+    public boolean tryPublish(E event) {
+        Objects.requireNonNull(event, "event");
+        publishing.incrementAndGet();
+        try {
+            return tryClaimAndStore(event);
+        } finally {
+            publishing.decrementAndGet();
+        }
+    }
+
+    private boolean tryClaimAndStore(E event) {
+        while (true) {
+            if (!running) {
+                dropped.increment();
+                return false;
+            }
+            long current = claimed.get();
+            long sequence = current + 1;
+            long wrapPoint = sequence - slots.length;
+            if (wrapPoint > gatingCache) {
+                long slowest = slowestConsumer();
+                gatingCache = slowest;
+                if (wrapPoint > slowest) {
+                    dropped.increment();
+                    return false;
+                }
+            }
+            // Claim only the sequence checked above, so a full ring never leaves a claim unfilled
+            if (claimed.compareAndSet(current, sequence)) {
+                store(sequence, event);
+                return true;
+            }
+        }
+    }
+
+    private void store(long sequence, E event) {
+        int index = (int) sequence & mask;
+        slots[index] = event;
+        // Volatile write: a consumer that reads the sequence here also sees the event stored above
+        published.set(index, sequence);
+        waitStrategy.signalAll();
+    }
+
+    /** Slots in the ring. */
+    public int bufferSize() {
+        return slots.length;
+    }
+
+    /** Events published but not yet handled by {@code handler}, or -1 for a handler this bus does not run. */
+    public long lag(EventHandler<?> handler) {
+        for (Consumer consumer : consumers) {
+            if (consumer.handler == handler) {
+                return consumer.lag();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stops taking events, lets every handler finish the events already accepted, including those of
+     * publishers still in the middle of publishing, and waits for their threads to end.
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // A publisher that saw the bus running may not have claimed its sequence yet; handlers keep
+        // going until it has stored its event, so an event accepted before close is always handled
+        long waitUntil = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        while (publishing.get() > 0 && waitUntil - System.nanoTime() > 0) {
+            LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+        if (publishing.get() > 0) {
+            log.warn("Event bus {} closed while {} publishers were still waiting for a slot", name, publishing.get());
+        }
+        sealed = true;
+        waitStrategy.signalAll();
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.thread.join(SHUTDOWN_TIMEOUT);
+                if (consumer.thread.isAlive()) {
+                    log.warn("Event handler {} on bus {} did not finish within {}; {} events left unhandled",
+                            consumer.handler.name(), name, SHUTDOWN_TIMEOUT, consumer.lag());
+                    consumer.thread.interrupt();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long slowestConsumer() {
+        long slowest = claimed.get();
+        for (Consumer consumer : consumers) {
+            slowest = Math.min(slowest, consumer.sequence.get());
+        }
+        return slowest;
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == sequence;
+    }
+
+    private final class Consumer implements Runnable {
+
+        private final EventHandler<? super E> handler;
+        private final Sequence sequence = new Sequence(-1);
+        private final Counter failures;
+        private Thread thread;
+
+        Consumer(EventHandler<? super E> handler, MeterRegistry registry) {
+            this.handler = handler;
+            this.failures = Counter.builder("hexagon.events.failures")
+                    .description("Events whose handler threw")
+                    .tag("bus", name)
+                    .tag("consumer", handler.name())
+                    .register(registry);
+            Gauge.builder("hexagon.events.lag", this, Consumer::lag)
+                    .description("Events published but not yet handled")
+                    .tag("bus", name)
+                    .tag("consumer", handler.name())
+                    .register(registry);
+            FunctionCounter.builder("hexagon.events.handled", sequence, handled -> handled.get() + 1)
+                    .description("Events handled, including those whose handler threw")
+                    .tag("bus", name)
+                    .tag("consumer", handler.name())
+                    .register(registry);
+        }
+
+        long lag() {
+            return claimed.get() - sequence.get();
+        }
+
+        @Override
+        public void run() {
+            try {
+                consume();
+            } catch (VirtualMachineError err) {
+                stop(err);
+                throw err;
+            }
+        }
+
+        private void consume() {
+            long next = sequence.get() + 1;
+            while (!Thread.currentThread().isInterrupted()) {
+                long last = lastPublished(next);
+                if (last < next) {
+                    // Stopped and drained: nothing claimed is left to wait for. After a handler died,
+                    // claimed slots may never be filled, so stop at the first gap instead.
+                    if (sealed && (claimed.get() < next || failure != null)) {
+                        return;
+                    }
+                    long wanted = next;
+                    waitStrategy.waitFor(() -> isPublished(wanted) || sealed);
+                    continue;
+                }
+                for (long current = next; current <= last; current++) {
+                    handle(current, current == last);
+                }
+                sequence.set(last);
+                next = last + 1;
+            }
+        }
+
+        private void stop(VirtualMachineError err) {
+            failure = err;
+            running = false;
+            sealed = true;
+            waitStrategy.signalAll();
+            log.error("Event handler {} on bus {} died; the bus is stopped with {} events unhandled",
+                    handler.name(), name, lag(), err);
+        }
+
+        // The end of the run of published slots starting at next, at most one batch long
+        private long lastPublished(long next) {
+            long limit = next + maxBatchSize - 1;
+            long last = next - 1;
+            while (last < limit && isPublished(last + 1)) {
+                last++;
+            }
+            return last;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void handle(long current, boolean endOfBatch) {
+            E event = (E) slots[(int) current & mask];
+            try {
+                handler.onEvent(event, current, endOfBatch);
+            } catch (VirtualMachineError err) {
+                throw err;
+            } catch (Throwable ex) {
+                failures.increment();
+                log.error("Event handler {} on bus {} failed on event {}", handler.name(), name, current, ex);
+            }
+        }
+    }
+}
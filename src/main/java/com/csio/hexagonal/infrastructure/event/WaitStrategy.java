@@ -0,0 +1,139 @@
+package com.csio.hexagonal.infrastructure.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a consumer with nothing to do waits for the next event: the trade between the latency of picking
+ * it up and the CPU burned while idle.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Returns once {@code ready} is true, or the thread is interrupted.
+     */
+    void waitFor(BooleanSupplier ready);
+
+    /** Called after every publish, to wake consumers that are parked. */
+    default void signalAll() {
+    }
+
+    enum Type {
+        /** Parks on a lock until the producer signals; no CPU while idle, a wake-up on every publish. */
+        BLOCKING,
+        /** Spins, then yields, then parks for short intervals; little CPU, sub-millisecond latency. */
+        SLEEPING,
+        /** Spins, then yields the CPU between checks; low latency, one busy core per consumer. */
+        YIELDING,
+        /** Spins without ever yielding; lowest latency, only when each consumer has a core of its own. */
+        BUSY_SPIN;
+
+        public WaitStrategy create() {
+            return switch (this) {
+                case BLOCKING -> new Blocking();
+                case SLEEPING -> new Sleeping();
+                case YIELDING -> new Yielding();
+                case BUSY_SPIN -> new BusySpin();
+            };
+        }
+    }
+
+    final class Blocking implements WaitStrategy {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition published = lock.newCondition();
+        // Lets a publish skip the lock while no consumer is parked
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        @Override
+        public void waitFor(BooleanSupplier ready) {
+            if (ready.getAsBoolean()) {
+                return;
+            }
+            lock.lock();
+            try {
+                // Registered before the check: a publish after it sees the waiter and signals
+                waiters.incrementAndGet();
+                while (!ready.getAsBoolean()) {
+                    published.await();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiters.decrementAndGet();
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+            if (waiters.get() == 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    final class Sleeping implements WaitStrategy {
+
+        private static final int SPINS = 100;
+        private static final int YIELDS = 100;
+        private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+        @Override
+        public void waitFor(BooleanSupplier ready) {
+            for (int attempt = 0; !ready.getAsBoolean(); attempt++) {
+                if (attempt < SPINS) {
+                    Thread.onSpinWait();
+                } else if (attempt < SPINS + YIELDS) {
+                    Thread.yield();
+                } else if (Thread.currentThread().isInterrupted()) {
+                    return;
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        }
+    }
+
+    final class Yielding implements WaitStrategy {
+
+        private static final int SPINS = 100;
+
+        @Override
+        public void waitFor(BooleanSupplier ready) {
+            for (int attempt = 0; !ready.getAsBoolean(); attempt++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (attempt < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    final class BusySpin implements WaitStrategy {
+
+        @Override
+        public void waitFor(BooleanSupplier ready) {
+            while (!ready.getAsBoolean()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.csio.hexagonal.infrastructure.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * One named log event on the request path, guarded by a level check, a sampling rate and a per-second cap.
+ * <p>
+ * Callers ask {@link #tryAcquire()} first and only build arguments when it returns {@code true}:
+ * <pre>{@code
+ * if (PAGE_LOG.tryAcquire()) {
+ *     PAGE_LOG.log("page={} total={}", page, total);
+ * }
+ * }</pre>
+ * The guard itself never allocates, so a disabled or sampled-out event costs a level check and a random draw.
+ * Obtain instances from {@link HotPathLogging#event}; policies are applied from configuration at startup.
+ */
+public final class HotPathLogger {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String event;
+    private final Logger logger;
+    private final Level level;
+    private volatile LogPolicy policy;
+
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger usedInWindow = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    HotPathLogger(String event, Logger logger, Level level, LogPolicy policy) {
+        this.event = event;
+        this.logger = logger;
+        this.level = level;
+        this.policy = policy;
+    }
+
+    /**
+     * Whether this occurrence should be logged: level enabled, sampled in, and under the rate cap.
+     */
+    public boolean tryAcquire() {
+        if (!logger.isEnabledForLevel(level)) {
+            return false;
+        }
+        LogPolicy current = policy;
+        if (current.sampleRate() < 1.0 && ThreadLocalRandom.current().nextDouble() >= current.sampleRate()) {
+            suppressed.increment();
+            return false;
+        }
+        if (current.maxPerSecond() > 0 && !withinRateLimit(current.maxPerSecond())) {
+            suppressed.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void log(String format, Object arg) {
+        switch (level) {
+            case ERROR -> logger.error(format, arg);
+            case WARN -> logger.warn(format, arg);
+            case INFO -> logger.info(format, arg);
+            case DEBUG -> logger.debug(format, arg);
+            case TRACE -> logger.trace(format, arg);
+        }
+    }
+
+    public void log(String format, Object arg1, Object arg2) {
+        switch (level) {
+            case ERROR -> logger.error(format, arg1, arg2);
+            case WARN -> logger.warn(format, arg1, arg2);
+            case INFO -> logger.info(format, arg1, arg2);
+            case DEBUG -> logger.debug(format, arg1, arg2);
+            case TRACE -> logger.trace(format, arg1, arg2);
+        }
+    }
+
+    public void log(String format, Object... args) {
+        switch (level) {
+            case ERROR -> logger.error(format, args);
+            case WARN -> logger.warn(format, args);
+            case INFO -> logger.info(format, args);
+            case DEBUG -> logger.debug(format, args);
+            case TRACE -> logger.trace(format, args);
+        }
+    }
+
+    /**
+     * Argument whose text is only computed if the message is actually formatted.
+     */
+    public static Object lazy(Supplier<?> value) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return String.valueOf(value.get());
+            }
+        };
+    }
+
+    public String event() {
+        return event;
+    }
+
+    public LogPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Occurrences dropped by sampling or rate limiting since startup.
+     */
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    void policy(LogPolicy policy) {
+        this.policy = policy;
+    }
+
+    private boolean withinRateLimit(int maxPerSecond) {
+        long currentWindow = System.nanoTime() / WINDOW_NANOS;
+        long seen = window.get();
+        if (seen != currentWindow && window.compareAndSet(seen, currentWindow)) {
+            usedInWindow.set(0);
+        }
+        return usedInWindow.incrementAndGet() <= maxPerSecond;
+    }
+}
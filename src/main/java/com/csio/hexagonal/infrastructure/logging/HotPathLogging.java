@@ -0,0 +1,45 @@
+package com.csio.hexagonal.infrastructure.logging;
+
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link HotPathLogger} events.
+ * <p>
+ * Events are usually held in static fields of classes that are not Spring beans (e.g. specifications),
+ * so the registry is static: events created before configuration is bound start with
+ * {@link LogPolicy#ALWAYS} and are updated in place by {@link #configure}.
+ */
+public final class HotPathLogging {
+
+    private static final Map<String, HotPathLogger> EVENTS = new ConcurrentHashMap<>();
+
+    private static volatile HotPathLoggingProperties properties;
+
+    private HotPathLogging() {
+        // Utility class - prevent instantiation
+    }
+
+    public static HotPathLogger event(Class<?> owner, String name, Level level) {
+        return EVENTS.computeIfAbsent(name,
+                event -> new HotPathLogger(event, LoggerFactory.getLogger(owner), level, policyFor(event)));
+    }
+
+    public static void configure(HotPathLoggingProperties newProperties) {
+        properties = newProperties;
+        EVENTS.forEach((name, logger) -> logger.policy(newProperties.policyFor(name)));
+    }
+
+    public static Collection<HotPathLogger> events() {
+        return EVENTS.values();
+    }
+
+    private static LogPolicy policyFor(String event) {
+        HotPathLoggingProperties current = properties;
+        return current == null ? LogPolicy.ALWAYS : current.policyFor(event);
+    }
+}
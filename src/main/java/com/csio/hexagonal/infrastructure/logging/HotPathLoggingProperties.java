@@ -0,0 +1,56 @@
+package com.csio.hexagonal.infrastructure.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "logging.hot-path")
+public class HotPathLoggingProperties {
+
+    private Policy defaults = new Policy();
+    private Map<String, Policy> events = new LinkedHashMap<>();
+
+    public Policy getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Policy defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Policy> getEvents() {
+        return events;
+    }
+
+    public void setEvents(Map<String, Policy> events) {
+        this.events = events;
+    }
+
+    LogPolicy policyFor(String event) {
+        Policy policy = events.getOrDefault(event, defaults);
+        return new LogPolicy(policy.getSampleRate(), policy.getMaxPerSecond());
+    }
+
+    public static class Policy {
+
+        private double sampleRate = 1.0;
+        private int maxPerSecond;
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public int getMaxPerSecond() {
+            return maxPerSecond;
+        }
+
+        public void setMaxPerSecond(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.csio.hexagonal.infrastructure.logging;
+
+/**
+ * How often a hot-path event may be written.
+ *
+ * @param sampleRate   fraction of occurrences considered for logging, {@code 0.0}..{@code 1.0}
+ * @param maxPerSecond cap on written occurrences per second; {@code 0} means unlimited
+ */
+public record LogPolicy(double sampleRate, int maxPerSecond) {
+
+    public static final LogPolicy ALWAYS = new LogPolicy(1.0, 0);
+
+    public LogPolicy {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1: " + sampleRate);
+        }
+        if (maxPerSecond < 0) {
+            throw new IllegalArgumentException("maxPerSecond must not be negative: " + maxPerSecond);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.csio.hexagonal.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times calls through one port of the hexagon.
+ * <p>
+ * Each port gets its own meter name (e.g. {@code hexagon.port.in.get-city}), so percentile
+ * histograms can be switched on per port or per layer with Spring Boot's prefix-based
+ * {@code management.metrics.distribution.*} properties. Calls are tagged with their outcome,
+ * and failures with the exception type.
+ */
+public class PortTimer {
+
+    private final String name;
+    private final Tags tags;
+    private final MeterRegistry registry;
+    private final Timer success;
+    private final Timer cancelled;
+
+    public PortTimer(String name, Tags tags, MeterRegistry registry) {
+        this.name = name;
+        this.tags = tags;
+        this.registry = registry;
+        this.success = timer("success", "none");
+        this.cancelled = timer("cancelled", "none");
+    }
+
+    /**
+     * Times a reactive call from subscription until it completes, fails or is cancelled.
+     */
+    public <T> Mono<T> time(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.get()
+                    .doOnSuccess(value -> sample.stop(success))
+                    .doOnError(ex -> sample.stop(failure(ex)))
+                    .doOnCancel(() -> sample.stop(cancelled));
+        });
+    }
+
+    /**
+     * Times a blocking call on the current thread.
+     */
+    public <T> T record(Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException ex) {
+            failure(ex).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    public void record(Runnable call) {
+        record(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private Timer failure(Throwable ex) {
+        return timer("error", ex.getClass().getSimpleName());
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return Timer.builder(name)
+                .tags(tags)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(registry);
+    }
+}
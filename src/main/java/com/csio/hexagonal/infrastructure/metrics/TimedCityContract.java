@@ -0,0 +1,109 @@
+package com.csio.hexagonal.infrastructure.metrics;
+
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Records every {@link CityContract} call under {@code hexagon.port.out.city-contract}, tagged by method.
+ */
+public class TimedCityContract implements CityContract {
+
+    static final String METER_NAME = "hexagon.port.out.city-contract";
+
+    private final CityContract delegate;
+    private final PortTimer save;
+    private final PortTimer findByUid;
+    private final PortTimer findAll;
+    private final PortTimer update;
+    private final PortTimer deleteByUid;
+    private final PortTimer findAllWithPagination;
+    private final PortTimer findAllWithFilters;
+    private final PortTimer findByUids;
+    private final PortTimer saveAll;
+    private final PortTimer findByNames;
+    private final PortTimer countByState;
+
+    public TimedCityContract(CityContract delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.save = timer("save", registry);
+        this.findByUid = timer("findByUid", registry);
+        this.findAll = timer("findAll", registry);
+        this.update = timer("update", registry);
+        this.deleteByUid = timer("deleteByUid", registry);
+        this.findAllWithPagination = timer("findAllWithPagination", registry);
+        this.findAllWithFilters = timer("findAllWithFilters", registry);
+        this.findByUids = timer("findByUids", registry);
+        this.saveAll = timer("saveAll", registry);
+        this.findByNames = timer("findByNames", registry);
+        this.countByState = timer("countByState", registry);
+    }
+
+    @Override
+    public City save(City entity) {
+        return save.record(() -> delegate.save(entity));
+    }
+
+    @Override
+    public Optional<City> findByUid(UUID uid) {
+        return findByUid.record(() -> delegate.findByUid(uid));
+    }
+
+    @Override
+    public List<City> findAll() {
+        return findAll.record(() -> delegate.findAll());
+    }
+
+    @Override
+    public City update(UUID uid, City entity) {
+        return update.record(() -> delegate.update(uid, entity));
+    }
+
+    @Override
+    public void deleteByUid(UUID uid) {
+        deleteByUid.record(() -> delegate.deleteByUid(uid));
+    }
+
+    @Override
+    public PageResult<City> findAllWithPagination(int page, int size, String search, String sort) {
+        return findAllWithPagination.record(() -> delegate.findAllWithPagination(page, size, search, sort));
+    }
+
+    @Override
+    public PageResult<City> findAllWithFilters(CityFilterQuery request) {
+        return findAllWithFilters.record(() -> delegate.findAllWithFilters(request));
+    }
+
+    @Override
+    public List<City> findByUids(Collection<UUID> uids) {
+        return findByUids.record(() -> delegate.findByUids(uids));
+    }
+
+    @Override
+    public List<City> saveAll(List<City> cities) {
+        return saveAll.record(() -> delegate.saveAll(cities));
+    }
+
+    @Override
+    public List<City> findByNames(Collection<String> names) {
+        return findByNames.record(() -> delegate.findByNames(names));
+    }
+
+    @Override
+    public List<StateCityCount> countByState() {
+        return countByState.record(() -> delegate.countByState());
+    }
+
+    private static PortTimer timer(String method, MeterRegistry registry) {
+        return new PortTimer(METER_NAME, Tags.of("method", method), registry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.metrics;
+
+import com.csio.hexagonal.application.port.in.CommandUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records every invocation of an inbound command port.
+ */
+public class TimedCommandUseCase<T, R> implements CommandUseCase<T, R> {
+
+    private final CommandUseCase<T, R> delegate;
+    private final PortTimer timer;
+
+    public TimedCommandUseCase(CommandUseCase<T, R> delegate, PortTimer timer) {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public Mono<R> create(T entity) {
+        return timer.time(() -> delegate.create(entity));
+    }
+}
@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.metrics;
+
+import com.csio.hexagonal.application.port.in.QueryUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records every invocation of an inbound query port.
+ */
+public class TimedQueryUseCase<Q, R> implements QueryUseCase<Q, R> {
+
+    private final QueryUseCase<Q, R> delegate;
+    private final PortTimer timer;
+
+    public TimedQueryUseCase(QueryUseCase<Q, R> delegate, PortTimer timer) {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public Mono<R> query(Q query) {
+        return timer.time(() -> delegate.query(query));
+    }
+}
@@ -0,0 +1,91 @@
+package com.csio.hexagonal.infrastructure.metrics.statement;
+
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogger;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogging;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Declared SQL statement budget of one use case.
+ * <p>
+ * Each invocation's statement count is published to {@code hexagon.sql.statements}, logged at
+ * {@code DEBUG}, and counted in {@code hexagon.sql.budget.exceeded} with a warning when it is over budget.
+ */
+public class StatementBudget {
+
+    /** Budget value meaning the use case is counted but not limited. */
+    public static final int UNLIMITED = -1;
+
+    private static final HotPathLogger STATEMENTS_LOG =
+            HotPathLogging.event(StatementBudget.class, "sql.statements", Level.DEBUG);
+    private static final HotPathLogger EXCEEDED_LOG =
+            HotPathLogging.event(StatementBudget.class, "sql.budget.exceeded", Level.WARN);
+
+    private final String useCase;
+    private final int maxStatements;
+    private final StatementCounter counter;
+    private final DistributionSummary statements;
+    private final Counter exceeded;
+
+    public StatementBudget(String useCase, int maxStatements, StatementCounter counter, MeterRegistry registry) {
+        this.useCase = useCase;
+        this.maxStatements = maxStatements;
+        this.counter = counter;
+        this.statements = DistributionSummary.builder("hexagon.sql.statements")
+                .description("SQL statements executed per use-case invocation")
+                .tag("use_case", useCase)
+                .register(registry);
+        this.exceeded = Counter.builder("hexagon.sql.budget.exceeded")
+                .description("Use-case invocations that executed more SQL statements than budgeted")
+                .tag("use_case", useCase)
+                .register(registry);
+    }
+
+    /**
+     * Counts the statements the call issues for the current request. Calls outside a request
+     * (no request id in the Reactor context) are passed through uncounted.
+     */
+    public <T> Mono<T> track(Supplier<Mono<T>> call) {
+        return Mono.deferContextual(ctx -> {
+            RequestContext context = RequestContext.from(ctx);
+            String requestId = context.requestId();
+            if (requestId == null) {
+                return call.get();
+            }
+            counter.open(requestId);
+            // Reported before the result is passed on, so the count is recorded by the time the response is written
+            return call.get()
+                    .doOnTerminate(() -> report(context.traceId(), counter.close(requestId)))
+                    .doOnCancel(() -> counter.close(requestId));
+        });
+    }
+
+    public String useCase() {
+        return useCase;
+    }
+
+    public int maxStatements() {
+        return maxStatements;
+    }
+
+    private void report(String traceId, long count) {
+        statements.record(count);
+        if (STATEMENTS_LOG.tryAcquire()) {
+            STATEMENTS_LOG.log("SQL statements use_case={} trace={} count={} budget={}",
+                    useCase, traceId, count, maxStatements);
+        }
+        if (maxStatements != UNLIMITED && count > maxStatements) {
+            exceeded.increment();
+            if (EXCEEDED_LOG.tryAcquire()) {
+                EXCEEDED_LOG.log("SQL statement budget exceeded use_case={} trace={} count={} budget={}",
+                        useCase, traceId, count, maxStatements);
+            }
+        }
+    }
+}
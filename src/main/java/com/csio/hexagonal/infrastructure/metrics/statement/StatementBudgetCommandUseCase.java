@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.metrics.statement;
+
+import com.csio.hexagonal.application.port.in.CommandUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts the SQL statements every invocation of an inbound command port issues.
+ */
+public class StatementBudgetCommandUseCase<T, R> implements CommandUseCase<T, R> {
+
+    private final CommandUseCase<T, R> delegate;
+    private final StatementBudget budget;
+
+    public StatementBudgetCommandUseCase(CommandUseCase<T, R> delegate, StatementBudget budget) {
+        this.delegate = delegate;
+        this.budget = budget;
+    }
+
+    @Override
+    public Mono<R> create(T command) {
+        return budget.track(() -> delegate.create(command));
+    }
+}
@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.metrics.statement;
+
+import com.csio.hexagonal.application.port.in.QueryUseCase;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts the SQL statements every invocation of an inbound query port issues.
+ */
+public class StatementBudgetQueryUseCase<Q, R> implements QueryUseCase<Q, R> {
+
+    private final QueryUseCase<Q, R> delegate;
+    private final StatementBudget budget;
+
+    public StatementBudgetQueryUseCase(QueryUseCase<Q, R> delegate, StatementBudget budget) {
+        this.delegate = delegate;
+        this.budget = budget;
+    }
+
+    @Override
+    public Mono<R> query(Q query) {
+        return budget.track(() -> delegate.query(query));
+    }
+}
@@ -0,0 +1,49 @@
+package com.csio.hexagonal.infrastructure.metrics.statement;
+
+import com.csio.hexagonal.application.context.RequestContext;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts executed SQL statements in total and per open request.
+ * <p>
+ * Statements are attributed through the request id of the {@link RequestContext} bound to the executing
+ * thread, so work on worker threads and structured sub-tasks is charged to the request that started it.
+ * The request id is assigned by the server, so concurrent requests that share a client-supplied trace
+ * id are still counted apart.
+ */
+public class StatementCounter {
+
+    private final LongAdder total = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> open = new ConcurrentHashMap<>();
+
+    /** Called by the datasource proxy after every statement execution. */
+    void record(int statements) {
+        total.add(statements);
+        String requestId = RequestContext.current().requestId();
+        if (requestId != null) {
+            LongAdder perRequest = open.get(requestId);
+            if (perRequest != null) {
+                perRequest.add(statements);
+            }
+        }
+    }
+
+    /** Starts attributing statements to the given request. */
+    public void open(String requestId) {
+        open.putIfAbsent(requestId, new LongAdder());
+    }
+
+    /** Stops attributing statements to the given request and returns how many it issued. */
+    public long close(String requestId) {
+        LongAdder perRequest = open.remove(requestId);
+        return perRequest == null ? 0 : perRequest.sum();
+    }
+
+    /** Statements executed since startup, for tests that measure a delta. */
+    public long total() {
+        return total.sum();
+    }
+}
@@ -0,0 +1,30 @@
+package com.csio.hexagonal.infrastructure.metrics.statement;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener that feeds every statement execution into a {@link StatementCounter}.
+ * A JDBC batch counts as one execution, matching one round trip to the database.
+ */
+public class StatementCountingListener implements QueryExecutionListener {
+
+    private final StatementCounter counter;
+
+    public StatementCountingListener(StatementCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Counted after execution so failed statements are included with their outcome known
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        counter.record(1);
+    }
+}
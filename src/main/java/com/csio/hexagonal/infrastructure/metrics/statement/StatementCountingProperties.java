@@ -0,0 +1,34 @@
+package com.csio.hexagonal.infrastructure.metrics.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "sql.statement-counting")
+public class StatementCountingProperties {
+
+    private boolean enabled = false;
+    private Map<String, Integer> budgets = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Integer> getBudgets() {
+        return budgets;
+    }
+
+    public void setBudgets(Map<String, Integer> budgets) {
+        this.budgets = budgets;
+    }
+
+    /** Budget for the use case, or {@link StatementBudget#UNLIMITED} if none is declared. */
+    public int budgetFor(String useCase) {
+        return budgets.getOrDefault(useCase, StatementBudget.UNLIMITED);
+    }
+}
@@ -0,0 +1,183 @@
+package com.csio.hexagonal.infrastructure.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Vegas-style adaptive concurrency limiter.
+ * <p>
+ * The limit is discovered from observed latency: the lowest round trip seen recently is taken
+ * as the no-load baseline, and {@code limit * (1 - minRtt / rtt)} estimates how many calls are
+ * queueing somewhere below us (typically for a JDBC connection). A small queue grows the limit,
+ * a large queue or a dropped call shrinks it. Calls above the limit fail fast instead of waiting.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final int probeInterval;
+    private final Duration retryAfter;
+    private final Predicate<Throwable> dropClassifier;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private volatile int limit;
+
+    // Guarded by sampleLock
+    private double estimatedLimit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samplesSinceProbe;
+
+    private final Counter rejections;
+
+    public AdaptiveConcurrencyLimiter(String name,
+                                      ConcurrencyLimiterProperties props,
+                                      Predicate<Throwable> dropClassifier,
+                                      MeterRegistry registry) {
+        if (props.getMinLimit() <= 0 || props.getMinLimit() > props.getMaxLimit()) {
+            throw new IllegalArgumentException("Invalid limiter bounds for " + name
+                    + ": min=" + props.getMinLimit() + ", max=" + props.getMaxLimit());
+        }
+        this.name = name;
+        this.minLimit = props.getMinLimit();
+        this.maxLimit = props.getMaxLimit();
+        this.smoothing = props.getSmoothing();
+        this.probeInterval = props.getProbeInterval();
+        this.retryAfter = props.getRetryAfter();
+        this.dropClassifier = dropClassifier;
+        this.estimatedLimit = clamp(props.getInitialLimit());
+        this.limit = (int) estimatedLimit;
+
+        Gauge.builder("persistence.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("port", name)
+                .register(registry);
+        Gauge.builder("persistence.limiter.inflight", inFlight, AtomicInteger::get)
+                .description("Calls currently holding a permit")
+                .tag("port", name)
+                .register(registry);
+        this.rejections = Counter.builder("persistence.limiter.rejections")
+                .description("Calls rejected because the limit was reached")
+                .tag("port", name)
+                .register(registry);
+    }
+
+    /**
+     * Runs the call under a permit, feeding its latency back into the limit.
+     *
+     * @throws ConcurrencyLimitExceededException when the limit is already reached
+     */
+    public <T> T execute(Supplier<T> call) {
+        int inFlightAtStart = acquire();
+        long start = System.nanoTime();
+        boolean released = false;
+        try {
+            T result = call.get();
+            released = true;
+            release(System.nanoTime() - start, inFlightAtStart, false);
+            return result;
+        } catch (RuntimeException ex) {
+            if (dropClassifier.test(ex)) {
+                released = true;
+                release(System.nanoTime() - start, inFlightAtStart, true);
+            }
+            throw ex;
+        } finally {
+            // Errors and sneaky-thrown checked exceptions give the permit back too, without a sample
+            if (!released) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    public void execute(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejections.increment();
+                throw new ConcurrencyLimitExceededException(
+                        "Too many concurrent calls to " + name + " (limit " + limit + ")", retryAfter);
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return current + 1;
+    }
+
+    private void release(long rttNanos, int inFlightAtStart, boolean dropped) {
+        inFlight.decrementAndGet();
+        onSample(rttNanos, inFlightAtStart, dropped);
+    }
+
+    void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        sampleLock.lock();
+        try {
+            // Periodically forget the baseline so a permanently slower backend is re-learned
+            if (++samplesSinceProbe >= probeInterval) {
+                samplesSinceProbe = 0;
+                minRttNanos = rttNanos;
+            }
+            if (rttNanos > 0 && rttNanos < minRttNanos) {
+                minRttNanos = rttNanos;
+            }
+
+            double current = estimatedLimit;
+            double next;
+            if (dropped) {
+                next = current * BACKOFF_RATIO;
+            } else if (inFlightAtStart * 2 < current) {
+                // Application-limited: the sample says nothing about capacity above this level
+                return;
+            } else {
+                double queue = Math.ceil(current * (1 - (double) minRttNanos / Math.max(rttNanos, 1)));
+                double log = Math.max(1.0, Math.log10(current));
+                double alpha = 3 * log;
+                double beta = 6 * log;
+
+                if (queue <= log) {
+                    next = current + beta;
+                } else if (queue < alpha) {
+                    next = current + log;
+                } else if (queue > beta) {
+                    next = current - log;
+                } else {
+                    return;
+                }
+            }
+
+            estimatedLimit = clamp((1 - smoothing) * current + smoothing * clamp(next));
+            limit = (int) estimatedLimit;
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,21 @@
+package com.csio.hexagonal.infrastructure.resilience;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a call is rejected because the adaptive limit of in-flight calls is reached.
+ * Mapped to 503 Service Unavailable with a Retry-After header at the REST boundary.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
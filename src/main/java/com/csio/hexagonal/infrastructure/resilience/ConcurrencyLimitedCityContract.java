@@ -0,0 +1,82 @@
+package com.csio.hexagonal.infrastructure.resilience;
+
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Guards every {@link CityContract} call with an {@link AdaptiveConcurrencyLimiter},
+ * so blocked callers fail fast instead of queueing on the connection pool.
+ */
+public class ConcurrencyLimitedCityContract implements CityContract {
+
+    private final CityContract delegate;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedCityContract(CityContract delegate, AdaptiveConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public City save(City entity) {
+        return limiter.execute(() -> delegate.save(entity));
+    }
+
+    @Override
+    public Optional<City> findByUid(UUID uid) {
+        return limiter.execute(() -> delegate.findByUid(uid));
+    }
+
+    @Override
+    public List<City> findAll() {
+        return limiter.execute(() -> delegate.findAll());
+    }
+
+    @Override
+    public City update(UUID uid, City entity) {
+        return limiter.execute(() -> delegate.update(uid, entity));
+    }
+
+    @Override
+    public void deleteByUid(UUID uid) {
+        limiter.execute(() -> delegate.deleteByUid(uid));
+    }
+
+    @Override
+    public PageResult<City> findAllWithPagination(int page, int size, String search, String sort) {
+        return limiter.execute(() -> delegate.findAllWithPagination(page, size, search, sort));
+    }
+
+    @Override
+    public PageResult<City> findAllWithFilters(CityFilterQuery request) {
+        return limiter.execute(() -> delegate.findAllWithFilters(request));
+    }
+
+    @Override
+    public List<City> findByUids(Collection<UUID> uids) {
+        return limiter.execute(() -> delegate.findByUids(uids));
+    }
+
+    @Override
+    public List<City> saveAll(List<City> cities) {
+        return limiter.execute(() -> delegate.saveAll(cities));
+    }
+
+    @Override
+    public List<City> findByNames(Collection<String> names) {
+        return limiter.execute(() -> delegate.findByNames(names));
+    }
+
+    @Override
+    public List<StateCityCount> countByState() {
+        return limiter.execute(() -> delegate.countByState());
+    }
+}
@@ -0,0 +1,63 @@
+package com.csio.hexagonal.infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket holding up to {@code capacity} tokens and refilling one every {@code period / capacity}.
+ * <p>
+ * The whole state is one timestamp: the time at which the bucket would be full again. The tokens left
+ * at any instant follow from it by arithmetic, so refilling needs no timer and no lock; taking a token
+ * moves the timestamp forward by one token's worth with a compare-and-set, retried on contention.
+ * Timestamps come from the caller, on the {@link System#nanoTime()} scale.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, Duration period, long nowNanos) {
+        if (capacity < 1 || period == null || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("A token bucket needs a positive capacity and period");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if there is one.
+     */
+    public Decision tryTake(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            // A bucket that has been full for a while is just full: time spent full is not banked
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long next = base + nanosPerToken;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                return new Decision(false, capacity, 0, Math.max(0, current - nowNanos), debt - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, capacity, (burstNanos - debt) / nanosPerToken, debt, 0);
+            }
+        }
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Outcome of one {@link #tryTake}.
+     *
+     * @param remaining        tokens left after this call
+     * @param resetNanos       time until the bucket is full again
+     * @param retryAfterNanos  time until the next token, when none was taken
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
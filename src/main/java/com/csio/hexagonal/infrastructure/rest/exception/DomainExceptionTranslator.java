@@ -3,13 +3,17 @@ package com.csio.hexagonal.infrastructure.rest.exception;
 import com.csio.hexagonal.domain.exception.DuplicateCityException;
 import com.csio.hexagonal.domain.exception.InvalidCityNameException;
 import com.csio.hexagonal.domain.exception.InvalidStateNameException;
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * Translates domain exceptions to REST layer exceptions at the adapter boundary.
  * This maintains proper separation of concerns in hexagonal architecture.
+ * Every translation is counted under {@code hexagon.errors.translated} in the global registry.
  */
 public final class DomainExceptionTranslator {
 
+    static final String METER_NAME = "hexagon.errors.translated";
+
     private DomainExceptionTranslator() {
         // Utility class - prevent instantiation
     }
@@ -22,22 +26,34 @@ public final class DomainExceptionTranslator {
      */
     public static RestApiException translate(Throwable domainException) {
         if (domainException instanceof DuplicateCityException) {
-            return new DuplicateResourceException(domainException.getMessage(), domainException);
+            return counted(domainException, new DuplicateResourceException(domainException.getMessage(), domainException));
         } else if (domainException instanceof InvalidCityNameException) {
-            return new ValidationException(domainException.getMessage(), domainException);
+            return counted(domainException, new ValidationException(domainException.getMessage(), domainException));
         } else if (domainException instanceof InvalidStateNameException) {
-            return new ValidationException(domainException.getMessage(), domainException);
+            return counted(domainException, new ValidationException(domainException.getMessage(), domainException));
         }
         
         // If not a known domain exception, return as-is or wrap in generic RestApiException
         if (domainException instanceof RestApiException) {
-            return (RestApiException) domainException;
+            return counted(domainException, (RestApiException) domainException);
         }
         
         // Unknown exception - let it propagate to global handler
+        count(domainException, "none");
         if (domainException instanceof RuntimeException) {
             throw (RuntimeException) domainException;
         }
         throw new RuntimeException(domainException);
     }
+
+    private static RestApiException counted(Throwable source, RestApiException translated) {
+        count(source, translated.getClass().getSimpleName());
+        return translated;
+    }
+
+    private static void count(Throwable source, String translatedTo) {
+        Metrics.counter(METER_NAME,
+                "exception", source.getClass().getSimpleName(),
+                "translated_to", translatedTo).increment();
+    }
 }
@@ -1,5 +1,8 @@
 package com.csio.hexagonal.infrastructure.rest.exception;
 
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import com.csio.hexagonal.infrastructure.resilience.ConcurrencyLimitExceededException;
+import com.csio.hexagonal.infrastructure.security.JwtVerificationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebInputException;
 import java.util.Map;
@@ -14,10 +17,18 @@ public final class ExceptionMetadataRegistry {
         registry.put(DuplicateResourceException.class, new ExceptionMetadata(HttpStatus.BAD_REQUEST, "Duplicate Resource Error"));
         registry.put(ValidationException.class, new ExceptionMetadata(HttpStatus.BAD_REQUEST, "Validation Error"));
         registry.put(RestApiException.class, new ExceptionMetadata(HttpStatus.BAD_REQUEST, "API Error"));
+        registry.put(RateLimitExceededException.class, new ExceptionMetadata(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests"));
         
         // Framework exceptions
         registry.put(ServerWebInputException.class, new ExceptionMetadata(HttpStatus.BAD_REQUEST, "Invalid Input"));
         registry.put(IllegalArgumentException.class, new ExceptionMetadata(HttpStatus.BAD_REQUEST, "Invalid Parameter"));
+
+        // Authentication
+        registry.put(JwtVerificationException.class, new ExceptionMetadata(HttpStatus.UNAUTHORIZED, "Unauthorized"));
+
+        // Load shedding
+        registry.put(ConcurrencyLimitExceededException.class, new ExceptionMetadata(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable"));
+        registry.put(DeadlineExceededException.class, new ExceptionMetadata(HttpStatus.GATEWAY_TIMEOUT, "Deadline Exceeded"));
     }
 
     public static ExceptionMetadata getMetadata(Throwable ex) {
@@ -1,21 +1,29 @@
 package com.csio.hexagonal.infrastructure.rest.exception;
 
+import com.csio.hexagonal.infrastructure.resilience.ConcurrencyLimitExceededException;
+import com.csio.hexagonal.infrastructure.security.JwtVerificationException;
 import com.csio.hexagonal.infrastructure.rest.response.wrapper.ErrorResponseWrapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.NonNull;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebExceptionHandler;
 import reactor.core.publisher.Mono;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.RejectedExecutionException;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class GlobalExceptionHandler implements WebExceptionHandler {
 
+    // A saturated worker pool frees up as its backlog drains, which takes well under a second
+    static final Duration SATURATED_RETRY_AFTER = Duration.ofSeconds(1);
+
     private final ObjectMapper objectMapper;
 
     public GlobalExceptionHandler(ObjectMapper objectMapper) {
@@ -24,8 +32,9 @@ public class GlobalExceptionHandler implements WebExceptionHandler {
 
     @Override
     @NonNull
-    public Mono<Void> handle(@NonNull ServerWebExchange exchange, @NonNull Throwable ex) {
+    public Mono<Void> handle(@NonNull ServerWebExchange exchange, @NonNull Throwable error) {
 
+        Throwable ex = shedIfRejected(error);
         ExceptionMetadataRegistry.ExceptionMetadata metadata = ExceptionMetadataRegistry.getMetadata(ex);
 
         ExceptionDetail detail = new ExceptionDetail(
@@ -39,6 +48,13 @@ public class GlobalExceptionHandler implements WebExceptionHandler {
 
         exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
         exchange.getResponse().setStatusCode(metadata.status());
+        if (ex instanceof ConcurrencyLimitExceededException limited) {
+            setRetryAfter(exchange, limited.getRetryAfter());
+        } else if (ex instanceof RateLimitExceededException limited) {
+            setRetryAfter(exchange, limited.getRetryAfter());
+        } else if (ex instanceof JwtVerificationException) {
+            exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        }
 
         byte[] bytes;
         try {
@@ -50,4 +66,28 @@ public class GlobalExceptionHandler implements WebExceptionHandler {
         return exchange.getResponse()
                 .writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes)));
     }
+
+    /**
+     * A worker pool at its {@code max-pending} bound rejects the blocking hop, and Reactor reports that
+     * as its own {@link RejectedExecutionException} wrapping the pool's. Either way the request was shed
+     * for load, so it is answered like a concurrency-limit rejection: 503 with {@code Retry-After}.
+     */
+    static Throwable shedIfRejected(Throwable ex) {
+        if (!(ex instanceof RejectedExecutionException)) {
+            return ex;
+        }
+        Throwable rejection = ex;
+        while (rejection.getCause() instanceof RejectedExecutionException cause) {
+            rejection = cause;
+        }
+        ConcurrencyLimitExceededException shed =
+                new ConcurrencyLimitExceededException(rejection.getMessage(), SATURATED_RETRY_AFTER);
+        shed.initCause(ex);
+        return shed;
+    }
+
+    private static void setRetryAfter(ServerWebExchange exchange, Duration retryAfter) {
+        long seconds = Math.max(1, (long) Math.ceil(retryAfter.toMillis() / 1000.0));
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+    }
 }
@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.rest.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a client has used up its request allowance for a route.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class RateLimitExceededException extends RestApiException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
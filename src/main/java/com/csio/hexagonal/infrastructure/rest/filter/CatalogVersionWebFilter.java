@@ -0,0 +1,38 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.application.context.ServedVersion;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tells clients which catalog snapshot answered a read.
+ * <p>
+ * Adds an empty {@link ServedVersion} to the Reactor context; when a query handler answers from a
+ * snapshot and records its version there, the version is sent as {@value #VERSION_HEADER}.
+ * Responses answered by the database carry no header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class CatalogVersionWebFilter implements WebFilter {
+
+    static final String VERSION_HEADER = "X-Catalog-Version";
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        ServedVersion served = new ServedVersion();
+        exchange.getResponse().beforeCommit(() -> {
+            served.get().ifPresent(version ->
+                    exchange.getResponse().getHeaders().set(VERSION_HEADER, Long.toString(version)));
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .contextWrite(ctx -> ctx.put(ServedVersion.KEY, served));
+    }
+}
@@ -0,0 +1,79 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Establishes the end-to-end deadline of each request and adds it to the {@link RequestContext}.
+ * <p>
+ * The budget comes from the client's timeout header when present (capped at the configured
+ * maximum), otherwise from the first matching per-route default, otherwise from the global default.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(DeadlineProperties.class)
+public class DeadlineWebFilter implements WebFilter {
+
+    private final DeadlineProperties properties;
+    private final List<RouteTimeout> routeTimeouts;
+
+    public DeadlineWebFilter(DeadlineProperties properties) {
+        this.properties = properties;
+        this.routeTimeouts = properties.getRoutes().entrySet().stream()
+                .map(entry -> new RouteTimeout(PathPatternParser.defaultInstance.parse(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        Deadline deadline = Deadline.after(resolveBudget(exchange));
+        return chain.filter(exchange)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, RequestContext.from(ctx).withDeadline(deadline)));
+    }
+
+    Duration resolveBudget(ServerWebExchange exchange) {
+        Duration requested = parseHeader(exchange.getRequest().getHeaders().getFirst(properties.getHeader()));
+        if (requested != null) {
+            return requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : requested;
+        }
+
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (RouteTimeout route : routeTimeouts) {
+            if (route.pattern().matches(path)) {
+                return route.timeout();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+
+    private static Duration parseHeader(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(value.trim());
+            return millis > 0 ? Duration.ofMillis(millis) : null;
+        } catch (NumberFormatException ex) {
+            // Malformed budgets fall back to the route default rather than failing the request
+            return null;
+        }
+    }
+
+    private record RouteTimeout(PathPattern pattern, Duration timeout) {}
+}
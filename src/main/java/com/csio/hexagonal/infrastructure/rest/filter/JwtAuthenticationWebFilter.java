@@ -0,0 +1,83 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import com.csio.hexagonal.infrastructure.security.JwtVerificationException;
+import com.csio.hexagonal.infrastructure.security.VerifiedTokenCache;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Requires a valid bearer token on the protected paths and adds the caller's {@link VerifiedPrincipal}
+ * to the {@link RequestContext}, where every use case can read it.
+ * <p>
+ * A token seen before is answered from the {@link VerifiedTokenCache} on the calling thread. A new one
+ * is verified on the parallel scheduler, as signature checks are pure CPU work that should not hold up
+ * the event loop. Runs after rate limiting, which keys a request by its remote address until its token
+ * has been verified, so a client flooding made-up tokens is throttled by address before each one costs
+ * a signature check.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 7)
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final VerifiedTokenCache tokens;
+    private final List<PathPattern> paths;
+
+    public JwtAuthenticationWebFilter(VerifiedTokenCache tokens, List<String> paths) {
+        this.tokens = tokens;
+        this.paths = paths.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        if (!isProtected(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        String token = bearerToken(exchange.getRequest());
+        if (token == null) {
+            return Mono.error(new JwtVerificationException("Bearer token required"));
+        }
+
+        VerifiedPrincipal cached = tokens.cached(token);
+        Mono<VerifiedPrincipal> principal = cached != null
+                ? Mono.just(cached)
+                : Mono.fromCallable(() -> tokens.verify(token)).subscribeOn(Schedulers.parallel());
+        return principal.flatMap(verified -> chain.filter(exchange)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, RequestContext.from(ctx).withPrincipal(verified))));
+    }
+
+    /** The token of a {@code Bearer} authorization header, or {@code null} when there is none. */
+    static String bearerToken(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            return null;
+        }
+        String token = authorization.substring(BEARER.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private boolean isProtected(PathContainer path) {
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
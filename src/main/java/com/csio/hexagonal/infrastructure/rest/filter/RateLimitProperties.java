@@ -0,0 +1,121 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "request.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+
+    /** Path patterns that are limited at all; everything else passes untouched. */
+    private List<String> paths = new ArrayList<>(List.of("/api/**"));
+
+    /** Allowance per client on limited paths without a route of their own. */
+    private Limit defaultLimit = new Limit(100, Duration.ofSeconds(1));
+
+    /** Per-route allowances keyed by path pattern, checked in declaration order. */
+    private Map<String, Limit> routes = new LinkedHashMap<>();
+
+    /** Clients tracked at most; the least recently seen are dropped beyond it. */
+    private int maxClients = 10_000;
+
+    /** A client's bucket is dropped after this long without requests, which leaves it full. */
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    /** A client rejected within this window counts as hot. */
+    private Duration hotWindow = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public Limit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(Limit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public Map<String, Limit> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Limit> routes) {
+        this.routes = routes;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public Duration getIdleExpiry() {
+        return idleExpiry;
+    }
+
+    public void setIdleExpiry(Duration idleExpiry) {
+        this.idleExpiry = idleExpiry;
+    }
+
+    public Duration getHotWindow() {
+        return hotWindow;
+    }
+
+    public void setHotWindow(Duration hotWindow) {
+        this.hotWindow = hotWindow;
+    }
+
+    public static class Limit {
+
+        // Requests a client may burst; the bucket refills to it over one period
+        private long capacity;
+
+        private Duration period;
+
+        public Limit() {
+        }
+
+        public Limit(long capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.infrastructure.cache.BoundedExpiringMap;
+import com.csio.hexagonal.infrastructure.resilience.TokenBucket;
+import com.csio.hexagonal.infrastructure.rest.exception.RateLimitExceededException;
+import com.csio.hexagonal.infrastructure.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how fast each client may call the API, with one {@link TokenBucket} per client and route.
+ * <p>
+ * A client is told apart by its bearer token once that token has been verified, keyed by the token's
+ * SHA-256 so the token itself is never held, and by remote address otherwise. Unverified tokens cost
+ * nothing to make up, so keying on them would hand a fresh bucket to every invented token and let a
+ * flood of them crowd real clients' buckets out; a client's first request with a new token therefore
+ * still counts against its address. Without bearer verification every client is keyed by address.
+ * A request is matched against the configured routes in declaration order and otherwise gets
+ * the default allowance, as long as it is under one of the limited paths. Buckets live in a
+ * {@link BoundedExpiringMap}: a client that goes quiet is forgotten, which is the same as a full bucket.
+ * <p>
+ * Every limited response carries {@code RateLimit-Limit}, {@code RateLimit-Remaining},
+ * {@code RateLimit-Reset} (seconds until the bucket is full) and {@code RateLimit-Policy}; a rejected
+ * one is a 429 with {@code Retry-After}.
+ * <p>
+ * Metrics: {@code hexagon.rate_limit.requests} tagged with route and {@code result=allowed|rejected},
+ * {@code hexagon.rate_limit.clients} (buckets held), {@code hexagon.rate_limit.hot_clients} (clients
+ * rejected within the hot window) and {@code hexagon.rate_limit.evictions}. A client becoming hot is
+ * logged once per window, identified by a hash rather than its token.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitWebFilter implements WebFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitWebFilter.class);
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+    static final String POLICY_HEADER = "RateLimit-Policy";
+
+    private final boolean enabled;
+    private final List<PathPattern> paths;
+    private final List<Route> routes;
+    private final Route defaultRoute;
+    private final BoundedExpiringMap<BucketKey, ClientBucket> buckets;
+    private final long hotWindowNanos;
+    private final LongSupplier nanoClock;
+    private final Function<String, String> verifiedTokenKey;
+
+    // The constructor Spring uses; the others are for tests
+    @Autowired
+    public RateLimitWebFilter(RateLimitProperties properties,
+                              MeterRegistry registry,
+                              ObjectProvider<VerifiedTokenCache> verifiedTokens) {
+        this(properties, registry, System::nanoTime, verifiedTokenKey(verifiedTokens.getIfAvailable()));
+    }
+
+    RateLimitWebFilter(RateLimitProperties properties, MeterRegistry registry, LongSupplier nanoClock) {
+        this(properties, registry, nanoClock, token -> null);
+    }
+
+    /**
+     * @param verifiedTokenKey the key of a bearer token that has been verified, or {@code null} for one
+     *                         that has not
+     */
+    RateLimitWebFilter(RateLimitProperties properties,
+                       MeterRegistry registry,
+                       LongSupplier nanoClock,
+                       Function<String, String> verifiedTokenKey) {
+        this.enabled = properties.isEnabled();
+        this.paths = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        List<Route> configured = new ArrayList<>();
+        for (Map.Entry<String, RateLimitProperties.Limit> entry : properties.getRoutes().entrySet()) {
+            configured.add(Route.of(entry.getKey(), entry.getValue(), registry));
+        }
+        this.routes = List.copyOf(configured);
+        this.defaultRoute = Route.of("default", properties.getDefaultLimit(), registry);
+        this.buckets = new BoundedExpiringMap<>(properties.getMaxClients(), properties.getIdleExpiry(), nanoClock);
+        this.hotWindowNanos = properties.getHotWindow().toNanos();
+        this.nanoClock = nanoClock;
+        this.verifiedTokenKey = verifiedTokenKey;
+
+        Gauge.builder("hexagon.rate_limit.clients", buckets, BoundedExpiringMap::size)
+                .description("Client buckets currently held")
+                .register(registry);
+        Gauge.builder("hexagon.rate_limit.hot_clients", this, RateLimitWebFilter::hotClients)
+                .description("Clients rejected within the hot window")
+                .register(registry);
+        FunctionCounter.builder("hexagon.rate_limit.evictions", buckets, BoundedExpiringMap::evictions)
+                .description("Client buckets dropped early to stay within the client bound")
+                .register(registry);
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+        Route route = resolveRoute(exchange.getRequest().getPath().pathWithinApplication());
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        long now = nanoClock.getAsLong();
+        String client = clientKey(exchange.getRequest());
+        ClientBucket bucket = buckets.computeIfAbsent(new BucketKey(route.name(), client),
+                key -> new ClientBucket(new TokenBucket(route.limit().getCapacity(), route.limit().getPeriod(), now)));
+        TokenBucket.Decision decision = bucket.tokens().tryTake(now);
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.set(LIMIT_HEADER, Long.toString(decision.limit()));
+        headers.set(REMAINING_HEADER, Long.toString(decision.remaining()));
+        headers.set(RESET_HEADER, Long.toString(seconds(decision.resetNanos())));
+        headers.set(POLICY_HEADER, route.policy());
+
+        if (decision.allowed()) {
+            route.allowed().increment();
+            return chain.filter(exchange);
+        }
+        route.rejected().increment();
+        if (bucket.markRejected(now, hotWindowNanos)) {
+            log.warn("Client {} exceeded the {} rate limit on route {}",
+                    Integer.toHexString(client.hashCode()), route.policy(), route.name());
+        }
+        return Mono.error(new RateLimitExceededException("Rate limit exceeded for route " + route.name(),
+                Duration.ofNanos(decision.retryAfterNanos())));
+    }
+
+    Route resolveRoute(PathContainer path) {
+        for (Route route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        for (PathPattern limited : paths) {
+            if (limited.matches(path)) {
+                return defaultRoute;
+            }
+        }
+        return null;
+    }
+
+    String clientKey(ServerHttpRequest request) {
+        String token = JwtAuthenticationWebFilter.bearerToken(request);
+        if (token != null) {
+            String verified = verifiedTokenKey.apply(token);
+            if (verified != null) {
+                return "token:" + verified;
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote == null ? "anonymous" : "address:" + remote.getHostString();
+    }
+
+    private static Function<String, String> verifiedTokenKey(VerifiedTokenCache verifiedTokens) {
+        return verifiedTokens == null ? token -> null : verifiedTokens::verifiedKey;
+    }
+
+    private double hotClients() {
+        long now = nanoClock.getAsLong();
+        AtomicInteger hot = new AtomicInteger();
+        buckets.forEach((key, bucket) -> {
+            if (bucket.isHot(now, hotWindowNanos)) {
+                hot.incrementAndGet();
+            }
+        });
+        return hot.get();
+    }
+
+    // Header values are whole seconds, rounded up so a client never retries too early
+    private static long seconds(long nanos) {
+        return (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+
+    record Route(String name, PathPattern pattern, RateLimitProperties.Limit limit, String policy,
+                 Counter allowed, Counter rejected) {
+
+        static Route of(String name, RateLimitProperties.Limit limit, MeterRegistry registry) {
+            PathPattern pattern = "default".equals(name) ? null : PathPatternParser.defaultInstance.parse(name);
+            String policy = limit.getCapacity() + ";w=" + Math.max(1, limit.getPeriod().toSeconds());
+            return new Route(name, pattern, limit, policy, counter(registry, name, "allowed"),
+                    counter(registry, name, "rejected"));
+        }
+
+        private static Counter counter(MeterRegistry registry, String route, String result) {
+            return Counter.builder("hexagon.rate_limit.requests")
+                    .description("Requests checked against a client's rate limit")
+                    .tag("route", route)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+
+    private record BucketKey(String route, String client) {
+    }
+
+    private static final class ClientBucket {
+
+        private final TokenBucket tokens;
+        private volatile long lastRejected;
+        private volatile boolean rejectedOnce;
+
+        ClientBucket(TokenBucket tokens) {
+            this.tokens = tokens;
+        }
+
+        TokenBucket tokens() {
+            return tokens;
+        }
+
+        /** Records a rejection; returns true when the client was not already hot. */
+        boolean markRejected(long now, long hotWindowNanos) {
+            boolean wasHot = isHot(now, hotWindowNanos);
+            lastRejected = now;
+            rejectedOnce = true;
+            return !wasHot;
+        }
+
+        boolean isHot(long now, long hotWindowNanos) {
+            return rejectedOnce && now - lastRejected < hotWindowNanos;
+        }
+    }
+}
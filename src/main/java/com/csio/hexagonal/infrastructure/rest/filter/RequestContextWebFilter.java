@@ -0,0 +1,50 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.application.context.RequestContext;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the {@link RequestContext} from the inbound headers and stores it in the Reactor context.
+ * <p>
+ * Runs before every other filter so later filters (e.g. {@link DeadlineWebFilter}) can enrich it.
+ * The trace id falls back to the id WebFlux already assigns to each request. The request id is that
+ * WebFlux id plus a sequence number, so it stays unique even where the server reuses exchange ids.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestContextWebFilter implements WebFilter {
+
+    static final String TRACE_ID_HEADER = "X-Trace-Id";
+    static final String TENANT_HEADER = "X-Tenant-Id";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        RequestContext context = resolve(exchange);
+        return chain.filter(exchange)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, context));
+    }
+
+    RequestContext resolve(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        String traceId = headers.getFirst(TRACE_ID_HEADER);
+        return new RequestContext(
+                headers.getFirst(HttpHeaders.AUTHORIZATION),
+                traceId != null ? traceId : exchange.getRequest().getId(),
+                headers.getFirst(TENANT_HEADER),
+                null
+        ).withRequestId(exchange.getRequest().getId() + "-" + sequence.incrementAndGet());
+    }
+}
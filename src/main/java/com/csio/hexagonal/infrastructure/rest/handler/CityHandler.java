@@ -6,13 +6,20 @@ import com.csio.hexagonal.application.port.in.CommandUseCase;
 import com.csio.hexagonal.application.port.in.QueryUseCase;
 import com.csio.hexagonal.application.service.command.CreateCityCommand;
 import com.csio.hexagonal.application.service.query.GetAllCityQuery;
+import com.csio.hexagonal.application.service.query.GetCitiesQuery;
 import com.csio.hexagonal.application.service.query.GetCityQuery;
+import com.csio.hexagonal.application.service.query.GetCitySummaryQuery;
 import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogger;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogging;
 import com.csio.hexagonal.infrastructure.rest.exception.DomainExceptionTranslator;
+import com.csio.hexagonal.infrastructure.rest.exception.ValidationException;
 import com.csio.hexagonal.infrastructure.rest.mapper.CityDtoMapper;
 import com.csio.hexagonal.infrastructure.rest.response.helper.ResponseHelper;
 import com.csio.hexagonal.infrastructure.rest.request.CityCreateRequest;
 import com.csio.hexagonal.infrastructure.rest.request.CityFindAllRequest;
+import com.csio.hexagonal.infrastructure.rest.request.CityMultiGetRequest;
 import com.csio.hexagonal.infrastructure.rest.response.city.CityResponse;
 import com.csio.hexagonal.infrastructure.rest.spec.CitySpec;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,40 +29,40 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
-import java.util.concurrent.Executor;
 
 import org.springframework.http.MediaType;
 
 @Component
 public class CityHandler {
 
-    private static final Logger log = LoggerFactory.getLogger(CityHandler.class);
+    private static final HotPathLogger CREATE_LOG = HotPathLogging.event(CityHandler.class, "city.create", Level.INFO);
+    private static final HotPathLogger GET_LOG = HotPathLogging.event(CityHandler.class, "city.get", Level.DEBUG);
 
     private final CommandUseCase<CreateCityCommand, City> commandUseCase;
     private final QueryUseCase<GetCityQuery, City> getCityUseCase;
+    private final QueryUseCase<GetCitiesQuery, List<City>> getCitiesUseCase;
     private final QueryUseCase<CityFilterQuery, PageResult<City>> getAllCityUseCase;
-    private final Executor virtualExecutor;
+    private final QueryUseCase<GetCitySummaryQuery, List<StateCityCount>> getCitySummaryUseCase;
 
     public CityHandler(
             CommandUseCase<CreateCityCommand, City> commandUseCase,
             QueryUseCase<GetCityQuery, City> getCityUseCase,
+            QueryUseCase<GetCitiesQuery, List<City>> getCitiesUseCase,
             QueryUseCase<CityFilterQuery, PageResult<City>> getAllCityUseCase,
-            @Qualifier("virtualExecutor") Executor virtualExecutor
+            QueryUseCase<GetCitySummaryQuery, List<StateCityCount>> getCitySummaryUseCase
     ) {
         this.commandUseCase = commandUseCase;
         this.getCityUseCase = getCityUseCase;
+        this.getCitiesUseCase = getCitiesUseCase;
         this.getAllCityUseCase = getAllCityUseCase;
-        this.virtualExecutor = virtualExecutor;
+        this.getCitySummaryUseCase = getCitySummaryUseCase;
     }
 
     /* ================= CREATE CITY ================= */
@@ -77,16 +84,15 @@ public class CityHandler {
             )
     )
     public Mono<ServerResponse> createCity(ServerRequest request) {
-        String token = request.headers().firstHeader("Authorization");
-
         return request.bodyToMono(CityCreateRequest.class)
-                .doOnNext(req -> log.info("Received CreateCityRequest: {}", req))
                 .map(req -> new CreateCityCommand(req.name(), req.state()))
-                .doOnNext(cmd -> log.info("Mapped to CreateCityCommand: {}", cmd))
-                .flatMap(cmd -> commandUseCase.create(cmd, token)
-                        .subscribeOn(Schedulers.fromExecutor(virtualExecutor)))
+                .flatMap(cmd -> commandUseCase.create(cmd))  // use case owns its blocking hop
                 .onErrorMap(DomainExceptionTranslator::translate)  // Translate domain exceptions at boundary
-                .doOnNext(city -> log.info("Service returned City: {}", city))
+                .doOnNext(city -> {
+                    if (CREATE_LOG.tryAcquire()) {
+                        CREATE_LOG.log("Created City uid={} name={}", city.getId().value(), city.getName());
+                    }
+                })
                 .map(CityDtoMapper::toResponse)  // Map domain model to DTO at infrastructure boundary
                 .map(ResponseHelper::success)
                 .flatMap(wrapper -> ServerResponse.ok()
@@ -108,15 +114,15 @@ public class CityHandler {
             }
     )
     public Mono<ServerResponse> getCity(ServerRequest request) {
-        String token = request.headers().firstHeader("Authorization");
         String uidStr = request.pathVariable("uid");
 
-        log.info("Received getCity request for uid={}", uidStr);
+        if (GET_LOG.tryAcquire()) {
+            GET_LOG.log("Received getCity request for uid={}", uidStr);
+        }
 
         GetCityQuery query = GetCityQuery.fromString(uidStr);
 
-        return getCityUseCase.query(query, token)
-                .subscribeOn(Schedulers.fromExecutor(virtualExecutor))
+        return getCityUseCase.query(query)
                 .onErrorMap(DomainExceptionTranslator::translate)  // Translate domain exceptions at boundary
                 .map(CityDtoMapper::toResponse)  // Map domain model to DTO at infrastructure boundary
                 .map(ResponseHelper::success)
@@ -125,6 +131,54 @@ public class CityHandler {
                         .bodyValue(wrapper));
     }
 
+    /* ================= GET SEVERAL CITIES ================= */
+    @Operation(
+            summary = CitySpec.GET_MANY_SUMMARY,
+            description = CitySpec.GET_MANY_DESCRIPTION,
+            requestBody = @RequestBody(
+                    description = CitySpec.GET_MANY_DESCRIPTION,
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CityMultiGetRequest.class),
+                            examples = @ExampleObject(
+                                    name = CitySpec.GET_MANY_EXAMPLE_NAME,
+                                    value = CitySpec.GET_MANY_EXAMPLE_VALUE
+                            )
+                    )
+            )
+    )
+    public Mono<ServerResponse> getCities(ServerRequest request) {
+        return request.bodyToMono(CityMultiGetRequest.class)
+                .map(this::toGetCitiesQuery) // Map infrastructure DTO to application query
+                .flatMap(getCitiesUseCase::query)
+                .onErrorMap(DomainExceptionTranslator::translate)  // Translate domain exceptions at boundary
+                .map(cities -> cities.stream()
+                        .map(CityDtoMapper::toResponse)  // Map domain models to DTOs at infrastructure boundary
+                        .toList())
+                .map(ResponseHelper::success)
+                .flatMap(wrapper -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(wrapper));
+    }
+
+    /* ================= COUNT CITIES PER STATE ================= */
+    @Operation(
+            summary = CitySpec.COUNT_BY_STATE_SUMMARY,
+            description = CitySpec.COUNT_BY_STATE_DESCRIPTION
+    )
+    public Mono<ServerResponse> getCitySummary(ServerRequest request) {
+        return getCitySummaryUseCase.query(new GetCitySummaryQuery())
+                .onErrorMap(DomainExceptionTranslator::translate)  // Translate domain exceptions at boundary
+                .map(counts -> counts.stream()
+                        .map(CityDtoMapper::toResponse)  // Map domain values to DTOs at infrastructure boundary
+                        .toList())
+                .map(ResponseHelper::success)
+                .flatMap(wrapper -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(wrapper));
+    }
+
     /* ================= FIND ALL CITIES ================= */
 
     @Operation(
@@ -145,12 +199,9 @@ public class CityHandler {
             )
     )
     public Mono<ServerResponse> getAllCity(ServerRequest request) {
-        String token = request.headers().firstHeader("Authorization");
-
         return request.bodyToMono(CityFindAllRequest.class)
                 .map(this::toCityFilterQuery) // Map infrastructure DTO to application query
-                .flatMap(cityRequest -> getAllCityUseCase.query(cityRequest, token)
-                        .subscribeOn(Schedulers.fromExecutor(virtualExecutor))
+                .flatMap(cityRequest -> getAllCityUseCase.query(cityRequest)
                         .onErrorMap(DomainExceptionTranslator::translate)  // Translate domain exceptions at boundary
                         .map(pageResult -> {
                             // Map domain models to response DTOs
@@ -177,6 +228,20 @@ public class CityHandler {
                 );
     }
 
+    private GetCitiesQuery toGetCitiesQuery(CityMultiGetRequest request) {
+        if (request.uids() == null || request.uids().isEmpty()) {
+            throw new ValidationException("At least one city UID is required");
+        }
+        if (request.uids().size() > CityMultiGetRequest.MAX_UIDS) {
+            throw new ValidationException("At most " + CityMultiGetRequest.MAX_UIDS + " city UIDs per request");
+        }
+        try {
+            return GetCitiesQuery.fromStrings(request.uids());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new ValidationException("Every city UID must be a valid UUID", ex);
+        }
+    }
+
     /**
      * Maps infrastructure DTO (CityFindAllRequest) to application query object (CityFilterQuery).
      * This mapping happens at the infrastructure boundary to maintain proper dependency direction.
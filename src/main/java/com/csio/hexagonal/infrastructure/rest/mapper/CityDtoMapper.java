@@ -2,7 +2,9 @@ package com.csio.hexagonal.infrastructure.rest.mapper;
 
 import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.StateCityCount;
 import com.csio.hexagonal.infrastructure.rest.response.city.CityResponse;
+import com.csio.hexagonal.infrastructure.rest.response.city.CityStateSummaryResponse;
 import com.csio.hexagonal.infrastructure.rest.response.wrapper.PageResponseWrapper;
 
 /**
@@ -23,7 +25,14 @@ public final class CityDtoMapper {
                 city.getState().value()
         );
     }
-    
+
+    /**
+     * Convert per-state city counts to infrastructure response DTO
+     */
+    public static CityStateSummaryResponse toResponse(StateCityCount count) {
+        return new CityStateSummaryResponse(count.state(), count.active(), count.inactive(), count.total());
+    }
+
     /**
      * Convert application PageResult to infrastructure PageResponseWrapper
      */
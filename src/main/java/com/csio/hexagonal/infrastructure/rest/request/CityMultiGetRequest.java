@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.rest.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request body for fetching several cities by UID")
+public record CityMultiGetRequest(
+
+    @NotEmpty(message = "At least one city UID is required")
+    @Size(max = CityMultiGetRequest.MAX_UIDS, message = "At most " + CityMultiGetRequest.MAX_UIDS + " city UIDs per request")
+    @ArraySchema(
+        schema = @Schema(description = "Unique identifier of a city", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"),
+        maxItems = CityMultiGetRequest.MAX_UIDS
+    )
+    List<String> uids
+) {
+
+    public static final int MAX_UIDS = 100;
+}
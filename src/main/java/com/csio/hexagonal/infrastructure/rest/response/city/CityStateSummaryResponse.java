@@ -0,0 +1,13 @@
+package com.csio.hexagonal.infrastructure.rest.response.city;
+
+import com.csio.hexagonal.infrastructure.rest.response.ResponseInclusion;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record CityStateSummaryResponse(
+        String state,
+        Long active,
+        Long inactive,
+        Long total
+) implements ResponseInclusion {}
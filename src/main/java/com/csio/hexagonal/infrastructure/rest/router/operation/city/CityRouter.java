@@ -18,6 +18,10 @@ public class CityRouter {
                         ops -> ops.beanClass(CityHandler.class).beanMethod("createCity"))
                 .POST("/api/v1/city/all", handler::getAllCity,
                         ops -> ops.beanClass(CityHandler.class).beanMethod("getAllCity"))
+                .POST("/api/v1/city/batch", handler::getCities,
+                        ops -> ops.beanClass(CityHandler.class).beanMethod("getCities"))
+                .GET("/api/v1/city/summary", handler::getCitySummary,
+                        ops -> ops.beanClass(CityHandler.class).beanMethod("getCitySummary"))
                 .GET("/api/v1/city/{uid}", handler::getCity,
                         ops -> ops.beanClass(CityHandler.class).beanMethod("getCity"))
                 // .PUT("/api/v1/city/{uid}", handler::updateCity,
@@ -8,6 +8,8 @@ public class CitySpec {
     public static final String CREATE_SUMMARY = "Create a new " + ENTITY;
     public static final String GET_SUMMARY = "Get " + ENTITY + " by ID";
     public static final String GET_ALL_SUMMARY = "Get all " + ENTITY + " by page and size";
+    public static final String GET_MANY_SUMMARY = "Get several " + ENTITY + " entries by ID";
+    public static final String COUNT_BY_STATE_SUMMARY = "Count " + ENTITY + " entries per state";
     public static final String UPDATE_SUMMARY = "Update " + ENTITY;
     public static final String DELETE_SUMMARY = "Delete " + ENTITY + " by ID";
 
@@ -21,6 +23,14 @@ public class CitySpec {
     public static final String GET_ALL_DESCRIPTION =
             "Retrieve a paginated list of " + ENTITY + " entries with optional filtering, searching, and sorting";
 
+    public static final String GET_MANY_DESCRIPTION =
+            "Retrieve up to 100 " + ENTITY + " entries by unique identifier in one call; "
+                    + "unknown identifiers are left out and the rest keep request order";
+
+    public static final String COUNT_BY_STATE_DESCRIPTION =
+            "Retrieve the number of active and inactive " + ENTITY + " entries for every state that has any, "
+                    + "ordered by state";
+
     public static final String UPDATE_DESCRIPTION =
             "Update an existing " + ENTITY + " with the provided details";
 
@@ -60,6 +70,17 @@ public class CitySpec {
             }
             """;
 
+    public static final String GET_MANY_EXAMPLE_NAME =
+            "Get Several Cities Example";
+    public static final String GET_MANY_EXAMPLE_VALUE = """
+            {
+                "uids": [
+                    "3fa85f64-5717-4562-b3fc-2c963f66afa6",
+                    "9b2e6f1c-1d7a-4c55-8f0e-6a1b2c3d4e5f"
+                ]
+            }
+            """;
+
     public static final String UPDATE_EXAMPLE_VALUE = """
             {
                 "name": "Los Angeles",
@@ -0,0 +1,119 @@
+package com.csio.hexagonal.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The public keys tokens may be signed with, parsed once from a JWK set document (RFC 7517).
+ * <p>
+ * RSA and EC ({@code P-256}, {@code P-384}, {@code P-521}) keys are supported. Keys marked for
+ * encryption ({@code "use": "enc"}) and other key types are skipped.
+ */
+public final class JwkSet {
+
+    private static final Map<String, String> CURVES = Map.of(
+            "P-256", "secp256r1",
+            "P-384", "secp384r1",
+            "P-521", "secp521r1");
+
+    private final List<Jwk> keys;
+
+    private JwkSet(List<Jwk> keys) {
+        this.keys = List.copyOf(keys);
+    }
+
+    public static JwkSet parse(String json, ObjectMapper objectMapper) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("JWK set is not valid JSON", ex);
+        }
+        JsonNode keys = root.path("keys");
+        if (!keys.isArray()) {
+            throw new IllegalArgumentException("JWK set has no \"keys\" array");
+        }
+        List<Jwk> parsed = new ArrayList<>();
+        for (JsonNode key : keys) {
+            if ("enc".equals(key.path("use").asText(null))) {
+                continue;
+            }
+            toPublicKey(key).ifPresent(publicKey -> parsed.add(new Jwk(
+                    key.path("kid").asText(null), key.path("alg").asText(null), publicKey)));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("JWK set has no usable signing keys");
+        }
+        return new JwkSet(parsed);
+    }
+
+    /**
+     * The key a token names by {@code kid}; a token without one may only use a set holding a single key.
+     */
+    public Optional<Jwk> find(String kid) {
+        if (kid == null) {
+            return keys.size() == 1 ? Optional.of(keys.getFirst()) : Optional.empty();
+        }
+        return keys.stream().filter(key -> kid.equals(key.kid())).findFirst();
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private static Optional<PublicKey> toPublicKey(JsonNode key) {
+        try {
+            return switch (key.path("kty").asText("")) {
+                case "RSA" -> Optional.of(KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                        unsigned(key, "n"), unsigned(key, "e"))));
+                case "EC" -> Optional.of(ecKey(key));
+                default -> Optional.empty();
+            };
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalArgumentException("JWK " + key.path("kid").asText("") + " is not a valid public key", ex);
+        }
+    }
+
+    private static PublicKey ecKey(JsonNode key) throws GeneralSecurityException {
+        String curve = CURVES.get(key.path("crv").asText(""));
+        if (curve == null) {
+            throw new GeneralSecurityException("Unsupported curve " + key.path("crv").asText(""));
+        }
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(curve));
+        ECPoint point = new ECPoint(unsigned(key, "x"), unsigned(key, "y"));
+        return KeyFactory.getInstance("EC").generatePublic(
+                new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+    }
+
+    private static BigInteger unsigned(JsonNode key, String field) throws GeneralSecurityException {
+        String value = key.path(field).asText(null);
+        if (value == null) {
+            throw new GeneralSecurityException("Missing JWK member " + field);
+        }
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    /**
+     * @param alg the algorithm the key is restricted to, or {@code null}
+     */
+    public record Jwk(String kid, String alg, PublicKey key) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.csio.hexagonal.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "security.jwt")
+public class JwtProperties {
+
+    private boolean enabled = false;
+
+    /** JWK set as JSON, checked before {@link #jwkSetLocation}. */
+    private String jwkSet;
+
+    /** Resource holding the JWK set, e.g. {@code file:/etc/keys/jwks.json}. */
+    private String jwkSetLocation;
+
+    /** Required {@code iss}; any issuer when unset. */
+    private String issuer;
+
+    /** Required {@code aud} value; any audience when unset. */
+    private String audience;
+
+    /** Leeway for {@code exp} and {@code nbf} against clock drift between issuer and us. */
+    private Duration clockSkew = Duration.ofSeconds(30);
+
+    /** Verified tokens kept; the least recently used go first beyond it. */
+    private int cacheSize = 10_000;
+
+    /** Path patterns that require a valid bearer token. */
+    private List<String> paths = new ArrayList<>(List.of("/api/**"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getJwkSet() {
+        return jwkSet;
+    }
+
+    public void setJwkSet(String jwkSet) {
+        this.jwkSet = jwkSet;
+    }
+
+    public String getJwkSetLocation() {
+        return jwkSetLocation;
+    }
+
+    public void setJwkSetLocation(String jwkSetLocation) {
+        this.jwkSetLocation = jwkSetLocation;
+    }
+
+    public String getIssuer() {
+        return issuer;
+    }
+
+    public void setIssuer(String issuer) {
+        this.issuer = issuer;
+    }
+
+    public String getAudience() {
+        return audience;
+    }
+
+    public void setAudience(String audience) {
+        this.audience = audience;
+    }
+
+    public Duration getClockSkew() {
+        return clockSkew;
+    }
+
+    public void setClockSkew(Duration clockSkew) {
+        this.clockSkew = clockSkew;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+}
@@ -0,0 +1,16 @@
+package com.csio.hexagonal.infrastructure.security;
+
+/**
+ * Thrown when a bearer token is missing, malformed, wrongly signed or not valid for this service now.
+ * Mapped to 401 Unauthorized with a {@code WWW-Authenticate: Bearer} challenge at the REST boundary.
+ */
+public class JwtVerificationException extends RuntimeException {
+
+    public JwtVerificationException(String message) {
+        super(message);
+    }
+
+    public JwtVerificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,159 @@
+package com.csio.hexagonal.infrastructure.security;
+
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Verifies compact JWS bearer tokens against a local {@link JwkSet}, with no call to the issuer.
+ * <p>
+ * Only the asymmetric algorithms in {@link #ALGORITHMS} are accepted, never {@code none}, and a key
+ * restricted to one algorithm is not used with another. A token must carry {@code sub} and
+ * {@code exp}; {@code exp} and {@code nbf} are checked with the configured clock skew, and
+ * {@code iss} and {@code aud} when the service requires them.
+ */
+public class JwtVerifier {
+
+    // JWS algorithm -> JCA signature; ECDSA signatures in a JWS are the raw R || S pair (P1363)
+    private static final Map<String, String> ALGORITHMS = Map.of(
+            "RS256", "SHA256withRSA",
+            "RS384", "SHA384withRSA",
+            "RS512", "SHA512withRSA",
+            "ES256", "SHA256withECDSAinP1363Format",
+            "ES384", "SHA384withECDSAinP1363Format",
+            "ES512", "SHA512withECDSAinP1363Format");
+
+    // Anything longer is not a token we issued, and not worth decoding
+    private static final int MAX_TOKEN_LENGTH = 8 * 1024;
+
+    private final JwkSet keys;
+    private final ObjectMapper objectMapper;
+    private final String issuer;
+    private final String audience;
+    private final Duration clockSkew;
+    private final Clock clock;
+
+    public JwtVerifier(JwkSet keys, ObjectMapper objectMapper, JwtProperties props, Clock clock) {
+        this.keys = keys;
+        this.objectMapper = objectMapper;
+        this.issuer = props.getIssuer();
+        this.audience = props.getAudience();
+        this.clockSkew = props.getClockSkew();
+        this.clock = clock;
+    }
+
+    public VerifiedPrincipal verify(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            throw new JwtVerificationException("Bearer token is missing or too long");
+        }
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 3) {
+            throw new JwtVerificationException("Bearer token is not a signed JWT");
+        }
+
+        JsonNode header = json(parts[0]);
+        String alg = header.path("alg").asText("");
+        String jcaAlgorithm = ALGORITHMS.get(alg);
+        if (jcaAlgorithm == null) {
+            throw new JwtVerificationException("Token algorithm " + alg + " is not accepted");
+        }
+        JwkSet.Jwk jwk = keys.find(header.path("kid").asText(null))
+                .orElseThrow(() -> new JwtVerificationException("Token was signed with an unknown key"));
+        if (jwk.alg() != null && !jwk.alg().equals(alg)) {
+            throw new JwtVerificationException("Token key " + jwk.kid() + " is not used with " + alg);
+        }
+        checkSignature(jcaAlgorithm, jwk, parts);
+
+        return principal(json(parts[1]));
+    }
+
+    private void checkSignature(String jcaAlgorithm, JwkSet.Jwk jwk, String[] parts) {
+        try {
+            Signature signature = Signature.getInstance(jcaAlgorithm);
+            signature.initVerify(jwk.key());
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(decode(parts[2]))) {
+                throw new JwtVerificationException("Token signature does not match");
+            }
+        } catch (GeneralSecurityException ex) {
+            // Includes a key of the wrong type for the algorithm, and malformed signatures
+            throw new JwtVerificationException("Token signature could not be verified", ex);
+        }
+    }
+
+    private VerifiedPrincipal principal(JsonNode claims) {
+        Instant now = clock.instant();
+        String subject = claims.path("sub").asText(null);
+        if (subject == null || !claims.path("exp").canConvertToLong()) {
+            throw new JwtVerificationException("Token must name a subject and an expiry");
+        }
+        Instant expiresAt = Instant.ofEpochSecond(claims.path("exp").asLong());
+        if (!now.isBefore(expiresAt.plus(clockSkew))) {
+            throw new JwtVerificationException("Token has expired");
+        }
+        if (claims.has("nbf") && now.plus(clockSkew).isBefore(Instant.ofEpochSecond(claims.path("nbf").asLong()))) {
+            throw new JwtVerificationException("Token is not valid yet");
+        }
+        String tokenIssuer = claims.path("iss").asText(null);
+        if (issuer != null && !issuer.equals(tokenIssuer)) {
+            throw new JwtVerificationException("Token was issued by " + tokenIssuer);
+        }
+        List<String> tokenAudience = strings(claims.path("aud"));
+        if (audience != null && !tokenAudience.contains(audience)) {
+            throw new JwtVerificationException("Token is not meant for this service");
+        }
+        Set<String> scopes = new HashSet<>(strings(claims.path("scp")));
+        if (claims.path("scope").isTextual()) {
+            scopes.addAll(Arrays.asList(claims.path("scope").asText().split(" ")));
+        }
+        scopes.remove("");
+        return new VerifiedPrincipal(subject, tokenIssuer, tokenAudience, scopes, expiresAt);
+    }
+
+    // A claim that may be one string or an array of them
+    private static List<String> strings(JsonNode node) {
+        if (node.isTextual()) {
+            return List.of(node.asText());
+        }
+        List<String> values = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(value -> values.add(value.asText()));
+        }
+        return values;
+    }
+
+    private JsonNode json(String part) {
+        try {
+            JsonNode node = objectMapper.readTree(decode(part));
+            if (node == null || !node.isObject()) {
+                throw new JwtVerificationException("Token part is not a JSON object");
+            }
+            return node;
+        } catch (IOException ex) {
+            throw new JwtVerificationException("Token part is not valid JSON", ex);
+        }
+    }
+
+    private static byte[] decode(String part) {
+        try {
+            return Base64.getUrlDecoder().decode(part);
+        } catch (IllegalArgumentException ex) {
+            throw new JwtVerificationException("Token is not base64url encoded", ex);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.csio.hexagonal.infrastructure.security;
+
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import com.csio.hexagonal.infrastructure.cache.BoundedExpiringMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers tokens that passed {@link JwtVerifier} until they expire, so a client repeating a token
+ * costs one hash instead of a signature check.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token, never the token itself, and held in a
+ * {@link BoundedExpiringMap} that drops each one at the token's {@code exp}. Failures are not cached:
+ * a bad token is re-checked, and rejected, every time.
+ * <p>
+ * Metrics: {@code hexagon.jwt.verifications} tagged {@code result=cached|verified|rejected} and
+ * {@code hexagon.jwt.cache.size}.
+ */
+public class VerifiedTokenCache {
+
+    private final JwtVerifier verifier;
+    private final BoundedExpiringMap<String, VerifiedPrincipal> verified;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final Counter cached;
+    private final Counter checked;
+    private final Counter rejected;
+
+    public VerifiedTokenCache(JwtVerifier verifier, int maxSize, Clock clock, MeterRegistry registry) {
+        this(verifier, maxSize, clock, System::nanoTime, registry);
+    }
+
+    VerifiedTokenCache(JwtVerifier verifier, int maxSize, Clock clock, LongSupplier nanoClock, MeterRegistry registry) {
+        this.verifier = verifier;
+        // No idle expiry: a cached token lives exactly as long as the token does, unless crowded out
+        this.verified = new BoundedExpiringMap<>(maxSize, null, nanoClock);
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+        this.cached = counter(registry, "cached");
+        this.checked = counter(registry, "verified");
+        this.rejected = counter(registry, "rejected");
+        Gauge.builder("hexagon.jwt.cache.size", verified, BoundedExpiringMap::size)
+                .description("Verified tokens currently cached")
+                .register(registry);
+    }
+
+    /** The principal for {@code token} if it is cached, otherwise {@code null}. */
+    public VerifiedPrincipal cached(String token) {
+        VerifiedPrincipal principal = verified.get(hash(token));
+        if (principal != null) {
+            cached.increment();
+        }
+        return principal;
+    }
+
+    /**
+     * The key {@code token} is cached under (its SHA-256) if it has been verified and not yet expired,
+     * otherwise {@code null}. Lets other filters tell verified callers apart without holding the token;
+     * not counted in the verification metrics.
+     */
+    public String verifiedKey(String token) {
+        String hash = hash(token);
+        return verified.get(hash) != null ? hash : null;
+    }
+
+    /** Verifies {@code token} and caches the result until the token expires. */
+    public VerifiedPrincipal verify(String token) {
+        VerifiedPrincipal principal;
+        try {
+            principal = verifier.verify(token);
+        } catch (JwtVerificationException ex) {
+            rejected.increment();
+            throw ex;
+        }
+        checked.increment();
+        Duration lifetime = Duration.between(clock.instant(), principal.expiresAt());
+        if (!lifetime.isNegative() && !lifetime.isZero()) {
+            verified.put(hash(token), principal, nanoClock.getAsLong() + lifetime.toNanos());
+        }
+        return principal;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("hexagon.jwt.verifications")
+                .description("Bearer tokens answered from the cache, verified, or rejected")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps {@link CopyOnWriteCityCatalog} in step with the store: every write that succeeds publishes a
+ * new catalog version before the writer returns, so the writer's next read already sees it.
+ */
+public class CatalogMaintainingCityContract implements CityContract {
+
+    private final CityContract delegate;
+    private final CopyOnWriteCityCatalog catalog;
+
+    public CatalogMaintainingCityContract(CityContract delegate, CopyOnWriteCityCatalog catalog) {
+        this.delegate = delegate;
+        this.catalog = catalog;
+    }
+
+    @Override
+    public City save(City city) {
+        City saved = delegate.save(city);
+        catalog.put(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public List<City> saveAll(List<City> cities) {
+        List<City> saved = delegate.saveAll(cities);
+        catalog.put(saved);
+        return saved;
+    }
+
+    @Override
+    public City update(UUID uid, City city) {
+        City saved = delegate.update(uid, city);
+        catalog.put(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public void deleteByUid(UUID uid) {
+        delegate.deleteByUid(uid);
+        catalog.remove(uid);
+    }
+
+    @Override
+    public Optional<City> findByUid(UUID uid) {
+        return delegate.findByUid(uid);
+    }
+
+    @Override
+    public List<City> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public PageResult<City> findAllWithPagination(int page, int size, String search, String sort) {
+        return delegate.findAllWithPagination(page, size, search, sort);
+    }
+
+    @Override
+    public PageResult<City> findAllWithFilters(CityFilterQuery request) {
+        return delegate.findAllWithFilters(request);
+    }
+
+    @Override
+    public List<City> findByUids(Collection<UUID> uids) {
+        return delegate.findByUids(uids);
+    }
+
+    @Override
+    public List<City> findByNames(Collection<String> names) {
+        return delegate.findByNames(names);
+    }
+
+    @Override
+    public List<StateCityCount> countByState() {
+        return delegate.countByState();
+    }
+}
@@ -0,0 +1,17 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "city.catalog")
+public class CityCatalogProperties {
+
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
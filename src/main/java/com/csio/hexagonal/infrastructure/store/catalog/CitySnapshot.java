@@ -0,0 +1,294 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import com.csio.hexagonal.application.port.out.CityCatalog;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * One immutable version of the catalog: a {@link PersistentHashMap} by uid plus sorted indexes by name
+ * and by state, all sharing structure with the version they were derived from.
+ * <p>
+ * Filters and search follow {@code CitySpecification}: string comparisons ignore case, range operators
+ * compare the stored value with the lower-cased operand, and {@code active} only supports EQUALS.
+ * Range comparisons and sorting use Java string order, which matches a binary collation.
+ * Queries on other fields are left to the database.
+ */
+final class CitySnapshot implements CityCatalog.Snapshot {
+
+    private static final Comparator<City> BY_UID = Comparator.comparing((City city) -> city.getId().value());
+    private static final Comparator<City> BY_NAME = Comparator.comparing(City::getName).thenComparing(BY_UID);
+    private static final Comparator<City> BY_STATE =
+            Comparator.comparing((City city) -> city.getState().value()).thenComparing(BY_NAME);
+
+    private static final CitySnapshot EMPTY = new CitySnapshot(0,
+            PersistentHashMap.empty(), PersistentSortedIndex.empty(BY_NAME), PersistentSortedIndex.empty(BY_STATE));
+
+    private final long version;
+    private final PersistentHashMap<UUID, City> byUid;
+    private final PersistentSortedIndex<City> byName;
+    private final PersistentSortedIndex<City> byState;
+
+    private CitySnapshot(long version,
+                         PersistentHashMap<UUID, City> byUid,
+                         PersistentSortedIndex<City> byName,
+                         PersistentSortedIndex<City> byState) {
+        this.version = version;
+        this.byUid = byUid;
+        this.byName = byName;
+        this.byState = byState;
+    }
+
+    static CitySnapshot of(long version, Collection<City> cities) {
+        CitySnapshot snapshot = EMPTY;
+        for (City city : cities) {
+            snapshot = snapshot.with(city);
+        }
+        return new CitySnapshot(version, snapshot.byUid, snapshot.byName, snapshot.byState);
+    }
+
+    /** The next version, with {@code cities} added or replacing the stored cities with the same uid. */
+    CitySnapshot put(Collection<City> cities) {
+        CitySnapshot snapshot = this;
+        for (City city : cities) {
+            snapshot = snapshot.with(city);
+        }
+        return new CitySnapshot(version + 1, snapshot.byUid, snapshot.byName, snapshot.byState);
+    }
+
+    /** The next version, without the city with {@code uid}. */
+    CitySnapshot remove(UUID uid) {
+        City existing = byUid.get(uid);
+        if (existing == null) {
+            return new CitySnapshot(version + 1, byUid, byName, byState);
+        }
+        return new CitySnapshot(version + 1, byUid.minus(uid), byName.minus(existing), byState.minus(existing));
+    }
+
+    int size() {
+        return byUid.size();
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public Optional<City> findByUid(UUID uid) {
+        return Optional.ofNullable(byUid.get(uid));
+    }
+
+    @Override
+    public Optional<PageResult<City>> findAll(CityFilterQuery query) {
+        if (query.page() < 1 || query.size() < 1) {
+            return Optional.empty();
+        }
+        Optional<Predicate<City>> filter = matcher(query);
+        if (filter.isEmpty()) {
+            return Optional.empty();
+        }
+        Predicate<City> matches = filter.get();
+        int offset = (int) Math.min(Integer.MAX_VALUE, (long) (query.page() - 1) * query.size());
+        List<City> content = new ArrayList<>(Math.min(query.size(), size()));
+
+        Optional<IndexScan> scan = indexScan(query.sort());
+        long total;
+        if (scan.isPresent() && matches == ALL) {
+            // Unfiltered page straight from the index: O(log n) to the offset, then one step per city
+            scan.get().index().forEach(offset, scan.get().descending(), city -> {
+                content.add(city);
+                return content.size() < query.size();
+            });
+            total = size();
+        } else if (scan.isPresent()) {
+            long[] seen = {0};
+            scan.get().index().forEach(0, scan.get().descending(), city -> {
+                if (matches.test(city)) {
+                    if (seen[0] >= offset && content.size() < query.size()) {
+                        content.add(city);
+                    }
+                    seen[0]++;
+                }
+                return true;
+            });
+            total = seen[0];
+        } else {
+            Optional<Comparator<City>> order = comparator(query.sort());
+            if (order.isEmpty()) {
+                return Optional.empty();
+            }
+            List<City> all = new ArrayList<>();
+            byName.forEach(0, false, city -> {
+                if (matches.test(city)) {
+                    all.add(city);
+                }
+                return true;
+            });
+            all.sort(order.get());
+            total = all.size();
+            if (offset < all.size()) {
+                content.addAll(all.subList(offset, Math.min(all.size(), offset + query.size())));
+            }
+        }
+
+        int totalPages = (int) ((total + query.size() - 1) / query.size());
+        return Optional.of(PageResult.of(List.copyOf(content), query.page(), query.size(), total, totalPages));
+    }
+
+    private CitySnapshot with(City city) {
+        City existing = byUid.get(city.getId().value());
+        PersistentSortedIndex<City> names = existing == null ? byName : byName.minus(existing);
+        PersistentSortedIndex<City> states = existing == null ? byState : byState.minus(existing);
+        return new CitySnapshot(version, byUid.plus(city.getId().value(), city), names.plus(city), states.plus(city));
+    }
+
+    /* ---------------- SORT ---------------- */
+
+    private record IndexScan(PersistentSortedIndex<City> index, boolean descending) {
+    }
+
+    // Sorting on name alone, or on state alone, is an index walk; anything else sorts the matches
+    private Optional<IndexScan> indexScan(List<CityFilterQuery.SortOrder> sort) {
+        if (sort == null || sort.isEmpty()) {
+            return Optional.of(new IndexScan(byName, false));
+        }
+        if (sort.size() != 1) {
+            return Optional.empty();
+        }
+        boolean descending = sort.getFirst().direction() == CityFilterQuery.Direction.DESC;
+        return switch (String.valueOf(sort.getFirst().field())) {
+            case "name" -> Optional.of(new IndexScan(byName, descending));
+            case "state" -> Optional.of(new IndexScan(byState, descending));
+            default -> Optional.empty();
+        };
+    }
+
+    private static Optional<Comparator<City>> comparator(List<CityFilterQuery.SortOrder> sort) {
+        Comparator<City> order = null;
+        for (CityFilterQuery.SortOrder sortOrder : sort) {
+            Optional<Comparator<City>> field = fieldOrder(sortOrder.field());
+            if (field.isEmpty()) {
+                return Optional.empty();
+            }
+            Comparator<City> next = sortOrder.direction() == CityFilterQuery.Direction.DESC
+                    ? field.get().reversed()
+                    : field.get();
+            order = order == null ? next : order.thenComparing(next);
+        }
+        return Optional.of(order.thenComparing(BY_UID));
+    }
+
+    private static Optional<Comparator<City>> fieldOrder(String field) {
+        return switch (String.valueOf(field)) {
+            case "name" -> Optional.of(Comparator.comparing(City::getName));
+            case "state" -> Optional.of(Comparator.comparing((City city) -> city.getState().value()));
+            case "uid" -> Optional.of(Comparator.comparing((City city) -> city.getId().value().toString()));
+            case "isActive" -> Optional.of(Comparator.comparing(City::isActive));
+            default -> Optional.empty();
+        };
+    }
+
+    /* ---------------- FILTER ---------------- */
+
+    private static final Predicate<City> ALL = city -> true;
+
+    private static Optional<Predicate<City>> matcher(CityFilterQuery query) {
+        Predicate<City> matches = ALL;
+
+        if (query.search() != null && !query.search().isBlank()) {
+            String term = query.search().toLowerCase(Locale.ROOT);
+            matches = city -> lower(city.getName()).contains(term) || lower(city.getState().value()).contains(term);
+        }
+
+        CityFilterQuery.Filter filter = query.filter();
+        if (filter == null || filter.filterGroups() == null || filter.filterGroups().isEmpty()) {
+            return Optional.of(matches);
+        }
+        List<Predicate<City>> groups = new ArrayList<>();
+        for (CityFilterQuery.FilterGroup group : filter.filterGroups()) {
+            Optional<Predicate<City>> predicate = group(group);
+            if (predicate.isEmpty()) {
+                return Optional.empty();
+            }
+            groups.add(predicate.get());
+        }
+        Predicate<City> combined = combine(filter.operator(), groups);
+        return Optional.of(matches == ALL ? combined : matches.and(combined));
+    }
+
+    private static Optional<Predicate<City>> group(CityFilterQuery.FilterGroup group) {
+        if (group.conditions() == null) {
+            return Optional.empty();
+        }
+        List<Predicate<City>> conditions = new ArrayList<>();
+        for (CityFilterQuery.FilterCondition condition : group.conditions()) {
+            Optional<Predicate<City>> predicate = condition(condition);
+            if (predicate.isEmpty()) {
+                return Optional.empty();
+            }
+            conditions.add(predicate.get());
+        }
+        return Optional.of(combine(group.operator(), conditions));
+    }
+
+    // As in the specification: AND of nothing is true, anything but AND is OR, and OR of nothing is false
+    private static Predicate<City> combine(CityFilterQuery.LogicalOperator operator, List<Predicate<City>> members) {
+        boolean and = operator == CityFilterQuery.LogicalOperator.AND;
+        return city -> {
+            for (Predicate<City> member : members) {
+                if (member.test(city) != and) {
+                    return !and;
+                }
+            }
+            return and;
+        };
+    }
+
+    private static Optional<Predicate<City>> condition(CityFilterQuery.FilterCondition condition) {
+        if (condition.operator() == null || condition.value() == null) {
+            return Optional.empty();
+        }
+        if ("active".equals(condition.field()) || "isActive".equals(condition.field())) {
+            if (condition.operator() != CityFilterQuery.Operator.EQUALS) {
+                return Optional.empty();
+            }
+            boolean active = Boolean.parseBoolean(condition.value());
+            return Optional.of(city -> city.isActive() == active);
+        }
+
+        Function<City, String> field = switch (String.valueOf(condition.field())) {
+            case "name" -> City::getName;
+            case "state" -> city -> city.getState().value();
+            case "uid" -> city -> city.getId().value().toString();
+            default -> null;
+        };
+        if (field == null) {
+            return Optional.empty();
+        }
+        String value = condition.value().toLowerCase(Locale.ROOT);
+        Predicate<City> predicate = switch (condition.operator()) {
+            case EQUALS -> city -> lower(field.apply(city)).equals(value);
+            case LIKE -> city -> lower(field.apply(city)).contains(value);
+            case GT -> city -> field.apply(city).compareTo(value) > 0;
+            case GTE -> city -> field.apply(city).compareTo(value) >= 0;
+            case LT -> city -> field.apply(city).compareTo(value) < 0;
+            case LTE -> city -> field.apply(city).compareTo(value) <= 0;
+        };
+        return Optional.of(predicate);
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,109 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import com.csio.hexagonal.application.port.out.CityCatalog;
+import com.csio.hexagonal.domain.model.City;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * {@link CityCatalog} published through a single {@link AtomicReference}.
+ * <p>
+ * Readers get the current {@link CitySnapshot} with one volatile read and never block. Each write derives
+ * the next snapshot from the current one, sharing all unchanged structure, and swaps it in with a
+ * compare-and-set; a writer that loses the race retries against the winner's snapshot.
+ * <p>
+ * Until {@link #load} has published a first snapshot, reads fall through to the database. A load only
+ * publishes if no write was applied while it read the store, and otherwise reads again, so a write that
+ * committed after the read started cannot be lost.
+ * <p>
+ * Metrics: {@code hexagon.catalog.version} and {@code hexagon.catalog.cities}, both -1 while not loaded.
+ */
+public class CopyOnWriteCityCatalog implements CityCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CopyOnWriteCityCatalog.class);
+
+    private static final int MAX_LOAD_ATTEMPTS = 5;
+
+    private final AtomicReference<State> state = new AtomicReference<>(new Loading(0));
+
+    public CopyOnWriteCityCatalog(MeterRegistry registry) {
+        Gauge.builder("hexagon.catalog.version", this, c -> c.snapshot().map(CitySnapshot::version).orElse(-1L))
+                .description("Version of the published catalog snapshot")
+                .register(registry);
+        Gauge.builder("hexagon.catalog.cities", this, c -> c.snapshot().map(CitySnapshot::size).orElse(-1))
+                .description("Cities in the published catalog snapshot")
+                .register(registry);
+    }
+
+    @Override
+    public Optional<Snapshot> current() {
+        return snapshot().map(Snapshot.class::cast);
+    }
+
+    /** Adds the cities, or replaces stored cities with the same uid, in one new version. */
+    public void put(Collection<City> cities) {
+        state.updateAndGet(current -> switch (current) {
+            case Ready ready -> new Ready(ready.snapshot().put(cities));
+            case Loading loading -> new Loading(loading.writes() + 1);
+        });
+    }
+
+    public void remove(UUID uid) {
+        state.updateAndGet(current -> switch (current) {
+            case Ready ready -> new Ready(ready.snapshot().remove(uid));
+            case Loading loading -> new Loading(loading.writes() + 1);
+        });
+    }
+
+    /**
+     * Replaces the catalog with the cities {@code source} returns. Returns {@code false} if writes kept
+     * arriving during every attempt, in which case the previous state is kept.
+     */
+    public boolean load(Supplier<List<City>> source) {
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            State before = state.get();
+            List<City> cities = source.get();
+            long version = before instanceof Ready ready ? ready.snapshot().version() + 1 : 1;
+            if (state.compareAndSet(before, new Ready(CitySnapshot.of(version, cities)))) {
+                log.info("City catalog loaded: {} cities at version {}", cities.size(), version);
+                return true;
+            }
+        }
+        log.warn("City catalog load gave up after {} attempts: writes kept arriving while the store was read",
+                MAX_LOAD_ATTEMPTS);
+        return false;
+    }
+
+    public void loadAsync(Supplier<List<City>> source) {
+        Thread.ofVirtual().name("city-catalog-load").start(() -> {
+            try {
+                load(source);
+            } catch (RuntimeException ex) {
+                log.error("City catalog load failed; reads keep going to the database", ex);
+            }
+        });
+    }
+
+    private Optional<CitySnapshot> snapshot() {
+        return state.get() instanceof Ready ready ? Optional.of(ready.snapshot()) : Optional.empty();
+    }
+
+    private sealed interface State permits Loading, Ready {
+    }
+
+    // Every write replaces the state object, which is what makes a load's compare-and-set fail
+    private record Loading(long writes) implements State {
+    }
+
+    private record Ready(CitySnapshot snapshot) implements State {
+    }
+}
@@ -0,0 +1,275 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable hash array mapped trie.
+ * <p>
+ * Every node branches 32 ways on the next five bits of the key's hash and stores only the slots in use,
+ * located through a bitmap. {@link #plus} and {@link #minus} copy the nodes on the path to the key and
+ * share the rest with the previous version, so a change costs O(log32 n) and older versions stay valid
+ * for readers that still hold them. Keys with equal hashes end in a collision node.
+ */
+final class PersistentHashMap<K, V> {
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        return (V) root.find(hash(key), key, 0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    PersistentHashMap<K, V> plus(K key, V value) {
+        Object[] added = new Object[1];
+        Node updated = root.put(hash(key), key, value, 0, added);
+        if (updated == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(updated, added[0] == null ? size : size + 1);
+    }
+
+    PersistentHashMap<K, V> minus(K key) {
+        Object updated = root.remove(hash(key), key, 0);
+        if (updated == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(asNode(updated), size - 1);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    // A removal can leave a lone entry behind; at the root it still needs a node around it
+    private static Node asNode(Object slot) {
+        if (slot == null) {
+            return BitmapNode.EMPTY;
+        }
+        if (slot instanceof Leaf leaf) {
+            return BitmapNode.EMPTY.put(leaf.hash, leaf.key, leaf.value, 0, new Object[1]);
+        }
+        return (Node) slot;
+    }
+
+    private record Leaf(int hash, Object key, Object value) {
+    }
+
+    private interface Node {
+
+        Object find(int hash, Object key, int shift);
+
+        /** Returns this node when nothing changed; sets {@code added[0]} when the key was new. */
+        Node put(int hash, Object key, Object value, int shift, Object[] added);
+
+        /** Returns this node when the key was absent, otherwise the replacement: a node, a lone leaf or null. */
+        Object remove(int hash, Object key, int shift);
+    }
+
+    private static final class BitmapNode implements Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        // Each slot is a Leaf or a Node
+        private final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Override
+        public Object find(int hash, Object key, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[index(bit)];
+            if (slot instanceof Leaf leaf) {
+                return Objects.equals(leaf.key, key) ? leaf.value : null;
+            }
+            return ((Node) slot).find(hash, key, shift + 5);
+        }
+
+        @Override
+        public Node put(int hash, Object key, Object value, int shift, Object[] added) {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                added[0] = Boolean.TRUE;
+                Object[] copy = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, copy, 0, index);
+                copy[index] = new Leaf(hash, key, value);
+                System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, copy);
+            }
+
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Leaf leaf) {
+                if (Objects.equals(leaf.key, key)) {
+                    if (leaf.value == value) {
+                        return this;
+                    }
+                    replacement = new Leaf(hash, key, value);
+                } else {
+                    added[0] = Boolean.TRUE;
+                    replacement = split(leaf, new Leaf(hash, key, value), shift + 5);
+                }
+            } else {
+                Node child = (Node) slot;
+                replacement = child.put(hash, key, value, shift + 5, added);
+                if (replacement == child) {
+                    return this;
+                }
+            }
+            return withSlot(index, replacement);
+        }
+
+        @Override
+        public Object remove(int hash, Object key, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Leaf leaf) {
+                if (!Objects.equals(leaf.key, key)) {
+                    return this;
+                }
+                replacement = null;
+            } else {
+                Node child = (Node) slot;
+                replacement = child.remove(hash, key, shift + 5);
+                if (replacement == child) {
+                    return this;
+                }
+            }
+
+            if (replacement != null) {
+                return withSlot(index, replacement);
+            }
+            if (slots.length == 1) {
+                return null;
+            }
+            // A single remaining leaf moves up into the parent, keeping paths as short as possible
+            if (slots.length == 2 && slots[1 - index] instanceof Leaf remaining && shift > 0) {
+                return remaining;
+            }
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, copy);
+        }
+
+        private BitmapNode withSlot(int index, Object slot) {
+            Object[] copy = slots.clone();
+            copy[index] = slot;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & 31);
+        }
+
+        private static Node split(Leaf existing, Leaf added, int shift) {
+            if (existing.hash == added.hash) {
+                return new CollisionNode(existing.hash, new Leaf[] {existing, added});
+            }
+            int existingBit = bit(existing.hash, shift);
+            int addedBit = bit(added.hash, shift);
+            if (existingBit == addedBit) {
+                return new BitmapNode(existingBit, new Object[] {split(existing, added, shift + 5)});
+            }
+            Object[] pair = Integer.compareUnsigned(existingBit, addedBit) < 0
+                    ? new Object[] {existing, added}
+                    : new Object[] {added, existing};
+            return new BitmapNode(existingBit | addedBit, pair);
+        }
+    }
+
+    private static final class CollisionNode implements Node {
+
+        private final int hash;
+        private final Leaf[] leaves;
+
+        CollisionNode(int hash, Leaf[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        @Override
+        public Object find(int hash, Object key, int shift) {
+            for (Leaf leaf : leaves) {
+                if (Objects.equals(leaf.key, key)) {
+                    return leaf.value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Node put(int hash, Object key, Object value, int shift, Object[] added) {
+            if (hash != this.hash) {
+                // Reached by a different hash: branch above this node on the bits where they differ
+                return new BitmapNode(BitmapNode.bit(this.hash, shift), new Object[] {this})
+                        .put(hash, key, value, shift, added);
+            }
+            for (int i = 0; i < leaves.length; i++) {
+                if (Objects.equals(leaves[i].key, key)) {
+                    if (leaves[i].value == value) {
+                        return this;
+                    }
+                    Leaf[] copy = leaves.clone();
+                    copy[i] = new Leaf(hash, key, value);
+                    return new CollisionNode(hash, copy);
+                }
+            }
+            added[0] = Boolean.TRUE;
+            Leaf[] copy = Arrays.copyOf(leaves, leaves.length + 1);
+            copy[leaves.length] = new Leaf(hash, key, value);
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        public Object remove(int hash, Object key, int shift) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (Objects.equals(leaves[i].key, key)) {
+                    if (leaves.length == 2) {
+                        return leaves[1 - i];
+                    }
+                    Leaf[] copy = new Leaf[leaves.length - 1];
+                    System.arraycopy(leaves, 0, copy, 0, i);
+                    System.arraycopy(leaves, i + 1, copy, i, leaves.length - i - 1);
+                    return new CollisionNode(hash, copy);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Immutable AVL tree kept in comparator order, with subtree sizes so a page can start at any offset
+ * in O(log n).
+ * <p>
+ * Like {@link PersistentHashMap}, {@link #plus} and {@link #minus} copy only the path they change and
+ * share every other subtree with the previous version. The comparator must be consistent with equals;
+ * elements it ranks equal replace each other.
+ */
+final class PersistentSortedIndex<E> {
+
+    private final Comparator<? super E> order;
+    private final Node<E> root;
+
+    private PersistentSortedIndex(Comparator<? super E> order, Node<E> root) {
+        this.order = order;
+        this.root = root;
+    }
+
+    static <E> PersistentSortedIndex<E> empty(Comparator<? super E> order) {
+        return new PersistentSortedIndex<>(order, null);
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    PersistentSortedIndex<E> plus(E element) {
+        return new PersistentSortedIndex<>(order, insert(root, element));
+    }
+
+    PersistentSortedIndex<E> minus(E element) {
+        Node<E> updated = delete(root, element);
+        return updated == root ? this : new PersistentSortedIndex<>(order, updated);
+    }
+
+    /**
+     * Visits elements in order, ascending or descending, starting {@code skip} elements in, until
+     * {@code visitor} returns {@code false} or the elements run out.
+     */
+    void forEach(int skip, boolean descending, Predicate<? super E> visitor) {
+        visit(root, skip, descending, visitor);
+    }
+
+    // Returns false once the visitor has asked to stop
+    private static <E> boolean visit(Node<E> node, int skip, boolean descending, Predicate<? super E> visitor) {
+        if (node == null) {
+            return true;
+        }
+        Node<E> first = descending ? node.right : node.left;
+        Node<E> second = descending ? node.left : node.right;
+        int firstSize = size(first);
+        if (skip < firstSize && !visit(first, skip, descending, visitor)) {
+            return false;
+        }
+        if (skip <= firstSize && !visitor.test(node.element)) {
+            return false;
+        }
+        return visit(second, Math.max(0, skip - firstSize - 1), descending, visitor);
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int cmp = order.compare(element, node.element);
+        if (cmp == 0) {
+            return new Node<>(element, node.left, node.right);
+        }
+        return cmp < 0
+                ? balance(node.element, insert(node.left, element), node.right)
+                : balance(node.element, node.left, insert(node.right, element));
+    }
+
+    private Node<E> delete(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = order.compare(element, node.element);
+        if (cmp < 0) {
+            Node<E> left = delete(node.left, element);
+            return left == node.left ? node : balance(node.element, left, node.right);
+        }
+        if (cmp > 0) {
+            Node<E> right = delete(node.right, element);
+            return right == node.right ? node : balance(node.element, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        E successor = min(node.right);
+        return balance(successor, node.left, delete(node.right, successor));
+    }
+
+    private static <E> E min(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.element;
+    }
+
+    private static <E> Node<E> balance(E element, Node<E> left, Node<E> right) {
+        int diff = height(left) - height(right);
+        if (diff > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.element, left.left, left.right);
+            }
+            return rotateRight(element, left, right);
+        }
+        if (diff < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.element, right.left, right.right);
+            }
+            return rotateLeft(element, left, right);
+        }
+        return new Node<>(element, left, right);
+    }
+
+    private static <E> Node<E> rotateRight(E element, Node<E> left, Node<E> right) {
+        return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+    }
+
+    private static <E> Node<E> rotateLeft(E element, Node<E> left, Node<E> right) {
+        return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<E> {
+
+        final E element;
+        final Node<E> left;
+        final Node<E> right;
+        final int height;
+        final int size;
+
+        Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.csio.hexagonal.infrastructure.store.membership;
+
+import com.csio.hexagonal.application.port.out.CityMembership;
+import com.csio.hexagonal.domain.model.City;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link CityMembership} backed by scalable Bloom filters of stored uids and normalized names.
+ * <p>
+ * Until the first {@link #rebuild} completes every probe answers "may contain". Writes are recorded
+ * before they reach the database, so a reader can never be told a committed city is absent. Removed
+ * cities cannot be taken out of a Bloom filter; they become false positives until the next rebuild,
+ * which is triggered once removals exceed {@code rebuildStaleRatio} of the entries.
+ * <p>
+ * Metrics, tagged {@code filter=uid|name}:
+ * {@code hexagon.membership.checks} (tagged {@code result=absent|maybe}),
+ * {@code hexagon.membership.false_positive_rate} (observed: a "maybe" for a city that was not stored),
+ * {@code hexagon.membership.expected_false_positive_rate} and {@code hexagon.membership.entries}.
+ */
+public class BloomCityMembership implements CityMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomCityMembership.class);
+
+    // Writes recorded this long before a rebuild started are replayed into the new filters, which covers
+    // writes that were recorded but had not committed when the rebuild read its snapshot
+    private static final long REPLAY_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final CityMembershipProperties properties;
+
+    private volatile Filters current;
+    private final ArrayDeque<RecordedWrite> recentWrites = new ArrayDeque<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong removedSinceRebuild = new AtomicLong();
+
+    private final Counter uidAbsent;
+    private final Counter uidMaybe;
+    private final Counter nameAbsent;
+    private final Counter nameMaybe;
+    private final AtomicLong uidFalsePositives = new AtomicLong();
+    private final AtomicLong nameFalsePositives = new AtomicLong();
+    private final AtomicLong namesWritten = new AtomicLong();
+
+    public BloomCityMembership(CityMembershipProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.uidAbsent = checks(registry, "uid", "absent");
+        this.uidMaybe = checks(registry, "uid", "maybe");
+        this.nameAbsent = checks(registry, "name", "absent");
+        this.nameMaybe = checks(registry, "name", "maybe");
+
+        // A uid "maybe" is false when the database then finds nothing
+        Gauge.builder("hexagon.membership.false_positive_rate", this,
+                        m -> ratio(m.uidFalsePositives.get(), m.uidFalsePositives.get() + (long) m.uidAbsent.count()))
+                .description("Observed share of absent cities the filter reported as possibly present")
+                .tag("filter", "uid")
+                .register(registry);
+        // Every written name was checked unique first, so a "maybe" for it was false
+        Gauge.builder("hexagon.membership.false_positive_rate", this,
+                        m -> ratio(m.nameFalsePositives.get(), m.namesWritten.get()))
+                .description("Observed share of absent cities the filter reported as possibly present")
+                .tag("filter", "name")
+                .register(registry);
+        Gauge.builder("hexagon.membership.expected_false_positive_rate", this,
+                        m -> m.current == null ? 1.0 : m.current.uids.expectedFalsePositiveRate())
+                .tag("filter", "uid")
+                .register(registry);
+        Gauge.builder("hexagon.membership.expected_false_positive_rate", this,
+                        m -> m.current == null ? 1.0 : m.current.names.expectedFalsePositiveRate())
+                .tag("filter", "name")
+                .register(registry);
+        Gauge.builder("hexagon.membership.entries", this, m -> m.current == null ? 0 : m.current.uids.size())
+                .tag("filter", "uid")
+                .register(registry);
+        Gauge.builder("hexagon.membership.entries", this, m -> m.current == null ? 0 : m.current.names.size())
+                .tag("filter", "name")
+                .register(registry);
+    }
+
+    @Override
+    public boolean mayContainUid(UUID uid) {
+        Filters filters = current;
+        if (filters == null || uid == null) {
+            return true;
+        }
+        boolean maybe = filters.uids.mightContain(MembershipKeys.uid(uid));
+        (maybe ? uidMaybe : uidAbsent).increment();
+        return maybe;
+    }
+
+    @Override
+    public boolean mayContainName(String name) {
+        Filters filters = current;
+        if (filters == null || name == null) {
+            return true;
+        }
+        boolean maybe = filters.names.mightContain(MembershipKeys.name(name));
+        (maybe ? nameMaybe : nameAbsent).increment();
+        return maybe;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * Records a new city that is about to be stored. The uniqueness check has already passed,
+     * so a "maybe" for its name is counted as a false positive.
+     */
+    void recordNewCity(City city) {
+        Filters filters = current;
+        if (filters != null) {
+            namesWritten.incrementAndGet();
+            if (filters.names.mightContain(MembershipKeys.name(city.getName()))) {
+                nameFalsePositives.incrementAndGet();
+            }
+        }
+        record(city);
+    }
+
+    /** Records a city about to be written, before the write reaches the database. */
+    synchronized void record(City city) {
+        long uidKey = MembershipKeys.uid(city.getId().value());
+        long nameKey = MembershipKeys.name(city.getName());
+        Filters filters = current;
+        if (filters != null) {
+            filters.add(uidKey, nameKey);
+        }
+        long now = System.nanoTime();
+        recentWrites.addLast(new RecordedWrite(uidKey, nameKey, now));
+        while (!recentWrites.isEmpty() && now - recentWrites.peekFirst().recordedAt() > 2 * REPLAY_WINDOW_NANOS) {
+            recentWrites.removeFirst();
+        }
+    }
+
+    /** The contract found nothing for a uid the filter let through. */
+    void recordUidMiss(UUID uid) {
+        Filters filters = current;
+        if (filters != null && filters.uids.mightContain(MembershipKeys.uid(uid))) {
+            uidFalsePositives.incrementAndGet();
+        }
+    }
+
+    /** Records a removed city; returns whether enough are stale that the filters should be rebuilt. */
+    boolean recordRemoval() {
+        Filters filters = current;
+        long removed = removedSinceRebuild.incrementAndGet();
+        return filters != null && removed > properties.getRebuildStaleRatio() * Math.max(1, filters.uids.size());
+    }
+
+    /**
+     * Replaces the filters with ones built from a snapshot of all stored cities. Concurrent calls
+     * while a rebuild is running are ignored.
+     */
+    public void rebuild(Supplier<List<City>> snapshot) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            List<City> cities = snapshot.get();
+            Filters fresh = new Filters(
+                    new ScalableBloomFilter(Math.max(properties.getExpectedCities(), 2L * cities.size()),
+                            properties.getFalsePositiveRate()),
+                    new ScalableBloomFilter(Math.max(properties.getExpectedCities(), 2L * cities.size()),
+                            properties.getFalsePositiveRate()));
+            for (City city : cities) {
+                fresh.add(MembershipKeys.uid(city.getId().value()), MembershipKeys.name(city.getName()));
+            }
+            synchronized (this) {
+                for (RecordedWrite write : recentWrites) {
+                    if (write.recordedAt() - startedAt > -REPLAY_WINDOW_NANOS) {
+                        fresh.add(write.uidKey(), write.nameKey());
+                    }
+                }
+                current = fresh;
+                removedSinceRebuild.set(0);
+            }
+            log.info("City membership filters rebuilt from {} stored cities", cities.size());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /** Rebuilds on a virtual thread, so callers on the request path do not wait for the snapshot. */
+    public void rebuildAsync(Supplier<List<City>> snapshot) {
+        if (rebuilding.get()) {
+            return;
+        }
+        Thread.ofVirtual().name("city-membership-rebuild").start(() -> {
+            try {
+                rebuild(snapshot);
+            } catch (RuntimeException ex) {
+                log.error("City membership rebuild failed; probes keep using the previous filters", ex);
+            }
+        });
+    }
+
+    private static Counter checks(MeterRegistry registry, String filter, String result) {
+        return Counter.builder("hexagon.membership.checks")
+                .description("Membership probes by answer")
+                .tag("filter", filter)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+
+    private record Filters(ScalableBloomFilter uids, ScalableBloomFilter names) {
+        void add(long uidKey, long nameKey) {
+            uids.add(uidKey);
+            names.add(nameKey);
+        }
+    }
+
+    private record RecordedWrite(long uidKey, long nameKey, long recordedAt) {}
+}
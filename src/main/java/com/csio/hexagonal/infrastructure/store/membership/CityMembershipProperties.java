@@ -0,0 +1,44 @@
+package com.csio.hexagonal.infrastructure.store.membership;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "city.membership")
+public class CityMembershipProperties {
+
+    private boolean enabled = false;
+    private long expectedCities = 100_000;
+    private double falsePositiveRate = 0.01;
+    private double rebuildStaleRatio = 0.2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getExpectedCities() {
+        return expectedCities;
+    }
+
+    public void setExpectedCities(long expectedCities) {
+        this.expectedCities = expectedCities;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public double getRebuildStaleRatio() {
+        return rebuildStaleRatio;
+    }
+
+    public void setRebuildStaleRatio(double rebuildStaleRatio) {
+        this.rebuildStaleRatio = rebuildStaleRatio;
+    }
+}
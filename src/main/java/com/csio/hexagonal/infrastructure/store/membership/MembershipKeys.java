@@ -0,0 +1,40 @@
+package com.csio.hexagonal.infrastructure.store.membership;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 64-bit Bloom filter keys for uids and normalized names, finished with the MurmurHash3
+ * {@code fmix64} mixer so both 32-bit halves are usable as independent hashes.
+ */
+final class MembershipKeys {
+
+    private MembershipKeys() {
+        // Utility class - prevent instantiation
+    }
+
+    static long uid(UUID uid) {
+        return mix(uid.getMostSignificantBits() ^ Long.rotateLeft(uid.getLeastSignificantBits(), 31));
+    }
+
+    /** Case-insensitive, as the uniqueness policy compares names with {@code equalsIgnoreCase}. */
+    static long name(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        // FNV-1a over the UTF-16 code units
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,101 @@
+package com.csio.hexagonal.infrastructure.store.membership;
+
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps {@link BloomCityMembership} in step with the store: records cities before they are written,
+ * counts removals towards the next rebuild, and reports uid lookups the filter let through but the
+ * store could not answer.
+ */
+public class MembershipMaintainingCityContract implements CityContract {
+
+    private final CityContract delegate;
+    private final BloomCityMembership membership;
+
+    public MembershipMaintainingCityContract(CityContract delegate, BloomCityMembership membership) {
+        this.delegate = delegate;
+        this.membership = membership;
+    }
+
+    @Override
+    public City save(City city) {
+        membership.recordNewCity(city);
+        return delegate.save(city);
+    }
+
+    @Override
+    public Optional<City> findByUid(UUID uid) {
+        Optional<City> city = delegate.findByUid(uid);
+        if (city.isEmpty()) {
+            membership.recordUidMiss(uid);
+        }
+        return city;
+    }
+
+    @Override
+    public List<City> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public City update(UUID uid, City city) {
+        membership.record(city);
+        return delegate.update(uid, city);
+    }
+
+    @Override
+    public void deleteByUid(UUID uid) {
+        delegate.deleteByUid(uid);
+        if (membership.recordRemoval()) {
+            membership.rebuildAsync(delegate::findAll);
+        }
+    }
+
+    @Override
+    public PageResult<City> findAllWithPagination(int page, int size, String search, String sort) {
+        return delegate.findAllWithPagination(page, size, search, sort);
+    }
+
+    @Override
+    public PageResult<City> findAllWithFilters(CityFilterQuery request) {
+        return delegate.findAllWithFilters(request);
+    }
+
+    @Override
+    public List<City> findByUids(Collection<UUID> uids) {
+        List<City> cities = delegate.findByUids(uids);
+        if (cities.size() < uids.size()) {
+            Set<UUID> found = new HashSet<>();
+            cities.forEach(city -> found.add(city.getId().value()));
+            uids.stream().filter(uid -> !found.contains(uid)).forEach(membership::recordUidMiss);
+        }
+        return cities;
+    }
+
+    @Override
+    public List<City> saveAll(List<City> cities) {
+        cities.forEach(membership::recordNewCity);
+        return delegate.saveAll(cities);
+    }
+
+    @Override
+    public List<City> findByNames(Collection<String> names) {
+        return delegate.findByNames(names);
+    }
+
+    @Override
+    public List<StateCityCount> countByState() {
+        return delegate.countByState();
+    }
+}
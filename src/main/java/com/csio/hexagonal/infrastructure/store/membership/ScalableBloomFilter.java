@@ -0,0 +1,149 @@
+package com.csio.hexagonal.infrastructure.store.membership;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe scalable Bloom filter over 64-bit keys (Almeida et al., "Scalable Bloom Filters").
+ * <p>
+ * Keys are added to the newest slice; when it reaches its capacity a new slice is appended with
+ * {@value #GROWTH}x the capacity and half the false-positive rate, so the compound rate stays below
+ * twice the target however far the set grows past the initial estimate. Lookups and inserts are
+ * lock-free; only appending a slice synchronizes.
+ */
+final class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+
+    private final double targetFalsePositiveRate;
+    private volatile Slice[] slices;
+
+    ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+        // The series p, p/2, p/4 ... sums to 2p, so the first slice starts at half the target
+        this.targetFalsePositiveRate = falsePositiveRate;
+        this.slices = new Slice[] {new Slice(initialCapacity, falsePositiveRate * (1 - TIGHTENING))};
+    }
+
+    void add(long key) {
+        Slice[] current = slices;
+        Slice last = current[current.length - 1];
+        if (last.count.get() >= last.capacity) {
+            last = grow(current);
+        }
+        last.add(key);
+    }
+
+    boolean mightContain(long key) {
+        for (Slice slice : slices) {
+            if (slice.mightContain(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long size() {
+        long size = 0;
+        for (Slice slice : slices) {
+            size += slice.count.get();
+        }
+        return size;
+    }
+
+    /** Expected false-positive rate at the current fill, combined over all slices. */
+    double expectedFalsePositiveRate() {
+        double allMiss = 1.0;
+        for (Slice slice : slices) {
+            allMiss *= 1.0 - slice.expectedFalsePositiveRate();
+        }
+        return 1.0 - allMiss;
+    }
+
+    double targetFalsePositiveRate() {
+        return targetFalsePositiveRate;
+    }
+
+    int sliceCount() {
+        return slices.length;
+    }
+
+    private synchronized Slice grow(Slice[] seen) {
+        Slice[] current = slices;
+        if (current != seen) {
+            // Another thread grew the filter first
+            return current[current.length - 1];
+        }
+        Slice last = current[current.length - 1];
+        Slice[] next = new Slice[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = new Slice(last.capacity * GROWTH, last.falsePositiveRate * TIGHTENING);
+        slices = next;
+        return next[current.length];
+    }
+
+    /**
+     * One classic Bloom filter sized for its capacity and rate. Bit positions come from
+     * double hashing (Kirsch-Mitzenmacher) of the already well-mixed 64-bit key.
+     */
+    private static final class Slice {
+
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray words;
+        private final AtomicLong count = new AtomicLong();
+
+        Slice(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.bitCount = Math.max(64, (bits + 63) & ~63L);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+            this.words = new AtomicLongArray(Math.toIntExact(bitCount >>> 6));
+        }
+
+        void add(long key) {
+            int h1 = (int) key;
+            int h2 = (int) (key >>> 32) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value = words.get(word);
+                while ((value & mask) == 0) {
+                    long witness = words.compareAndExchange(word, value, value | mask);
+                    if (witness == value) {
+                        break;
+                    }
+                    value = witness;
+                }
+            }
+            count.incrementAndGet();
+        }
+
+        boolean mightContain(long key) {
+            int h1 = (int) key;
+            int h2 = (int) (key >>> 32) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-(double) hashCount * count.get() / bitCount), hashCount);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.csio.hexagonal.infrastructure.store.persistence.adapter;
+
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+
+import java.util.List;
+
+/**
+ * Repository fragment for writes that bypass the persistence context.
+ */
+public interface CityBatchRepository {
+
+    /**
+     * Inserts all entities in one transaction as a single JDBC batch. Entities are not attached
+     * to the persistence context and their database ids are not read back.
+     */
+    void insertAll(List<CityEntity> entities);
+}
@@ -0,0 +1,43 @@
+package com.csio.hexagonal.infrastructure.store.persistence.adapter;
+
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link CityBatchRepository}, picked up by Spring Data as a fragment of
+ * {@link CityRepository}.
+ * <p>
+ * {@code city.id} is an identity column, which stops Hibernate from batching inserts, so the batch is
+ * written with {@link JdbcTemplate#batchUpdate} instead. Auditing listeners do not run; {@code created_at}
+ * is taken from the entity.
+ */
+class CityBatchRepositoryImpl implements CityBatchRepository {
+
+    private static final String INSERT =
+            "INSERT INTO city (uid, name, state, is_active, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CityBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<CityEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, entities, entities.size(), (ps, entity) -> {
+            ps.setString(1, entity.getUid());
+            ps.setString(2, entity.getName());
+            ps.setString(3, entity.getState());
+            ps.setBoolean(4, Boolean.TRUE.equals(entity.getIsActive()));
+            ps.setTimestamp(5, Timestamp.valueOf(entity.getCreatedAt()));
+        });
+    }
+}
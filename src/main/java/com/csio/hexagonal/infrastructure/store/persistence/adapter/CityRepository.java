@@ -3,13 +3,24 @@ package com.csio.hexagonal.infrastructure.store.persistence.adapter;
 import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CityRepository extends JpaRepository<CityEntity, Long>, 
-        JpaSpecificationExecutor<CityEntity> {
+        JpaSpecificationExecutor<CityEntity>, CityBatchRepository {
 
     // Find by UID since it's not the primary key
     Optional<CityEntity> findByUid(String uid);
 
+    // One WHERE uid IN (...) query for multi-get and batched lookups
+    List<CityEntity> findByUidIn(Collection<String> uids);
+
+    // Batch uniqueness check; names must already be lower-cased
+    @Query("select c from CityEntity c where lower(c.name) in :names")
+    List<CityEntity> findByLowerCaseNameIn(@Param("names") Collection<String> names);
+
 }
\ No newline at end of file
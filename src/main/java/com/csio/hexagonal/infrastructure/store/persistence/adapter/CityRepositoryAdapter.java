@@ -1,46 +1,74 @@
 package com.csio.hexagonal.infrastructure.store.persistence.adapter;
 
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
 import com.csio.hexagonal.application.service.query.CityFilterQuery;
 import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.application.port.out.CityContract;
 import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogger;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogging;
 import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
 import com.csio.hexagonal.infrastructure.store.persistence.exception.DatabaseException;
 import com.csio.hexagonal.infrastructure.store.persistence.mapper.CityMapper;
 import com.csio.hexagonal.infrastructure.store.persistence.specification.CitySpecification;
+import com.csio.hexagonal.infrastructure.store.persistence.support.QueryTimeoutPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
 public class CityRepositoryAdapter implements CityContract {
 
     private static final Logger log = LoggerFactory.getLogger(CityRepositoryAdapter.class);
 
+    private static final HotPathLogger PERSIST_LOG =
+            HotPathLogging.event(CityRepositoryAdapter.class, "city.persist", Level.DEBUG);
+    private static final HotPathLogger PAGE_LOG =
+            HotPathLogging.event(CityRepositoryAdapter.class, "city.list.page", Level.INFO);
+    private static final HotPathLogger PAGE_ITEMS_LOG =
+            HotPathLogging.event(CityRepositoryAdapter.class, "city.list.items", Level.DEBUG);
+
     private final CityRepository repo;
+    private final CityStateSummaryRepository summaries;
+    private final QueryTimeoutPolicy queryTimeouts;
 
-    public CityRepositoryAdapter(CityRepository repo) {
+    public CityRepositoryAdapter(CityRepository repo, CityStateSummaryRepository summaries, QueryTimeoutPolicy queryTimeouts) {
         this.repo = repo;
+        this.summaries = summaries;
+        this.queryTimeouts = queryTimeouts;
     }
 
     @Override
-    public City save(City city, String token) {
+    @Transactional
+    public City save(City city) {
         try {
             CityEntity entity = CityMapper.toEntity(city);
             if (entity.getCreatedAt() == null) {
                 entity.setCreatedAt(LocalDateTime.now());
             }
-            log.info("Persisting CityEntity: uid={}, name={}, state={}, isActive={}",
-                    entity.getUid(), entity.getName(), entity.getState(), entity.getIsActive());
+            if (PERSIST_LOG.tryAcquire()) {
+                PERSIST_LOG.log("Persisting CityEntity: uid={}, name={}, state={}, isActive={}",
+                        entity.getUid(), entity.getName(), entity.getState(), entity.getIsActive());
+            }
             CityEntity saved = repo.save(entity);
+            adjustSummary(saved.getState(), Boolean.TRUE.equals(saved.getIsActive()), 1);
             return CityMapper.toModel(saved);
         } catch (DataAccessException ex) {
             log.error("Database error while saving City [uid={}]", city.getId(), ex);
@@ -49,9 +77,53 @@ public class CityRepositoryAdapter implements CityContract {
     }
 
     @Override
-    public List<City> findAll(String token) {
+    @Transactional
+    public List<City> saveAll(List<City> cities) {
+        if (cities.isEmpty()) {
+            return List.of();
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<CityEntity> entities = cities.stream().map(CityMapper::toEntity).toList();
+            entities.forEach(entity -> entity.setCreatedAt(now));
+            if (PERSIST_LOG.tryAcquire()) {
+                PERSIST_LOG.log("Persisting {} CityEntities in one batch", entities.size());
+            }
+            repo.insertAll(entities);
+            Map<String, Map<Boolean, Long>> added = entities.stream().collect(Collectors.groupingBy(
+                    CityEntity::getState,
+                    Collectors.partitioningBy(entity -> Boolean.TRUE.equals(entity.getIsActive()), Collectors.counting())));
+            added.forEach((state, byActive) ->
+                    byActive.forEach((active, count) -> adjustSummary(state, active, count)));
+            return entities.stream().map(CityMapper::toModel).toList();
+        } catch (DataAccessException ex) {
+            log.error("Database error while saving {} cities", cities.size(), ex);
+            throw new DatabaseException("Failed to save cities", ex);
+        }
+    }
+
+    @Override
+    public List<City> findByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<String> keys = names.stream().map(name -> name.toLowerCase(Locale.ROOT)).distinct().toList();
+            return queryTimeouts.execute(() -> repo.findByLowerCaseNameIn(keys).stream().map(CityMapper::toModel).toList());
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Fetching cities by name exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching {} cities by name", names.size(), ex);
+            throw new DatabaseException("Failed to fetch cities", ex);
+        }
+    }
+
+    @Override
+    public List<City> findAll() {
         try {
-            return repo.findAll().stream().map(CityMapper::toModel).toList();
+            return queryTimeouts.execute(() -> repo.findAll().stream().map(CityMapper::toModel).toList());
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Fetching all cities exceeded the request deadline", ex);
         } catch (DataAccessException ex) {
             log.error("Database error while fetching all cities", ex);
             throw new DatabaseException("Failed to fetch cities", ex);
@@ -59,10 +131,11 @@ public class CityRepositoryAdapter implements CityContract {
     }
 
     @Override
-    public Optional<City> findByUid(UUID uid, String token) {
+    public Optional<City> findByUid(UUID uid) {
         try {
-            log.info("Received UUID for uid={}", uid);
-            return repo.findByUid(String.valueOf(uid)).map(CityMapper::toModel);
+            return queryTimeouts.execute(() -> repo.findByUid(String.valueOf(uid)).map(CityMapper::toModel));
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Fetching City exceeded the request deadline", ex);
         } catch (DataAccessException ex) {
             log.error("Database error while fetching City [uid={}]", uid, ex);
             throw new DatabaseException("Failed to fetch City", ex);
@@ -70,7 +143,24 @@ public class CityRepositoryAdapter implements CityContract {
     }
 
     @Override
-    public City update(UUID uid, City city, String token) {
+    public List<City> findByUids(Collection<UUID> uids) {
+        if (uids.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<String> keys = uids.stream().map(String::valueOf).toList();
+            return queryTimeouts.execute(() -> repo.findByUidIn(keys).stream().map(CityMapper::toModel).toList());
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Fetching cities exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching {} cities by uid", uids.size(), ex);
+            throw new DatabaseException("Failed to fetch cities", ex);
+        }
+    }
+
+    @Override
+    @Transactional
+    public City update(UUID uid, City city) {
         try {
             // First find the existing entity by UID to get its database ID
             Optional<CityEntity> existingEntity = repo.findByUid(uid.toString());
@@ -78,10 +168,20 @@ public class CityRepositoryAdapter implements CityContract {
                 throw new DatabaseException("City not found with UID: " + uid);
             }
             
+            String previousState = existingEntity.get().getState();
+            boolean previouslyActive = Boolean.TRUE.equals(existingEntity.get().getIsActive());
+
             CityEntity entity = CityMapper.toEntity(city);
             // Set the database ID from the existing entity to perform update instead of insert
             entity.setId(existingEntity.get().getId());
             CityEntity saved = repo.save(entity);
+
+            // Moving state or toggling active moves the city between summary buckets
+            boolean active = Boolean.TRUE.equals(saved.getIsActive());
+            if (!saved.getState().equals(previousState) || active != previouslyActive) {
+                adjustSummary(previousState, previouslyActive, -1);
+                adjustSummary(saved.getState(), active, 1);
+            }
             return CityMapper.toModel(saved);
         } catch (DataAccessException ex) {
             log.error("Database error while updating City [uid={}]", uid, ex);
@@ -90,12 +190,14 @@ public class CityRepositoryAdapter implements CityContract {
     }
 
     @Override
-    public void deleteByUid(UUID uid, String token) {
+    @Transactional
+    public void deleteByUid(UUID uid) {
         try {
             // Find the entity by UID first to get its database ID
             Optional<CityEntity> entity = repo.findByUid(uid.toString());
             if (entity.isPresent()) {
                 repo.deleteById(entity.get().getId());
+                adjustSummary(entity.get().getState(), Boolean.TRUE.equals(entity.get().getIsActive()), -1);
             }
         } catch (DataAccessException ex) {
             log.error("Database error while deleting City [uid={}]", uid, ex);
@@ -104,7 +206,7 @@ public class CityRepositoryAdapter implements CityContract {
     }
 
     @Override
-    public PageResult<City> findAllWithPagination(int page, int size, String search, String sort, String token) {
+    public PageResult<City> findAllWithPagination(int page, int size, String search, String sort) {
         try {
             Sort sortObj;
             String[] sortParts = sort.split(",");
@@ -118,7 +220,7 @@ public class CityRepositoryAdapter implements CityContract {
             
             // Use CitySpecification for consistent filtering behavior
             Specification<CityEntity> spec = CitySpecification.buildSpecification(search, null);
-            Page<CityEntity> result = repo.findAll(spec, pageable);
+            Page<CityEntity> result = queryTimeouts.execute(() -> repo.findAll(spec, pageable));
             
             // Map entities to domain models
             List<City> cities = result.getContent().stream()
@@ -133,6 +235,8 @@ public class CityRepositoryAdapter implements CityContract {
                     result.getTotalElements(),
                     result.getTotalPages()
             );
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Paginated city query exceeded the request deadline", ex);
         } catch (DataAccessException ex) {
             log.error("Database error while fetching cities with pagination", ex);
             throw new DatabaseException("Failed to fetch paginated cities", ex);
@@ -140,7 +244,7 @@ public class CityRepositoryAdapter implements CityContract {
     }
 
     @Override
-    public PageResult<City> findAllWithFilters(CityFilterQuery request, String token) {
+    public PageResult<City> findAllWithFilters(CityFilterQuery request) {
         try {
             // Build sort object for pageable
             Sort sortObj = buildSortObject(request.sort());
@@ -151,27 +255,28 @@ public class CityRepositoryAdapter implements CityContract {
                     request.search(), request.filter()
             );
             
-            Page<CityEntity> pageResult = repo.findAll(spec, pageable);
+            Page<CityEntity> pageResult = queryTimeouts.execute(() -> repo.findAll(spec, pageable));
             
             // Map entities to domain models
             List<City> cities = pageResult.getContent().stream()
                     .map(CityMapper::toModel)
                     .toList();
             
-            // Log response info
-            log.info("Response paging info | currentPage={} | pageSize={} | totalPages={} | totalElements={}",
-                    pageResult.getNumber() + 1, // +1 to match 1-based page number
-                    pageResult.getSize(),
-                    pageResult.getTotalPages(),
-                    pageResult.getTotalElements()
-            );
-
-            // Log the response content (e.g., size and first 3 items)
-            log.info("Mapped {} cities to domain models", cities.size());
-            cities.stream()
-                    .limit(3) // log only first 3 for readability
-                    .forEach(c -> log.info("City: uid={}, name={}, state={}, isActive={}",
-                            c.getId().value(), c.getName(), c.getState().value(), c.isActive()));
+            // Sampled: one line per list request is too much at production volume
+            if (PAGE_LOG.tryAcquire()) {
+                PAGE_LOG.log("Response paging info | currentPage={} | pageSize={} | totalPages={} | totalElements={}",
+                        pageResult.getNumber() + 1, // +1 to match 1-based page number
+                        pageResult.getSize(),
+                        pageResult.getTotalPages(),
+                        pageResult.getTotalElements()
+                );
+            }
+            if (PAGE_ITEMS_LOG.tryAcquire()) {
+                cities.stream()
+                        .limit(3) // log only first 3 for readability
+                        .forEach(c -> PAGE_ITEMS_LOG.log("City: uid={}, name={}, state={}, isActive={}",
+                                c.getId().value(), c.getName(), c.getState().value(), c.isActive()));
+            }
 
             // Return PageResult with domain models
             return PageResult.of(
@@ -182,12 +287,48 @@ public class CityRepositoryAdapter implements CityContract {
                     pageResult.getTotalPages()
             );
 
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Filtered city query exceeded the request deadline", ex);
         } catch (DataAccessException ex) {
             log.error("Database error while fetching cities with filters", ex);
             throw new DatabaseException("Failed to fetch filtered cities", ex);
         }
     }
 
+    @Override
+    public List<StateCityCount> countByState() {
+        try {
+            return queryTimeouts.execute(() -> summaries.findAllByOrderByStateAsc().stream()
+                    .map(row -> new StateCityCount(row.getState(), row.getActiveCount(), row.getInactiveCount()))
+                    .filter(count -> count.total() > 0)
+                    .toList());
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("City summary query exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching city counts per state", ex);
+            throw new DatabaseException("Failed to fetch city summary", ex);
+        }
+    }
+
+    /**
+     * Applies a relative change to one summary bucket with a single upsert in the caller's transaction,
+     * which also creates the row for a state on first use.
+     * <p>
+     * When another transaction creates the same state's row first, the insert fails on the key once that
+     * transaction commits. Only the upsert's savepoint is rolled back, and the row now exists, so one
+     * retry updates it; the city write itself is never failed by a race on the read model.
+     */
+    private void adjustSummary(String state, boolean active, long delta) {
+        long activeDelta = active ? delta : 0;
+        long inactiveDelta = active ? 0 : delta;
+        try {
+            summaries.adjust(state, activeDelta, inactiveDelta);
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("State summary row for {} was created concurrently; retrying as an update", state);
+            summaries.adjust(state, activeDelta, inactiveDelta);
+        }
+    }
+
     private Sort buildSortObject(List<CityFilterQuery.SortOrder> sortOrders) {
         if (sortOrders == null || sortOrders.isEmpty()) {
             return Sort.by("name").ascending();
@@ -0,0 +1,33 @@
+package com.csio.hexagonal.infrastructure.store.persistence.adapter;
+
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityStateSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CityStateSummaryRepository extends JpaRepository<CityStateSummaryEntity, String> {
+
+    List<CityStateSummaryEntity> findAllByOrderByStateAsc();
+
+    // One relative upsert in the writer's transaction and on its connection: concurrent writers for a
+    // state serialize on the row instead of losing counts, and the first write of a state creates it.
+    // Standard MERGE, understood by H2 and PostgreSQL 15+. Two transactions creating the same new state
+    // at the same moment can still collide on the key, so it runs under a savepoint: a failed insert
+    // rolls back only this statement, and the caller can retry it as an update.
+    @Transactional(propagation = Propagation.NESTED)
+    @Modifying
+    @Query(value = "merge into city_state_summary s "
+            + "using (select cast(:state as varchar(255)) as state, cast(:active as bigint) as active_count, "
+            + "cast(:inactive as bigint) as inactive_count) d on s.state = d.state "
+            + "when matched then update set active_count = s.active_count + d.active_count, "
+            + "inactive_count = s.inactive_count + d.inactive_count "
+            + "when not matched then insert (state, active_count, inactive_count) "
+            + "values (d.state, d.active_count, d.inactive_count)",
+            nativeQuery = true)
+    int adjust(@Param("state") String state, @Param("active") long active, @Param("inactive") long inactive);
+}
@@ -0,0 +1,34 @@
+package com.csio.hexagonal.infrastructure.store.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Read model row: how many active and inactive cities one state has.
+ * Rows are only changed through relative updates, never loaded and saved back.
+ */
+@Entity
+@Table(name = "city_state_summary")
+public class CityStateSummaryEntity {
+
+    @Id
+    @Column(name = "state", nullable = false)
+    private String state;
+
+    @Column(name = "active_count", nullable = false)
+    private long activeCount;
+
+    @Column(name = "inactive_count", nullable = false)
+    private long inactiveCount;
+
+    public String getState() { return this.state; }
+    public void setState(String state) { this.state = state; }
+
+    public long getActiveCount() { return this.activeCount; }
+    public void setActiveCount(long activeCount) { this.activeCount = activeCount; }
+
+    public long getInactiveCount() { return this.inactiveCount; }
+    public void setInactiveCount(long inactiveCount) { this.inactiveCount = inactiveCount; }
+}
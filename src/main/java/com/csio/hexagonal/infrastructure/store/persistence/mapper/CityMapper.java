@@ -23,18 +23,14 @@ public final class CityMapper {
         return entity;
     }
 
+    // Rows were validated when they were written, so loading skips the domain name rules
     public static City toModel(CityEntity entity) {
-        City city = new City(
+        return City.rehydrate(
                 CityId.from(entity.getUid()),
                 entity.getName(),
-                new State(entity.getState())
+                new State(entity.getState()),
+                Boolean.TRUE.equals(entity.getIsActive())
         );
-
-        if (!Boolean.TRUE.equals(entity.getIsActive())) {
-            city.deactivate();
-        }
-
-        return city;
     }
     /**
      * Domain model → REST response
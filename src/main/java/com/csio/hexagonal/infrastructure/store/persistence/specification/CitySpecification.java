@@ -2,14 +2,16 @@ package com.csio.hexagonal.infrastructure.store.persistence.specification;
 
 import com.csio.hexagonal.application.service.query.CityFilterQuery;
 import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogger;
+import com.csio.hexagonal.infrastructure.logging.HotPathLogging;
 import jakarta.persistence.criteria.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.data.jpa.domain.Specification;
 
 public class CitySpecification {
 
-    private static final Logger log = LoggerFactory.getLogger(CitySpecification.class);
+    private static final HotPathLogger PREDICATE_LOG =
+            HotPathLogging.event(CitySpecification.class, "city.spec.predicate", Level.DEBUG);
 
     /**
      * Build full Specification based on search string + filter groups
@@ -20,7 +22,8 @@ public class CitySpecification {
     ) {
         return (root, query, cb) -> {
             Predicate predicate = cb.conjunction();
-            StringBuilder predicateStr = new StringBuilder();
+            // The readable predicate is only built for the requests that will actually log it
+            StringBuilder predicateStr = PREDICATE_LOG.tryAcquire() ? new StringBuilder() : null;
 
             /* ---------------- SEARCH ---------------- */
             if (search != null && !search.isBlank()) {
@@ -33,57 +36,45 @@ public class CitySpecification {
 
                 predicate = cb.and(predicate, searchPredicate);
 
-                String searchStr =
-                        "(name LIKE '%" + search + "%' OR state LIKE '%" + search + "%')";
-                log.info("Search Predicate: {}", searchStr);
-                predicateStr.append(searchStr);
+                if (predicateStr != null) {
+                    predicateStr.append("(name LIKE '%").append(search)
+                            .append("%' OR state LIKE '%").append(search).append("%')");
+                }
             }
 
             /* ---------------- FILTER GROUPS ---------------- */
             if (filter != null && filter.filterGroups() != null && !filter.filterGroups().isEmpty()) {
 
-                Predicate combinedGroupPredicate;
-                StringBuilder groupStr = new StringBuilder();
-
-                if (filter.operator() == CityFilterQuery.LogicalOperator.AND) {
-                    combinedGroupPredicate = cb.conjunction();
+                boolean and = filter.operator() == CityFilterQuery.LogicalOperator.AND;
+                Predicate combinedGroupPredicate = and ? cb.conjunction() : cb.disjunction();
 
-                    for (int i = 0; i < filter.filterGroups().size(); i++) {
-                        CityFilterQuery.FilterGroup group = filter.filterGroups().get(i);
-                        Predicate groupPredicate = buildGroupPredicate(group, root, cb);
+                for (CityFilterQuery.FilterGroup group : filter.filterGroups()) {
+                    Predicate groupPredicate = buildGroupPredicate(group, root, cb);
+                    combinedGroupPredicate = and
+                            ? cb.and(combinedGroupPredicate, groupPredicate)
+                            : cb.or(combinedGroupPredicate, groupPredicate);
+                }
 
-                        combinedGroupPredicate = cb.and(combinedGroupPredicate, groupPredicate);
+                predicate = cb.and(predicate, combinedGroupPredicate);
 
-                        groupStr.append("(").append(groupPredicateToString(group)).append(")");
-                        if (i < filter.filterGroups().size() - 1) {
-                            groupStr.append(" AND ");
-                        }
+                if (predicateStr != null) {
+                    if (!predicateStr.isEmpty()) {
+                        predicateStr.append(" AND ");
                     }
-                } else {
-                    combinedGroupPredicate = cb.disjunction();
-
+                    predicateStr.append("(");
                     for (int i = 0; i < filter.filterGroups().size(); i++) {
-                        CityFilterQuery.FilterGroup group = filter.filterGroups().get(i);
-                        Predicate groupPredicate = buildGroupPredicate(group, root, cb);
-
-                        combinedGroupPredicate = cb.or(combinedGroupPredicate, groupPredicate);
-
-                        groupStr.append("(").append(groupPredicateToString(group)).append(")");
-                        if (i < filter.filterGroups().size() - 1) {
-                            groupStr.append(" OR ");
+                        if (i > 0) {
+                            predicateStr.append(and ? " AND " : " OR ");
                         }
+                        predicateStr.append("(").append(groupPredicateToString(filter.filterGroups().get(i))).append(")");
                     }
+                    predicateStr.append(")");
                 }
-
-                predicate = cb.and(predicate, combinedGroupPredicate);
-
-                if (!predicateStr.isEmpty()) {
-                    predicateStr.append(" AND ");
-                }
-                predicateStr.append("(").append(groupStr).append(")");
             }
 
-            log.info("Combined Predicate: {}", predicateStr);
+            if (predicateStr != null) {
+                PREDICATE_LOG.log("Combined Predicate: {}", predicateStr);
+            }
             return predicate;
         };
     }
@@ -99,18 +90,15 @@ public class CitySpecification {
         if (group.operator() == CityFilterQuery.LogicalOperator.AND) {
             groupPredicate = cb.conjunction();
             for (CityFilterQuery.FilterCondition cond : group.conditions()) {
-                log.info("AND Condition: {}", conditionToString(cond));
                 groupPredicate = cb.and(groupPredicate, buildConditionPredicate(cond, root, cb));
             }
         } else {
             groupPredicate = cb.disjunction();
             for (CityFilterQuery.FilterCondition cond : group.conditions()) {
-                log.info("OR Condition: {}", conditionToString(cond));
                 groupPredicate = cb.or(groupPredicate, buildConditionPredicate(cond, root, cb));
             }
         }
 
-        log.info("Group Predicate: {}", groupPredicateToString(group));
         return groupPredicate;
     }
 
@@ -0,0 +1,52 @@
+package com.csio.hexagonal.infrastructure.store.persistence.support;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Turns the remaining request deadline into a JPA query timeout hint.
+ * <p>
+ * The hint is set on the transaction-bound EntityManager, so every query the repository
+ * issues inside {@link #execute(Supplier)} is cancelled by the database once the client's
+ * budget is spent instead of running on after the caller gave up.
+ */
+@Component
+public class DeadlineQueryTimeoutPolicy implements QueryTimeoutPolicy {
+
+    static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DeadlineQueryTimeoutPolicy(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> query) {
+        Deadline deadline = RequestContext.current().deadline();
+        if (deadline == null) {
+            return query.get();
+        }
+
+        long remainingMillis = deadline.remaining().toMillis();
+        if (remainingMillis <= 0) {
+            throw new DeadlineExceededException("Request deadline expired before the query was issued");
+        }
+
+        int timeoutMillis = (int) Math.min(remainingMillis, Integer.MAX_VALUE);
+        return readOnlyTransaction.execute(status -> {
+            entityManager.setProperty(QUERY_TIMEOUT_HINT, timeoutMillis);
+            return query.get();
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.csio.hexagonal.infrastructure.store.persistence.support;
+
+import java.util.function.Supplier;
+
+/**
+ * Decides how long a database query may run before the database is asked to cancel it.
+ */
+public interface QueryTimeoutPolicy {
+
+    <T> T execute(Supplier<T> query);
+
+    /**
+     * Policy that runs queries without any timeout hint.
+     */
+    static QueryTimeoutPolicy none() {
+        return new QueryTimeoutPolicy() {
+            @Override
+            public <T> T execute(Supplier<T> query) {
+                return query.get();
+            }
+        };
+    }
+}
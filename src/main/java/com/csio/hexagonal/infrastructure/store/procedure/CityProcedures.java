@@ -0,0 +1,89 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+import jakarta.persistence.ParameterMode;
+
+import java.sql.Types;
+
+/**
+ * Names and parameters of the procedures behind {@link StoredProcedureCityContract}.
+ * <p>
+ * Cursor procedures return rows with the columns {@code uid, name, state, is_active}, or
+ * {@code state, active_count, inactive_count} for {@link #COUNT_BY_STATE}. On databases without
+ * REF_CURSOR support the cursor parameter is left out and the rows are the call's result set.
+ * {@link #INSERT} also adds the city to {@code city_state_summary}.
+ */
+public final class CityProcedures {
+
+    public static final String INSERT = "CITY_INSERT";
+    public static final String FIND_BY_UID = "CITY_FIND_BY_UID";
+    public static final String FIND_ALL = "CITY_FIND_ALL";
+    public static final String COUNT_BY_STATE = "CITY_COUNT_BY_STATE";
+
+    private CityProcedures() {}
+
+    public enum Insert implements StoredProcedureParam {
+        UID(ParameterMode.IN, Types.VARCHAR),
+        NAME(ParameterMode.IN, Types.VARCHAR),
+        STATE(ParameterMode.IN, Types.VARCHAR),
+        IS_ACTIVE(ParameterMode.IN, Types.BOOLEAN),
+        CREATED_AT(ParameterMode.IN, Types.TIMESTAMP);
+
+        private final ParameterMode mode;
+        private final int sqlType;
+
+        Insert(ParameterMode mode, int sqlType) {
+            this.mode = mode;
+            this.sqlType = sqlType;
+        }
+
+        @Override
+        public ParameterMode mode() {
+            return mode;
+        }
+
+        @Override
+        public int sqlType() {
+            return sqlType;
+        }
+    }
+
+    public enum FindByUid implements StoredProcedureParam {
+        UID(ParameterMode.IN, Types.VARCHAR),
+        ROWS(ParameterMode.REF_CURSOR, Types.REF_CURSOR);
+
+        private final ParameterMode mode;
+        private final int sqlType;
+
+        FindByUid(ParameterMode mode, int sqlType) {
+            this.mode = mode;
+            this.sqlType = sqlType;
+        }
+
+        @Override
+        public ParameterMode mode() {
+            return mode;
+        }
+
+        @Override
+        public int sqlType() {
+            return sqlType;
+        }
+    }
+
+    /**
+     * Parameters of the procedures that take no input and return one cursor.
+     */
+    public enum CursorOnly implements StoredProcedureParam {
+        ROWS;
+
+        @Override
+        public ParameterMode mode() {
+            return ParameterMode.REF_CURSOR;
+        }
+
+        @Override
+        public int sqlType() {
+            return Types.REF_CURSOR;
+        }
+    }
+}
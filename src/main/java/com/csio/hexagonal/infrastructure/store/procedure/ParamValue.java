@@ -0,0 +1,8 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+/**
+ * Pairs a {@link StoredProcedureParam} with the value bound to it for one call.
+ * Usage:
+ *   new ParamValue(CityProcedures.FindByUid.UID, "…")
+ */
+public record ParamValue(StoredProcedureParam param, Object value) { }
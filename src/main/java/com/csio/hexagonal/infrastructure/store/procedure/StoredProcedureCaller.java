@@ -0,0 +1,233 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import jakarta.persistence.ParameterMode;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Calls stored procedures over JDBC.
+ * <p>
+ * The call string and parameter layout of each procedure are worked out on its first call and cached,
+ * so later calls only bind values. Cursor rows are handed to the caller one at a time as the driver
+ * fetches them, instead of being collected into a list of raw rows first. Procedures without OUT
+ * parameters can be called many times in one JDBC batch.
+ * <p>
+ * Whether the database returns cursors as REF_CURSOR OUT parameters or as the call's own result set
+ * (H2, for example) is read from the driver once; on the latter, REF_CURSOR parameters are not bound.
+ * The remaining request deadline becomes the statement's query timeout.
+ */
+public class StoredProcedureCaller {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+    private final int fetchSize;
+    private final ConcurrentHashMap<String, Registration> registrations = new ConcurrentHashMap<>();
+    private volatile Boolean refCursors;
+
+    public StoredProcedureCaller(JdbcTemplate jdbcTemplate, StoredProcedureProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = props.getSchema();
+        this.fetchSize = props.getFetchSize();
+    }
+
+    /**
+     * Calls a procedure and returns its OUT and INOUT values by parameter name.
+     */
+    public Map<String, Object> execute(String procedure, StoredProcedureParam[] params, ParamValue... values) {
+        Registration registration = registration(procedure, params);
+        return jdbcTemplate.execute(registration.sql(), (CallableStatement cs) -> {
+            prepare(cs);
+            bind(registration, cs, values);
+            cs.execute();
+            Map<String, Object> outputs = new LinkedHashMap<>();
+            for (int i = 0; i < registration.bound().length; i++) {
+                StoredProcedureParam param = registration.bound()[i];
+                if (param.mode() == ParameterMode.OUT || param.mode() == ParameterMode.INOUT) {
+                    outputs.put(param.name(), cs.getObject(i + 1));
+                }
+            }
+            return outputs;
+        });
+    }
+
+    /**
+     * Calls a procedure and passes each cursor row to {@code rows} as it is read. The result set is
+     * closed once the last row has been handled.
+     */
+    public void stream(String procedure, StoredProcedureParam[] params, RowCallbackHandler rows, ParamValue... values) {
+        Registration registration = registration(procedure, params);
+        jdbcTemplate.execute(registration.sql(), (CallableStatement cs) -> {
+            prepare(cs);
+            bind(registration, cs, values);
+            boolean returnedRows = cs.execute();
+            try (ResultSet rs = cursor(registration, cs, returnedRows)) {
+                rs.setFetchSize(fetchSize);
+                while (rs.next()) {
+                    rows.processRow(rs);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Calls a procedure and maps each cursor row as it is read. The mapped values are collected into the
+     * returned list; use {@link #stream} to handle rows without holding them all.
+     */
+    public <T> List<T> query(String procedure, StoredProcedureParam[] params, RowMapper<T> mapper, ParamValue... values) {
+        List<T> result = new ArrayList<>();
+        stream(procedure, params, rs -> result.add(mapper.mapRow(rs, result.size())), values);
+        return result;
+    }
+
+    /**
+     * Calls a procedure once per entry of {@code calls}, sent to the database as one JDBC batch.
+     * Returns the update count of each call.
+     */
+    public int[] executeBatch(String procedure, StoredProcedureParam[] params, List<ParamValue[]> calls) {
+        Registration registration = registration(procedure, params);
+        if (Arrays.stream(registration.bound()).anyMatch(param -> param.mode() != ParameterMode.IN)) {
+            throw new InvalidDataAccessApiUsageException("Procedure " + procedure + " has outputs and cannot be batched");
+        }
+        if (calls.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.execute(registration.sql(), (CallableStatement cs) -> {
+            prepare(cs);
+            for (ParamValue[] values : calls) {
+                bind(registration, cs, values);
+                cs.addBatch();
+            }
+            return cs.executeBatch();
+        });
+    }
+
+    /** Procedures whose registration has been worked out and cached. */
+    public int registrations() {
+        return registrations.size();
+    }
+
+    private Registration registration(String procedure, StoredProcedureParam[] params) {
+        Registration registration = registrations.get(procedure);
+        if (registration == null) {
+            // Resolved before computeIfAbsent: the metadata lookup borrows a connection, which must not
+            // happen while the map holds the bin lock and blocks other procedures' first calls
+            boolean cursorsAsParameters = supportsRefCursors();
+            registration = registrations.computeIfAbsent(procedure, name -> register(name, params, cursorsAsParameters));
+        }
+        if (!Arrays.equals(registration.declared(), params)) {
+            throw new InvalidDataAccessApiUsageException("Procedure " + procedure + " was registered with other parameters");
+        }
+        return registration;
+    }
+
+    private Registration register(String procedure, StoredProcedureParam[] params, boolean cursorsAsParameters) {
+        StoredProcedureParam[] bound = Arrays.stream(params)
+                .filter(param -> cursorsAsParameters || param.mode() != ParameterMode.REF_CURSOR)
+                .toArray(StoredProcedureParam[]::new);
+        int cursorIndex = 0;
+        for (int i = 0; i < bound.length; i++) {
+            if (bound[i].mode() == ParameterMode.REF_CURSOR) {
+                cursorIndex = i + 1;
+                break;
+            }
+        }
+        String qualified = schema == null || schema.isBlank() ? procedure : schema + "." + procedure;
+        String placeholders = Arrays.stream(bound).map(param -> "?").collect(Collectors.joining(", "));
+        return new Registration("{call " + qualified + "(" + placeholders + ")}", params.clone(), bound, cursorIndex);
+    }
+
+    private boolean supportsRefCursors() {
+        Boolean supported = refCursors;
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> con.getMetaData().supportsRefCursors());
+            refCursors = supported;
+        }
+        return Boolean.TRUE.equals(supported);
+    }
+
+    private void bind(Registration registration, CallableStatement cs, ParamValue[] values) throws SQLException {
+        StoredProcedureParam[] bound = registration.bound();
+        for (int i = 0; i < bound.length; i++) {
+            StoredProcedureParam param = bound[i];
+            int index = i + 1;
+            switch (param.mode()) {
+                case IN -> setValue(cs, index, param, values);
+                case INOUT -> {
+                    setValue(cs, index, param, values);
+                    cs.registerOutParameter(index, param.sqlType());
+                }
+                case OUT -> cs.registerOutParameter(index, param.sqlType());
+                case REF_CURSOR -> cs.registerOutParameter(index, Types.REF_CURSOR);
+            }
+        }
+    }
+
+    private static void setValue(CallableStatement cs, int index, StoredProcedureParam param, ParamValue[] values)
+            throws SQLException {
+        Object value = null;
+        for (ParamValue candidate : values) {
+            if (candidate.param() == param) {
+                value = candidate.value();
+                break;
+            }
+        }
+        if (value == null) {
+            cs.setNull(index, param.sqlType());
+        } else {
+            cs.setObject(index, value, param.sqlType());
+        }
+    }
+
+    private static ResultSet cursor(Registration registration, CallableStatement cs, boolean returnedRows)
+            throws SQLException {
+        ResultSet rs = registration.cursorIndex() > 0
+                ? cs.getObject(registration.cursorIndex(), ResultSet.class)
+                : returnedRows ? cs.getResultSet() : null;
+        if (rs == null) {
+            throw new InvalidDataAccessApiUsageException("Procedure call " + registration.sql() + " returned no rows");
+        }
+        return rs;
+    }
+
+    private void prepare(CallableStatement cs) throws SQLException {
+        cs.setFetchSize(fetchSize);
+        Deadline deadline = RequestContext.current().deadline();
+        if (deadline == null) {
+            return;
+        }
+        long remainingMillis = deadline.remaining().toMillis();
+        if (remainingMillis <= 0) {
+            throw new DeadlineExceededException("Request deadline expired before the procedure was called");
+        }
+        // JDBC timeouts are whole seconds; round up so a short remaining budget is not turned into "no timeout"
+        cs.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000));
+    }
+
+    /**
+     * @param declared   the parameters as the procedure declares them
+     * @param bound      the parameters that get a JDBC placeholder, in order
+     * @param cursorIndex 1-based placeholder of the REF_CURSOR parameter, or 0 when rows come back as
+     *                   the call's result set
+     */
+    private record Registration(String sql, StoredProcedureParam[] declared, StoredProcedureParam[] bound, int cursorIndex) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.domain.vo.State;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import com.csio.hexagonal.infrastructure.store.persistence.exception.DatabaseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link CityContract} that runs the hot reads and writes through the stored procedures in
+ * {@link CityProcedures}: create, batch create, lookup by uid, the full list and the per-state counts.
+ * Queries built from request filters, collection lookups, update and delete stay with the relational
+ * adapter, which also owns the summary bookkeeping for its own writes.
+ */
+public class StoredProcedureCityContract implements CityContract {
+
+    private static final Logger log = LoggerFactory.getLogger(StoredProcedureCityContract.class);
+
+    private static final RowMapper<City> CITY_ROW = (rs, row) -> City.rehydrate(
+            CityId.from(rs.getString("uid")),
+            rs.getString("name"),
+            new State(rs.getString("state")),
+            rs.getBoolean("is_active"));
+
+    private static final RowMapper<StateCityCount> COUNT_ROW = (rs, row) -> new StateCityCount(
+            rs.getString("state"),
+            rs.getLong("active_count"),
+            rs.getLong("inactive_count"));
+
+    private final StoredProcedureCaller procedures;
+    private final CityContract relational;
+    private final TransactionTemplate transaction;
+
+    public StoredProcedureCityContract(StoredProcedureCaller procedures,
+                                       CityContract relational,
+                                       TransactionTemplate transaction) {
+        this.procedures = procedures;
+        this.relational = relational;
+        this.transaction = transaction;
+    }
+
+    @Override
+    public City save(City city) {
+        try {
+            procedures.execute(CityProcedures.INSERT, CityProcedures.Insert.values(), insertValues(city, now()));
+            return city;
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Saving City exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while saving City [uid={}] through {}", city.getId(), CityProcedures.INSERT, ex);
+            throw new DatabaseException("Failed to save City", ex);
+        }
+    }
+
+    @Override
+    public List<City> saveAll(List<City> cities) {
+        if (cities.isEmpty()) {
+            return List.of();
+        }
+        Timestamp createdAt = now();
+        List<ParamValue[]> calls = cities.stream().map(city -> insertValues(city, createdAt)).toList();
+        try {
+            // One transaction, so a failed call leaves none of the batch behind
+            transaction.executeWithoutResult(status ->
+                    procedures.executeBatch(CityProcedures.INSERT, CityProcedures.Insert.values(), calls));
+            return List.copyOf(cities);
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Saving cities exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while saving {} cities through {}", cities.size(), CityProcedures.INSERT, ex);
+            throw new DatabaseException("Failed to save cities", ex);
+        }
+    }
+
+    @Override
+    public Optional<City> findByUid(UUID uid) {
+        try {
+            List<City> found = procedures.query(CityProcedures.FIND_BY_UID, CityProcedures.FindByUid.values(), CITY_ROW,
+                    new ParamValue(CityProcedures.FindByUid.UID, uid.toString()));
+            return found.stream().findFirst();
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Fetching City exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching City [uid={}] through {}", uid, CityProcedures.FIND_BY_UID, ex);
+            throw new DatabaseException("Failed to fetch City", ex);
+        }
+    }
+
+    @Override
+    public List<City> findAll() {
+        try {
+            return procedures.query(CityProcedures.FIND_ALL, CityProcedures.CursorOnly.values(), CITY_ROW);
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("Fetching all cities exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching all cities through {}", CityProcedures.FIND_ALL, ex);
+            throw new DatabaseException("Failed to fetch cities", ex);
+        }
+    }
+
+    @Override
+    public List<StateCityCount> countByState() {
+        try {
+            return procedures.query(CityProcedures.COUNT_BY_STATE, CityProcedures.CursorOnly.values(), COUNT_ROW)
+                    .stream()
+                    .filter(count -> count.total() > 0)
+                    .toList();
+        } catch (QueryTimeoutException ex) {
+            throw new DeadlineExceededException("City summary query exceeded the request deadline", ex);
+        } catch (DataAccessException ex) {
+            log.error("Database error while fetching city counts through {}", CityProcedures.COUNT_BY_STATE, ex);
+            throw new DatabaseException("Failed to fetch city summary", ex);
+        }
+    }
+
+    @Override
+    public List<City> findByUids(Collection<UUID> uids) {
+        return relational.findByUids(uids);
+    }
+
+    @Override
+    public List<City> findByNames(Collection<String> names) {
+        return relational.findByNames(names);
+    }
+
+    @Override
+    public PageResult<City> findAllWithPagination(int page, int size, String search, String sort) {
+        return relational.findAllWithPagination(page, size, search, sort);
+    }
+
+    @Override
+    public PageResult<City> findAllWithFilters(CityFilterQuery request) {
+        return relational.findAllWithFilters(request);
+    }
+
+    @Override
+    public City update(UUID uid, City city) {
+        return relational.update(uid, city);
+    }
+
+    @Override
+    public void deleteByUid(UUID uid) {
+        relational.deleteByUid(uid);
+    }
+
+    private static ParamValue[] insertValues(City city, Timestamp createdAt) {
+        return new ParamValue[] {
+                new ParamValue(CityProcedures.Insert.UID, city.getId().value().toString()),
+                new ParamValue(CityProcedures.Insert.NAME, city.getName()),
+                new ParamValue(CityProcedures.Insert.STATE, city.getState().value()),
+                new ParamValue(CityProcedures.Insert.IS_ACTIVE, city.isActive()),
+                new ParamValue(CityProcedures.Insert.CREATED_AT, createdAt)
+        };
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
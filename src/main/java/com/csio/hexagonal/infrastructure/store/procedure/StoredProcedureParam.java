@@ -0,0 +1,26 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+import jakarta.persistence.ParameterMode;
+
+/**
+ * Describes one stored-procedure parameter. Implement it with one enum per procedure,
+ * with constants in the order the procedure declares its parameters.
+ */
+public interface StoredProcedureParam {
+
+    /**
+     * The parameter name as the stored procedure declares it.
+     */
+    String name();
+
+    /**
+     * IN, OUT, INOUT or REF_CURSOR.
+     */
+    ParameterMode mode();
+
+    /**
+     * JDBC type from {@link java.sql.Types}, used to bind nulls and register OUT values.
+     * Ignored for REF_CURSOR parameters.
+     */
+    int sqlType();
+}
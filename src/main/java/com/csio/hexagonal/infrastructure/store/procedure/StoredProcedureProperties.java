@@ -0,0 +1,39 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "city.persistence.procedures")
+public class StoredProcedureProperties {
+
+    private boolean enabled = false;
+
+    // Prepended to every procedure name as "schema.", when set
+    private String schema;
+
+    // Rows the driver fetches per round trip while a cursor is read
+    private int fetchSize = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    public void setSchema(String schema) {
+        this.schema = schema;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
@@ -0,0 +1,15 @@
+-- City table as mapped by CityEntity / AuditableEntity. Portable across H2 and PostgreSQL.
+CREATE TABLE city (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    uid         VARCHAR(255) NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    state       VARCHAR(255) NOT NULL,
+    is_active   BOOLEAN      NOT NULL,
+    created_by  BIGINT,
+    updated_by  BIGINT,
+    removed_by  BIGINT,
+    created_at  TIMESTAMP    NOT NULL,
+    updated_at  TIMESTAMP,
+    removed_at  TIMESTAMP,
+    CONSTRAINT uk_city_uid UNIQUE (uid)
+);
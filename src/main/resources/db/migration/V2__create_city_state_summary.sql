@@ -0,0 +1,14 @@
+-- Per-state city counts, maintained by CityRepositoryAdapter in the same transaction as each city write.
+CREATE TABLE city_state_summary (
+    state           VARCHAR(255) PRIMARY KEY,
+    active_count    BIGINT       NOT NULL,
+    inactive_count  BIGINT       NOT NULL
+);
+
+-- Backfill from the cities stored before the summary existed
+INSERT INTO city_state_summary (state, active_count, inactive_count)
+SELECT state,
+       SUM(CASE WHEN is_active THEN 1 ELSE 0 END),
+       SUM(CASE WHEN is_active THEN 0 ELSE 1 END)
+FROM city
+GROUP BY state;
@@ -0,0 +1,71 @@
+package com.csio.hexagonal.application.context;
+
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextBridgeTest {
+
+    private final Scheduler scheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor());
+
+    @Test
+    void shouldExposeRequestContextOnWorkerThread() {
+        // Arrange
+        RequestContext context = new RequestContext("Bearer abc", "trace-1", "tenant-a", Deadline.after(Duration.ofSeconds(5)));
+
+        // Act
+        Mono<RequestContext> result = ContextBridge.callBlocking(RequestContext::current, scheduler)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, context));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(context)
+                .verifyComplete();
+        assertSame(RequestContext.EMPTY, RequestContext.current());
+    }
+
+    @Test
+    void shouldDropExpiredWorkBeforeSubmission() {
+        // Arrange
+        AtomicBoolean executed = new AtomicBoolean();
+        RequestContext expired = RequestContext.EMPTY.withDeadline(Deadline.after(Duration.ofMillis(-1)));
+
+        // Act
+        Mono<String> result = ContextBridge.callBlocking(() -> {
+                    executed.set(true);
+                    return "late";
+                }, scheduler)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, expired));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(DeadlineExceededException.class)
+                .verify();
+        assertFalse(executed.get());
+    }
+
+    @Test
+    void shouldRunWithEmptyContextWhenNoneInReactorContext() {
+        StepVerifier.create(ContextBridge.callBlocking(RequestContext::current, scheduler))
+                .expectNext(RequestContext.EMPTY)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReportRemainingBudget() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(9)) > 0);
+        assertEquals(Duration.ZERO, Deadline.after(Duration.ofMillis(-5)).remaining());
+    }
+}
@@ -0,0 +1,68 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import com.csio.hexagonal.application.execution.CommandBatcher.Outcome;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandBatcherTest {
+
+    @Test
+    void shouldRunBatchWithoutAnyCallersIdentityAndWithTheLatestDeadline() {
+        // Arrange
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+        CommandBatcher<String, String> batcher = new CommandBatcher<>(new BatchWindow(Duration.ofMinutes(1), 2),
+                commands -> {
+                    seen.set(RequestContext.current());
+                    return commands.stream().map(Outcome::success).toList();
+                }, Schedulers.boundedElastic());
+        Deadline shortBudget = Deadline.after(Duration.ofMillis(50));
+        Deadline longBudget = Deadline.after(Duration.ofSeconds(30));
+
+        // Act
+        Mono<String> alice = batcher.submit("a")
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, caller("alice", shortBudget)));
+        Mono<String> bob = batcher.submit("b")
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, caller("bob", longBudget)));
+        StepVerifier.create(Mono.zip(alice, bob))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        // Assert
+        assertNull(seen.get().principal());
+        assertNull(seen.get().token());
+        assertNull(seen.get().traceId());
+        assertEquals(longBudget, seen.get().deadline());
+        assertEquals("tenant-a", seen.get().tenant());
+    }
+
+    @Test
+    void shouldFailEveryCommandWhenOutcomesDoNotMatchTheBatch() {
+        CommandBatcher<String, String> batcher = new CommandBatcher<>(new BatchWindow(Duration.ofMinutes(1), 2),
+                commands -> List.of(Outcome.success("only one")), Schedulers.boundedElastic());
+
+        StepVerifier.create(Mono.zip(batcher.submit("a"), batcher.submit("b")))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static RequestContext caller(String subject, Deadline deadline) {
+        VerifiedPrincipal principal = new VerifiedPrincipal(subject, null, List.of(), Set.of(),
+                Instant.now().plusSeconds(60));
+        return new RequestContext("Bearer " + subject, "trace-" + subject, "tenant-a", deadline)
+                .withPrincipal(principal);
+    }
+}
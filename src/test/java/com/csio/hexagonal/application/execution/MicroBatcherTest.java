@@ -0,0 +1,60 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    @Test
+    void shouldNotLetOneCallersShortDeadlineFailTheBatch() {
+        // Arrange - the loader honours the deadline it runs under, as the persistence adapters do
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(new BatchWindow(Duration.ofMillis(100), 10),
+                keys -> {
+                    Deadline deadline = RequestContext.current().deadline();
+                    if (deadline != null && deadline.isExpired()) {
+                        throw new IllegalStateException("deadline exceeded");
+                    }
+                    return keys.stream().collect(Collectors.toMap(Function.identity(), String::toUpperCase));
+                }, Schedulers.boundedElastic());
+
+        // Act - the first caller's budget runs out before the window closes, the second's does not
+        Mono<String> hurried = batcher.load("a").contextWrite(ctx -> ctx.put(RequestContext.KEY,
+                new RequestContext(null, "trace-1", null, Deadline.after(Duration.ofMillis(1)))));
+        Mono<String> patient = batcher.load("b").contextWrite(ctx -> ctx.put(RequestContext.KEY,
+                new RequestContext(null, "trace-2", null, Deadline.after(Duration.ofSeconds(30)))));
+
+        // Assert
+        StepVerifier.create(Mono.zip(hurried, patient))
+                .expectNextMatches(pair -> pair.getT1().equals("A") && pair.getT2().equals("B"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldRunWithoutDeadlineWhenAnyCallerHasNone() {
+        Map<String, String> values = Map.of("a", "A", "b", "B");
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(new BatchWindow(Duration.ofMinutes(1), 2), keys -> {
+            assertNull(RequestContext.current().deadline());
+            return values;
+        }, Schedulers.boundedElastic());
+
+        StepVerifier.create(Mono.zip(
+                        batcher.load("a").contextWrite(ctx -> ctx.put(RequestContext.KEY,
+                                new RequestContext(null, "trace-1", null, Deadline.after(Duration.ofSeconds(1))))),
+                        batcher.load("b")))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+}
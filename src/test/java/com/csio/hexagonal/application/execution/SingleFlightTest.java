@@ -0,0 +1,74 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final AtomicReference<RequestContext> seen = new AtomicReference<>();
+
+    @Test
+    void shouldNotLetALeadersShortDeadlineFailAFollower() throws Exception {
+        // Arrange
+        VerifiedPrincipal alice =
+                new VerifiedPrincipal("alice", null, List.of(), Set.of(), Instant.parse("2030-01-01T00:00:00Z"));
+        RequestContext hurried = new RequestContext("Bearer a", "trace-1", "tenant-a",
+                Deadline.after(Duration.ofMillis(50)), alice, "request-1");
+        RequestContext patient = new RequestContext("Bearer b", "trace-2", "tenant-a",
+                Deadline.after(Duration.ofSeconds(30)), null, "request-2");
+
+        // Act - the leader's budget runs out while the shared read is still running
+        CompletableFuture<String> leader = read(hurried);
+        CompletableFuture<String> follower = read(patient);
+
+        // Assert
+        assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, failure.getCause());
+        assertEquals(1, flights.leaders());
+        assertEquals(1, flights.followers());
+        assertEquals(new RequestContext(null, null, "tenant-a", null), seen.get());
+    }
+
+    @Test
+    void shouldKeepEachCallersOwnDeadlineWhileWaiting() {
+        RequestContext hurried = new RequestContext(null, "trace-1", null, Deadline.after(Duration.ofMillis(50)));
+
+        CompletableFuture<String> leader = read(hurried);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, failure.getCause());
+    }
+
+    // A read that takes longer than 50ms and fails if the deadline it runs under has passed
+    private CompletableFuture<String> read(RequestContext caller) {
+        return flights.execute("key", () -> Mono.deferContextual(ctx -> {
+                    RequestContext context = RequestContext.from(ctx);
+                    seen.set(context);
+                    return Mono.delay(Duration.ofMillis(300)).map(tick -> {
+                        if (context.deadline() != null && context.deadline().isExpired()) {
+                            throw new DeadlineExceededException("Request deadline expired during the read");
+                        }
+                        return "value";
+                    });
+                }))
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, caller))
+                .toFuture();
+    }
+}
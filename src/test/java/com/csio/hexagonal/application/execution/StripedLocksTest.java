@@ -0,0 +1,104 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLocksTest {
+
+    private final Scheduler scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    @Test
+    void shouldRoundStripesUpToPowerOfTwo() {
+        assertEquals(1, new StripedLocks(1).stripes());
+        assertEquals(64, new StripedLocks(64).stripes());
+        assertEquals(128, new StripedLocks(65).stripes());
+        assertThrows(IllegalArgumentException.class, () -> new StripedLocks(0));
+    }
+
+    @Test
+    void shouldSerializeWorkOnSameKey() throws Exception {
+        StripedLocks locks = new StripedLocks(16);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                tasks.add(threads.submit(() -> locks.withLock("dhaka", () -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    Thread.sleep(1);
+                    inside.decrementAndGet();
+                    return null;
+                })));
+            }
+            for (Future<Object> task : tasks) {
+                task.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(1, maxInside.get());
+        assertEquals(32, locks.acquired());
+        assertTrue(locks.contended() > 0);
+    }
+
+    @Test
+    void shouldNotDeadlockWhenOverlappingKeySetsAreLockedInDifferentOrder() throws Exception {
+        StripedLocks locks = new StripedLocks(64);
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                List<String> keys = i % 2 == 0 ? List.of("a", "b", "c") : List.of("c", "b", "a");
+                tasks.add(threads.submit(() -> locks.withLocks(keys, () -> null)));
+            }
+            for (Future<Object> task : tasks) {
+                task.get(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Test
+    void shouldGiveUpWaitingWhenDeadlinePasses() throws Exception {
+        StripedLocks locks = new StripedLocks(1);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                locks.withLock("held", () -> {
+                    holding.countDown();
+                    return release.await(10, TimeUnit.SECONDS);
+                });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        StepVerifier.create(ContextBridge.callBlocking(() -> locks.withLock("other", () -> "never"), scheduler)
+                        .contextWrite(ctx -> ctx.put(RequestContext.KEY,
+                                RequestContext.EMPTY.withDeadline(Deadline.after(Duration.ofMillis(100))))))
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+
+        release.countDown();
+        holder.join();
+    }
+}
@@ -0,0 +1,118 @@
+package com.csio.hexagonal.application.execution;
+
+import com.csio.hexagonal.application.context.Deadline;
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.exception.DeadlineExceededException;
+import com.csio.hexagonal.domain.exception.InvalidCityNameException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuredFanOutTest {
+
+    private final Scheduler scheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor());
+
+    @Test
+    void shouldCombineResultsOfBothSubtasks() {
+        // Act
+        Mono<String> result = StructuredFanOut.both(() -> "Dhaka", () -> 42, (a, b) -> a + ":" + b, scheduler);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext("Dhaka:42")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldTakeAsLongAsTheSlowestSubtaskNotTheSum() {
+        // Arrange
+        Callable<Integer> slow = () -> {
+            Thread.sleep(300);
+            return 1;
+        };
+
+        // Act
+        long start = System.nanoTime();
+        List<Integer> results = StructuredFanOut.all(List.of(slow, slow, slow), scheduler).block();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertEquals(List.of(1, 1, 1), results);
+        assertTrue(elapsedMillis < 800, "sub-tasks should overlap, took " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void shouldCancelSiblingsAndPropagateFirstFailure() throws InterruptedException {
+        // Arrange
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Callable<String> blocked = () -> {
+            try {
+                Thread.sleep(10_000);
+                return "never";
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+        };
+        Callable<String> failing = () -> {
+            throw new InvalidCityNameException("bad");
+        };
+
+        // Act
+        Mono<String> result = StructuredFanOut.both(blocked, failing, (a, b) -> a + b, scheduler);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(InvalidCityNameException.class)
+                .verify(Duration.ofSeconds(5));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldFailWithDeadlineExceededWhenSubtasksOutliveDeadline() {
+        // Arrange
+        Callable<String> slow = () -> {
+            Thread.sleep(10_000);
+            return "late";
+        };
+
+        // Act
+        Mono<String> result = StructuredFanOut.both(slow, () -> "fast", (a, b) -> a + b, scheduler)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, RequestContext.EMPTY.withDeadline(Deadline.after(Duration.ofMillis(200)))));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldExposeRequestContextToSubtasks() {
+        // Arrange
+        RequestContext context = new RequestContext("Bearer abc", "trace-1", null, Deadline.after(Duration.ofSeconds(5)));
+
+        // Act
+        Mono<Boolean> result = StructuredFanOut.both(
+                        RequestContext::current,
+                        RequestContext::current,
+                        (a, b) -> a.equals(context) && b.equals(context),
+                        scheduler)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, context));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(true)
+                .verifyComplete();
+    }
+}
@@ -1,24 +1,49 @@
 package com.csio.hexagonal.application.service.command;
 
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.execution.BatchWindow;
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.execution.StripedLocks;
 import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.port.out.CityEventPublisher;
+import com.csio.hexagonal.application.port.out.CityMembership;
+import com.csio.hexagonal.domain.event.CityCreated;
+import com.csio.hexagonal.domain.event.CityEvent;
 import com.csio.hexagonal.domain.exception.DuplicateCityException;
+import com.csio.hexagonal.domain.exception.InvalidCityNameException;
 import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.policy.city.CityPolicy;
+import com.csio.hexagonal.domain.policy.city.CityPolicyEnforcer;
+import com.csio.hexagonal.domain.vo.CityId;
 import com.csio.hexagonal.domain.vo.State;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -31,31 +56,37 @@ class CreateCityCommandHandlerTest {
     @Mock
     private CityPolicy cityPolicy;
 
-    private Executor cpuExecutor;
-    private Executor virtualExecutor;
+    @Mock
+    private CityMembership cityMembership;
+
+    @Mock
+    private CityEventPublisher cityEvents;
+
+    private ExecutionStrategy execution;
 
     private CreateCityCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        cpuExecutor = Executors.newSingleThreadExecutor();
-        virtualExecutor = Executors.newSingleThreadExecutor();
-        handler = new CreateCityCommandHandler(cityServiceContract, cityPolicy, cpuExecutor, virtualExecutor);
+        execution = ExecutionStrategy.of(
+                ExecutionMode.VIRTUAL_THREAD, Schedulers.fromExecutorService(Executors.newSingleThreadExecutor()));
+        lenient().when(cityMembership.mayContainName(any())).thenReturn(true);
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, cityPolicy, new StripedLocks(16),
+                cityEvents, BatchWindow.NONE, execution);
     }
 
     @Test
     void shouldCreateCitySuccessfully() {
         // Arrange
         CreateCityCommand command = new CreateCityCommand("New York", "NY");
-        String token = "test-token";
         List<City> existingCities = Collections.emptyList();
 
-        when(cityServiceContract.findAll(token)).thenReturn(existingCities);
+        when(cityServiceContract.findAll()).thenReturn(existingCities);
         doNothing().when(cityPolicy).ensureUnique(any(City.class), anyList());
-        when(cityServiceContract.save(any(City.class), eq(token))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cityServiceContract.save(any(City.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        Mono<City> result = handler.create(command, token);
+        Mono<City> result = handler.create(command);
 
         // Assert
         StepVerifier.create(result)
@@ -66,55 +97,328 @@ class CreateCityCommandHandlerTest {
                 )
                 .verifyComplete();
 
-        verify(cityServiceContract).findAll(token);
+        verify(cityServiceContract).findAll();
         verify(cityPolicy).ensureUnique(any(City.class), eq(existingCities));
-        verify(cityServiceContract).save(any(City.class), eq(token));
+        verify(cityServiceContract).save(any(City.class));
+    }
+
+    @Test
+    void shouldPublishCityCreatedOnceStored() {
+        // Arrange
+        when(cityServiceContract.findAll()).thenReturn(Collections.emptyList());
+        when(cityServiceContract.save(any(City.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ArgumentCaptor<CityEvent> published = ArgumentCaptor.forClass(CityEvent.class);
+
+        // Act
+        City city = handler.create(new CreateCityCommand("Tulsa", "OK")).block(Duration.ofSeconds(5));
+
+        // Assert
+        verify(cityEvents).tryPublish(published.capture());
+        CityCreated created = assertInstanceOf(CityCreated.class, published.getValue());
+        assertEquals(city.getId(), created.cityId());
+        assertEquals("Tulsa", created.name());
+        assertEquals(new State("OK"), created.state());
+        assertTrue(created.active());
+    }
+
+    @Test
+    void shouldSucceedStoredCreateWhenEventCannotBePublished() {
+        // Arrange
+        when(cityServiceContract.findAll()).thenReturn(Collections.emptyList());
+        when(cityServiceContract.save(any(City.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cityEvents.tryPublish(any())).thenReturn(false).thenThrow(new IllegalStateException("bus stopped"));
+
+        // Act & Assert - a dropped event and a failing publisher both leave the stored city created
+        StepVerifier.create(handler.create(new CreateCityCommand("Tulsa", "OK")))
+                .expectNextMatches(city -> city.getName().equals("Tulsa"))
+                .verifyComplete();
+        StepVerifier.create(handler.create(new CreateCityCommand("Omaha", "NE")))
+                .expectNextMatches(city -> city.getName().equals("Omaha"))
+                .verifyComplete();
+
+        verify(cityServiceContract, times(2)).save(any(City.class));
     }
 
     @Test
     void shouldThrowExceptionWhenCityAlreadyExists() {
         // Arrange
         CreateCityCommand command = new CreateCityCommand("New York", "NY");
-        String token = "test-token";
         List<City> existingCities = Collections.emptyList();
 
-        when(cityServiceContract.findAll(token)).thenReturn(existingCities);
+        when(cityServiceContract.findAll()).thenReturn(existingCities);
         doThrow(new DuplicateCityException("New York"))
                 .when(cityPolicy).ensureUnique(any(City.class), anyList());
 
         // Act
-        Mono<City> result = handler.create(command, token);
+        Mono<City> result = handler.create(command);
 
         // Assert
         StepVerifier.create(result)
                 .expectError(DuplicateCityException.class)
                 .verify();
 
-        verify(cityServiceContract).findAll(token);
+        verify(cityServiceContract).findAll();
         verify(cityPolicy).ensureUnique(any(City.class), eq(existingCities));
-        verify(cityServiceContract, never()).save(any(City.class), anyString());
+        verify(cityServiceContract, never()).save(any(City.class));
+        verify(cityEvents, never()).tryPublish(any());
     }
 
     @Test
-    void shouldPassTokenToPersistencePort() {
+    void shouldExposeRequestContextToPersistencePort() {
         // Arrange
         CreateCityCommand command = new CreateCityCommand("Los Angeles", "CA");
-        String token = "custom-token";
-        List<City> existingCities = Collections.emptyList();
+        RequestContext context = new RequestContext("custom-token", "trace-1", null, null);
+        List<RequestContext> seen = new CopyOnWriteArrayList<>();
 
-        when(cityServiceContract.findAll(token)).thenReturn(existingCities);
+        when(cityServiceContract.findAll()).thenAnswer(invocation -> {
+            seen.add(RequestContext.current());
+            return Collections.emptyList();
+        });
         doNothing().when(cityPolicy).ensureUnique(any(City.class), anyList());
-        when(cityServiceContract.save(any(City.class), eq(token))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cityServiceContract.save(any(City.class))).thenAnswer(invocation -> {
+            seen.add(RequestContext.current());
+            return invocation.getArgument(0);
+        });
 
         // Act
-        Mono<City> result = handler.create(command, token);
+        Mono<City> result = handler.create(command)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, context));
 
         // Assert
         StepVerifier.create(result)
                 .expectNextCount(1)
                 .verifyComplete();
 
-        verify(cityServiceContract).findAll(token);
-        verify(cityServiceContract).save(any(City.class), eq(token));
+        // findAll runs in a forked sub-task, save on the scope owner: both see the context
+        assertEquals(List.of(context, context), seen);
+    }
+
+    @Test
+    void shouldRejectInvalidCityWithoutSaving() {
+        // Arrange
+        CreateCityCommand command = new CreateCityCommand("New York 123", "NY");
+        lenient().when(cityServiceContract.findAll()).thenReturn(Collections.emptyList());
+
+        // Act
+        Mono<City> result = handler.create(command);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(InvalidCityNameException.class)
+                .verify();
+
+        verify(cityPolicy, never()).ensureUnique(any(City.class), anyList());
+        verify(cityServiceContract, never()).save(any(City.class));
+    }
+
+    @Test
+    void shouldSkipUniquenessReadForDefinitelyNewName() {
+        // Arrange
+        CreateCityCommand command = new CreateCityCommand("Boise", "ID");
+        when(cityMembership.mayContainName("Boise")).thenReturn(false);
+        when(cityServiceContract.save(any(City.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Mono<City> result = handler.create(command);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(city -> city.getName().equals("Boise"))
+                .verifyComplete();
+
+        verify(cityServiceContract, never()).findAll();
+        verify(cityServiceContract).save(any(City.class));
+    }
+
+    @Test
+    void shouldValidateDefinitelyNewNameBeforeSaving() {
+        // Arrange
+        CreateCityCommand command = new CreateCityCommand("Boise 2", "ID");
+        when(cityMembership.mayContainName("Boise 2")).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(handler.create(command))
+                .expectError(InvalidCityNameException.class)
+                .verify();
+
+        verify(cityServiceContract, never()).save(any(City.class));
+    }
+
+    @Test
+    void shouldCreateBatchWithOneReadAndOneInsertAndFailOnlyOffendingCommands() throws Exception {
+        // Arrange
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, new CityPolicyEnforcer(),
+                new StripedLocks(16), cityEvents, new BatchWindow(Duration.ofMillis(50), 10), execution);
+        City stored = new City(CityId.newId(), "Boston", new State("MA"));
+        when(cityServiceContract.findByNames(anyCollection())).thenReturn(List.of(stored));
+        when(cityServiceContract.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        CompletableFuture<City> created = handler.create(new CreateCityCommand("Denver", "CO")).toFuture();
+        CompletableFuture<City> storedDuplicate = handler.create(new CreateCityCommand("boston", "MA")).toFuture();
+        CompletableFuture<City> batchDuplicate = handler.create(new CreateCityCommand("DENVER", "CO")).toFuture();
+        CompletableFuture<City> invalid = handler.create(new CreateCityCommand("Denver 2", "CO")).toFuture();
+
+        // Assert
+        assertEquals("Denver", created.get(5, TimeUnit.SECONDS).getName());
+        assertFailedWith(DuplicateCityException.class, storedDuplicate);
+        assertFailedWith(DuplicateCityException.class, batchDuplicate);
+        assertFailedWith(InvalidCityNameException.class, invalid);
+
+        verify(cityServiceContract, times(1)).findByNames(anyCollection());
+        verify(cityServiceContract, times(1)).saveAll(argThat(cities -> cities.size() == 1));
+        verify(cityServiceContract, never()).findAll();
+        verify(cityServiceContract, never()).save(any(City.class));
+        verify(cityEvents, times(1)).tryPublish(argThat(event -> ((CityCreated) event).name().equals("Denver")));
+        assertEquals(1, handler.batcher().orElseThrow().batches());
+        assertEquals(4, handler.batcher().orElseThrow().commands());
+    }
+
+    @Test
+    void shouldSkipUniquenessReadWhenNoBatchedNameCanExist() {
+        // Arrange
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, new CityPolicyEnforcer(),
+                new StripedLocks(16), cityEvents, new BatchWindow(Duration.ofMinutes(1), 2), execution);
+        when(cityMembership.mayContainName(any())).thenReturn(false);
+        when(cityServiceContract.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert - the second command fills the batch, so it is dispatched without waiting
+        StepVerifier.create(Mono.zip(
+                        handler.create(new CreateCityCommand("Austin", "TX")),
+                        handler.create(new CreateCityCommand("Dallas", "TX"))))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(cityServiceContract, never()).findByNames(anyCollection());
+        verify(cityServiceContract).saveAll(argThat(cities -> cities.size() == 2));
+    }
+
+    @Test
+    void shouldFailEveryAcceptedCommandWhenBatchInsertFails() {
+        // Arrange
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, new CityPolicyEnforcer(),
+                new StripedLocks(16), cityEvents, new BatchWindow(Duration.ofMillis(10), 10), execution);
+        when(cityServiceContract.findByNames(anyCollection())).thenReturn(List.of());
+        when(cityServiceContract.saveAll(anyList())).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        StepVerifier.create(handler.create(new CreateCityCommand("Austin", "TX")))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldFailOnlyCommandsWithoutAStoredRowWhenBatchInsertReturnsFewerRows() throws Exception {
+        // Arrange - the insert reports only the first of the two cities it was given
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, new CityPolicyEnforcer(),
+                new StripedLocks(16), cityEvents, new BatchWindow(Duration.ofMinutes(1), 2), execution);
+        when(cityServiceContract.findByNames(anyCollection())).thenReturn(List.of());
+        when(cityServiceContract.saveAll(anyList())).thenAnswer(invocation ->
+                List.of(invocation.<List<City>>getArgument(0).get(0)));
+
+        // Act
+        CompletableFuture<City> stored = handler.create(new CreateCityCommand("Austin", "TX")).toFuture();
+        CompletableFuture<City> missing = handler.create(new CreateCityCommand("Dallas", "TX")).toFuture();
+
+        // Assert
+        assertEquals("Austin", stored.get(5, TimeUnit.SECONDS).getName());
+        assertFailedWith(IllegalStateException.class, missing);
+        verify(cityEvents, times(1)).tryPublish(any());
+    }
+
+    @Test
+    void shouldSucceedStoredBatchWhenEventsCannotBePublished() {
+        // Arrange
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, new CityPolicyEnforcer(),
+                new StripedLocks(16), cityEvents, new BatchWindow(Duration.ofMinutes(1), 2), execution);
+        when(cityServiceContract.findByNames(anyCollection())).thenReturn(List.of());
+        when(cityServiceContract.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(cityEvents.tryPublish(any())).thenThrow(new IllegalStateException("bus stopped"));
+
+        // Act & Assert - the batch is stored, so neither command fails because its event did not go out
+        StepVerifier.create(Mono.zip(
+                        handler.create(new CreateCityCommand("Austin", "TX")),
+                        handler.create(new CreateCityCommand("Dallas", "TX"))))
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(cityEvents, times(2)).tryPublish(any());
+    }
+
+    @Test
+    void shouldLetExactlyOneOfManyConcurrentDuplicateCreatesSucceed() throws Exception {
+        // Arrange - a store whose uniqueness read is stale for as long as a concurrent save is in progress
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, new CityPolicyEnforcer(),
+                new StripedLocks(64), CityEventPublisher.NONE, BatchWindow.NONE, parallelExecution());
+        List<City> stored = new CopyOnWriteArrayList<>();
+        when(cityServiceContract.findAll()).thenAnswer(invocation -> List.copyOf(stored));
+        when(cityServiceContract.save(any(City.class))).thenAnswer(invocation -> {
+            Thread.sleep(2);
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        String[] spellings = {"Springfield", "SPRINGFIELD", "springfield", "SpringField"};
+
+        // Act
+        List<CompletableFuture<City>> creates = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            creates.add(handler.create(new CreateCityCommand(spellings[i % spellings.length], "IL")).toFuture());
+        }
+
+        // Assert
+        AtomicInteger created = new AtomicInteger();
+        for (CompletableFuture<City> create : creates) {
+            try {
+                create.get(10, TimeUnit.SECONDS);
+                created.incrementAndGet();
+            } catch (ExecutionException ex) {
+                assertInstanceOf(DuplicateCityException.class, ex.getCause());
+            }
+        }
+        assertEquals(1, created.get());
+        assertEquals(1, stored.size());
+        assertEquals(64, handler.nameLocks().acquired());
+    }
+
+    @Test
+    void shouldNotSerializeCreatesOfDifferentNames() throws Exception {
+        // Arrange - each save waits until the other one has started; serialized creates would time out
+        handler = new CreateCityCommandHandler(cityServiceContract, cityMembership, new CityPolicyEnforcer(),
+                new StripedLocks(1024), CityEventPublisher.NONE, BatchWindow.NONE, parallelExecution());
+        CountDownLatch bothSaving = new CountDownLatch(2);
+        when(cityServiceContract.findAll()).thenReturn(List.of());
+        when(cityServiceContract.save(any(City.class))).thenAnswer(invocation -> {
+            bothSaving.countDown();
+            assertTrue(bothSaving.await(5, TimeUnit.SECONDS));
+            return invocation.getArgument(0);
+        });
+
+        // Act
+        CompletableFuture<City> austin = handler.create(new CreateCityCommand("Austin", "TX")).toFuture();
+        CompletableFuture<City> boston = handler.create(new CreateCityCommand("Boston", "MA")).toFuture();
+
+        // Assert
+        assertEquals("Austin", austin.get(10, TimeUnit.SECONDS).getName());
+        assertEquals("Boston", boston.get(10, TimeUnit.SECONDS).getName());
+        assertEquals(0, handler.nameLocks().contended());
+    }
+
+    @Test
+    void shouldFoldNamesTheWayThePolicyComparesThem() {
+        assertEquals(CreateCityCommandHandler.nameKey("Springfield"), CreateCityCommandHandler.nameKey("SPRINGFIELD"));
+        assertEquals("", CreateCityCommandHandler.nameKey(null));
+    }
+
+    // One virtual thread per create, so creates only wait on each other through the locks
+    private static ExecutionStrategy parallelExecution() {
+        return ExecutionStrategy.of(ExecutionMode.VIRTUAL_THREAD,
+                Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor()));
+    }
+
+    private static void assertFailedWith(Class<? extends Throwable> type, CompletableFuture<City> future) {
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(type, ex.getCause());
     }
 }
@@ -1,5 +1,10 @@
 package com.csio.hexagonal.application.service.query;
 
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.context.ServedVersion;
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.port.out.CityCatalog;
 import com.csio.hexagonal.application.port.out.CityContract;
 import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.vo.CityId;
@@ -11,13 +16,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.Executor;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -27,14 +42,15 @@ class GetAllCityQueryHandlerTest {
     @Mock
     private CityContract cityServiceContract;
 
-    private Executor virtualExecutor;
+    private ExecutionStrategy execution;
 
     private GetAllCityQueryHandler handler;
 
     @BeforeEach
     void setUp() {
-        virtualExecutor = Executors.newSingleThreadExecutor();
-        handler = new GetAllCityQueryHandler(cityServiceContract, virtualExecutor);
+        execution = ExecutionStrategy.of(
+                ExecutionMode.VIRTUAL_THREAD, Schedulers.fromExecutorService(Executors.newSingleThreadExecutor()));
+        handler = new GetAllCityQueryHandler(cityServiceContract, CityCatalog.NONE, execution);
     }
 
     @Test
@@ -47,13 +63,12 @@ class GetAllCityQueryHandlerTest {
         PageResult<City> expectedResult = PageResult.of(cities, 1, 10, 2, 1);
         
         CityFilterQuery query = new CityFilterQuery(null, 1, 10, null, null);
-        String token = "test-token";
 
-        when(cityServiceContract.findAllWithPagination(eq(1), eq(10), isNull(), anyString(), eq(token)))
+        when(cityServiceContract.findAllWithPagination(eq(1), eq(10), isNull(), anyString()))
                 .thenReturn(expectedResult);
 
         // Act
-        Mono<PageResult<City>> result = handler.query(query, token);
+        Mono<PageResult<City>> result = handler.query(query);
 
         // Assert
         StepVerifier.create(result)
@@ -65,7 +80,7 @@ class GetAllCityQueryHandlerTest {
                 )
                 .verifyComplete();
 
-        verify(cityServiceContract).findAllWithPagination(eq(1), eq(10), isNull(), anyString(), eq(token));
+        verify(cityServiceContract).findAllWithPagination(eq(1), eq(10), isNull(), anyString());
     }
 
     @Test
@@ -84,13 +99,12 @@ class GetAllCityQueryHandlerTest {
                 CityFilterQuery.LogicalOperator.AND, List.of(group));
         
         CityFilterQuery query = new CityFilterQuery(filter, 1, 10, null, null);
-        String token = "test-token";
 
-        when(cityServiceContract.findAllWithFilters(eq(query), eq(token)))
+        when(cityServiceContract.findAllWithFilters(eq(query)))
                 .thenReturn(expectedResult);
 
         // Act
-        Mono<PageResult<City>> result = handler.query(query, token);
+        Mono<PageResult<City>> result = handler.query(query);
 
         // Assert
         StepVerifier.create(result)
@@ -100,7 +114,7 @@ class GetAllCityQueryHandlerTest {
                 )
                 .verifyComplete();
 
-        verify(cityServiceContract).findAllWithFilters(eq(query), eq(token));
+        verify(cityServiceContract).findAllWithFilters(eq(query));
     }
 
     @Test
@@ -112,13 +126,12 @@ class GetAllCityQueryHandlerTest {
         PageResult<City> expectedResult = PageResult.of(cities, 1, 10, 1, 1);
         
         CityFilterQuery query = new CityFilterQuery(null, 1, 10, "New", null);
-        String token = "test-token";
 
-        when(cityServiceContract.findAllWithPagination(eq(1), eq(10), eq("New"), anyString(), eq(token)))
+        when(cityServiceContract.findAllWithPagination(eq(1), eq(10), eq("New"), anyString()))
                 .thenReturn(expectedResult);
 
         // Act
-        Mono<PageResult<City>> result = handler.query(query, token);
+        Mono<PageResult<City>> result = handler.query(query);
 
         // Assert
         StepVerifier.create(result)
@@ -127,28 +140,150 @@ class GetAllCityQueryHandlerTest {
                 )
                 .verifyComplete();
 
-        verify(cityServiceContract).findAllWithPagination(eq(1), eq(10), eq("New"), anyString(), eq(token));
+        verify(cityServiceContract).findAllWithPagination(eq(1), eq(10), eq("New"), anyString());
     }
 
     @Test
-    void shouldPassTokenToPersistencePort() {
+    void shouldExposeSharedRequestContextToPersistencePort() {
         // Arrange
         PageResult<City> expectedResult = PageResult.of(List.of(), 1, 10, 0, 0);
-        
+
         CityFilterQuery query = new CityFilterQuery(null, 1, 10, null, null);
-        String token = "custom-token";
+        RequestContext context = new RequestContext("custom-token", "trace-1", "tenant-a", null);
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
 
-        when(cityServiceContract.findAllWithPagination(anyInt(), anyInt(), isNull(), anyString(), eq(token)))
-                .thenReturn(expectedResult);
+        when(cityServiceContract.findAllWithPagination(anyInt(), anyInt(), isNull(), anyString()))
+                .thenAnswer(invocation -> {
+                    seen.set(RequestContext.current());
+                    return expectedResult;
+                });
 
         // Act
-        Mono<PageResult<City>> result = handler.query(query, token);
+        Mono<PageResult<City>> result = handler.query(query)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, context));
 
         // Assert
         StepVerifier.create(result)
                 .expectNextCount(1)
                 .verifyComplete();
 
-        verify(cityServiceContract).findAllWithPagination(anyInt(), anyInt(), isNull(), anyString(), eq(token));
+        // The read may be shared with other callers, so it runs without this caller's identity
+        assertEquals(new RequestContext(null, null, "tenant-a", null), seen.get());
+    }
+
+    @Test
+    void shouldShareOneReadBetweenEquivalentConcurrentFilterQueries() throws Exception {
+        // Arrange
+        CityFilterQuery.FilterCondition byName = new CityFilterQuery.FilterCondition(
+                "name", CityFilterQuery.Operator.LIKE, "New");
+        CityFilterQuery.FilterCondition byState = new CityFilterQuery.FilterCondition(
+                "state", CityFilterQuery.Operator.EQUALS, "NY");
+        CityFilterQuery first = new CityFilterQuery(new CityFilterQuery.Filter(
+                CityFilterQuery.LogicalOperator.AND,
+                List.of(new CityFilterQuery.FilterGroup(CityFilterQuery.LogicalOperator.OR, List.of(byName, byState)))),
+                1, 10, "", null);
+        CityFilterQuery reordered = new CityFilterQuery(new CityFilterQuery.Filter(
+                CityFilterQuery.LogicalOperator.OR,
+                List.of(new CityFilterQuery.FilterGroup(CityFilterQuery.LogicalOperator.OR, List.of(byState, byName)))),
+                1, 10, null, List.of());
+
+        PageResult<City> expectedResult = PageResult.of(List.of(), 1, 10, 0, 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cityServiceContract.findAllWithFilters(any(CityFilterQuery.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return expectedResult;
+        });
+
+        // Act
+        CompletableFuture<PageResult<City>> leader = handler.query(first).toFuture();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<PageResult<City>> follower = handler.query(reordered).toFuture();
+        release.countDown();
+
+        // Assert
+        assertSame(expectedResult, leader.get(5, TimeUnit.SECONDS));
+        assertSame(expectedResult, follower.get(5, TimeUnit.SECONDS));
+        verify(cityServiceContract, times(1)).findAllWithFilters(any(CityFilterQuery.class));
+        assertEquals(1, handler.singleFlight().followers());
+    }
+
+    @Test
+    void shouldNotShareReadsForDifferentPages() {
+        // Arrange
+        when(cityServiceContract.findAllWithPagination(anyInt(), eq(10), isNull(), anyString()))
+                .thenReturn(PageResult.of(List.of(), 1, 10, 0, 0));
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new CityFilterQuery(null, 1, 10, null, null)))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(handler.query(new CityFilterQuery(null, 2, 10, null, null)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(cityServiceContract, times(2)).findAllWithPagination(anyInt(), eq(10), isNull(), anyString());
+        assertEquals(0, handler.singleFlight().followers());
+    }
+
+    @Test
+    void shouldAnswerFromPublishedSnapshotWhenItCanEvaluateQuery() {
+        // Arrange
+        PageResult<City> page = PageResult.of(List.of(new City(CityId.newId(), "Austin", new State("TX"))), 1, 10, 1, 1);
+        handler = new GetAllCityQueryHandler(cityServiceContract, () -> Optional.of(snapshot(12, Optional.of(page))), execution);
+        ServedVersion served = new ServedVersion();
+
+        // Act
+        Mono<PageResult<City>> result = handler.query(new CityFilterQuery(null, 1, 10, null, null))
+                .contextWrite(ctx -> ctx.put(ServedVersion.KEY, served));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(page)
+                .verifyComplete();
+
+        assertEquals(OptionalLong.of(12), served.get());
+        verifyNoInteractions(cityServiceContract);
+    }
+
+    @Test
+    void shouldFallBackToDatabaseWhenSnapshotCannotEvaluateQuery() {
+        // Arrange
+        PageResult<City> page = PageResult.of(List.of(), 1, 10, 0, 0);
+        handler = new GetAllCityQueryHandler(cityServiceContract, () -> Optional.of(snapshot(12, Optional.empty())), execution);
+        when(cityServiceContract.findAllWithPagination(eq(1), eq(10), isNull(), anyString())).thenReturn(page);
+        ServedVersion served = new ServedVersion();
+
+        // Act
+        Mono<PageResult<City>> result = handler.query(new CityFilterQuery(null, 1, 10, null, null))
+                .contextWrite(ctx -> ctx.put(ServedVersion.KEY, served));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(page)
+                .verifyComplete();
+
+        assertTrue(served.get().isEmpty());
+        verify(cityServiceContract).findAllWithPagination(eq(1), eq(10), isNull(), anyString());
+    }
+
+    private static CityCatalog.Snapshot snapshot(long version, Optional<PageResult<City>> page) {
+        return new CityCatalog.Snapshot() {
+            @Override
+            public long version() {
+                return version;
+            }
+
+            @Override
+            public Optional<City> findByUid(UUID uid) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<PageResult<City>> findAll(CityFilterQuery query) {
+                return page;
+            }
+        };
     }
 }
@@ -0,0 +1,96 @@
+package com.csio.hexagonal.application.service.query;
+
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.port.out.CityMembership;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCitiesQueryHandlerTest {
+
+    @Mock
+    private CityContract cityServiceContract;
+
+    @Mock
+    private CityMembership cityMembership;
+
+    private GetCitiesQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ExecutionStrategy execution = ExecutionStrategy.of(
+                ExecutionMode.VIRTUAL_THREAD, Schedulers.fromExecutorService(Executors.newSingleThreadExecutor()));
+        lenient().when(cityMembership.mayContainUid(any())).thenReturn(true);
+        handler = new GetCitiesQueryHandler(cityServiceContract, cityMembership, execution);
+    }
+
+    @Test
+    void shouldLoadAllUidsWithOneCallInRequestOrder() {
+        // Arrange
+        City boston = city("Boston", "MA");
+        City denver = city("Denver", "CO");
+        UUID unknown = UUID.randomUUID();
+        List<UUID> uids = List.of(denver.getId().value(), unknown, boston.getId().value(), denver.getId().value());
+
+        when(cityServiceContract.findByUids(any())).thenReturn(List.of(boston, denver));
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCitiesQuery(uids)))
+                .expectNext(List.of(denver, boston))
+                .verifyComplete();
+
+        verify(cityServiceContract).findByUids(Set.of(denver.getId().value(), unknown, boston.getId().value()));
+        verify(cityServiceContract, never()).findByUid(any());
+    }
+
+    @Test
+    void shouldLeaveDefiniteMissesOutOfTheQuery() {
+        // Arrange
+        City boston = city("Boston", "MA");
+        UUID unknown = UUID.randomUUID();
+        when(cityMembership.mayContainUid(unknown)).thenReturn(false);
+        when(cityServiceContract.findByUids(any())).thenReturn(List.of(boston));
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCitiesQuery(List.of(unknown, boston.getId().value()))))
+                .expectNext(List.of(boston))
+                .verifyComplete();
+
+        verify(cityServiceContract).findByUids(Set.of(boston.getId().value()));
+    }
+
+    @Test
+    void shouldAnswerWithoutQueryingWhenNoUidCanExist() {
+        // Arrange
+        when(cityMembership.mayContainUid(any())).thenReturn(false);
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCitiesQuery(List.of(UUID.randomUUID()))))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        verifyNoInteractions(cityServiceContract);
+    }
+
+    private static City city(String name, String state) {
+        return new City(CityId.newId(), name, new State(state));
+    }
+}
@@ -1,8 +1,16 @@
 package com.csio.hexagonal.application.service.query;
 
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.context.ServedVersion;
+import com.csio.hexagonal.application.execution.BatchWindow;
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.port.out.CityCatalog;
 import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.application.port.out.CityMembership;
 import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.domain.vo.State;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,13 +18,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Executor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -27,14 +46,19 @@ class GetCityQueryHandlerTest {
     @Mock
     private CityContract cityServiceContract;
 
-    private Executor virtualExecutor;
+    @Mock
+    private CityMembership cityMembership;
+
+    private ExecutionStrategy execution;
 
     private GetCityQueryHandler handler;
 
     @BeforeEach
     void setUp() {
-        virtualExecutor = Executors.newSingleThreadExecutor();
-        handler = new GetCityQueryHandler(cityServiceContract, virtualExecutor);
+        execution = ExecutionStrategy.of(
+                ExecutionMode.VIRTUAL_THREAD, Schedulers.fromExecutorService(Executors.newSingleThreadExecutor()));
+        lenient().when(cityMembership.mayContainUid(any())).thenReturn(true);
+        handler = new GetCityQueryHandler(cityServiceContract, cityMembership, CityCatalog.NONE, BatchWindow.NONE, execution);
     }
 
     @Test
@@ -42,13 +66,12 @@ class GetCityQueryHandlerTest {
         // Arrange
         UUID uuid = UUID.randomUUID();
         GetCityQuery query = new GetCityQuery(uuid);
-        String token = "test-token";
         
         City expectedCity = new City(new CityId(uuid), "New York", new State("NY"));
-        when(cityServiceContract.findByUid(eq(uuid), eq(token))).thenReturn(Optional.of(expectedCity));
+        when(cityServiceContract.findByUid(eq(uuid))).thenReturn(Optional.of(expectedCity));
 
         // Act
-        Mono<City> result = handler.query(query, token);
+        Mono<City> result = handler.query(query);
 
         // Assert
         StepVerifier.create(result)
@@ -58,7 +81,7 @@ class GetCityQueryHandlerTest {
                 )
                 .verifyComplete();
 
-        verify(cityServiceContract).findByUid(eq(uuid), eq(token));
+        verify(cityServiceContract).findByUid(eq(uuid));
     }
 
     @Test
@@ -66,38 +89,210 @@ class GetCityQueryHandlerTest {
         // Arrange
         UUID uuid = UUID.randomUUID();
         GetCityQuery query = new GetCityQuery(uuid);
-        String token = "test-token";
 
-        when(cityServiceContract.findByUid(eq(uuid), eq(token))).thenReturn(Optional.empty());
+        when(cityServiceContract.findByUid(eq(uuid))).thenReturn(Optional.empty());
 
         // Act
-        Mono<City> result = handler.query(query, token);
+        Mono<City> result = handler.query(query);
 
         // Assert
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(cityServiceContract).findByUid(eq(uuid), eq(token));
+        verify(cityServiceContract).findByUid(eq(uuid));
     }
 
     @Test
-    void shouldPassTokenToPersistencePort() {
+    void shouldExposeSharedRequestContextToPersistencePort() {
         // Arrange
         UUID uuid = UUID.randomUUID();
         GetCityQuery query = new GetCityQuery(uuid);
-        String token = "custom-token";
-        
+        RequestContext context = new RequestContext("custom-token", "trace-1", null, null);
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+
         City expectedCity = new City(new CityId(uuid), "Los Angeles", new State("CA"));
-        when(cityServiceContract.findByUid(eq(uuid), eq(token))).thenReturn(Optional.of(expectedCity));
+        when(cityServiceContract.findByUid(eq(uuid))).thenAnswer(invocation -> {
+            seen.set(RequestContext.current());
+            return Optional.of(expectedCity);
+        });
 
         // Act
-        Mono<City> result = handler.query(query, token);
+        Mono<City> result = handler.query(query)
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, context));
 
         // Assert
         StepVerifier.create(result)
                 .expectNextCount(1)
                 .verifyComplete();
 
-        verify(cityServiceContract).findByUid(eq(uuid), eq(token));
+        // The read may be shared with other callers, so it runs without this caller's identity
+        assertEquals(new RequestContext(null, null, null, null), seen.get());
+    }
+
+    @Test
+    void shouldAnswerDefiniteMissWithoutQuerying() {
+        // Arrange
+        UUID uuid = UUID.randomUUID();
+        when(cityMembership.mayContainUid(uuid)).thenReturn(false);
+
+        // Act
+        Mono<City> result = handler.query(new GetCityQuery(uuid));
+
+        // Assert
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        verifyNoInteractions(cityServiceContract);
+    }
+
+    @Test
+    void shouldShareOneLookupBetweenConcurrentIdenticalQueries() throws Exception {
+        // Arrange
+        UUID uuid = UUID.randomUUID();
+        City expectedCity = new City(new CityId(uuid), "Chicago", new State("IL"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(cityServiceContract.findByUid(eq(uuid))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return Optional.of(expectedCity);
+        });
+
+        // Act
+        CompletableFuture<City> first = handler.query(new GetCityQuery(uuid)).toFuture();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<City> second = handler.query(new GetCityQuery(uuid)).toFuture();
+        release.countDown();
+
+        // Assert
+        assertEquals(expectedCity, first.get(5, TimeUnit.SECONDS));
+        assertEquals(expectedCity, second.get(5, TimeUnit.SECONDS));
+        verify(cityServiceContract, times(1)).findByUid(eq(uuid));
+        assertEquals(1, handler.singleFlight().leaders());
+        assertEquals(1, handler.singleFlight().followers());
+    }
+
+    @Test
+    void shouldQueryAgainOnceEarlierLookupCompleted() {
+        // Arrange
+        UUID uuid = UUID.randomUUID();
+        when(cityServiceContract.findByUid(eq(uuid))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCityQuery(uuid))).verifyComplete();
+        StepVerifier.create(handler.query(new GetCityQuery(uuid))).verifyComplete();
+
+        verify(cityServiceContract, times(2)).findByUid(eq(uuid));
+        assertEquals(0, handler.singleFlight().followers());
+        assertEquals(0, handler.singleFlight().inFlight());
+    }
+
+    @Test
+    void shouldBatchConcurrentLookupsOfDifferentUidsIntoOneQuery() throws Exception {
+        // Arrange
+        handler = new GetCityQueryHandler(cityServiceContract, cityMembership, CityCatalog.NONE,
+                new BatchWindow(Duration.ofMillis(50), 10), execution);
+        City boston = new City(CityId.newId(), "Boston", new State("MA"));
+        City denver = new City(CityId.newId(), "Denver", new State("CO"));
+        UUID unknown = UUID.randomUUID();
+        when(cityServiceContract.findByUids(any())).thenReturn(List.of(boston, denver));
+
+        // Act
+        CompletableFuture<City> first = handler.query(new GetCityQuery(boston.getId().value())).toFuture();
+        CompletableFuture<City> second = handler.query(new GetCityQuery(denver.getId().value())).toFuture();
+        CompletableFuture<City> missing = handler.query(new GetCityQuery(unknown)).toFuture();
+
+        // Assert
+        assertEquals(boston, first.get(5, TimeUnit.SECONDS));
+        assertEquals(denver, second.get(5, TimeUnit.SECONDS));
+        assertNull(missing.get(5, TimeUnit.SECONDS));
+        verify(cityServiceContract, times(1)).findByUids(any());
+        verify(cityServiceContract, never()).findByUid(any());
+        assertEquals(1, handler.batcher().orElseThrow().batches());
+        assertEquals(3, handler.batcher().orElseThrow().keys());
+    }
+
+    @Test
+    void shouldDispatchFullBatchWithoutWaitingForWindow() {
+        // Arrange
+        handler = new GetCityQueryHandler(cityServiceContract, cityMembership, CityCatalog.NONE,
+                new BatchWindow(Duration.ofMinutes(1), 2), execution);
+        when(cityServiceContract.findByUids(any())).thenReturn(List.of());
+
+        // Act & Assert
+        StepVerifier.create(Mono.when(
+                        handler.query(new GetCityQuery(UUID.randomUUID())),
+                        handler.query(new GetCityQuery(UUID.randomUUID()))))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(cityServiceContract, times(1)).findByUids(any());
+    }
+
+    @Test
+    void shouldFailEveryLookupInBatchWhenQueryFails() {
+        // Arrange
+        handler = new GetCityQueryHandler(cityServiceContract, cityMembership, CityCatalog.NONE,
+                new BatchWindow(Duration.ofMillis(10), 10), execution);
+        when(cityServiceContract.findByUids(any())).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCityQuery(UUID.randomUUID())))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldAnswerFromPublishedSnapshotWithoutQuerying() {
+        // Arrange
+        City expectedCity = new City(CityId.newId(), "Austin", new State("TX"));
+        handler = new GetCityQueryHandler(cityServiceContract, cityMembership, () -> Optional.of(snapshot(7, expectedCity)),
+                BatchWindow.NONE, execution);
+        ServedVersion served = new ServedVersion();
+
+        // Act
+        Mono<City> result = handler.query(new GetCityQuery(expectedCity.getId().value()))
+                .contextWrite(ctx -> ctx.put(ServedVersion.KEY, served));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(expectedCity)
+                .verifyComplete();
+
+        assertEquals(OptionalLong.of(7), served.get());
+        verifyNoInteractions(cityServiceContract);
+        assertEquals(0, handler.singleFlight().leaders());
+    }
+
+    @Test
+    void shouldAnswerSnapshotMissAsEmpty() {
+        // Arrange
+        handler = new GetCityQueryHandler(cityServiceContract, cityMembership, () -> Optional.of(snapshot(3)),
+                BatchWindow.NONE, execution);
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCityQuery(UUID.randomUUID())))
+                .verifyComplete();
+
+        verifyNoInteractions(cityServiceContract);
+    }
+
+    private static CityCatalog.Snapshot snapshot(long version, City... cities) {
+        return new CityCatalog.Snapshot() {
+            @Override
+            public long version() {
+                return version;
+            }
+
+            @Override
+            public Optional<City> findByUid(UUID uid) {
+                return Arrays.stream(cities).filter(city -> city.getId().value().equals(uid)).findFirst();
+            }
+
+            @Override
+            public Optional<PageResult<City>> findAll(CityFilterQuery query) {
+                return Optional.empty();
+            }
+        };
     }
 }
@@ -0,0 +1,60 @@
+package com.csio.hexagonal.application.service.query;
+
+import com.csio.hexagonal.application.execution.ExecutionMode;
+import com.csio.hexagonal.application.execution.ExecutionStrategy;
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCitySummaryQueryHandlerTest {
+
+    @Mock
+    private CityContract cityServiceContract;
+
+    private GetCitySummaryQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ExecutionStrategy execution = ExecutionStrategy.of(
+                ExecutionMode.VIRTUAL_THREAD, Schedulers.fromExecutorService(Executors.newSingleThreadExecutor()));
+        handler = new GetCitySummaryQueryHandler(cityServiceContract, execution);
+    }
+
+    @Test
+    void shouldReturnCountsFromSummary() {
+        // Arrange
+        List<StateCityCount> counts = List.of(new StateCityCount("CA", 3, 1), new StateCityCount("TX", 2, 0));
+        when(cityServiceContract.countByState()).thenReturn(counts);
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCitySummaryQuery()))
+                .expectNext(counts)
+                .verifyComplete();
+
+        verify(cityServiceContract).countByState();
+        verifyNoMoreInteractions(cityServiceContract);
+    }
+
+    @Test
+    void shouldPropagatePersistenceFailure() {
+        // Arrange
+        when(cityServiceContract.countByState()).thenThrow(new IllegalStateException("boom"));
+
+        // Act & Assert
+        StepVerifier.create(handler.query(new GetCitySummaryQuery()))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,27 @@
+package com.csio.hexagonal.domain.exception;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameCharactersTest {
+
+    private static final String FORMER_RULE = "[a-zA-Z\\s\\-]+";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Dhaka", "New York", "Winston-Salem", "a", "Tab\tSeparated", "Line\nBreak", "Form\fFeed",
+            "Vertical\u000BTab", "Carriage\rReturn", "   ", "-"})
+    void shouldAcceptWhatTheFormerRegexAccepted(String name) {
+        assertTrue(name.matches(FORMER_RULE));
+        assertTrue(NameCharacters.allowed(name));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "City1", "S\u00E3o Paulo", "Z\u00FCrich", "O'Hare", "St. Louis", "New_York",
+            "Non\u00A0Breaking", "City@", "[Dhaka]"})
+    void shouldRejectWhatTheFormerRegexRejected(String name) {
+        assertFalse(name.matches(FORMER_RULE));
+        assertFalse(NameCharacters.allowed(name));
+    }
+}
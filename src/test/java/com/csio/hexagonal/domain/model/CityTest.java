@@ -176,4 +176,25 @@ class CityTest {
         assertTrue(toString.contains("New York"));
         assertTrue(toString.contains("NY"));
     }
+
+    @Test
+    void shouldRehydrateStoredCityWithoutRevalidating() {
+        // Arrange
+        CityId id = CityId.newId();
+        State state = new State("NY");
+
+        // Act - a stored name that no longer satisfies the write-time rule is still loaded
+        City city = City.rehydrate(id, "St. Louis", state, false);
+
+        // Assert
+        assertEquals(id, city.getId());
+        assertEquals("St. Louis", city.getName());
+        assertEquals(state, city.getState());
+        assertFalse(city.isActive());
+    }
+
+    @Test
+    void shouldRequireIdWhenRehydrating() {
+        assertThrows(NullPointerException.class, () -> City.rehydrate(null, "Boston", new State("MA"), true));
+    }
 }
@@ -0,0 +1,67 @@
+package com.csio.hexagonal.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedExpiringMapTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldCreateOnceAndReturnSameValue() {
+        BoundedExpiringMap<String, Object> map = new BoundedExpiringMap<>(10, Duration.ofSeconds(10), clock::get);
+
+        Object first = map.computeIfAbsent("a", key -> new Object());
+
+        assertSame(first, map.computeIfAbsent("a", key -> new Object()));
+        assertSame(first, map.get("a"));
+    }
+
+    @Test
+    void shouldExpireEntriesNotReadWithinIdleTime() {
+        BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, Duration.ofSeconds(10), clock::get);
+        map.computeIfAbsent("a", key -> "first");
+
+        clock.set(Duration.ofSeconds(9).toNanos());
+        assertEquals("first", map.get("a"));
+        clock.set(Duration.ofSeconds(18).toNanos());
+        assertEquals("first", map.get("a"));
+        clock.set(Duration.ofSeconds(28).toNanos());
+        assertNull(map.get("a"));
+        assertEquals("second", map.computeIfAbsent("a", key -> "second"));
+    }
+
+    @Test
+    void shouldExpireAtStoredTimeEvenWhenRead() {
+        BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, Duration.ofHours(1), clock::get);
+        map.put("token", "claims", Duration.ofSeconds(5).toNanos());
+
+        clock.set(Duration.ofSeconds(4).toNanos());
+        assertEquals("claims", map.get("token"));
+        clock.set(Duration.ofSeconds(5).toNanos());
+        assertNull(map.get("token"));
+    }
+
+    @Test
+    void shouldDropExpiredThenLeastRecentlyReadEntriesBeyondBound() {
+        BoundedExpiringMap<Integer, Integer> map = new BoundedExpiringMap<>(10, Duration.ofSeconds(10), clock::get);
+        for (int i = 0; i < 10; i++) {
+            clock.set(i);
+            map.computeIfAbsent(i, key -> key);
+        }
+        clock.set(100);
+        map.get(0);
+
+        map.computeIfAbsent(10, key -> key);
+
+        assertTrue(map.size() <= 10);
+        assertEquals(0, map.get(0));
+        assertEquals(10, map.get(10));
+        assertNull(map.get(1));
+        assertTrue(map.evictions() >= 1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.csio.hexagonal.infrastructure.config.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedExecutorServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private ExecutorService delegate;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        delegate = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void shouldRecordQueueWaitForExecutedTasks() throws Exception {
+        // Arrange
+        InstrumentedExecutorService executor = new InstrumentedExecutorService(delegate, "test", 10, registry);
+
+        // Act
+        executor.submit(() -> "done").get(1, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(1, registry.get("scheduler.queue.wait").tag("scheduler", "test").timer().count());
+        assertEquals(0, executor.activeTasks());
+        assertEquals(0, executor.queuedTasks());
+    }
+
+    @Test
+    void shouldRejectTasksBeyondMaxPending() throws Exception {
+        // Arrange
+        InstrumentedExecutorService executor = new InstrumentedExecutorService(delegate, "test", 1, registry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+        assertEquals(1.0, registry.get("scheduler.tasks.rejected").counter().count());
+        assertEquals(1, executor.activeTasks());
+
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectNonPositiveBound() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InstrumentedExecutorService(delegate, "test", 0, registry));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.csio.hexagonal.infrastructure.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferEventBusTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RingBufferEventBus<Integer> bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.close();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.Type.class)
+    void shouldDeliverEveryEventInOrderToEveryHandlerAcrossWraps(WaitStrategy.Type waitStrategy) throws Exception {
+        // Arrange - 4 publishers of 2000 events each through 16 slots
+        Recording first = new Recording("first");
+        Recording second = new Recording("second");
+        bus = new RingBufferEventBus<>("test", 16, 8, waitStrategy.create(), List.of(first, second), registry);
+        bus.start();
+
+        // Act
+        ExecutorService publishers = Executors.newFixedThreadPool(4);
+        List<Future<?>> done = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            int publisher = p;
+            done.add(publishers.submit(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    bus.publish(publisher * 10_000 + i);
+                }
+            }));
+        }
+        for (Future<?> future : done) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        publishers.shutdown();
+        bus.close();
+
+        // Assert - nothing lost or repeated, and each publisher's events kept their order
+        for (Recording handler : List.of(first, second)) {
+            assertEquals(8000, handler.events.size());
+            int[] lastSeen = {-1, -1, -1, -1};
+            for (int event : handler.events) {
+                int publisher = event / 10_000;
+                assertTrue(event % 10_000 > lastSeen[publisher], handler.name() + " saw " + event + " out of order");
+                lastSeen[publisher] = event % 10_000;
+            }
+            assertEquals(0, bus.lag(handler));
+        }
+        assertEquals(8000.0, registry.get("hexagon.events.published").functionCounter().count());
+        assertEquals(8000.0, registry.get("hexagon.events.handled").tag("consumer", "first").functionCounter().count());
+    }
+
+    @Test
+    void shouldHandBacklogToHandlerInBatchesNoLargerThanTheLimit() throws Exception {
+        // Arrange - the handler is held on its first event while more are published
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch handled = new CountDownLatch(11);
+        EventHandler<Integer> handler = new EventHandler<>() {
+            int batch;
+
+            @Override
+            public void onEvent(Integer event, long sequence, boolean endOfBatch) throws Exception {
+                if (event == 0) {
+                    release.await();
+                }
+                batch++;
+                if (endOfBatch) {
+                    batchSizes.add(batch);
+                    batch = 0;
+                }
+                handled.countDown();
+            }
+        };
+        bus = new RingBufferEventBus<>("test", 64, 4, WaitStrategy.Type.BLOCKING.create(), List.of(handler), registry);
+        bus.start();
+
+        // Act
+        bus.publish(0);
+        for (int i = 1; i <= 10; i++) {
+            bus.publish(i);
+        }
+        assertEquals(11, registry.get("hexagon.events.lag").gauge().value(), 1.0);
+        release.countDown();
+
+        // Assert
+        assertTrue(handled.await(5, TimeUnit.SECONDS));
+        assertEquals(11, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 4), "batches " + batchSizes);
+        assertTrue(batchSizes.size() < 11, "backlog was not batched: " + batchSizes);
+    }
+
+    @Test
+    void shouldWaitForSlowestHandlerInsteadOfOverwriting() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Recording slow = new Recording("slow") {
+            @Override
+            public void onEvent(Integer event, long sequence, boolean endOfBatch) throws Exception {
+                release.await();
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+        bus = new RingBufferEventBus<>("test", 4, 4, WaitStrategy.Type.SLEEPING.create(), List.of(slow), registry);
+        bus.start();
+
+        // Act - four events fill the ring, the fifth must wait
+        for (int i = 0; i < 4; i++) {
+            bus.publish(i);
+        }
+        Thread fifth = Thread.ofVirtual().start(() -> bus.publish(4));
+        fifth.join(200);
+        assertTrue(fifth.isAlive());
+        release.countDown();
+        fifth.join(5000);
+        bus.close();
+
+        // Assert
+        assertFalse(fifth.isAlive());
+        assertEquals(List.of(0, 1, 2, 3, 4), slow.events);
+        assertEquals(1.0, registry.get("hexagon.events.producer.waits").functionCounter().count());
+    }
+
+    @Test
+    void shouldKeepHandlingAfterHandlerThrows() {
+        // Arrange
+        Recording failing = new Recording("failing") {
+            @Override
+            public void onEvent(Integer event, long sequence, boolean endOfBatch) throws Exception {
+                if (event == 1) {
+                    throw new IllegalStateException("boom");
+                }
+                if (event == 2) {
+                    throw new AssertionError("boom");
+                }
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+        bus = new RingBufferEventBus<>("test", 8, 8, WaitStrategy.Type.YIELDING.create(), List.of(failing), registry);
+        bus.start();
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            bus.publish(i);
+        }
+        bus.close();
+
+        // Assert
+        assertEquals(List.of(0, 3), failing.events);
+        assertEquals(2.0, registry.get("hexagon.events.failures").counter().count());
+    }
+
+    @Test
+    void shouldDropInsteadOfWaitingWhenRingIsFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Recording slow = new Recording("slow") {
+            @Override
+            public void onEvent(Integer event, long sequence, boolean endOfBatch) throws Exception {
+                release.await();
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+        bus = new RingBufferEventBus<>("test", 4, 4, WaitStrategy.Type.SLEEPING.create(), List.of(slow), registry);
+        bus.start();
+
+        // Act - four events fill the ring, the fifth is dropped at once
+        for (int i = 0; i < 4; i++) {
+            assertTrue(bus.tryPublish(i));
+        }
+        boolean fifth = bus.tryPublish(4);
+        release.countDown();
+        bus.close();
+
+        // Assert
+        assertFalse(fifth);
+        assertFalse(bus.tryPublish(5));
+        assertEquals(List.of(0, 1, 2, 3), slow.events);
+        assertEquals(2.0, registry.get("hexagon.events.dropped").functionCounter().count());
+        assertEquals(0.0, registry.get("hexagon.events.producer.waits").functionCounter().count());
+    }
+
+    @RepeatedTest(20)
+    void shouldHandleEveryEventAcceptedWhileClosing() throws Exception {
+        // Arrange
+        Recording handler = new Recording("handler");
+        bus = new RingBufferEventBus<>("test", 1024, 64, WaitStrategy.Type.YIELDING.create(), List.of(handler), registry);
+        bus.start();
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch publishing = new CountDownLatch(4);
+        ExecutorService publishers = Executors.newFixedThreadPool(4);
+        List<Future<?>> done = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            done.add(publishers.submit(() -> {
+                publishing.countDown();
+                for (int i = 0; i < 200; i++) {
+                    if (bus.tryPublish(i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        // Act - close races publishers that have already checked that the bus is running
+        assertTrue(publishing.await(5, TimeUnit.SECONDS));
+        bus.close();
+        for (Future<?> future : done) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        publishers.shutdown();
+
+        // Assert - every event is either handled or counted as dropped, never both or neither
+        assertEquals(accepted.get(), handler.events.size());
+        assertEquals(800 - accepted.get(), registry.get("hexagon.events.dropped").functionCounter().count());
+    }
+
+    @Test
+    void shouldStopBusAndReleaseWaitingPublishersWhenHandlerThreadDies() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        EventHandler<Integer> dying = new EventHandler<>() {
+            @Override
+            public void onEvent(Integer event, long sequence, boolean endOfBatch) throws Exception {
+                release.await();
+                throw new OutOfMemoryError("test");
+            }
+
+            @Override
+            public String name() {
+                return "dying";
+            }
+        };
+        bus = new RingBufferEventBus<>("test", 4, 4, WaitStrategy.Type.BLOCKING.create(), List.of(dying), registry);
+        bus.start();
+        for (int i = 0; i < 4; i++) {
+            bus.publish(i);
+        }
+        AtomicReference<Throwable> waitingFailure = new AtomicReference<>();
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                bus.publish(4);
+            } catch (Throwable ex) {
+                waitingFailure.set(ex);
+            }
+        });
+        waiting.join(200);
+        assertTrue(waiting.isAlive());
+
+        // Act
+        release.countDown();
+        waiting.join(5000);
+
+        // Assert
+        assertFalse(waiting.isAlive());
+        assertInstanceOf(IllegalStateException.class, waitingFailure.get());
+        assertFalse(bus.tryPublish(5));
+        assertThrows(IllegalStateException.class, () -> bus.publish(6));
+        assertThrows(IllegalStateException.class, bus::start);
+    }
+
+    @Test
+    void shouldRejectPublishWhenNotRunningAndRoundBufferUp() {
+        bus = new RingBufferEventBus<>("test", 100, 8, WaitStrategy.Type.BUSY_SPIN.create(), List.of(), registry);
+
+        assertEquals(128, bus.bufferSize());
+        assertThrows(IllegalStateException.class, () -> bus.publish(1));
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferEventBus<Integer>(
+                "other", 0, 8, WaitStrategy.Type.BUSY_SPIN.create(), List.of(), new SimpleMeterRegistry()));
+    }
+
+    private static class Recording implements EventHandler<Integer> {
+
+        private final String name;
+        // Only written by the handler's own thread; read after close() has joined it
+        final List<Integer> events = new ArrayList<>();
+
+        Recording(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void onEvent(Integer event, long sequence, boolean endOfBatch) throws Exception {
+            events.add(event);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.csio.hexagonal.infrastructure.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HotPathLoggerTest {
+
+    private final Logger logger = mock(Logger.class);
+
+    @Test
+    void shouldNotAcquireWhenLevelDisabled() {
+        when(logger.isEnabledForLevel(Level.DEBUG)).thenReturn(false);
+        HotPathLogger event = new HotPathLogger("test", logger, Level.DEBUG, LogPolicy.ALWAYS);
+
+        assertFalse(event.tryAcquire());
+        assertEquals(0, event.suppressedCount());
+    }
+
+    @Test
+    void shouldSuppressEverythingAtZeroSampleRate() {
+        when(logger.isEnabledForLevel(Level.INFO)).thenReturn(true);
+        HotPathLogger event = new HotPathLogger("test", logger, Level.INFO, new LogPolicy(0.0, 0));
+
+        long acquired = IntStream.range(0, 1_000).filter(i -> event.tryAcquire()).count();
+
+        assertEquals(0, acquired);
+        assertEquals(1_000, event.suppressedCount());
+    }
+
+    @Test
+    void shouldCapOccurrencesPerSecond() {
+        when(logger.isEnabledForLevel(Level.INFO)).thenReturn(true);
+        HotPathLogger event = new HotPathLogger("test", logger, Level.INFO, new LogPolicy(1.0, 5));
+
+        long acquired = IntStream.range(0, 100).filter(i -> event.tryAcquire()).count();
+
+        // A window boundary during the loop may admit one extra batch
+        assertTrue(acquired >= 5 && acquired <= 10, "acquired " + acquired);
+    }
+
+    @Test
+    void shouldLogAtConfiguredLevel() {
+        HotPathLogger event = new HotPathLogger("test", logger, Level.INFO, LogPolicy.ALWAYS);
+
+        event.log("page={} size={}", 1, 20);
+
+        verify(logger).info("page={} size={}", 1, 20);
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void shouldEvaluateLazyArgumentOnlyWhenFormatted() {
+        @SuppressWarnings("unchecked")
+        Supplier<String> supplier = mock(Supplier.class);
+        when(supplier.get()).thenReturn("expensive");
+
+        Object lazy = HotPathLogger.lazy(supplier);
+        verifyNoInteractions(supplier);
+
+        assertEquals("expensive", lazy.toString());
+    }
+
+    @Test
+    void shouldApplyConfiguredPolicyToRegisteredEvents() {
+        HotPathLogger event = HotPathLogging.event(HotPathLoggerTest.class, "test.configured", Level.INFO);
+        HotPathLoggingProperties properties = new HotPathLoggingProperties();
+        HotPathLoggingProperties.Policy policy = new HotPathLoggingProperties.Policy();
+        policy.setSampleRate(0.25);
+        policy.setMaxPerSecond(7);
+        properties.getEvents().put("test.configured", policy);
+
+        HotPathLogging.configure(properties);
+
+        assertEquals(new LogPolicy(0.25, 7), event.policy());
+    }
+}
@@ -0,0 +1,65 @@
+package com.csio.hexagonal.infrastructure.metrics;
+
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.domain.exception.DuplicateCityException;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PortTimerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldTimeSuccessfulMonoOnSubscription() {
+        PortTimer timer = new PortTimer("hexagon.port.in.test", Tags.empty(), registry);
+
+        Mono<String> result = timer.time(() -> Mono.just("ok"));
+        assertEquals(0, successTimer("hexagon.port.in.test").count());
+
+        StepVerifier.create(result).expectNext("ok").verifyComplete();
+        assertEquals(1, successTimer("hexagon.port.in.test").count());
+    }
+
+    @Test
+    void shouldTagFailuresWithExceptionType() {
+        PortTimer timer = new PortTimer("hexagon.port.in.test", Tags.empty(), registry);
+
+        StepVerifier.create(timer.time(() -> Mono.error(new DuplicateCityException("Dhaka"))))
+                .expectError(DuplicateCityException.class)
+                .verify();
+
+        Timer failures = registry.get("hexagon.port.in.test")
+                .tags("outcome", "error", "exception", "DuplicateCityException")
+                .timer();
+        assertEquals(1, failures.count());
+    }
+
+    @Test
+    void shouldTimeOutboundCallsPerMethod() {
+        CityContract delegate = mock(CityContract.class);
+        when(delegate.findAll()).thenReturn(List.of());
+        when(delegate.save(any())).thenThrow(new IllegalStateException("down"));
+        TimedCityContract contract = new TimedCityContract(delegate, registry);
+
+        contract.findAll();
+        assertThrows(IllegalStateException.class, () -> contract.save(null));
+
+        assertEquals(1, registry.get(TimedCityContract.METER_NAME)
+                .tags("method", "findAll", "outcome", "success").timer().count());
+        assertEquals(1, registry.get(TimedCityContract.METER_NAME)
+                .tags("method", "save", "outcome", "error", "exception", "IllegalStateException").timer().count());
+    }
+
+    private Timer successTimer(String name) {
+        return registry.get(name).tags("outcome", "success").timer();
+    }
+}
@@ -0,0 +1,125 @@
+package com.csio.hexagonal.infrastructure.metrics.statement;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.application.context.RequestContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementBudgetTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StatementCounter counter = new StatementCounter();
+
+    @Test
+    void shouldAttributeStatementsOnWorkerThreadsToTheRequest() {
+        StatementBudget budget = new StatementBudget("get-city", 1, counter, registry);
+
+        StepVerifier.create(budget.track(() -> statements(1)).contextWrite(request("request-1")))
+                .expectNext("done")
+                .verifyComplete();
+
+        DistributionSummary summary = summary("get-city");
+        assertEquals(1, summary.count());
+        assertEquals(1, summary.max());
+        assertEquals(0, exceeded("get-city"));
+        assertEquals(1, counter.total());
+    }
+
+    @Test
+    void shouldCountInvocationsOverBudget() {
+        StatementBudget budget = new StatementBudget("create-city", 2, counter, registry);
+
+        StepVerifier.create(budget.track(() -> statements(3)).contextWrite(request("request-1")))
+                .expectNext("done")
+                .verifyComplete();
+
+        assertEquals(3, summary("create-city").max());
+        assertEquals(1, exceeded("create-city"));
+    }
+
+    @Test
+    void shouldNotChargeStatementsOfOtherRequests() {
+        StatementBudget budget = new StatementBudget("get-city", 1, counter, registry);
+
+        StepVerifier.create(budget.track(() -> statements(1)
+                        .flatMap(done -> statements(4).contextWrite(request("request-2"))))
+                        .contextWrite(request("request-1")))
+                .expectNext("done")
+                .verifyComplete();
+
+        assertEquals(1, summary("get-city").max());
+        assertEquals(5, counter.total());
+    }
+
+    @Test
+    void shouldCountConcurrentRequestsSharingATraceIdApart() {
+        StatementBudget budget = new StatementBudget("get-city", 1, counter, registry);
+
+        StepVerifier.create(Mono.zip(
+                        budget.track(() -> statements(1)).contextWrite(request("request-1")),
+                        budget.track(() -> statements(3)).contextWrite(request("request-2"))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        DistributionSummary summary = summary("get-city");
+        assertEquals(2, summary.count());
+        assertEquals(4, summary.totalAmount());
+        assertEquals(3, summary.max());
+        assertEquals(1, exceeded("get-city"));
+    }
+
+    @Test
+    void shouldPassThroughCallsOutsideARequest() {
+        StatementBudget budget = new StatementBudget("get-city", 1, counter, registry);
+
+        StepVerifier.create(budget.track(() -> statements(2)))
+                .expectNext("done")
+                .verifyComplete();
+
+        assertEquals(0, summary("get-city").count());
+        assertEquals(2, counter.total());
+    }
+
+    @Test
+    void shouldNeverFlagUnlimitedUseCases() {
+        StatementBudget budget = new StatementBudget("report", StatementBudget.UNLIMITED, counter, registry);
+
+        StepVerifier.create(budget.track(() -> statements(10)).contextWrite(request("request-1")))
+                .expectNext("done")
+                .verifyComplete();
+
+        assertEquals(10, summary("report").max());
+        assertEquals(0, exceeded("report"));
+    }
+
+    // Simulates a port call that executes statements on a worker, as the datasource proxy would report them
+    private Mono<String> statements(int count) {
+        return ContextBridge.callBlocking(() -> {
+            for (int i = 0; i < count; i++) {
+                counter.record(1);
+            }
+            return "done";
+        }, Schedulers.boundedElastic());
+    }
+
+    // Every request carries the same client trace id; only the server-assigned request id tells them apart
+    private static Context request(String requestId) {
+        return Context.of(RequestContext.KEY,
+                new RequestContext(null, "shared-trace", null, null).withRequestId(requestId));
+    }
+
+    private DistributionSummary summary(String useCase) {
+        return registry.get("hexagon.sql.statements").tag("use_case", useCase).summary();
+    }
+
+    private double exceeded(String useCase) {
+        return registry.get("hexagon.sql.budget.exceeded").tag("use_case", useCase).counter().count();
+    }
+}
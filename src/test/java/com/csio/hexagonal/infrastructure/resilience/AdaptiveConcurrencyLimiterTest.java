@@ -0,0 +1,140 @@
+package com.csio.hexagonal.infrastructure.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimiterProperties props;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        props = new ConcurrencyLimiterProperties();
+        props.setInitialLimit(10);
+        props.setMinLimit(2);
+        props.setMaxLimit(100);
+        props.setSmoothing(1.0);
+        props.setRetryAfter(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void shouldRejectWhenLimitReached() throws Exception {
+        // Arrange
+        props.setInitialLimit(2);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", props, ex -> false, registry);
+        CountDownLatch holding = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                pool.submit(() -> limiter.execute(() -> {
+                    holding.countDown();
+                    awaitQuietly(release);
+                }));
+            }
+            assertTrue(holding.await(1, TimeUnit.SECONDS));
+
+            // Act & Assert
+            ConcurrencyLimitExceededException ex = assertThrows(ConcurrencyLimitExceededException.class,
+                    () -> limiter.execute(() -> "rejected"));
+            assertEquals(Duration.ofSeconds(2), ex.getRetryAfter());
+            assertEquals(1.0, registry.get("persistence.limiter.rejections").counter().count());
+            assertEquals(2, limiter.getInFlight());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldReturnPermitWhenCallThrowsError() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", props, ex -> false, registry);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            assertThrows(AssertionError.class, () -> limiter.execute((Supplier<String>) () -> {
+                throw new AssertionError("boom");
+            }));
+        }
+
+        // Assert
+        assertEquals(0, limiter.getInFlight());
+        assertEquals("ok", limiter.execute(() -> "ok"));
+    }
+
+    @Test
+    void shouldGrowLimitWhenLatencyStaysAtBaseline() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", props, ex -> false, registry);
+
+        // Act - fully utilised, no queueing observed
+        limiter.onSample(1_000_000, 10, false);
+
+        // Assert
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    @Test
+    void shouldShrinkLimitWhenLatencyInflates() {
+        // Arrange
+        props.setInitialLimit(50);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", props, ex -> false, registry);
+        limiter.onSample(1_000_000, 50, false);
+        int before = limiter.getLimit();
+
+        // Act - same concurrency, ten times slower: most calls are queueing
+        limiter.onSample(10_000_000, before, false);
+
+        // Assert
+        assertTrue(limiter.getLimit() < before);
+    }
+
+    @Test
+    void shouldBackOffOnDroppedCalls() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", props, ex -> true, registry);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> limiter.execute(() -> {
+            throw new IllegalStateException("timeout");
+        }));
+
+        // Assert
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldNotGrowWhenApplicationLimited() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", props, ex -> false, registry);
+
+        // Act - a single call in flight says nothing about capacity at 10
+        limiter.onSample(1_000_000, 1, false);
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
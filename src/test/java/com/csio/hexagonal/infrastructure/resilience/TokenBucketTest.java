@@ -0,0 +1,71 @@
+package com.csio.hexagonal.infrastructure.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstUpToCapacityThenReject() {
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+
+        assertEquals(2, bucket.tryTake(0).remaining());
+        assertEquals(1, bucket.tryTake(0).remaining());
+        TokenBucket.Decision last = bucket.tryTake(0);
+        assertTrue(last.allowed());
+        assertEquals(0, last.remaining());
+        assertEquals(3 * SECOND, last.resetNanos());
+
+        TokenBucket.Decision rejected = bucket.tryTake(0);
+        assertFalse(rejected.allowed());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+    }
+
+    @Test
+    void shouldRefillOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        bucket.tryTake(0);
+        bucket.tryTake(0);
+
+        assertFalse(bucket.tryTake(SECOND / 2).allowed());
+        assertTrue(bucket.tryTake(SECOND).allowed());
+        assertFalse(bucket.tryTake(SECOND).allowed());
+    }
+
+    @Test
+    void shouldNotBankTimeSpentFull() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+
+        long later = 60 * SECOND;
+        assertTrue(bucket.tryTake(later).allowed());
+        assertTrue(bucket.tryTake(later).allowed());
+        assertFalse(bucket.tryTake(later).allowed());
+    }
+
+    @Test
+    void shouldHandOutExactlyCapacityUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, Duration.ofHours(1), 0);
+        AtomicInteger taken = new AtomicInteger();
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                threads.submit(() -> {
+                    if (bucket.tryTake(0).allowed()) {
+                        taken.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertEquals(100, taken.get());
+    }
+}
@@ -0,0 +1,69 @@
+package com.csio.hexagonal.infrastructure.rest.exception;
+
+import com.csio.hexagonal.application.context.ContextBridge;
+import com.csio.hexagonal.infrastructure.config.executor.InstrumentedExecutorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new ObjectMapper());
+
+    @Test
+    void shouldAnswerSaturatedSchedulerWith503AndRetryAfter() throws Exception {
+        // Arrange - a scheduler whose only pending slot is held by a task that does not finish
+        InstrumentedExecutorService executor = new InstrumentedExecutorService(
+                Executors.newSingleThreadExecutor(), "blocking", 1, new SimpleMeterRegistry());
+        Scheduler scheduler = Schedulers.fromExecutorService(executor);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ContextBridge.callBlocking(() -> {
+                running.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }, scheduler).subscribe();
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            // Act - the next blocking hop is rejected by the scheduler
+            AtomicReference<Throwable> rejection = new AtomicReference<>();
+            StepVerifier.create(ContextBridge.callBlocking(() -> "late", scheduler))
+                    .expectErrorSatisfies(rejection::set)
+                    .verify(Duration.ofSeconds(5));
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/all"));
+            StepVerifier.create(handler.handle(exchange, rejection.get())).verifyComplete();
+
+            // Assert
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+            assertEquals("1", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        } finally {
+            release.countDown();
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void shouldLeaveOtherErrorsToTheRegistry() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/all"));
+
+        StepVerifier.create(handler.handle(exchange, new IllegalStateException("boom"))).verifyComplete();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exchange.getResponse().getStatusCode());
+        assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,37 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.application.context.ServedVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogVersionWebFilterTest {
+
+    private final CatalogVersionWebFilter filter = new CatalogVersionWebFilter();
+
+    @Test
+    void shouldSendVersionRecordedByHandler() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc"));
+
+        Mono<Void> chain = filter.filter(exchange, ex ->
+                ServedVersion.recording(42, Mono.just("city"))
+                        .then(ex.getResponse().setComplete()));
+
+        StepVerifier.create(chain).verifyComplete();
+        assertEquals("42", exchange.getResponse().getHeaders().getFirst(CatalogVersionWebFilter.VERSION_HEADER));
+    }
+
+    @Test
+    void shouldSendNoHeaderWhenDatabaseAnswered() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc"));
+
+        Mono<Void> chain = filter.filter(exchange, ex -> ex.getResponse().setComplete());
+
+        StepVerifier.create(chain).verifyComplete();
+        assertNull(exchange.getResponse().getHeaders().getFirst(CatalogVersionWebFilter.VERSION_HEADER));
+    }
+}
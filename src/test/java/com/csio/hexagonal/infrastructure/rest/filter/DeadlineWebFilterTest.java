@@ -0,0 +1,55 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineWebFilterTest {
+
+    private DeadlineWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.setDefaultTimeout(Duration.ofSeconds(10));
+        properties.setMaxTimeout(Duration.ofSeconds(30));
+        properties.getRoutes().put("/api/v1/city/all", Duration.ofSeconds(5));
+        filter = new DeadlineWebFilter(properties);
+    }
+
+    @Test
+    void shouldUseClientBudgetFromHeader() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/api/v1/city/all").header("X-Request-Timeout", "750"));
+
+        assertEquals(Duration.ofMillis(750), filter.resolveBudget(exchange));
+    }
+
+    @Test
+    void shouldCapClientBudgetAtMaximum() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/city/abc").header("X-Request-Timeout", "600000"));
+
+        assertEquals(Duration.ofSeconds(30), filter.resolveBudget(exchange));
+    }
+
+    @Test
+    void shouldUseRouteDefaultWhenHeaderMissing() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/city/all"));
+
+        assertEquals(Duration.ofSeconds(5), filter.resolveBudget(exchange));
+    }
+
+    @Test
+    void shouldFallBackToGlobalDefaultForMalformedHeader() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/city/abc").header("X-Request-Timeout", "soon"));
+
+        assertEquals(Duration.ofSeconds(10), filter.resolveBudget(exchange));
+    }
+}
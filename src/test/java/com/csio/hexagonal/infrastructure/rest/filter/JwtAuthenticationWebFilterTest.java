@@ -0,0 +1,116 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.application.context.RequestContext;
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import com.csio.hexagonal.infrastructure.rest.exception.RateLimitExceededException;
+import com.csio.hexagonal.infrastructure.security.JwtVerificationException;
+import com.csio.hexagonal.infrastructure.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationWebFilterTest {
+
+    private final VerifiedTokenCache tokens = mock(VerifiedTokenCache.class);
+    private final JwtAuthenticationWebFilter filter = new JwtAuthenticationWebFilter(tokens, List.of("/api/**"));
+    private final VerifiedPrincipal alice =
+            new VerifiedPrincipal("alice", null, List.of(), Set.of("city:read"), Instant.parse("2030-01-01T00:00:00Z"));
+
+    @Test
+    void shouldRejectProtectedPathWithoutBearerToken() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc"));
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty()))
+                .expectError(JwtVerificationException.class)
+                .verify();
+
+        verifyNoInteractions(tokens);
+    }
+
+    @Test
+    void shouldLeaveUnprotectedPathsAlone() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+
+        verifyNoInteractions(tokens);
+    }
+
+    @Test
+    void shouldVerifyNewTokenAndAddPrincipalToRequestContext() {
+        when(tokens.verify("abc")).thenReturn(alice);
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+
+        Mono<Void> chain = filter.filter(exchange("Bearer abc"), ex -> Mono.deferContextual(ctx -> {
+                    seen.set(RequestContext.from(ctx));
+                    return Mono.<Void>empty();
+                }))
+                .contextWrite(ctx -> ctx.put(RequestContext.KEY, new RequestContext("Bearer abc", "trace-1", null, null)));
+
+        StepVerifier.create(chain).verifyComplete();
+        assertEquals(alice, seen.get().principal());
+        assertEquals("trace-1", seen.get().traceId());
+    }
+
+    @Test
+    void shouldSkipVerificationForCachedToken() {
+        when(tokens.cached("abc")).thenReturn(alice);
+
+        StepVerifier.create(filter.filter(exchange("Bearer abc"), ex -> Mono.empty())).verifyComplete();
+
+        verify(tokens, never()).verify(anyString());
+    }
+
+    @Test
+    void shouldPropagateVerificationFailure() {
+        when(tokens.verify("bad")).thenThrow(new JwtVerificationException("Token signature does not match"));
+
+        StepVerifier.create(filter.filter(exchange("Bearer bad"), ex -> Mono.empty()))
+                .expectError(JwtVerificationException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldThrottleDistinctMadeUpTokensFromOneAddressBeforeVerifyingThem() {
+        when(tokens.verify(anyString())).thenThrow(new JwtVerificationException("Token signature does not match"));
+        RateLimitProperties limits = new RateLimitProperties();
+        limits.setEnabled(true);
+        limits.setDefaultLimit(new RateLimitProperties.Limit(3, Duration.ofSeconds(1)));
+        RateLimitWebFilter rateLimit = new RateLimitWebFilter(limits, new SimpleMeterRegistry(), () -> 0L, tokens::verifiedKey);
+
+        int throttled = 0;
+        for (int i = 0; i < 10; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc")
+                    .header("Authorization", "Bearer made-up-" + i)
+                    .remoteAddress(new InetSocketAddress("10.0.0.7", 5000 + i)));
+            try {
+                rateLimit.filter(exchange, ex -> filter.filter(ex, next -> Mono.empty())).block();
+                fail("made-up token was accepted");
+            } catch (RateLimitExceededException ex) {
+                throttled++;
+            } catch (JwtVerificationException ex) {
+                // within the address's budget: rejected by the signature check
+            }
+        }
+
+        assertEquals(7, throttled);
+        verify(tokens, times(3)).verify(anyString());
+    }
+
+    private static MockServerWebExchange exchange(String authorization) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc").header("Authorization", authorization));
+    }
+}
@@ -0,0 +1,153 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.infrastructure.rest.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitWebFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldPassEverythingWhenDisabled() {
+        RateLimitWebFilter filter = new RateLimitWebFilter(new RateLimitProperties(), registry, clock::get);
+        MockServerWebExchange exchange = exchange("/api/v1/city/all", "Bearer a");
+
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(RateLimitWebFilter.LIMIT_HEADER));
+    }
+
+    @Test
+    void shouldRejectClientOnceBucketIsEmptyAndSendHeaders() {
+        RateLimitWebFilter filter = new RateLimitWebFilter(properties(2), registry, clock::get);
+
+        MockServerWebExchange first = exchange("/api/v1/city/all", "Bearer a");
+        StepVerifier.create(filter.filter(first, ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/city/all", "Bearer a"), ex -> Mono.empty())).verifyComplete();
+        MockServerWebExchange third = exchange("/api/v1/city/all", "Bearer a");
+
+        StepVerifier.create(filter.filter(third, ex -> Mono.empty()))
+                .expectError(RateLimitExceededException.class)
+                .verify();
+
+        assertEquals("2", first.getResponse().getHeaders().getFirst(RateLimitWebFilter.LIMIT_HEADER));
+        assertEquals("1", first.getResponse().getHeaders().getFirst(RateLimitWebFilter.REMAINING_HEADER));
+        assertEquals("2;w=1", first.getResponse().getHeaders().getFirst(RateLimitWebFilter.POLICY_HEADER));
+        assertEquals("0", third.getResponse().getHeaders().getFirst(RateLimitWebFilter.REMAINING_HEADER));
+        assertEquals("1", third.getResponse().getHeaders().getFirst(RateLimitWebFilter.RESET_HEADER));
+        assertEquals(1.0, registry.get("hexagon.rate_limit.requests")
+                .tags("route", "default", "result", "rejected").counter().count());
+        assertEquals(1.0, registry.get("hexagon.rate_limit.hot_clients").gauge().value());
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerVerifiedClient() {
+        RateLimitWebFilter filter = verifyingFilter(1);
+
+        StepVerifier.create(filter.filter(exchange("/api/v1/city/all", "Bearer a"), ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/city/all", "Bearer b"), ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/v1/city/all", "Bearer a"), ex -> Mono.empty()))
+                .expectError(RateLimitExceededException.class)
+                .verify();
+
+        assertEquals(2.0, registry.get("hexagon.rate_limit.clients").gauge().value());
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+        RateLimitWebFilter filter = new RateLimitWebFilter(properties(1), registry, clock::get);
+        StepVerifier.create(filter.filter(exchange("/api/v1/city/all", "Bearer a"), ex -> Mono.empty())).verifyComplete();
+
+        clock.set(Duration.ofSeconds(1).toNanos());
+
+        StepVerifier.create(filter.filter(exchange("/api/v1/city/all", "Bearer a"), ex -> Mono.empty())).verifyComplete();
+    }
+
+    @Test
+    void shouldUseFirstMatchingRouteAndSkipUnlimitedPaths() {
+        RateLimitProperties properties = properties(100);
+        properties.getRoutes().put("/api/v1/city/batch", new RateLimitProperties.Limit(5, Duration.ofSeconds(1)));
+        RateLimitWebFilter filter = new RateLimitWebFilter(properties, registry, clock::get);
+
+        assertEquals("/api/v1/city/batch", filter.resolveRoute(PathContainer.parsePath("/api/v1/city/batch")).name());
+        assertEquals("default", filter.resolveRoute(PathContainer.parsePath("/api/v1/city/all")).name());
+        assertNull(filter.resolveRoute(PathContainer.parsePath("/actuator/health")));
+    }
+
+    @Test
+    void shouldFallBackToRemoteAddressWithoutToken() {
+        RateLimitWebFilter filter = verifyingFilter(1);
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/city/all")
+                .remoteAddress(new InetSocketAddress("10.0.0.7", 5000))
+                .build();
+
+        assertEquals("address:10.0.0.7", filter.clientKey(request));
+    }
+
+    @Test
+    void shouldKeyVerifiedTokenByItsHashNotTheToken() {
+        RateLimitWebFilter filter = verifyingFilter(1);
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/city/all")
+                .header("Authorization", "Bearer a")
+                .remoteAddress(new InetSocketAddress("10.0.0.7", 5000))
+                .build();
+
+        assertEquals("token:hash-of-a", filter.clientKey(request));
+    }
+
+    @Test
+    void shouldThrottleMadeUpTokensByRemoteAddress() {
+        // Arrange - every request carries a token nobody has verified
+        RateLimitWebFilter filter = verifyingFilter(3);
+
+        // Act
+        int rejected = 0;
+        for (int i = 0; i < 20; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/all")
+                    .header("Authorization", "Bearer made-up-" + i)
+                    .remoteAddress(new InetSocketAddress("10.0.0.7", 5000)));
+            try {
+                filter.filter(exchange, ex -> Mono.empty()).block();
+            } catch (RateLimitExceededException ex) {
+                rejected++;
+            }
+        }
+
+        // Assert - one bucket for the address, not one per token
+        assertEquals(17, rejected);
+        assertEquals(1.0, registry.get("hexagon.rate_limit.clients").gauge().value());
+    }
+
+    private RateLimitWebFilter verifyingFilter(long capacity) {
+        return new RateLimitWebFilter(properties(capacity), registry, clock::get, RateLimitWebFilterTest::verified);
+    }
+
+    // Stands in for the verified token cache: only tokens "a" and "b" have been verified
+    private static String verified(String token) {
+        return token.equals("a") || token.equals("b") ? "hash-of-" + token : null;
+    }
+
+    private static RateLimitProperties properties(long capacity) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(true);
+        properties.setDefaultLimit(new RateLimitProperties.Limit(capacity, Duration.ofSeconds(1)));
+        return properties;
+    }
+
+    private static MockServerWebExchange exchange(String path, String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(path).header("Authorization", token));
+    }
+}
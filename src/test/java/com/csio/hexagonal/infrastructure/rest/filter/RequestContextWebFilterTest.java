@@ -0,0 +1,81 @@
+package com.csio.hexagonal.infrastructure.rest.filter;
+
+import com.csio.hexagonal.application.context.RequestContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestContextWebFilterTest {
+
+    private final RequestContextWebFilter filter = new RequestContextWebFilter();
+
+    @Test
+    void shouldResolveContextFromHeaders() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc")
+                .header("Authorization", "Bearer abc")
+                .header("X-Trace-Id", "trace-1")
+                .header("X-Tenant-Id", "tenant-a"));
+
+        RequestContext context = filter.resolve(exchange);
+
+        assertEquals("Bearer abc", context.token());
+        assertEquals("trace-1", context.traceId());
+        assertEquals("tenant-a", context.tenant());
+        assertNull(context.deadline());
+    }
+
+    @Test
+    void shouldAssignDistinctRequestIdsToRequestsSharingATraceId() {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc")
+                .header("X-Trace-Id", "trace-1"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc")
+                .header("X-Trace-Id", "trace-1"));
+
+        String firstId = filter.resolve(first).requestId();
+
+        assertNotNull(firstId);
+        assertNotEquals(firstId, filter.resolve(second).requestId());
+        assertNotEquals(firstId, filter.resolve(first).requestId());
+    }
+
+    @Test
+    void shouldFallBackToExchangeIdForTraceId() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/city/abc"));
+
+        RequestContext context = filter.resolve(exchange);
+
+        assertEquals(exchange.getRequest().getId(), context.traceId());
+        assertNull(context.token());
+    }
+
+    @Test
+    void shouldLetDeadlineFilterEnrichContext() {
+        // Arrange
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.setDefaultTimeout(Duration.ofSeconds(10));
+        properties.setMaxTimeout(Duration.ofSeconds(30));
+        DeadlineWebFilter deadlineFilter = new DeadlineWebFilter(properties);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/city/abc").header("Authorization", "Bearer abc"));
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+
+        // Act
+        Mono<Void> chain = filter.filter(exchange, ex -> deadlineFilter.filter(ex, inner ->
+                Mono.deferContextual(ctx -> {
+                    seen.set(RequestContext.from(ctx));
+                    return Mono.<Void>empty();
+                })));
+
+        // Assert
+        StepVerifier.create(chain).verifyComplete();
+        assertEquals("Bearer abc", seen.get().token());
+        assertNotNull(seen.get().deadline());
+    }
+}
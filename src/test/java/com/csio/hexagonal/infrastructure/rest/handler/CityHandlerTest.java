@@ -4,11 +4,16 @@ import com.csio.hexagonal.application.port.in.CommandUseCase;
 import com.csio.hexagonal.application.port.in.QueryUseCase;
 import com.csio.hexagonal.application.service.command.CreateCityCommand;
 import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.application.service.query.GetCitiesQuery;
 import com.csio.hexagonal.application.service.query.GetCityQuery;
+import com.csio.hexagonal.application.service.query.GetCitySummaryQuery;
 import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.vo.CityId;
 import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.domain.vo.State;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import com.csio.hexagonal.infrastructure.rest.exception.ValidationException;
+import com.csio.hexagonal.infrastructure.rest.request.CityMultiGetRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,8 +30,7 @@ import reactor.test.StepVerifier;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,17 +45,20 @@ class CityHandlerTest {
     @Mock
     private QueryUseCase<GetCityQuery, City> getCityUseCase;
 
+    @Mock
+    private QueryUseCase<GetCitiesQuery, List<City>> getCitiesUseCase;
+
     @Mock
     private QueryUseCase<CityFilterQuery, PageResult<City>> getAllCityUseCase;
 
-    private Executor virtualExecutor;
+    @Mock
+    private QueryUseCase<GetCitySummaryQuery, List<StateCityCount>> getCitySummaryUseCase;
 
     private CityHandler handler;
 
     @BeforeEach
     void setUp() {
-        virtualExecutor = Executors.newSingleThreadExecutor();
-        handler = new CityHandler(commandUseCase, getCityUseCase, getAllCityUseCase, virtualExecutor);
+        handler = new CityHandler(commandUseCase, getCityUseCase, getCitiesUseCase, getAllCityUseCase, getCitySummaryUseCase);
     }
 
     @Test
@@ -65,7 +72,7 @@ class CityHandlerTest {
         // Arrange
         UUID uuid = UUID.randomUUID();
         City city = new City(new CityId(uuid), "New York", new State("NY"));
-        when(getCityUseCase.query(any(GetCityQuery.class), anyString()))
+        when(getCityUseCase.query(any(GetCityQuery.class)))
                 .thenReturn(Mono.just(city));
 
         ServerRequest request = MockServerRequest.builder()
@@ -81,7 +88,7 @@ class CityHandlerTest {
                 .expectNextMatches(r -> r.statusCode().value() == 200)
                 .verifyComplete();
 
-        verify(getCityUseCase).query(any(GetCityQuery.class), eq("test-token"));
+        verify(getCityUseCase).query(any(GetCityQuery.class));
     }
 
     @Test
@@ -89,4 +96,79 @@ class CityHandlerTest {
         // Assert that handler is properly instantiated with dependencies
         assertNotNull(handler);
     }
+
+    @Test
+    void shouldHandleGetCitiesRequest() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(getCitiesUseCase.query(any(GetCitiesQuery.class)))
+                .thenReturn(Mono.just(List.of(new City(new CityId(first), "New York", new State("NY")))));
+
+        ServerRequest request = MockServerRequest.builder()
+                .header(HttpHeaders.AUTHORIZATION, "test-token")
+                .body(Mono.just(new CityMultiGetRequest(List.of(first.toString(), second.toString()))));
+
+        // Act
+        Mono<ServerResponse> response = handler.getCities(request);
+
+        // Assert
+        StepVerifier.create(response)
+                .expectNextMatches(r -> r.statusCode().value() == 200)
+                .verifyComplete();
+
+        verify(getCitiesUseCase).query(new GetCitiesQuery(List.of(first, second)));
+    }
+
+    @Test
+    void shouldRejectMalformedUidInGetCitiesRequest() {
+        // Arrange
+        ServerRequest request = MockServerRequest.builder()
+                .body(Mono.just(new CityMultiGetRequest(List.of("not-a-uuid"))));
+
+        // Act & Assert
+        StepVerifier.create(handler.getCities(request))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(getCitiesUseCase);
+    }
+
+    @Test
+    void shouldRejectGetCitiesRequestOverLimit() {
+        // Arrange
+        List<String> uids = Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(CityMultiGetRequest.MAX_UIDS + 1)
+                .toList();
+        ServerRequest request = MockServerRequest.builder()
+                .body(Mono.just(new CityMultiGetRequest(uids)));
+
+        // Act & Assert
+        StepVerifier.create(handler.getCities(request))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(getCitiesUseCase);
+    }
+
+    @Test
+    void shouldHandleGetCitySummaryRequest() {
+        // Arrange
+        when(getCitySummaryUseCase.query(any(GetCitySummaryQuery.class)))
+                .thenReturn(Mono.just(List.of(new StateCityCount("TX", 2, 1))));
+
+        ServerRequest request = MockServerRequest.builder()
+                .header(HttpHeaders.AUTHORIZATION, "test-token")
+                .build();
+
+        // Act
+        Mono<ServerResponse> response = handler.getCitySummary(request);
+
+        // Assert
+        StepVerifier.create(response)
+                .expectNextMatches(r -> r.statusCode().value() == 200)
+                .verifyComplete();
+
+        verify(getCitySummaryUseCase).query(new GetCitySummaryQuery());
+    }
 }
@@ -0,0 +1,105 @@
+package com.csio.hexagonal.infrastructure.security;
+
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final long IN_AN_HOUR = NOW.getEpochSecond() + 3600;
+
+    private final TestTokens tokens = new TestTokens();
+    private final JwtProperties props = new JwtProperties();
+
+    @Test
+    void shouldVerifyRs256TokenAndReadClaims() {
+        Map<String, Object> claims = TestTokens.claims("alice", IN_AN_HOUR);
+        claims.put("iss", "https://issuer.example.com");
+        claims.put("aud", List.of("hexagonal-city", "other"));
+        claims.put("scope", "city:read city:write");
+        props.setIssuer("https://issuer.example.com");
+        props.setAudience("hexagonal-city");
+
+        VerifiedPrincipal principal = verifier().verify(tokens.rs256(claims));
+
+        assertEquals("alice", principal.subject());
+        assertEquals("https://issuer.example.com", principal.issuer());
+        assertEquals(List.of("hexagonal-city", "other"), principal.audience());
+        assertEquals(Set.of("city:read", "city:write"), principal.scopes());
+        assertEquals(Instant.ofEpochSecond(IN_AN_HOUR), principal.expiresAt());
+    }
+
+    @Test
+    void shouldVerifyEs256Token() {
+        VerifiedPrincipal principal = verifier().verify(tokens.es256(TestTokens.claims("bob", IN_AN_HOUR)));
+
+        assertEquals("bob", principal.subject());
+    }
+
+    @Test
+    void shouldRejectTamperedPayload() {
+        String[] parts = tokens.rs256(TestTokens.claims("alice", IN_AN_HOUR)).split("\\.");
+        String forged = TestTokens.part("{\"sub\":\"admin\",\"exp\":9999999999}".getBytes());
+
+        assertThrows(JwtVerificationException.class, () -> verifier().verify(parts[0] + "." + forged + "." + parts[2]));
+    }
+
+    @Test
+    void shouldRejectExpiredTokenBeyondClockSkew() {
+        long expired = NOW.getEpochSecond() - 31;
+        long withinSkew = NOW.getEpochSecond() - 29;
+
+        assertThrows(JwtVerificationException.class,
+                () -> verifier().verify(tokens.rs256(TestTokens.claims("alice", expired))));
+        assertEquals("alice", verifier().verify(tokens.rs256(TestTokens.claims("alice", withinSkew))).subject());
+    }
+
+    @Test
+    void shouldRejectWrongIssuerOrAudience() {
+        props.setIssuer("https://issuer.example.com");
+        props.setAudience("hexagonal-city");
+        Map<String, Object> claims = TestTokens.claims("alice", IN_AN_HOUR);
+        claims.put("iss", "https://elsewhere.example.com");
+        claims.put("aud", "hexagonal-city");
+
+        assertThrows(JwtVerificationException.class, () -> verifier().verify(tokens.rs256(claims)));
+
+        claims.put("iss", "https://issuer.example.com");
+        claims.put("aud", "billing");
+        assertThrows(JwtVerificationException.class, () -> verifier().verify(tokens.rs256(claims)));
+    }
+
+    @Test
+    void shouldRejectUnsignedAndUnknownKeyAndMismatchedAlgorithm() {
+        Map<String, Object> claims = TestTokens.claims("alice", IN_AN_HOUR);
+        String payload = TestTokens.part("{\"sub\":\"alice\",\"exp\":9999999999}".getBytes());
+        String unsigned = TestTokens.part("{\"alg\":\"none\"}".getBytes()) + "." + payload + ".";
+
+        assertThrows(JwtVerificationException.class, () -> verifier().verify(unsigned));
+        assertThrows(JwtVerificationException.class, () -> verifier().verify(tokens.sign(
+                Map.of("alg", "RS256", "kid", "unknown"), claims, "SHA256withRSA", tokens.rsa)));
+        // The RSA key is restricted to RS256
+        assertThrows(JwtVerificationException.class, () -> verifier().verify(tokens.sign(
+                Map.of("alg", "RS512", "kid", "rsa-1"), claims, "SHA512withRSA", tokens.rsa)));
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+        assertThrows(JwtVerificationException.class, () -> verifier().verify("not-a-token"));
+        assertThrows(JwtVerificationException.class, () -> verifier().verify("a.b.c"));
+        assertThrows(JwtVerificationException.class, () -> verifier().verify(""));
+    }
+
+    private JwtVerifier verifier() {
+        return new JwtVerifier(tokens.jwkSet(), TestTokens.JSON, props, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+}
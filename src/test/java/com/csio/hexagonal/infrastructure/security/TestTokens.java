@@ -0,0 +1,100 @@
+package com.csio.hexagonal.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signs test tokens with freshly generated keys and publishes those keys as a JWK set.
+ */
+final class TestTokens {
+
+    static final ObjectMapper JSON = new ObjectMapper();
+
+    final KeyPair rsa;
+    final KeyPair ec;
+
+    TestTokens() {
+        try {
+            KeyPairGenerator rsaGenerator = KeyPairGenerator.getInstance("RSA");
+            rsaGenerator.initialize(2048);
+            this.rsa = rsaGenerator.generateKeyPair();
+            KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+            ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+            this.ec = ecGenerator.generateKeyPair();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    JwkSet jwkSet() {
+        RSAPublicKey rsaKey = (RSAPublicKey) rsa.getPublic();
+        ECPublicKey ecKey = (ECPublicKey) ec.getPublic();
+        Map<String, Object> rsaJwk = Map.of("kty", "RSA", "kid", "rsa-1", "alg", "RS256", "use", "sig",
+                "n", b64(rsaKey.getModulus()), "e", b64(rsaKey.getPublicExponent()));
+        Map<String, Object> ecJwk = Map.of("kty", "EC", "kid", "ec-1", "crv", "P-256",
+                "x", b64(ecKey.getW().getAffineX(), 32), "y", b64(ecKey.getW().getAffineY(), 32));
+        try {
+            return JwkSet.parse(JSON.writeValueAsString(Map.of("keys", List.of(rsaJwk, ecJwk))), JSON);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    String rs256(Map<String, Object> claims) {
+        return sign(Map.of("alg", "RS256", "kid", "rsa-1", "typ", "JWT"), claims, "SHA256withRSA", rsa);
+    }
+
+    String es256(Map<String, Object> claims) {
+        return sign(Map.of("alg", "ES256", "kid", "ec-1"), claims, "SHA256withECDSAinP1363Format", ec);
+    }
+
+    String sign(Map<String, Object> header, Map<String, Object> claims, String jcaAlgorithm, KeyPair keys) {
+        try {
+            String signingInput = part(JSON.writeValueAsBytes(header)) + "." + part(JSON.writeValueAsBytes(claims));
+            Signature signature = Signature.getInstance(jcaAlgorithm);
+            signature.initSign(keys.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + part(signature.sign());
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static Map<String, Object> claims(String subject, long expEpochSeconds) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", subject);
+        claims.put("exp", expEpochSeconds);
+        return claims;
+    }
+
+    static String part(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String b64(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return part(bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes);
+    }
+
+    private static String b64(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, fixed, length - copy, copy);
+        return part(fixed);
+    }
+}
@@ -0,0 +1,49 @@
+package com.csio.hexagonal.infrastructure.security;
+
+import com.csio.hexagonal.application.context.VerifiedPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final TestTokens tokens = new TestTokens();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(
+            new JwtVerifier(tokens.jwkSet(), TestTokens.JSON, new JwtProperties(), clock), 100, clock, nanos::get, registry);
+
+    @Test
+    void shouldAnswerRepeatedTokenFromCacheUntilItExpires() {
+        String token = tokens.rs256(TestTokens.claims("alice", NOW.getEpochSecond() + 60));
+        assertNull(cache.cached(token));
+
+        VerifiedPrincipal verified = cache.verify(token);
+
+        assertSame(verified, cache.cached(token));
+        nanos.set(TimeUnit.SECONDS.toNanos(60));
+        assertNull(cache.cached(token));
+        assertEquals(1.0, registry.get("hexagon.jwt.verifications").tag("result", "verified").counter().count());
+        assertEquals(1.0, registry.get("hexagon.jwt.verifications").tag("result", "cached").counter().count());
+    }
+
+    @Test
+    void shouldNotCacheRejectedTokens() {
+        String token = tokens.rs256(TestTokens.claims("alice", NOW.getEpochSecond() - 3600));
+
+        assertThrows(JwtVerificationException.class, () -> cache.verify(token));
+
+        assertNull(cache.cached(token));
+        assertEquals(1.0, registry.get("hexagon.jwt.verifications").tag("result", "rejected").counter().count());
+    }
+}
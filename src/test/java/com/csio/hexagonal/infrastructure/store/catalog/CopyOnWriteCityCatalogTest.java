@@ -0,0 +1,159 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import com.csio.hexagonal.application.port.out.CityCatalog;
+import com.csio.hexagonal.application.service.query.CityFilterQuery;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.Direction;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.Filter;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.FilterCondition;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.FilterGroup;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.LogicalOperator;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.Operator;
+import com.csio.hexagonal.application.service.query.CityFilterQuery.SortOrder;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.PageResult;
+import com.csio.hexagonal.domain.vo.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteCityCatalogTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CopyOnWriteCityCatalog catalog = new CopyOnWriteCityCatalog(registry);
+
+    private final City austin = City.rehydrate(CityId.newId(), "Austin", new State("TX"), true);
+    private final City boston = City.rehydrate(CityId.newId(), "Boston", new State("MA"), true);
+    private final City dallas = City.rehydrate(CityId.newId(), "Dallas", new State("TX"), false);
+
+    @Test
+    void shouldHaveNoSnapshotUntilLoaded() {
+        assertTrue(catalog.current().isEmpty());
+        assertEquals(-1.0, registry.get("hexagon.catalog.version").gauge().value());
+
+        assertTrue(catalog.load(() -> List.of(austin, boston)));
+
+        CityCatalog.Snapshot snapshot = catalog.current().orElseThrow();
+        assertEquals(1, snapshot.version());
+        assertEquals(austin, snapshot.findByUid(austin.getId().value()).orElseThrow());
+        assertEquals(2.0, registry.get("hexagon.catalog.cities").gauge().value());
+    }
+
+    @Test
+    void shouldPublishNewVersionPerWriteAndLeaveOlderSnapshotsIntact() {
+        catalog.load(() -> List.of(austin));
+        CityCatalog.Snapshot first = catalog.current().orElseThrow();
+
+        catalog.put(List.of(boston));
+        catalog.remove(austin.getId().value());
+        CityCatalog.Snapshot third = catalog.current().orElseThrow();
+
+        assertEquals(3, third.version());
+        assertTrue(third.findByUid(austin.getId().value()).isEmpty());
+        assertTrue(third.findByUid(boston.getId().value()).isPresent());
+        assertTrue(first.findByUid(austin.getId().value()).isPresent());
+        assertTrue(first.findByUid(boston.getId().value()).isEmpty());
+    }
+
+    @Test
+    void shouldReplaceCityWithSameUid() {
+        catalog.load(() -> List.of(austin));
+        City renamed = City.rehydrate(austin.getId(), "Round Rock", new State("TX"), true);
+
+        catalog.put(List.of(renamed));
+
+        PageResult<City> page = catalog.current().orElseThrow().findAll(query(null, null)).orElseThrow();
+        assertEquals(List.of(renamed), page.content());
+    }
+
+    @Test
+    void shouldReadAgainWhenWriteArrivesDuringLoad() {
+        AtomicInteger reads = new AtomicInteger();
+
+        boolean loaded = catalog.load(() -> {
+            if (reads.incrementAndGet() == 1) {
+                catalog.put(List.of(dallas));
+                return List.of(austin);
+            }
+            return List.of(austin, dallas);
+        });
+
+        assertTrue(loaded);
+        assertEquals(2, reads.get());
+        assertTrue(catalog.current().orElseThrow().findByUid(dallas.getId().value()).isPresent());
+    }
+
+    @Test
+    void shouldGiveUpLoadWhenWritesNeverStop() {
+        boolean loaded = catalog.load(() -> {
+            catalog.put(List.of(dallas));
+            return List.of();
+        });
+
+        assertFalse(loaded);
+        assertTrue(catalog.current().isEmpty());
+    }
+
+    @Test
+    void shouldPageByNameInBothDirections() {
+        catalog.load(() -> List.of(dallas, austin, boston));
+        CityCatalog.Snapshot snapshot = catalog.current().orElseThrow();
+
+        PageResult<City> ascending = snapshot.findAll(new CityFilterQuery(null, 2, 2, null, null)).orElseThrow();
+        PageResult<City> descending = snapshot.findAll(new CityFilterQuery(null, 1, 2, null,
+                List.of(new SortOrder("name", Direction.DESC)))).orElseThrow();
+
+        assertEquals(List.of(dallas), ascending.content());
+        assertEquals(3, ascending.totalElements());
+        assertEquals(2, ascending.totalPages());
+        assertEquals(List.of(dallas, boston), descending.content());
+    }
+
+    @Test
+    void shouldFilterLikeSpecification() {
+        catalog.load(() -> List.of(dallas, austin, boston));
+        CityCatalog.Snapshot snapshot = catalog.current().orElseThrow();
+        Filter texasAndActive = new Filter(LogicalOperator.AND, List.of(
+                new FilterGroup(LogicalOperator.AND, List.of(
+                        new FilterCondition("state", Operator.EQUALS, "tx"),
+                        new FilterCondition("isActive", Operator.EQUALS, "true")))));
+
+        PageResult<City> filtered = snapshot.findAll(query(texasAndActive, null)).orElseThrow();
+        PageResult<City> searched = snapshot.findAll(query(null, "BOS")).orElseThrow();
+
+        assertEquals(List.of(austin), filtered.content());
+        assertEquals(1, filtered.totalElements());
+        assertEquals(List.of(boston), searched.content());
+    }
+
+    @Test
+    void shouldSortOnSeveralFields() {
+        catalog.load(() -> List.of(dallas, austin, boston));
+
+        PageResult<City> page = catalog.current().orElseThrow().findAll(new CityFilterQuery(null, 1, 10, null, List.of(
+                new SortOrder("state", Direction.DESC),
+                new SortOrder("name", Direction.DESC)))).orElseThrow();
+
+        assertEquals(List.of(dallas, austin, boston), page.content());
+    }
+
+    @Test
+    void shouldLeaveQueriesItCannotEvaluateToDatabase() {
+        catalog.load(() -> List.of(austin));
+        CityCatalog.Snapshot snapshot = catalog.current().orElseThrow();
+        Filter byPopulation = new Filter(LogicalOperator.AND, List.of(
+                new FilterGroup(LogicalOperator.AND, List.of(new FilterCondition("population", Operator.GT, "5")))));
+
+        assertTrue(snapshot.findAll(query(byPopulation, null)).isEmpty());
+        assertTrue(snapshot.findAll(new CityFilterQuery(null, 1, 10, null,
+                List.of(new SortOrder("createdAt", Direction.ASC)))).isEmpty());
+    }
+
+    private static CityFilterQuery query(Filter filter, String search) {
+        return new CityFilterQuery(filter, 1, 10, search, null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+    @Test
+    void shouldKeepEarlierVersionsUnchanged() {
+        PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+        PersistentHashMap<String, Integer> one = empty.plus("a", 1);
+        PersistentHashMap<String, Integer> two = one.plus("b", 2).plus("a", 10);
+        PersistentHashMap<String, Integer> removed = two.minus("a");
+
+        assertNull(empty.get("a"));
+        assertEquals(1, one.get("a"));
+        assertNull(one.get("b"));
+        assertEquals(10, two.get("a"));
+        assertEquals(2, two.size());
+        assertNull(removed.get("a"));
+        assertEquals(2, removed.get("b"));
+        assertEquals(1, removed.size());
+    }
+
+    @Test
+    void shouldReturnSameMapWhenNothingChanges() {
+        Integer value = 1;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", value);
+
+        assertSame(map, map.plus("a", value));
+        assertSame(map, map.minus("missing"));
+    }
+
+    @Test
+    void shouldKeepKeysWithEqualHashesApart() {
+        PersistentHashMap<Key, String> map = PersistentHashMap.<Key, String>empty()
+                .plus(new Key("x", 42), "x")
+                .plus(new Key("y", 42), "y")
+                .plus(new Key("z", 42), "z")
+                .plus(new Key("w", 7), "w");
+
+        assertEquals(4, map.size());
+        assertEquals("y", map.get(new Key("y", 42)));
+
+        PersistentHashMap<Key, String> smaller = map.minus(new Key("x", 42)).minus(new Key("z", 42));
+        assertEquals(2, smaller.size());
+        assertEquals("y", smaller.get(new Key("y", 42)));
+        assertEquals("w", smaller.get(new Key("w", 7)));
+        assertNull(smaller.get(new Key("x", 42)));
+        assertEquals("x", map.get(new Key("x", 42)));
+    }
+
+    @Test
+    void shouldAgreeWithHashMapUnderRandomChanges() {
+        Random random = new Random(46);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> actual = PersistentHashMap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.minus(key);
+            } else {
+                expected.put(key, i);
+                actual = actual.plus(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        for (int key = 0; key < 2_000; key++) {
+            assertEquals(expected.get(key), actual.get(key));
+        }
+    }
+
+    private record Key(String name, int hash) {
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
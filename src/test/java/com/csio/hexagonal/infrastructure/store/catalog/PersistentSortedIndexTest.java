@@ -0,0 +1,71 @@
+package com.csio.hexagonal.infrastructure.store.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentSortedIndexTest {
+
+    @Test
+    void shouldVisitInOrderFromOffsetInBothDirections() {
+        PersistentSortedIndex<Integer> index = PersistentSortedIndex.empty(Comparator.<Integer>naturalOrder());
+        for (int i = 10; i >= 1; i--) {
+            index = index.plus(i);
+        }
+
+        assertEquals(List.of(4, 5, 6), take(index, 3, false, 3));
+        assertEquals(List.of(7, 6, 5), take(index, 3, true, 3));
+        assertEquals(List.of(), take(index, 10, false, 3));
+        assertEquals(10, index.size());
+    }
+
+    @Test
+    void shouldKeepEarlierVersionsUnchanged() {
+        PersistentSortedIndex<Integer> before = PersistentSortedIndex.empty(Comparator.<Integer>naturalOrder())
+                .plus(1).plus(2).plus(3);
+        PersistentSortedIndex<Integer> after = before.minus(2).plus(4);
+
+        assertEquals(List.of(1, 2, 3), take(before, 0, false, 10));
+        assertEquals(List.of(1, 3, 4), take(after, 0, false, 10));
+        assertSame(after, after.minus(99));
+    }
+
+    @Test
+    void shouldAgreeWithTreeSetUnderRandomChanges() {
+        Random random = new Random(46);
+        TreeSet<Integer> expected = new TreeSet<>();
+        PersistentSortedIndex<Integer> actual = PersistentSortedIndex.empty(Comparator.<Integer>naturalOrder());
+
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(3_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                actual = actual.minus(value);
+            } else {
+                expected.add(value);
+                actual = actual.plus(value);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new ArrayList<>(expected), take(actual, 0, false, Integer.MAX_VALUE));
+        assertEquals(new ArrayList<>(expected.descendingSet()).subList(100, 150), take(actual, 100, true, 50));
+    }
+
+    private static List<Integer> take(PersistentSortedIndex<Integer> index, int skip, boolean descending, int limit) {
+        List<Integer> visited = new ArrayList<>();
+        if (limit > 0) {
+            index.forEach(skip, descending, value -> {
+                visited.add(value);
+                return visited.size() < limit;
+            });
+        }
+        return visited;
+    }
+}
@@ -0,0 +1,83 @@
+package com.csio.hexagonal.infrastructure.store.membership;
+
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomCityMembershipTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BloomCityMembership membership = new BloomCityMembership(new CityMembershipProperties(), registry);
+
+    @Test
+    void shouldAnswerMaybeUntilFirstRebuild() {
+        assertFalse(membership.isReady());
+        assertTrue(membership.mayContainUid(UUID.randomUUID()));
+        assertTrue(membership.mayContainName("Nowhere"));
+    }
+
+    @Test
+    void shouldAnswerAbsentForCitiesMissingFromSnapshot() {
+        City dhaka = city("Dhaka");
+
+        membership.rebuild(() -> List.of(dhaka));
+
+        assertTrue(membership.isReady());
+        assertTrue(membership.mayContainUid(dhaka.getId().value()));
+        assertTrue(membership.mayContainName("dhaka"));
+        assertFalse(membership.mayContainUid(UUID.randomUUID()));
+        assertFalse(membership.mayContainName("Nowhere"));
+        assertEquals(1.0, registry.get("hexagon.membership.checks")
+                .tags("filter", "uid", "result", "absent").counter().count());
+    }
+
+    @Test
+    void shouldKeepWritesRecordedWhileSnapshotWasRead() {
+        City written = city("Sylhet");
+
+        // The write lands after the snapshot was read but before the filters are swapped
+        membership.rebuild(() -> {
+            membership.record(written);
+            return List.of();
+        });
+
+        assertTrue(membership.mayContainUid(written.getId().value()));
+        assertTrue(membership.mayContainName("Sylhet"));
+    }
+
+    @Test
+    void shouldAddNewCitiesToLiveFilters() {
+        membership.rebuild(List::of);
+        City khulna = city("Khulna");
+
+        membership.recordNewCity(khulna);
+
+        assertTrue(membership.mayContainUid(khulna.getId().value()));
+        assertTrue(membership.mayContainName("Khulna"));
+        assertEquals(0.0, registry.get("hexagon.membership.false_positive_rate")
+                .tag("filter", "name").gauge().value());
+    }
+
+    @Test
+    void shouldRequestRebuildOnceRemovalsPassStaleRatio() {
+        CityMembershipProperties properties = new CityMembershipProperties();
+        properties.setRebuildStaleRatio(0.5);
+        BloomCityMembership small = new BloomCityMembership(properties, new SimpleMeterRegistry());
+        small.rebuild(() -> List.of(city("Dhaka"), city("Sylhet"), city("Khulna"), city("Rajshahi")));
+
+        assertFalse(small.recordRemoval());
+        assertFalse(small.recordRemoval());
+        assertTrue(small.recordRemoval());
+    }
+
+    private static City city(String name) {
+        return new City(CityId.newId(), name, new State("BD"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.csio.hexagonal.infrastructure.store.membership;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void shouldNeverReportAnAddedKeyAsAbsent() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 5_000; i++) {
+            filter.add(MembershipKeys.name("city " + i));
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(filter.mightContain(MembershipKeys.name("city " + i)), "lost key " + i);
+        }
+        assertEquals(5_000, filter.size());
+    }
+
+    @Test
+    void shouldAddSlicesInsteadOfSaturating() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+        assertEquals(1, filter.sliceCount());
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(MembershipKeys.uid(UUID.randomUUID()));
+        }
+
+        assertTrue(filter.sliceCount() > 1);
+        assertTrue(filter.expectedFalsePositiveRate() <= filter.targetFalsePositiveRate());
+    }
+
+    @Test
+    void shouldKeepObservedFalsePositivesNearTheTarget() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(MembershipKeys.uid(UUID.randomUUID()));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(MembershipKeys.uid(UUID.randomUUID()))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldTreatNamesCaseInsensitively() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        filter.add(MembershipKeys.name("Dhaka"));
+
+        assertTrue(filter.mightContain(MembershipKeys.name("DHAKA")));
+    }
+}
@@ -5,8 +5,11 @@ import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.vo.CityId;
 import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.domain.vo.State;
+import com.csio.hexagonal.domain.vo.StateCityCount;
 import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityStateSummaryEntity;
 import com.csio.hexagonal.infrastructure.store.persistence.exception.DatabaseException;
+import com.csio.hexagonal.infrastructure.store.persistence.support.QueryTimeoutPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +17,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -35,18 +39,20 @@ class CityRepositoryAdapterTest {
     @Mock
     private CityRepository repository;
 
+    @Mock
+    private CityStateSummaryRepository summaries;
+
     private CityRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new CityRepositoryAdapter(repository);
+        adapter = new CityRepositoryAdapter(repository, summaries, QueryTimeoutPolicy.none());
     }
 
     @Test
     void shouldSaveCitySuccessfully() {
         // Arrange
         City city = new City(CityId.newId(), "New York", new State("NY"));
-        String token = "test-token";
 
         CityEntity savedEntity = new CityEntity();
         savedEntity.setUid(city.getId().value().toString());
@@ -57,7 +63,7 @@ class CityRepositoryAdapterTest {
         when(repository.save(any(CityEntity.class))).thenReturn(savedEntity);
 
         // Act
-        City result = adapter.save(city, token);
+        City result = adapter.save(city);
 
         // Assert
         assertNotNull(result);
@@ -70,28 +76,26 @@ class CityRepositoryAdapterTest {
     void shouldThrowDatabaseExceptionWhenSaveFails() {
         // Arrange
         City city = new City(CityId.newId(), "New York", new State("NY"));
-        String token = "test-token";
 
         when(repository.save(any(CityEntity.class)))
                 .thenThrow(new DataAccessException("Database error") {});
 
         // Act & Assert
         assertThrows(DatabaseException.class, () -> {
-            adapter.save(city, token);
+            adapter.save(city);
         });
     }
 
     @Test
     void shouldFindAllCities() {
         // Arrange
-        String token = "test-token";
         CityEntity entity1 = createCityEntity("New York", "NY");
         CityEntity entity2 = createCityEntity("Los Angeles", "CA");
 
         when(repository.findAll()).thenReturn(Arrays.asList(entity1, entity2));
 
         // Act
-        List<City> result = adapter.findAll(token);
+        List<City> result = adapter.findAll();
 
         // Assert
         assertNotNull(result);
@@ -102,12 +106,11 @@ class CityRepositoryAdapterTest {
     @Test
     void shouldThrowDatabaseExceptionWhenFindAllFails() {
         // Arrange
-        String token = "test-token";
         when(repository.findAll()).thenThrow(new DataAccessException("Database error") {});
 
         // Act & Assert
         assertThrows(DatabaseException.class, () -> {
-            adapter.findAll(token);
+            adapter.findAll();
         });
     }
 
@@ -115,14 +118,13 @@ class CityRepositoryAdapterTest {
     void shouldFindCityByUid() {
         // Arrange
         UUID uuid = UUID.randomUUID();
-        String token = "test-token";
         CityEntity entity = createCityEntity("New York", "NY");
         entity.setUid(uuid.toString());
 
         when(repository.findByUid(uuid.toString())).thenReturn(Optional.of(entity));
 
         // Act
-        Optional<City> result = adapter.findByUid(uuid, token);
+        Optional<City> result = adapter.findByUid(uuid);
 
         // Assert
         assertTrue(result.isPresent());
@@ -134,29 +136,86 @@ class CityRepositoryAdapterTest {
     void shouldReturnEmptyWhenCityNotFoundByUid() {
         // Arrange
         UUID uuid = UUID.randomUUID();
-        String token = "test-token";
 
         when(repository.findByUid(uuid.toString())).thenReturn(Optional.empty());
 
         // Act
-        Optional<City> result = adapter.findByUid(uuid, token);
+        Optional<City> result = adapter.findByUid(uuid);
 
         // Assert
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void shouldFindCitiesByUidsWithOneQuery() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        CityEntity entity = createCityEntity("New York", "NY");
+        entity.setUid(first.toString());
+
+        when(repository.findByUidIn(List.of(first.toString(), second.toString()))).thenReturn(List.of(entity));
+
+        // Act
+        List<City> result = adapter.findByUids(List.of(first, second));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(first, result.get(0).getId().value());
+        verify(repository).findByUidIn(List.of(first.toString(), second.toString()));
+    }
+
+    @Test
+    void shouldInsertCitiesAsOneBatchWithCreationTime() {
+        // Arrange
+        List<City> cities = List.of(
+                new City(CityId.newId(), "New York", new State("NY")),
+                new City(CityId.newId(), "Boston", new State("MA")));
+
+        // Act
+        List<City> result = adapter.saveAll(cities);
+
+        // Assert
+        assertEquals(List.of("New York", "Boston"), result.stream().map(City::getName).toList());
+        verify(repository).insertAll(argThat(entities -> entities.size() == 2
+                && entities.stream().allMatch(entity -> entity.getCreatedAt() != null)));
+        verify(repository, never()).save(any(CityEntity.class));
+    }
+
+    @Test
+    void shouldLowerCaseNamesForBatchUniquenessQuery() {
+        // Arrange
+        when(repository.findByLowerCaseNameIn(List.of("new york"))).thenReturn(List.of());
+
+        // Act
+        List<City> result = adapter.findByNames(List.of("New York", "NEW YORK"));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(repository).findByLowerCaseNameIn(List.of("new york"));
+    }
+
+    @Test
+    void shouldNotQueryForEmptyUidList() {
+        // Act
+        List<City> result = adapter.findByUids(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void shouldThrowDatabaseExceptionWhenFindByUidFails() {
         // Arrange
         UUID uuid = UUID.randomUUID();
-        String token = "test-token";
 
         when(repository.findByUid(uuid.toString()))
                 .thenThrow(new DataAccessException("Database error") {});
 
         // Act & Assert
         assertThrows(DatabaseException.class, () -> {
-            adapter.findByUid(uuid, token);
+            adapter.findByUid(uuid);
         });
     }
 
@@ -165,7 +224,6 @@ class CityRepositoryAdapterTest {
         // Arrange
         UUID uuid = UUID.randomUUID();
         City city = new City(new CityId(uuid), "New York", new State("NY"));
-        String token = "test-token";
 
         CityEntity existingEntity = new CityEntity();
         existingEntity.setId(1L);
@@ -180,7 +238,7 @@ class CityRepositoryAdapterTest {
         when(repository.save(any(CityEntity.class))).thenReturn(savedEntity);
 
         // Act
-        City result = adapter.update(uuid, city, token);
+        City result = adapter.update(uuid, city);
 
         // Assert
         assertNotNull(result);
@@ -192,7 +250,6 @@ class CityRepositoryAdapterTest {
     void shouldDeleteCityByUid() {
         // Arrange
         UUID uuid = UUID.randomUUID();
-        String token = "test-token";
         
         CityEntity entity = new CityEntity();
         entity.setId(1L);
@@ -202,7 +259,7 @@ class CityRepositoryAdapterTest {
         doNothing().when(repository).deleteById(1L);
 
         // Act
-        adapter.deleteByUid(uuid, token);
+        adapter.deleteByUid(uuid);
 
         // Assert
         verify(repository).findByUid(uuid.toString());
@@ -212,7 +269,6 @@ class CityRepositoryAdapterTest {
     @Test
     void shouldFindAllWithPagination() {
         // Arrange
-        String token = "test-token";
         CityEntity entity1 = createCityEntity("New York", "NY");
         CityEntity entity2 = createCityEntity("Los Angeles", "CA");
         
@@ -222,7 +278,7 @@ class CityRepositoryAdapterTest {
         when(repository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
 
         // Act
-        PageResult<City> result = adapter.findAllWithPagination(1, 10, null, "name,asc", token);
+        PageResult<City> result = adapter.findAllWithPagination(1, 10, null, "name,asc");
 
         // Assert
         assertNotNull(result);
@@ -235,7 +291,6 @@ class CityRepositoryAdapterTest {
     @Test
     void shouldFindAllWithFilters() {
         // Arrange
-        String token = "test-token";
         CityFilterQuery query = new CityFilterQuery(null, 1, 10, "New", null);
         
         CityEntity entity = createCityEntity("New York", "NY");
@@ -248,7 +303,7 @@ class CityRepositoryAdapterTest {
         )).thenReturn(page);
 
         // Act
-        PageResult<City> result = adapter.findAllWithFilters(query, token);
+        PageResult<City> result = adapter.findAllWithFilters(query);
 
         // Assert
         assertNotNull(result);
@@ -264,4 +319,90 @@ class CityRepositoryAdapterTest {
         entity.setIsActive(true);
         return entity;
     }
+
+    @Test
+    void shouldCountSavedCityInStateSummary() {
+        // Arrange
+        when(repository.save(any(CityEntity.class))).thenReturn(createCityEntity("Austin", "TX"));
+        when(summaries.adjust("TX", 1, 0)).thenReturn(1);
+
+        // Act
+        adapter.save(new City(CityId.newId(), "Austin", new State("TX")));
+
+        // Assert
+        verify(summaries).adjust("TX", 1, 0);
+    }
+
+    @Test
+    void shouldUpsertSummaryRowForFirstCityOfStateInOneStatement() {
+        // Arrange - the upsert creates the missing row itself
+        when(repository.save(any(CityEntity.class))).thenReturn(createCityEntity("Boise", "ID"));
+        when(summaries.adjust("ID", 1, 0)).thenReturn(1);
+
+        // Act
+        adapter.save(new City(CityId.newId(), "Boise", new State("ID")));
+
+        // Assert
+        verify(summaries, times(1)).adjust("ID", 1, 0);
+        verifyNoMoreInteractions(summaries);
+    }
+
+    @Test
+    void shouldRetrySummaryUpsertOnceWhenAnotherWriterCreatedTheStateRow() {
+        // Arrange - a concurrent transaction inserted the state's row between match and insert
+        when(repository.save(any(CityEntity.class))).thenReturn(createCityEntity("Boise", "ID"));
+        when(summaries.adjust("ID", 1, 0))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(1);
+
+        // Act
+        City saved = adapter.save(new City(CityId.newId(), "Boise", new State("ID")));
+
+        // Assert
+        assertEquals("Boise", saved.getName());
+        verify(summaries, times(2)).adjust("ID", 1, 0);
+    }
+
+    @Test
+    void shouldMoveCityBetweenSummaryBucketsOnDeactivation() {
+        // Arrange
+        UUID uuid = UUID.randomUUID();
+        CityEntity existing = createCityEntity("Austin", "TX");
+        existing.setId(1L);
+        CityEntity saved = createCityEntity("Austin", "TX");
+        saved.setId(1L);
+        saved.setIsActive(false);
+
+        when(repository.findByUid(uuid.toString())).thenReturn(Optional.of(existing));
+        when(repository.save(any(CityEntity.class))).thenReturn(saved);
+        when(summaries.adjust(eq("TX"), anyLong(), anyLong())).thenReturn(1);
+
+        // Act
+        adapter.update(uuid, City.rehydrate(new CityId(uuid), "Austin", new State("TX"), false));
+
+        // Assert
+        verify(summaries).adjust("TX", -1, 0);
+        verify(summaries).adjust("TX", 0, 1);
+    }
+
+    @Test
+    void shouldReportOnlyStatesWithCities() {
+        // Arrange
+        when(summaries.findAllByOrderByStateAsc()).thenReturn(List.of(
+                summaryRow("CA", 2, 1), summaryRow("NV", 0, 0), summaryRow("TX", 0, 3)));
+
+        // Act
+        List<StateCityCount> counts = adapter.countByState();
+
+        // Assert
+        assertEquals(List.of(new StateCityCount("CA", 2, 1), new StateCityCount("TX", 0, 3)), counts);
+    }
+
+    private CityStateSummaryEntity summaryRow(String state, long active, long inactive) {
+        CityStateSummaryEntity row = new CityStateSummaryEntity();
+        row.setState(state);
+        row.setActiveCount(active);
+        row.setInactiveCount(inactive);
+        return row;
+    }
 }
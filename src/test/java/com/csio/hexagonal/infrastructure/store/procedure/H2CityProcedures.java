@@ -0,0 +1,98 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * H2 Java-function stand-ins for the {@link CityProcedures}. H2 has no REF_CURSOR, so the cursor
+ * procedures return their rows as the call's result set.
+ */
+public final class H2CityProcedures {
+
+    private static final AtomicInteger CALLS = new AtomicInteger();
+
+    private H2CityProcedures() {}
+
+    public static void install(JdbcTemplate jdbcTemplate) {
+        alias(jdbcTemplate, CityProcedures.INSERT, "insertCity");
+        alias(jdbcTemplate, CityProcedures.FIND_BY_UID, "findCityByUid");
+        alias(jdbcTemplate, CityProcedures.FIND_ALL, "findAllCities");
+        alias(jdbcTemplate, CityProcedures.COUNT_BY_STATE, "countCitiesByState");
+    }
+
+    /** Procedure calls that reached the database since the last reset. */
+    public static int calls() {
+        return CALLS.get();
+    }
+
+    public static void resetCalls() {
+        CALLS.set(0);
+    }
+
+    public static int insertCity(Connection conn, String uid, String name, String state, boolean active,
+                                 Timestamp createdAt) throws SQLException {
+        CALLS.incrementAndGet();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO city (uid, name, state, is_active, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            ps.setString(1, uid);
+            ps.setString(2, name);
+            ps.setString(3, state);
+            ps.setBoolean(4, active);
+            ps.setTimestamp(5, createdAt);
+            ps.executeUpdate();
+        }
+        try (PreparedStatement ps = conn.prepareStatement(
+                "UPDATE city_state_summary SET active_count = active_count + ?, inactive_count = inactive_count + ? "
+                        + "WHERE state = ?")) {
+            ps.setLong(1, active ? 1 : 0);
+            ps.setLong(2, active ? 0 : 1);
+            ps.setString(3, state);
+            if (ps.executeUpdate() == 0) {
+                try (PreparedStatement insert = conn.prepareStatement(
+                        "INSERT INTO city_state_summary (state, active_count, inactive_count) VALUES (?, ?, ?)")) {
+                    insert.setString(1, state);
+                    insert.setLong(2, active ? 1 : 0);
+                    insert.setLong(3, active ? 0 : 1);
+                    insert.executeUpdate();
+                }
+            }
+        }
+        return 1;
+    }
+
+    public static ResultSet findCityByUid(Connection conn, String uid) throws SQLException {
+        count(conn);
+        PreparedStatement ps = conn.prepareStatement("SELECT uid, name, state, is_active FROM city WHERE uid = ?");
+        ps.setString(1, uid);
+        return ps.executeQuery();
+    }
+
+    public static ResultSet findAllCities(Connection conn) throws SQLException {
+        count(conn);
+        return conn.prepareStatement("SELECT uid, name, state, is_active FROM city ORDER BY name").executeQuery();
+    }
+
+    public static ResultSet countCitiesByState(Connection conn) throws SQLException {
+        count(conn);
+        return conn.prepareStatement(
+                "SELECT state, active_count, inactive_count FROM city_state_summary ORDER BY state").executeQuery();
+    }
+
+    // H2 also calls result-set functions once while compiling the call, to learn their columns
+    private static void count(Connection conn) throws SQLException {
+        if (!"jdbc:columnlist:connection".equals(conn.getMetaData().getURL())) {
+            CALLS.incrementAndGet();
+        }
+    }
+
+    private static void alias(JdbcTemplate jdbcTemplate, String procedure, String method) {
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS " + procedure + " FOR '"
+                + H2CityProcedures.class.getName() + "." + method + "'");
+    }
+}
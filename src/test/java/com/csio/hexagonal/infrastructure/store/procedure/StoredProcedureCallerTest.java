@@ -0,0 +1,149 @@
+package com.csio.hexagonal.infrastructure.store.procedure;
+
+import jakarta.persistence.ParameterMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoredProcedureCallerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private StoredProcedureCaller caller;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:procedure-caller;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V1__create_city.sql"),
+                new ClassPathResource("db/migration/V2__create_city_state_summary.sql")
+        ).execute(dataSource);
+        H2CityProcedures.install(jdbcTemplate);
+
+        StoredProcedureProperties props = new StoredProcedureProperties();
+        props.setFetchSize(2);
+        caller = new StoredProcedureCaller(jdbcTemplate, props);
+    }
+
+    @Test
+    void shouldHandRowsOverOneAtATime() {
+        // Arrange
+        insert("Boise", "ID");
+        insert("Austin", "TX");
+        insert("Camden", "NJ");
+
+        // Act
+        List<String> names = new ArrayList<>();
+        caller.stream(CityProcedures.FIND_ALL, CityProcedures.CursorOnly.values(), rs -> names.add(rs.getString("name")));
+
+        // Assert
+        assertEquals(List.of("Austin", "Boise", "Camden"), names);
+    }
+
+    @Test
+    void shouldBindInputsAndMapCursorRows() {
+        // Arrange
+        String uid = insert("Boise", "ID");
+        insert("Austin", "TX");
+
+        // Act
+        List<String> states = caller.query(CityProcedures.FIND_BY_UID, CityProcedures.FindByUid.values(),
+                (rs, row) -> rs.getString("state"), new ParamValue(CityProcedures.FindByUid.UID, uid));
+
+        // Assert
+        assertEquals(List.of("ID"), states);
+    }
+
+    @Test
+    void shouldRegisterEachProcedureOnce() {
+        // Act
+        insert("Boise", "ID");
+        insert("Austin", "TX");
+        caller.query(CityProcedures.FIND_ALL, CityProcedures.CursorOnly.values(), (rs, row) -> rs.getString("uid"));
+        caller.query(CityProcedures.FIND_ALL, CityProcedures.CursorOnly.values(), (rs, row) -> rs.getString("uid"));
+
+        // Assert
+        assertEquals(2, caller.registrations());
+    }
+
+    @Test
+    void shouldSendBatchedCallsTogether() {
+        // Arrange
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<ParamValue[]> calls = List.of(
+                insertValues("Reno", "NV", true, createdAt),
+                insertValues("Elko", "NV", false, createdAt),
+                insertValues("Ogden", "UT", true, createdAt));
+
+        // Act
+        int[] counts = caller.executeBatch(CityProcedures.INSERT, CityProcedures.Insert.values(), calls);
+
+        // Assert
+        assertEquals(3, counts.length);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM city", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT inactive_count FROM city_state_summary WHERE state = 'NV'", Integer.class));
+    }
+
+    @Test
+    void shouldRejectBatchForProcedureWithOutputs() {
+        List<ParamValue[]> calls = List.<ParamValue[]>of(new ParamValue[0]);
+
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> caller.executeBatch("CITY_NEXT_CODE", WithOutput.values(), calls));
+    }
+
+    @Test
+    void shouldRejectProcedureCalledWithOtherParameters() {
+        insert("Boise", "ID");
+
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> caller.execute(CityProcedures.INSERT, CityProcedures.FindByUid.values()));
+    }
+
+    private String insert(String name, String state) {
+        String uid = UUID.randomUUID().toString();
+        ParamValue[] values = insertValues(name, state, true, Timestamp.valueOf(LocalDateTime.now()));
+        values[0] = new ParamValue(CityProcedures.Insert.UID, uid);
+        caller.execute(CityProcedures.INSERT, CityProcedures.Insert.values(), values);
+        return uid;
+    }
+
+    private static ParamValue[] insertValues(String name, String state, boolean active, Timestamp createdAt) {
+        return new ParamValue[] {
+                new ParamValue(CityProcedures.Insert.UID, UUID.randomUUID().toString()),
+                new ParamValue(CityProcedures.Insert.NAME, name),
+                new ParamValue(CityProcedures.Insert.STATE, state),
+                new ParamValue(CityProcedures.Insert.IS_ACTIVE, active),
+                new ParamValue(CityProcedures.Insert.CREATED_AT, createdAt)
+        };
+    }
+
+    private enum WithOutput implements StoredProcedureParam {
+        CODE;
+
+        @Override
+        public ParameterMode mode() {
+            return ParameterMode.OUT;
+        }
+
+        @Override
+        public int sqlType() {
+            return Types.VARCHAR;
+        }
+    }
+}
@@ -6,18 +6,30 @@ import com.csio.hexagonal.domain.model.City;
 import com.csio.hexagonal.domain.vo.CityId;
 import com.csio.hexagonal.domain.vo.PageResult;
 import com.csio.hexagonal.domain.vo.State;
+import com.csio.hexagonal.domain.vo.StateCityCount;
 import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepository;
 import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepositoryAdapter;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityStateSummaryRepository;
 import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import com.csio.hexagonal.infrastructure.store.persistence.support.QueryTimeoutPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,14 +44,20 @@ class CityRepositoryIntegrationTest {
     @Autowired
     private CityRepository repository;
 
+    @Autowired
+    private CityStateSummaryRepository summaries;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private CityRepositoryAdapter adapter;
 
-    private static final String TEST_TOKEN = "test-token";
 
     @BeforeEach
     void setUp() {
-        adapter = new CityRepositoryAdapter(repository);
+        adapter = new CityRepositoryAdapter(repository, summaries, QueryTimeoutPolicy.none());
         repository.deleteAll();
+        summaries.deleteAll();
     }
 
     @Test
@@ -48,7 +66,7 @@ class CityRepositoryIntegrationTest {
         City city = new City(CityId.newId(), "New York", new State("NY"));
 
         // Act
-        City savedCity = adapter.save(city, TEST_TOKEN);
+        City savedCity = adapter.save(city);
 
         // Assert
         assertNotNull(savedCity);
@@ -62,11 +80,11 @@ class CityRepositoryIntegrationTest {
     void shouldFindCityByUid() {
         // Arrange
         City city = new City(CityId.newId(), "Los Angeles", new State("CA"));
-        City savedCity = adapter.save(city, TEST_TOKEN);
+        City savedCity = adapter.save(city);
         UUID savedId = savedCity.getId().value();
 
         // Act
-        Optional<City> foundCity = adapter.findByUid(savedId, TEST_TOKEN);
+        Optional<City> foundCity = adapter.findByUid(savedId);
 
         // Assert
         assertTrue(foundCity.isPresent());
@@ -80,7 +98,7 @@ class CityRepositoryIntegrationTest {
         UUID nonExistentId = UUID.randomUUID();
 
         // Act
-        Optional<City> foundCity = adapter.findByUid(nonExistentId, TEST_TOKEN);
+        Optional<City> foundCity = adapter.findByUid(nonExistentId);
 
         // Assert
         assertFalse(foundCity.isPresent());
@@ -89,37 +107,69 @@ class CityRepositoryIntegrationTest {
     @Test
     void shouldFindAllCities() {
         // Arrange
-        adapter.save(new City(CityId.newId(), "Boston", new State("MA")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Chicago", new State("IL")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Denver", new State("CO")), TEST_TOKEN);
+        adapter.save(new City(CityId.newId(), "Boston", new State("MA")));
+        adapter.save(new City(CityId.newId(), "Chicago", new State("IL")));
+        adapter.save(new City(CityId.newId(), "Denver", new State("CO")));
 
         // Act
-        List<City> cities = adapter.findAll(TEST_TOKEN);
+        List<City> cities = adapter.findAll();
 
         // Assert
         assertNotNull(cities);
         assertEquals(3, cities.size());
     }
 
+    @Test
+    void shouldInsertBatchAndFindByNamesIgnoringCase() {
+        // Arrange
+        List<City> batch = List.of(
+                new City(CityId.newId(), "Boston", new State("MA")),
+                new City(CityId.newId(), "Chicago", new State("IL")),
+                new City(CityId.newId(), "Denver", new State("CO")));
+
+        // Act
+        List<City> saved = adapter.saveAll(batch);
+        List<City> found = adapter.findByNames(List.of("boston", "DENVER", "Austin"));
+
+        // Assert
+        assertEquals(3, saved.size());
+        assertEquals(3, repository.count());
+        assertEquals(List.of("Boston", "Denver"), found.stream().map(City::getName).sorted().toList());
+        assertTrue(repository.findByUid(batch.get(1).getId().value().toString()).isPresent());
+    }
+
+    @Test
+    void shouldFindSeveralCitiesByUid() {
+        // Arrange
+        City boston = adapter.save(new City(CityId.newId(), "Boston", new State("MA")));
+        City denver = adapter.save(new City(CityId.newId(), "Denver", new State("CO")));
+
+        // Act
+        List<City> found = adapter.findByUids(List.of(boston.getId().value(), denver.getId().value(), UUID.randomUUID()));
+
+        // Assert
+        assertEquals(2, found.size());
+    }
+
     @Test
     void shouldUpdateCity() {
         // Arrange
         City city = new City(CityId.newId(), "Seattle", new State("WA"));
-        City savedCity = adapter.save(city, TEST_TOKEN);
+        City savedCity = adapter.save(city);
         UUID cityId = savedCity.getId().value();
 
         // Create updated city
         City updatedCity = new City(savedCity.getId(), "Seattle Updated", new State("WA"));
 
         // Act
-        City result = adapter.update(cityId, updatedCity, TEST_TOKEN);
+        City result = adapter.update(cityId, updatedCity);
 
         // Assert
         assertNotNull(result);
         assertEquals("Seattle Updated", result.getName());
         
         // Verify in database
-        Optional<City> retrievedCity = adapter.findByUid(cityId, TEST_TOKEN);
+        Optional<City> retrievedCity = adapter.findByUid(cityId);
         assertTrue(retrievedCity.isPresent());
         assertEquals("Seattle Updated", retrievedCity.get().getName());
     }
@@ -128,14 +178,14 @@ class CityRepositoryIntegrationTest {
     void shouldDeleteCity() {
         // Arrange
         City city = new City(CityId.newId(), "Portland", new State("OR"));
-        City savedCity = adapter.save(city, TEST_TOKEN);
+        City savedCity = adapter.save(city);
         UUID cityId = savedCity.getId().value();
 
         // Act
-        adapter.deleteByUid(cityId, TEST_TOKEN);
+        adapter.deleteByUid(cityId);
 
         // Assert
-        Optional<City> foundCity = adapter.findByUid(cityId, TEST_TOKEN);
+        Optional<City> foundCity = adapter.findByUid(cityId);
         assertFalse(foundCity.isPresent());
     }
 
@@ -145,11 +195,11 @@ class CityRepositoryIntegrationTest {
         for (int i = 1; i <= 15; i++) {
             String cityName = "City" + getLetter(i);  // CityA, CityB, etc.
             String stateName = "ST" + getLetter(i);
-            adapter.save(new City(CityId.newId(), cityName, new State(stateName)), TEST_TOKEN);
+            adapter.save(new City(CityId.newId(), cityName, new State(stateName)));
         }
 
         // Act - Get page 1 with size 5
-        PageResult<City> page1 = adapter.findAllWithPagination(1, 5, null, "name,asc", TEST_TOKEN);
+        PageResult<City> page1 = adapter.findAllWithPagination(1, 5, null, "name,asc");
 
         // Assert
         assertNotNull(page1);
@@ -160,7 +210,7 @@ class CityRepositoryIntegrationTest {
         assertEquals(3, page1.totalPages());
 
         // Act - Get page 2
-        PageResult<City> page2 = adapter.findAllWithPagination(2, 5, null, "name,asc", TEST_TOKEN);
+        PageResult<City> page2 = adapter.findAllWithPagination(2, 5, null, "name,asc");
 
         // Assert
         assertNotNull(page2);
@@ -182,14 +232,14 @@ class CityRepositoryIntegrationTest {
     @Test
     void shouldFindAllWithSearch() {
         // Arrange
-        adapter.save(new City(CityId.newId(), "San Francisco", new State("CA")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "San Diego", new State("CA")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Austin", new State("TX")), TEST_TOKEN);
+        adapter.save(new City(CityId.newId(), "San Francisco", new State("CA")));
+        adapter.save(new City(CityId.newId(), "San Diego", new State("CA")));
+        adapter.save(new City(CityId.newId(), "Austin", new State("TX")));
 
         CityFilterQuery query = new CityFilterQuery(null, 1, 10, "San", null);
 
         // Act
-        PageResult<City> result = adapter.findAllWithFilters(query, TEST_TOKEN);
+        PageResult<City> result = adapter.findAllWithFilters(query);
 
         // Assert
         assertNotNull(result);
@@ -200,9 +250,9 @@ class CityRepositoryIntegrationTest {
     @Test
     void shouldFindAllWithFilters() {
         // Arrange
-        adapter.save(new City(CityId.newId(), "Miami", new State("FL")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Tampa", new State("FL")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Phoenix", new State("AZ")), TEST_TOKEN);
+        adapter.save(new City(CityId.newId(), "Miami", new State("FL")));
+        adapter.save(new City(CityId.newId(), "Tampa", new State("FL")));
+        adapter.save(new City(CityId.newId(), "Phoenix", new State("AZ")));
 
         // Create filter for FL state
         CityFilterQuery.FilterCondition condition = new CityFilterQuery.FilterCondition(
@@ -224,7 +274,7 @@ class CityRepositoryIntegrationTest {
         CityFilterQuery query = new CityFilterQuery(filter, 1, 10, null, null);
 
         // Act
-        PageResult<City> result = adapter.findAllWithFilters(query, TEST_TOKEN);
+        PageResult<City> result = adapter.findAllWithFilters(query);
 
         // Assert
         assertNotNull(result);
@@ -235,9 +285,9 @@ class CityRepositoryIntegrationTest {
     @Test
     void shouldSortCitiesAscending() {
         // Arrange
-        adapter.save(new City(CityId.newId(), "Zebra City", new State("ZZ")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Alpha City", new State("AA")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Beta City", new State("BB")), TEST_TOKEN);
+        adapter.save(new City(CityId.newId(), "Zebra City", new State("ZZ")));
+        adapter.save(new City(CityId.newId(), "Alpha City", new State("AA")));
+        adapter.save(new City(CityId.newId(), "Beta City", new State("BB")));
 
         CityFilterQuery.SortOrder sortOrder = new CityFilterQuery.SortOrder(
                 "name",
@@ -247,7 +297,7 @@ class CityRepositoryIntegrationTest {
         CityFilterQuery query = new CityFilterQuery(null, 1, 10, null, List.of(sortOrder));
 
         // Act
-        PageResult<City> result = adapter.findAllWithFilters(query, TEST_TOKEN);
+        PageResult<City> result = adapter.findAllWithFilters(query);
 
         // Assert
         assertNotNull(result);
@@ -260,9 +310,9 @@ class CityRepositoryIntegrationTest {
     @Test
     void shouldSortCitiesDescending() {
         // Arrange
-        adapter.save(new City(CityId.newId(), "Zebra City", new State("ZZ")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Alpha City", new State("AA")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Beta City", new State("BB")), TEST_TOKEN);
+        adapter.save(new City(CityId.newId(), "Zebra City", new State("ZZ")));
+        adapter.save(new City(CityId.newId(), "Alpha City", new State("AA")));
+        adapter.save(new City(CityId.newId(), "Beta City", new State("BB")));
 
         CityFilterQuery.SortOrder sortOrder = new CityFilterQuery.SortOrder(
                 "name",
@@ -272,7 +322,7 @@ class CityRepositoryIntegrationTest {
         CityFilterQuery query = new CityFilterQuery(null, 1, 10, null, List.of(sortOrder));
 
         // Act
-        PageResult<City> result = adapter.findAllWithFilters(query, TEST_TOKEN);
+        PageResult<City> result = adapter.findAllWithFilters(query);
 
         // Assert
         assertNotNull(result);
@@ -285,9 +335,9 @@ class CityRepositoryIntegrationTest {
     @Test
     void shouldHandleLikeFilterOperator() {
         // Arrange
-        adapter.save(new City(CityId.newId(), "New York", new State("NY")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "New Orleans", new State("LA")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Old Town", new State("ME")), TEST_TOKEN);
+        adapter.save(new City(CityId.newId(), "New York", new State("NY")));
+        adapter.save(new City(CityId.newId(), "New Orleans", new State("LA")));
+        adapter.save(new City(CityId.newId(), "Old Town", new State("ME")));
 
         // Create filter with LIKE operator
         CityFilterQuery.FilterCondition condition = new CityFilterQuery.FilterCondition(
@@ -309,7 +359,7 @@ class CityRepositoryIntegrationTest {
         CityFilterQuery query = new CityFilterQuery(filter, 1, 10, null, null);
 
         // Act
-        PageResult<City> result = adapter.findAllWithFilters(query, TEST_TOKEN);
+        PageResult<City> result = adapter.findAllWithFilters(query);
 
         // Assert
         assertNotNull(result);
@@ -320,9 +370,9 @@ class CityRepositoryIntegrationTest {
     @Test
     void shouldHandleComplexFiltersWithMultipleConditions() {
         // Arrange
-        adapter.save(new City(CityId.newId(), "Dallas", new State("TX")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Houston", new State("TX")), TEST_TOKEN);
-        adapter.save(new City(CityId.newId(), "Denver", new State("CO")), TEST_TOKEN);
+        adapter.save(new City(CityId.newId(), "Dallas", new State("TX")));
+        adapter.save(new City(CityId.newId(), "Houston", new State("TX")));
+        adapter.save(new City(CityId.newId(), "Denver", new State("CO")));
 
         // Create complex filter: (state = TX AND name LIKE "Dal")
         CityFilterQuery.FilterCondition condition1 = new CityFilterQuery.FilterCondition(
@@ -350,7 +400,7 @@ class CityRepositoryIntegrationTest {
         CityFilterQuery query = new CityFilterQuery(filter, 1, 10, null, null);
 
         // Act
-        PageResult<City> result = adapter.findAllWithFilters(query, TEST_TOKEN);
+        PageResult<City> result = adapter.findAllWithFilters(query);
 
         // Assert
         assertNotNull(result);
@@ -365,7 +415,7 @@ class CityRepositoryIntegrationTest {
         City city = new City(CityId.newId(), "Philadelphia", new State("PA"));
 
         // Act
-        City savedCity = adapter.save(city, TEST_TOKEN);
+        City savedCity = adapter.save(city);
 
         // Assert - Verify the city was saved
         assertNotNull(savedCity);
@@ -376,4 +426,51 @@ class CityRepositoryIntegrationTest {
         assertNotNull(entity.get().getCreatedAt());
         assertNotNull(entity.get().getUpdatedAt());
     }
+
+    @Test
+    void shouldKeepStateSummaryInStepWithWrites() {
+        // Arrange
+        City austin = adapter.save(new City(CityId.newId(), "Austin", new State("TX")));
+        adapter.save(new City(CityId.newId(), "Dallas", new State("TX")));
+        City reno = adapter.save(new City(CityId.newId(), "Reno", new State("NV")));
+        adapter.saveAll(List.of(new City(CityId.newId(), "Fresno", new State("CA"))));
+
+        // Act
+        City inactiveAustin = City.rehydrate(austin.getId(), "Austin", new State("TX"), false);
+        adapter.update(austin.getId().value(), inactiveAustin);
+        adapter.update(reno.getId().value(), City.rehydrate(reno.getId(), "Reno", new State("CA"), true));
+        adapter.deleteByUid(reno.getId().value());
+
+        // Assert - NV is emptied by the move and no longer reported
+        assertEquals(List.of(
+                new StateCityCount("CA", 1, 0),
+                new StateCityCount("TX", 1, 1)
+        ), adapter.countByState());
+    }
+
+    @Test
+    void shouldCountConcurrentFirstCitiesOfANewStateWithoutFailingEither() throws Exception {
+        // Arrange - the first writer holds the new state's summary row uncommitted while the second
+        // writer's upsert finds no row to update, inserts, and collides with it on commit
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<City> first = writers.submit(() -> transaction.execute(status -> {
+            City boise = adapter.save(new City(CityId.newId(), "Boise", new State("ID")));
+            firstWritten.countDown();
+            LockSupport.parkNanos(Duration.ofMillis(300).toNanos());
+            return boise;
+        }));
+        assertTrue(firstWritten.await(5, TimeUnit.SECONDS));
+        Future<City> second = writers.submit(() -> transaction.execute(status ->
+                adapter.save(new City(CityId.newId(), "Nampa", new State("ID")))));
+
+        // Assert - both creates stand and both are counted
+        assertEquals("Boise", first.get(10, TimeUnit.SECONDS).getName());
+        assertEquals("Nampa", second.get(10, TimeUnit.SECONDS).getName());
+        writers.shutdown();
+        assertEquals(List.of(new StateCityCount("ID", 2, 0)), adapter.countByState());
+    }
 }
@@ -3,7 +3,9 @@ package com.csio.hexagonal.integration;
 import com.csio.hexagonal.CityServiceApplication;
 import com.csio.hexagonal.infrastructure.rest.request.CityCreateRequest;
 import com.csio.hexagonal.infrastructure.rest.request.CityFindAllRequest;
+import com.csio.hexagonal.infrastructure.rest.request.CityMultiGetRequest;
 import com.csio.hexagonal.infrastructure.rest.response.city.CityResponse;
+import com.csio.hexagonal.infrastructure.rest.response.city.CityStateSummaryResponse;
 import com.csio.hexagonal.infrastructure.rest.response.wrapper.PageResponseWrapper;
 import com.csio.hexagonal.infrastructure.rest.response.wrapper.SuccessResponseWrapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -343,6 +345,78 @@ class CityRestIntegrationTest {
     // Helper method to extract city ID from response
     // TODO: Improve ID extraction using JsonPath or proper response deserialization
     // Current implementation uses a workaround approach
+    @Test
+    void shouldGetSeveralCitiesInRequestOrder() {
+        // Arrange - Create two cities
+        String savannah = createCity("Savannah", "GA");
+        String tucson = createCity("Tucson", "AZ");
+        CityMultiGetRequest request = new CityMultiGetRequest(
+                List.of(tucson, UUID.randomUUID().toString(), savannah, tucson));
+
+        // Act
+        SuccessResponseWrapper<List<CityResponse>> response = webTestClient.post()
+                .uri(CITY_BASE_PATH + "/batch")
+                .header("Authorization", AUTH_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<SuccessResponseWrapper<List<CityResponse>>>() {})
+                .returnResult()
+                .getResponseBody();
+
+        // Assert - unknown uid left out, repeated uid returned once
+        assertNotNull(response);
+        assertEquals(List.of(tucson, savannah), response.data().stream().map(CityResponse::uid).toList());
+    }
+
+    @Test
+    void shouldRejectEmptyMultiGet() {
+        webTestClient.post()
+                .uri(CITY_BASE_PATH + "/batch")
+                .header("Authorization", AUTH_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(new CityMultiGetRequest(List.of())))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldCountCitiesPerState() {
+        // Arrange
+        createCity("Burlington", "VT");
+        createCity("Montpelier", "VT");
+
+        // Act
+        SuccessResponseWrapper<List<CityStateSummaryResponse>> response = webTestClient.get()
+                .uri(CITY_BASE_PATH + "/summary")
+                .header("Authorization", AUTH_TOKEN)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<SuccessResponseWrapper<List<CityStateSummaryResponse>>>() {})
+                .returnResult()
+                .getResponseBody();
+
+        // Assert
+        assertNotNull(response);
+        assertTrue(response.data().contains(new CityStateSummaryResponse("VT", 2L, 0L, 2L)));
+    }
+
+    private String createCity(String name, String state) {
+        SuccessResponseWrapper<CityResponse> response = webTestClient.post()
+                .uri(CITY_BASE_PATH)
+                .header("Authorization", AUTH_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(new CityCreateRequest(name, state)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<SuccessResponseWrapper<CityResponse>>() {})
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(response);
+        return extractCityId(response);
+    }
+
     private String extractCityId(SuccessResponseWrapper<?> response) {
         Object data = response.data();
         
@@ -0,0 +1,138 @@
+package com.csio.hexagonal.integration;
+
+import com.csio.hexagonal.CityServiceApplication;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementCountingProperties;
+import com.csio.hexagonal.infrastructure.rest.request.CityCreateRequest;
+import com.csio.hexagonal.infrastructure.rest.request.CityFindAllRequest;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepository;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityStateSummaryRepository;
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Asserts the declared SQL statement budget of every use case, counted by the datasource proxy
+ * for a single request through the full stack.
+ */
+@SpringBootTest(
+        classes = CityServiceApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "sql.statement-counting.enabled=true"
+)
+@ActiveProfiles("test")
+class CityStatementBudgetIntegrationTest {
+
+    private static final String CITY_BASE_PATH = "/api/v1/city";
+    private static final String AUTH_TOKEN = "test-token";
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private CityStateSummaryRepository summaryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StatementCountingProperties statementCounting;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        cityRepository.deleteAll();
+        summaryRepository.deleteAll();
+        // Rows for a state are created once; measure the steady state where TX already has one
+        summaryRepository.insertEmpty("TX");
+        createAndSaveCityEntity("Sacramento", "CA");
+        createAndSaveCityEntity("Albany", "NY");
+        this.webTestClient = WebTestClient.bindToApplicationContext(context).build();
+    }
+
+    @Test
+    void getCityShouldIssueOneStatement() {
+        String uid = cityRepository.findAll().getFirst().getUid();
+
+        long statements = statementsPerRequest("get-city", () -> webTestClient.get()
+                .uri(CITY_BASE_PATH + "/" + uid)
+                .header("Authorization", AUTH_TOKEN)
+                .exchange()
+                .expectStatus().isOk());
+
+        assertEquals(1, statements);
+        assertWithinBudget("get-city", statements);
+    }
+
+    @Test
+    void createCityShouldIssueUniquenessSelectInsertAndSummaryUpdate() {
+        long statements = statementsPerRequest("create-city", () -> webTestClient.post()
+                .uri(CITY_BASE_PATH)
+                .header("Authorization", AUTH_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CityCreateRequest("Austin", "TX"))
+                .exchange()
+                .expectStatus().isOk());
+
+        assertEquals(3, statements);
+        assertWithinBudget("create-city", statements);
+    }
+
+    @Test
+    void filteredListShouldStayWithinBudget() {
+        CityFindAllRequest request = new CityFindAllRequest(null, 1, 1, null, null);
+
+        long statements = statementsPerRequest("get-all-city", () -> webTestClient.post()
+                .uri(CITY_BASE_PATH + "/all")
+                .header("Authorization", AUTH_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk());
+
+        // Page of one out of two rows, so the COUNT query cannot be skipped
+        assertEquals(2, statements);
+        assertWithinBudget("get-all-city", statements);
+    }
+
+    private long statementsPerRequest(String useCase, Runnable request) {
+        DistributionSummary summary = meterRegistry.get("hexagon.sql.statements").tag("use_case", useCase).summary();
+        long countBefore = summary.count();
+        double totalBefore = summary.totalAmount();
+
+        request.run();
+
+        assertEquals(countBefore + 1, summary.count(), "one invocation of " + useCase + " should be recorded");
+        return (long) (summary.totalAmount() - totalBefore);
+    }
+
+    private void assertWithinBudget(String useCase, long statements) {
+        int budget = statementCounting.budgetFor(useCase);
+        assertTrue(statements <= budget,
+                useCase + " issued " + statements + " SQL statements, budget is " + budget);
+    }
+
+    private void createAndSaveCityEntity(String name, String state) {
+        CityEntity entity = new CityEntity();
+        entity.setUid(UUID.randomUUID().toString());
+        entity.setName(name);
+        entity.setState(state);
+        entity.setIsActive(true);
+        cityRepository.save(entity);
+    }
+}
@@ -0,0 +1,60 @@
+package com.csio.hexagonal.integration;
+
+import com.csio.hexagonal.CityServiceApplication;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepository;
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The prod profile builds the schema from Flyway migrations instead of Hibernate DDL generation.
+ * Here the migrations run on a fresh H2 database and Hibernate validates the entities against the result,
+ * so an entity change without a matching migration fails this test.
+ */
+@SpringBootTest(
+        classes = CityServiceApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:migrations;DB_CLOSE_DELAY=-1",
+                "spring.flyway.enabled=true",
+                "spring.jpa.hibernate.ddl-auto=validate"
+        }
+)
+@ActiveProfiles("test")
+class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Test
+    void shouldApplyAllMigrations() {
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(flyway.info().applied().length > 0);
+    }
+
+    @Test
+    void shouldPersistCityInMigratedSchema() {
+        CityEntity entity = new CityEntity();
+        entity.setUid(UUID.randomUUID().toString());
+        entity.setName("Portland");
+        entity.setState("OR");
+        entity.setIsActive(true);
+        entity.setCreatedAt(LocalDateTime.now());
+
+        CityEntity saved = cityRepository.save(entity);
+
+        assertNotNull(saved.getId());
+        assertTrue(cityRepository.findByUid(saved.getUid()).isPresent());
+    }
+}
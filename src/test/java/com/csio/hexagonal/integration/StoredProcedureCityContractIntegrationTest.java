@@ -0,0 +1,113 @@
+package com.csio.hexagonal.integration;
+
+import com.csio.hexagonal.CityServiceApplication;
+import com.csio.hexagonal.application.port.out.CityContract;
+import com.csio.hexagonal.domain.model.City;
+import com.csio.hexagonal.domain.vo.CityId;
+import com.csio.hexagonal.domain.vo.State;
+import com.csio.hexagonal.domain.vo.StateCityCount;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepository;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityStateSummaryRepository;
+import com.csio.hexagonal.infrastructure.store.procedure.H2CityProcedures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the {@link CityContract} the application sees with {@code city.persistence.procedures.enabled},
+ * against H2 Java-function versions of the city procedures.
+ */
+@SpringBootTest(
+        classes = CityServiceApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:procedures;DB_CLOSE_DELAY=-1",
+                "city.persistence.procedures.enabled=true"
+        }
+)
+@ActiveProfiles("test")
+class StoredProcedureCityContractIntegrationTest {
+
+    @Autowired
+    private CityContract cityContract;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private CityStateSummaryRepository summaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        H2CityProcedures.install(jdbcTemplate);
+        cityRepository.deleteAll();
+        summaryRepository.deleteAll();
+        H2CityProcedures.resetCalls();
+    }
+
+    @Test
+    void shouldCreateAndLoadCityThroughProcedures() {
+        // Arrange
+        City city = new City(CityId.newId(), "Helena", new State("MT"));
+
+        // Act
+        cityContract.save(city);
+        Optional<City> found = cityContract.findByUid(city.getId().value());
+
+        // Assert
+        assertEquals(Optional.of(city), found);
+        assertEquals("Helena", found.get().getName());
+        assertEquals(2, H2CityProcedures.calls());
+    }
+
+    @Test
+    void shouldCreateBatchWithOneProcedureBatchAndCountPerState() {
+        // Arrange
+        List<City> cities = List.of(
+                new City(CityId.newId(), "Fargo", new State("ND")),
+                new City(CityId.newId(), "Bismarck", new State("ND")),
+                new City(CityId.newId(), "Casper", new State("WY")));
+
+        // Act
+        cityContract.saveAll(cities);
+
+        // Assert
+        assertEquals(List.of("Bismarck", "Casper", "Fargo"),
+                cityContract.findAll().stream().map(City::getName).toList());
+        assertEquals(List.of(new StateCityCount("ND", 2, 0), new StateCityCount("WY", 1, 0)),
+                cityContract.countByState());
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownUid() {
+        assertTrue(cityContract.findByUid(UUID.randomUUID()).isEmpty());
+        assertEquals(1, H2CityProcedures.calls());
+    }
+
+    @Test
+    void shouldLeaveFilteredQueriesToRelationalAdapter() {
+        // Arrange
+        City city = new City(CityId.newId(), "Laramie", new State("WY"));
+        cityContract.save(city);
+        H2CityProcedures.resetCalls();
+
+        // Act
+        List<City> found = cityContract.findByUids(List.of(city.getId().value()));
+
+        // Assert
+        assertEquals(List.of(city), found);
+        assertEquals(0, H2CityProcedures.calls());
+    }
+}
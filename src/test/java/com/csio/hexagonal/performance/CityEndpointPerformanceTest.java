@@ -0,0 +1,167 @@
+package com.csio.hexagonal.performance;
+
+import com.csio.hexagonal.CityServiceApplication;
+import com.csio.hexagonal.infrastructure.metrics.statement.StatementCounter;
+import com.csio.hexagonal.infrastructure.rest.request.CityCreateRequest;
+import com.csio.hexagonal.infrastructure.rest.request.CityFindAllRequest;
+import com.csio.hexagonal.infrastructure.store.persistence.adapter.CityRepository;
+import com.csio.hexagonal.infrastructure.store.persistence.entity.CityEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Performance budgets for the city endpoints: p99 latency, SQL statements and heap bytes allocated
+ * per request under a fixed, warmed-up load. Budgets live in {@code performance-budgets.properties}.
+ * <p>
+ * Tagged {@code performance} and excluded from the default build; run with {@code mvn -Pperformance test}.
+ */
+@Tag("performance")
+@SpringBootTest(
+        classes = CityServiceApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "sql.statement-counting.enabled=true"
+)
+@ActiveProfiles("test")
+class CityEndpointPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CityEndpointPerformanceTest.class);
+
+    private static final String CITY_BASE_PATH = "/api/v1/city";
+    private static final String AUTH_TOKEN = "test-token";
+
+    private static final int SEEDED_CITIES = 200;
+    private static final int CLIENTS = 4;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 2_000;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private WebTestClient webTestClient;
+    private EndpointLoadRunner runner;
+    private List<String> seededUids;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(EndpointLoadRunner.allocationCountingSupported(), "JVM does not support thread allocation counting");
+
+        cityRepository.deleteAll();
+        seededUids = new ArrayList<>(SEEDED_CITIES);
+        for (int i = 0; i < SEEDED_CITIES; i++) {
+            CityEntity entity = new CityEntity();
+            entity.setUid(UUID.randomUUID().toString());
+            entity.setName("Seed " + alphabetic(i));
+            entity.setState(i % 2 == 0 ? "CA" : "NY");
+            entity.setIsActive(true);
+            seededUids.add(cityRepository.save(entity).getUid());
+        }
+
+        webTestClient = WebTestClient.bindToApplicationContext(context)
+                .configureClient()
+                .responseTimeout(Duration.ofSeconds(30))
+                .build();
+        runner = new EndpointLoadRunner(CLIENTS, WARMUP_REQUESTS, MEASURED_REQUESTS, statementCounter::total);
+    }
+
+    @Test
+    void getCityShouldStayWithinBudget() throws Exception {
+        EndpointLoadRunner.Result result = runner.run(i -> webTestClient.get()
+                .uri(CITY_BASE_PATH + "/{uid}", seededUids.get(i % seededUids.size()))
+                .header("Authorization", AUTH_TOKEN)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult());
+
+        assertWithinBudget(PerformanceBudget.forEndpoint("get-city"), result);
+    }
+
+    @Test
+    void createCityShouldStayWithinBudget() throws Exception {
+        EndpointLoadRunner.Result result = runner.run(i -> webTestClient.post()
+                .uri(CITY_BASE_PATH)
+                .header("Authorization", AUTH_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CityCreateRequest("Perf " + alphabetic(i), "TX"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult());
+
+        assertWithinBudget(PerformanceBudget.forEndpoint("create-city"), result);
+    }
+
+    @Test
+    void filteredListShouldStayWithinBudget() throws Exception {
+        CityFindAllRequest request = new CityFindAllRequest(
+                new CityFindAllRequest.Filter(
+                        CityFindAllRequest.LogicalOperator.AND,
+                        List.of(new CityFindAllRequest.FilterGroup(
+                                CityFindAllRequest.LogicalOperator.OR,
+                                List.of(new CityFindAllRequest.FilterCondition("state", CityFindAllRequest.Operator.EQUALS, "CA"),
+                                        new CityFindAllRequest.FilterCondition("name", CityFindAllRequest.Operator.LIKE, "seed"))))),
+                2,
+                20,
+                null,
+                List.of(new CityFindAllRequest.SortOrder("name", CityFindAllRequest.Direction.ASC)));
+
+        EndpointLoadRunner.Result result = runner.run(i -> webTestClient.post()
+                .uri(CITY_BASE_PATH + "/all")
+                .header("Authorization", AUTH_TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult());
+
+        assertWithinBudget(PerformanceBudget.forEndpoint("list-cities"), result);
+    }
+
+    private static void assertWithinBudget(PerformanceBudget budget, EndpointLoadRunner.Result result) {
+        log.info("{}: p99={}ms (budget {}ms), statements/request={} (budget {}), allocated/request={}B (budget {}B)",
+                budget.endpoint(),
+                Duration.ofNanos(result.p99Nanos()).toMillis(), budget.p99().toMillis(),
+                result.statementsPerRequest(), budget.statements(),
+                result.allocatedBytesPerRequest(), budget.allocatedBytes());
+
+        assertAll(budget.endpoint(),
+                () -> assertTrue(result.p99Nanos() <= budget.p99().toNanos(),
+                        "p99 latency " + Duration.ofNanos(result.p99Nanos()).toMillis() + "ms exceeds " + budget.p99().toMillis() + "ms"),
+                () -> assertTrue(result.statementsPerRequest() <= budget.statements(),
+                        "SQL statements per request " + result.statementsPerRequest() + " exceeds " + budget.statements()),
+                () -> assertTrue(result.allocatedBytesPerRequest() <= budget.allocatedBytes(),
+                        "Allocated bytes per request " + result.allocatedBytesPerRequest() + " exceeds " + budget.allocatedBytes()));
+    }
+
+    // City names may only contain letters, so encode the sequence number in base 26
+    private static String alphabetic(int value) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.csio.hexagonal.performance;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Drives one endpoint with a fixed number of concurrent clients and measures latency, SQL statements
+ * and heap allocation over the measured phase.
+ * <p>
+ * Allocation comes from {@link com.sun.management.ThreadMXBean#getTotalThreadAllocatedBytes()}, which
+ * covers every thread in the JVM, including carriers of virtual threads. With an in-process
+ * {@code WebTestClient} that includes client-side encoding and decoding, so budgets are end-to-end.
+ */
+final class EndpointLoadRunner {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int clients;
+    private final int warmupRequests;
+    private final int measuredRequests;
+    private final LongSupplier statementCounter;
+
+    /**
+     * @param statementCounter monotonically increasing count of SQL statements executed
+     */
+    EndpointLoadRunner(int clients, int warmupRequests, int measuredRequests, LongSupplier statementCounter) {
+        this.clients = clients;
+        this.warmupRequests = warmupRequests;
+        this.measuredRequests = measuredRequests;
+        this.statementCounter = statementCounter;
+    }
+
+    static boolean allocationCountingSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Runs {@code request} for the warm-up and then the measured requests. The argument is a
+     * sequence number unique across both phases, so requests that create data can derive unique names.
+     */
+    Result run(IntConsumer request) throws Exception {
+        runPhase(request, 0, warmupRequests);
+
+        long statementsBefore = statementCounter.getAsLong();
+        long allocatedBefore = THREADS.getTotalThreadAllocatedBytes();
+        long[] latencies = runPhase(request, warmupRequests, measuredRequests);
+        long allocated = THREADS.getTotalThreadAllocatedBytes() - allocatedBefore;
+        long statements = statementCounter.getAsLong() - statementsBefore;
+
+        Arrays.sort(latencies);
+        return new Result(
+                latencies[(int) Math.ceil(latencies.length * 0.99) - 1],
+                (double) statements / measuredRequests,
+                allocated / measuredRequests);
+    }
+
+    private long[] runPhase(IntConsumer request, int firstSequence, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        try (ExecutorService pool = Executors.newFixedThreadPool(clients)) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int client = 0; client < clients; client++) {
+                int offset = client;
+                futures.add(pool.submit(() -> {
+                    // Each client takes every clients-th slot, so the slots are disjoint
+                    for (int i = offset; i < requests; i += clients) {
+                        long start = System.nanoTime();
+                        request.accept(firstSequence + i);
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * @param p99Nanos               99th percentile request latency
+     * @param statementsPerRequest   average SQL statements per request
+     * @param allocatedBytesPerRequest average heap bytes allocated per request, JVM-wide
+     */
+    record Result(long p99Nanos, double statementsPerRequest, long allocatedBytesPerRequest) {}
+}
@@ -0,0 +1,40 @@
+package com.csio.hexagonal.performance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Per-endpoint budget read from {@code performance-budgets.properties} on the test classpath.
+ */
+record PerformanceBudget(String endpoint, Duration p99, int statements, long allocatedBytes) {
+
+    private static final String RESOURCE = "/performance-budgets.properties";
+
+    static PerformanceBudget forEndpoint(String endpoint) {
+        Properties properties = new Properties();
+        try (InputStream in = PerformanceBudget.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " not found on the test classpath");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PerformanceBudget(
+                endpoint,
+                Duration.ofMillis(Long.parseLong(required(properties, endpoint + ".p99-millis"))),
+                Integer.parseInt(required(properties, endpoint + ".statements")),
+                Long.parseLong(required(properties, endpoint + ".allocated-bytes")));
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalStateException("Missing performance budget '" + key + "'");
+        }
+        return value.trim();
+    }
+}